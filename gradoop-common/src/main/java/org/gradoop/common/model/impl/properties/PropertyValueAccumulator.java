@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import java.io.Serializable;
+
+/**
+ * Accumulates property values in a mutable partial state.
+ * <p>
+ * An accumulator is used to fold many values without creating a new property value per value.
+ * The partial state is only converted to a property value by {@link #getValue()}. Accumulators
+ * are serializable, as they are created before a function is shipped to the workers.
+ */
+public interface PropertyValueAccumulator extends Serializable {
+
+  /**
+   * Adds a property value to the accumulator.
+   *
+   * @param value property value
+   */
+  void add(PropertyValue value);
+
+  /**
+   * True, if no value was added since the creation or the last reset.
+   *
+   * @return true, if there is no value
+   */
+  boolean isEmpty();
+
+  /**
+   * Returns the accumulated value as a new property value.
+   *
+   * @return accumulated value or {@code null}, if there is none
+   */
+  PropertyValue getValue();
+
+  /**
+   * Removes the accumulated value.
+   */
+  void reset();
+}
@@ -511,22 +511,24 @@ public class PropertyValueUtils {
     private static int checkNumericalAndGetType(PropertyValue value) {
       checkNotNull(value);
 
+      // check the wrapped object directly, this avoids a strategy lookup for each type
+      Object object = value.getObject();
       int type;
 
-      if (value.isShort()) {
+      if (object instanceof Short) {
         type = SHORT;
-      } else if (value.isInt()) {
+      } else if (object instanceof Integer) {
         type = INT;
-      } else if (value.isLong()) {
+      } else if (object instanceof Long) {
         type = LONG;
-      } else if (value.isFloat()) {
+      } else if (object instanceof Float) {
         type = FLOAT;
-      } else if (value.isDouble()) {
+      } else if (object instanceof Double) {
         type = DOUBLE;
-      } else if (value.isBigDecimal()) {
+      } else if (object instanceof BigDecimal) {
         type = BIG_DECIMAL;
       } else {
-        throw new UnsupportedTypeException(value.getObject().getClass());
+        throw new UnsupportedTypeException(object.getClass());
       }
 
       return type;
@@ -613,6 +615,302 @@ public class PropertyValueUtils {
     }
   }
 
+  /**
+   * Accumulates numerical property values in a primitive partial state.
+   * <p>
+   * The result is equal to folding all values using {@link Numeric#add(PropertyValue,
+   * PropertyValue)}, {@link Numeric#min(PropertyValue, PropertyValue)} or
+   * {@link Numeric#max(PropertyValue, PropertyValue)}, including the type of the result. The
+   * partial state is kept as {@code long}, {@code float}, {@code double} or {@link BigDecimal}
+   * and is only converted if a value of a larger type is added. A property value is only created
+   * by {@link #getValue()}.
+   */
+  public static class NumericAccumulator implements PropertyValueAccumulator {
+
+    /**
+     * serial version uid
+     */
+    private static final long serialVersionUID = 42L;
+
+    /**
+     * Type of an accumulator without any value.
+     */
+    private static final int EMPTY = -1;
+    /**
+     * Sum operation.
+     */
+    private static final int SUM = 0;
+    /**
+     * Min operation.
+     */
+    private static final int MIN = 1;
+    /**
+     * Max operation.
+     */
+    private static final int MAX = 2;
+
+    /**
+     * The operation used to accumulate values.
+     */
+    private final int operation;
+    /**
+     * The numerical type of the current value.
+     */
+    private int type = EMPTY;
+    /**
+     * The current value, if it is a {@code short}, {@code int} or {@code long}.
+     */
+    private long longValue;
+    /**
+     * The current value, if it is a {@code float}.
+     */
+    private float floatValue;
+    /**
+     * The current value, if it is a {@code double}.
+     */
+    private double doubleValue;
+    /**
+     * The current value, if it is a {@link BigDecimal}.
+     */
+    private BigDecimal bigDecimalValue;
+
+    /**
+     * Creates a new accumulator.
+     *
+     * @param operation operation used to accumulate values
+     */
+    private NumericAccumulator(int operation) {
+      this.operation = operation;
+    }
+
+    /**
+     * Creates an accumulator computing the sum of all values.
+     *
+     * @return new accumulator
+     */
+    public static NumericAccumulator sum() {
+      return new NumericAccumulator(SUM);
+    }
+
+    /**
+     * Creates an accumulator computing the minimum of all values.
+     *
+     * @return new accumulator
+     */
+    public static NumericAccumulator min() {
+      return new NumericAccumulator(MIN);
+    }
+
+    /**
+     * Creates an accumulator computing the maximum of all values.
+     *
+     * @return new accumulator
+     */
+    public static NumericAccumulator max() {
+      return new NumericAccumulator(MAX);
+    }
+
+    /**
+     * Adds a numerical property value to the accumulator.
+     *
+     * @param value property value
+     * @throws UnsupportedTypeException if the value is not numerical
+     */
+    @Override
+    public void add(PropertyValue value) {
+      int valueType = Numeric.checkNumericalAndGetType(value);
+      Number number = (Number) value.getObject();
+
+      if (type == EMPTY) {
+        set(valueType, number);
+      } else if (operation == SUM) {
+        sum(valueType, number);
+      } else if (isLessOrEqualThan(valueType, number) == (operation == MAX)) {
+        set(valueType, number);
+      }
+    }
+
+    /**
+     * True, if no value was added since the creation or the last reset.
+     *
+     * @return true, if there is no value
+     */
+    @Override
+    public boolean isEmpty() {
+      return type == EMPTY;
+    }
+
+    /**
+     * Returns the accumulated value as a new property value.
+     *
+     * @return accumulated value or {@code null}, if there is none
+     */
+    @Override
+    public PropertyValue getValue() {
+      switch (type) {
+      case EMPTY:
+        return null;
+      case Numeric.SHORT:
+        return PropertyValue.create((short) longValue);
+      case Numeric.INT:
+        return PropertyValue.create((int) longValue);
+      case Numeric.LONG:
+        return PropertyValue.create(longValue);
+      case Numeric.FLOAT:
+        return PropertyValue.create(floatValue);
+      case Numeric.DOUBLE:
+        return PropertyValue.create(doubleValue);
+      default:
+        return PropertyValue.create(bigDecimalValue);
+      }
+    }
+
+    /**
+     * Removes the accumulated value.
+     */
+    @Override
+    public void reset() {
+      type = EMPTY;
+      bigDecimalValue = null;
+    }
+
+    /**
+     * Replaces the current value.
+     *
+     * @param valueType numerical type of the new value
+     * @param number new value
+     */
+    private void set(int valueType, Number number) {
+      type = valueType;
+      switch (valueType) {
+      case Numeric.FLOAT:
+        floatValue = number.floatValue();
+        break;
+      case Numeric.DOUBLE:
+        doubleValue = number.doubleValue();
+        break;
+      case Numeric.BIG_DECIMAL:
+        bigDecimalValue = (BigDecimal) number;
+        break;
+      default:
+        longValue = number.longValue();
+      }
+    }
+
+    /**
+     * Adds a value to the current value, using the larger type of both.
+     *
+     * @param valueType numerical type of the value
+     * @param number value to add
+     */
+    private void sum(int valueType, Number number) {
+      int returnType = Numeric.maxType(type, valueType);
+
+      switch (returnType) {
+      case Numeric.INT:
+        // keep the overflow behaviour of int arithmetic
+        longValue = (int) longValue + number.intValue();
+        break;
+      case Numeric.LONG:
+        longValue += number.longValue();
+        break;
+      case Numeric.FLOAT:
+        floatValue = floatValue() + number.floatValue();
+        break;
+      case Numeric.DOUBLE:
+        doubleValue = doubleValue() + number.doubleValue();
+        break;
+      default:
+        bigDecimalValue = bigDecimalValue().add(bigDecimalValue(valueType, number));
+      }
+
+      type = returnType;
+    }
+
+    /**
+     * Compares the current value with another value, using the larger type of both.
+     *
+     * @param valueType numerical type of the other value
+     * @param number other value
+     * @return current value {@code <=} other value
+     */
+    private boolean isLessOrEqualThan(int valueType, Number number) {
+      switch (Numeric.maxType(type, valueType)) {
+      case Numeric.INT:
+      case Numeric.LONG:
+        return longValue <= number.longValue();
+      case Numeric.FLOAT:
+        return floatValue() <= number.floatValue();
+      case Numeric.DOUBLE:
+        return doubleValue() <= number.doubleValue();
+      default:
+        return bigDecimalValue().compareTo(bigDecimalValue(valueType, number)) <= 0;
+      }
+    }
+
+    /**
+     * Converts the current value to {@code float}.
+     *
+     * @return converted value
+     */
+    private float floatValue() {
+      return type == Numeric.FLOAT ? floatValue : longValue;
+    }
+
+    /**
+     * Converts the current value to {@code double}.
+     *
+     * @return converted value
+     */
+    private double doubleValue() {
+      switch (type) {
+      case Numeric.FLOAT:
+        return floatValue;
+      case Numeric.DOUBLE:
+        return doubleValue;
+      default:
+        return longValue;
+      }
+    }
+
+    /**
+     * Converts the current value to {@link BigDecimal}.
+     *
+     * @return converted value
+     */
+    private BigDecimal bigDecimalValue() {
+      switch (type) {
+      case Numeric.FLOAT:
+        return BigDecimal.valueOf(floatValue);
+      case Numeric.DOUBLE:
+        return BigDecimal.valueOf(doubleValue);
+      case Numeric.BIG_DECIMAL:
+        return bigDecimalValue;
+      default:
+        return BigDecimal.valueOf(longValue);
+      }
+    }
+
+    /**
+     * Converts a value of a numerical type to {@link BigDecimal}.
+     *
+     * @param valueType numerical type of the value
+     * @param number value
+     * @return converted value
+     */
+    private static BigDecimal bigDecimalValue(int valueType, Number number) {
+      switch (valueType) {
+      case Numeric.FLOAT:
+      case Numeric.DOUBLE:
+        return BigDecimal.valueOf(number.doubleValue());
+      case Numeric.BIG_DECIMAL:
+        return (BigDecimal) number;
+      default:
+        return BigDecimal.valueOf(number.longValue());
+      }
+    }
+  }
+
   /**
    * Byte utilities.
    */
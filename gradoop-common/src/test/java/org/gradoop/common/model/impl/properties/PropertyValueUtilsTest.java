@@ -15,6 +15,7 @@
  */
 package org.gradoop.common.model.impl.properties;
 
+import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.testng.annotations.Test;
 
 import java.math.BigDecimal;
@@ -960,6 +961,82 @@ public class PropertyValueUtilsTest {
     }
   }
 
+  /**
+   * Test class of {@link PropertyValueUtils.NumericAccumulator}
+   */
+  public static class NumericAccumulatorTest {
+
+    /**
+     * Numerical values of all supported types, in an order mixing the types.
+     */
+    private final PropertyValue[] values = {
+      create(SHORT_VAL_e), create(INT_VAL_2), create(Integer.MAX_VALUE), create(LONG_VAL_3),
+      create(FLOAT_VAL_4), create((short) -2), create(DOUBLE_VAL_5), create(-1L),
+      create(BIG_DECIMAL_VAL_7), create(INT_VAL_2), create(-3.5f)
+    };
+
+    @Test
+    public void testSum() {
+      PropertyValueUtils.NumericAccumulator accumulator = PropertyValueUtils.NumericAccumulator.sum();
+      for (int size = 1; size <= values.length; size++) {
+        PropertyValue expected = values[0].copy();
+        accumulator.add(values[0]);
+        for (int i = 1; i < size; i++) {
+          expected = add(expected, values[i].copy());
+          accumulator.add(values[i]);
+        }
+        assertEquals(expected, accumulator.getValue());
+        accumulator.reset();
+      }
+    }
+
+    @Test
+    public void testIntegerOverflow() {
+      PropertyValueUtils.NumericAccumulator accumulator = PropertyValueUtils.NumericAccumulator.sum();
+      accumulator.add(create(Integer.MAX_VALUE));
+      accumulator.add(create(SHORT_VAL_e));
+      assertEquals(add(create(Integer.MAX_VALUE), create(SHORT_VAL_e)), accumulator.getValue());
+    }
+
+    @Test
+    public void testMin() {
+      PropertyValueUtils.NumericAccumulator accumulator = PropertyValueUtils.NumericAccumulator.min();
+      PropertyValue expected = values[0];
+      for (PropertyValue value : values) {
+        expected = min(expected, value);
+        accumulator.add(value);
+        assertEquals(expected, accumulator.getValue());
+      }
+    }
+
+    @Test
+    public void testMax() {
+      PropertyValueUtils.NumericAccumulator accumulator = PropertyValueUtils.NumericAccumulator.max();
+      PropertyValue expected = values[0];
+      for (PropertyValue value : values) {
+        expected = max(expected, value);
+        accumulator.add(value);
+        assertEquals(expected, accumulator.getValue());
+      }
+    }
+
+    @Test
+    public void testEmpty() {
+      PropertyValueUtils.NumericAccumulator accumulator = PropertyValueUtils.NumericAccumulator.sum();
+      assertTrue(accumulator.isEmpty());
+      assertNull(accumulator.getValue());
+      accumulator.add(create(LONG_VAL_3));
+      assertFalse(accumulator.isEmpty());
+      accumulator.reset();
+      assertTrue(accumulator.isEmpty());
+    }
+
+    @Test(expectedExceptions = UnsupportedTypeException.class)
+    public void testUnsupportedType() {
+      PropertyValueUtils.NumericAccumulator.sum().add(create("1"));
+    }
+  }
+
   /**
    * Test class for {@link PropertyValueUtils.BytesUtils} class
    */
@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.btgs;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.graph.Graph;
+import org.apache.flink.types.NullValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.algorithms.btgs.functions.AddBtgIds;
+import org.gradoop.flink.algorithms.btgs.functions.BtgEdge;
+import org.gradoop.flink.algorithms.btgs.functions.BtgEdgeVertices;
+import org.gradoop.flink.algorithms.btgs.functions.BtgMessenger;
+import org.gradoop.flink.algorithms.btgs.functions.BtgUpdater;
+import org.gradoop.flink.algorithms.btgs.functions.CollectGradoopIds;
+import org.gradoop.flink.algorithms.btgs.functions.ComponentToNewBtgId;
+import org.gradoop.flink.algorithms.btgs.functions.MasterData;
+import org.gradoop.flink.algorithms.btgs.functions.NewBtgGraphHead;
+import org.gradoop.flink.algorithms.btgs.functions.NewVertexIdBtgId;
+import org.gradoop.flink.algorithms.btgs.functions.RemapBtgIds;
+import org.gradoop.flink.algorithms.btgs.functions.SetBtgId;
+import org.gradoop.flink.algorithms.btgs.functions.SetBtgIds;
+import org.gradoop.flink.algorithms.btgs.functions.TargetIdBtgId;
+import org.gradoop.flink.algorithms.btgs.functions.TargetIdSourceBtgId;
+import org.gradoop.flink.algorithms.btgs.functions.TransactionalData;
+import org.gradoop.flink.algorithms.btgs.functions.VertexIdBtgId;
+import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithGradoopId;
+import org.gradoop.flink.model.api.operators.UnaryGraphToCollectionOperator;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.ExpandGradoopIds;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.IdNotInBroadcast;
+import org.gradoop.flink.model.impl.functions.epgm.SourceId;
+import org.gradoop.flink.model.impl.functions.tuple.SwitchPair;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
+
+/**
+ * Part of the BIIIG approach.
+ * Updates previously isolated business transaction graphs (BTGs) by the vertices and edges that
+ * were added to the integrated instance graph since.
+ *
+ * Each previous BTG is represented by a single node, only the new transactional vertices and the
+ * new edges between transactional vertices are added to this graph and the connected components
+ * are computed for the resulting (small) graph. Previous BTGs that are not touched by the delta
+ * remain unchanged, all touched ones are replaced by new BTGs.
+ *
+ * The delta graph is expected to contain only new vertices but may contain edges from or to
+ * vertices of the previous result. Master vertices referenced by the delta have to be part of
+ * either the previous result or the delta graph.
+ */
+public class IncrementalBusinessTransactionGraphs implements UnaryGraphToCollectionOperator {
+
+  /**
+   * previously isolated business transaction graphs
+   */
+  private final GraphCollection previousBtgs;
+
+  /**
+   * Constructor.
+   *
+   * @param previousBtgs previously isolated business transaction graphs
+   */
+  public IncrementalBusinessTransactionGraphs(GraphCollection previousBtgs) {
+    this.previousBtgs = previousBtgs;
+  }
+
+  @Override
+  public GraphCollection execute(LogicalGraph delta) {
+
+    DataSet<EPGMVertex> previousTransVertices = previousBtgs.getVertices()
+      .filter(new TransactionalData<>());
+
+    DataSet<EPGMVertex> previousMasterVertices = previousBtgs.getVertices()
+      .filter(new MasterData<>());
+
+    DataSet<EPGMVertex> newTransVertices = delta.getVertices()
+      .filter(new TransactionalData<>());
+
+    DataSet<EPGMVertex> newMasterVertices = delta.getVertices()
+      .filter(new MasterData<>());
+
+    // (vertexId, btgId) where a new vertex forms a BTG of its own
+    DataSet<Tuple2<GradoopId, GradoopId>> transVertexBtgMap = previousTransVertices
+      .map(new VertexIdBtgId<>())
+      .union(newTransVertices.map(new NewVertexIdBtgId<>()));
+
+    // new edges between transactional vertices connect (preliminary) BTGs
+    DataSet<org.apache.flink.graph.Edge<GradoopId, NullValue>> btgEdges = delta.getEdges()
+      .join(transVertexBtgMap)
+      .where(new SourceId<>()).equalTo(0)
+      .with(new TargetIdSourceBtgId<>())
+      .join(transVertexBtgMap)
+      .where(0).equalTo(0)
+      .with(new BtgEdge());
+
+    DataSet<org.apache.flink.graph.Vertex<GradoopId, GradoopId>> btgVertices = btgEdges
+      .flatMap(new BtgEdgeVertices())
+      .union(newTransVertices.map(new VertexToGellyVertexWithGradoopId()))
+      .distinct(0);
+
+    Graph<GradoopId, GradoopId, NullValue> gellyBtgGraph = Graph.fromDataSet(
+      btgVertices,
+      btgEdges,
+      delta.getConfig().getExecutionEnvironment()
+    );
+
+    gellyBtgGraph = gellyBtgGraph
+      .getUndirected()
+      .runScatterGatherIteration(new BtgMessenger(), new BtgUpdater(), 100);
+
+    DataSet<Tuple2<GradoopId, GradoopIdSet>> btgBtgsMap = gellyBtgGraph
+      .getVerticesAsTuple2()
+      .map(new SwitchPair<>())
+      .groupBy(0)
+      .reduceGroup(new CollectGradoopIds())
+      .map(new ComponentToNewBtgId());
+
+    // (preliminary btgId, new btgId)
+    DataSet<Tuple2<GradoopId, GradoopId>> btgIdMapping = btgBtgsMap
+      .flatMap(new ExpandGradoopIds<>())
+      .map(new SwitchPair<>());
+
+    // keep untouched and add new graph heads
+    DataSet<EPGMGraphHead> graphHeads = previousBtgs.getGraphHeads()
+      .filter(new IdNotInBroadcast<>())
+      .withBroadcastSet(btgIdMapping.map(new Value0Of2<>()), IdNotInBroadcast.IDS)
+      .union(btgBtgsMap
+        .map(new Value0Of2<>())
+        .map(new NewBtgGraphHead<>(delta.getFactory().getGraphHeadFactory())));
+
+    // update edges
+    DataSet<EPGMEdge> newEdges = delta.getEdges()
+      .join(transVertexBtgMap)
+      .where(new SourceId<>()).equalTo(0)
+      .with(new SetBtgId<>());
+
+    DataSet<EPGMEdge> edges = previousBtgs.getEdges()
+      .union(newEdges)
+      .map(new RemapBtgIds<>())
+      .withBroadcastSet(btgIdMapping, RemapBtgIds.BTG_ID_MAPPING);
+
+    // update transactional vertices
+    DataSet<EPGMVertex> transVertices = previousTransVertices
+      .map(new RemapBtgIds<>())
+      .withBroadcastSet(btgIdMapping, RemapBtgIds.BTG_ID_MAPPING)
+      .union(newTransVertices
+        .join(btgIdMapping)
+        .where(new Id<>()).equalTo(0)
+        .with(new SetBtgId<>()));
+
+    // update master vertices
+    DataSet<Tuple2<GradoopId, GradoopIdSet>> masterBtgsMap = newEdges
+      .map(new RemapBtgIds<>())
+      .withBroadcastSet(btgIdMapping, RemapBtgIds.BTG_ID_MAPPING)
+      .map(new TargetIdBtgId<>())
+      .groupBy(0)
+      .reduceGroup(new CollectGradoopIds());
+
+    DataSet<EPGMVertex> masterVertices = previousMasterVertices
+      .map(new RemapBtgIds<>())
+      .withBroadcastSet(btgIdMapping, RemapBtgIds.BTG_ID_MAPPING)
+      .leftOuterJoin(masterBtgsMap)
+      .where(new Id<>()).equalTo(0)
+      .with(new AddBtgIds<>())
+      .union(newMasterVertices
+        .join(masterBtgsMap)
+        .where(new Id<>()).equalTo(0)
+        .with(new SetBtgIds<>()));
+
+    return delta.getCollectionFactory()
+      .fromDataSets(graphHeads, transVertices.union(masterVertices), edges);
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.btgs.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+
+/**
+ * Adds business transaction graphs to a (master) vertex, if there are any.
+ *
+ * @param <V> vertex type
+ */
+public class AddBtgIds<V extends Vertex>
+  implements JoinFunction<V, Tuple2<GradoopId, GradoopIdSet>, V> {
+
+  @Override
+  public V join(V element, Tuple2<GradoopId, GradoopIdSet> mapping) throws Exception {
+    if (mapping != null) {
+      element.getGraphIds().addAll(mapping.f1);
+    }
+    return element;
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.btgs.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.graph.Edge;
+import org.apache.flink.graph.Vertex;
+import org.apache.flink.types.NullValue;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * {@code (sourceBtgId, targetBtgId) -> (sourceBtgId, sourceBtgId), (targetBtgId, targetBtgId)}
+ */
+public class BtgEdgeVertices
+  implements FlatMapFunction<Edge<GradoopId, NullValue>, Vertex<GradoopId, GradoopId>> {
+
+  @Override
+  public void flatMap(Edge<GradoopId, NullValue> edge,
+    Collector<Vertex<GradoopId, GradoopId>> out) throws Exception {
+    out.collect(new Vertex<>(edge.getSource(), edge.getSource()));
+    out.collect(new Vertex<>(edge.getTarget(), edge.getTarget()));
+  }
+}
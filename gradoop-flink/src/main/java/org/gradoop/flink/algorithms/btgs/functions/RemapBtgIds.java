@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.btgs.functions;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.api.entities.GraphElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the ids of merged business transaction graphs by the ids of the graphs they were
+ * merged into. The broadcast mapping is expected to be small compared to the graph.
+ *
+ * @param <EL> graph element type
+ */
+public class RemapBtgIds<EL extends GraphElement> extends RichMapFunction<EL, EL> {
+
+  /**
+   * broadcast set name of the {@code (oldBtgId, newBtgId)} mapping
+   */
+  public static final String BTG_ID_MAPPING = "btgIdMapping";
+
+  /**
+   * old BTG id -> new BTG id
+   */
+  private Map<GradoopId, GradoopId> btgIdMapping;
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+
+    List<Tuple2<GradoopId, GradoopId>> mappings =
+      getRuntimeContext().getBroadcastVariable(BTG_ID_MAPPING);
+
+    btgIdMapping = new HashMap<>(mappings.size());
+    for (Tuple2<GradoopId, GradoopId> mapping : mappings) {
+      btgIdMapping.put(mapping.f0, mapping.f1);
+    }
+  }
+
+  @Override
+  public EL map(EL element) throws Exception {
+    GradoopIdSet btgIds = element.getGraphIds();
+
+    for (GradoopId btgId : btgIds) {
+      if (btgIdMapping.containsKey(btgId)) {
+        GradoopIdSet remappedIds = new GradoopIdSet();
+        for (GradoopId id : btgIds) {
+          remappedIds.add(btgIdMapping.getOrDefault(id, id));
+        }
+        element.setGraphIds(remappedIds);
+        break;
+      }
+    }
+
+    return element;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.btgs.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * {@code edge x (sourceId, btgId) -> (targetId, btgId)}
+ *
+ * @param <E> edge type
+ */
+public class TargetIdSourceBtgId<E extends Edge>
+  implements JoinFunction<E, Tuple2<GradoopId, GradoopId>, Tuple2<GradoopId, GradoopId>> {
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> join(E edge, Tuple2<GradoopId, GradoopId> mapping) {
+    return new Tuple2<>(edge.getTargetId(), mapping.f1);
+  }
+}
@@ -28,15 +28,23 @@ import org.gradoop.flink.algorithms.fsm.dimspan.config.DIMSpanConfig;
 import org.gradoop.flink.algorithms.fsm.dimspan.config.DIMSpanConstants;
 import org.gradoop.flink.algorithms.fsm.dimspan.config.DataflowStep;
 import org.gradoop.flink.algorithms.fsm.dimspan.config.DictionaryType;
+import org.gradoop.flink.algorithms.fsm.dimspan.config.PatternMode;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.conversion.DFSCodeToEPGMGraphTransaction;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.CreateCollector;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.ExpandFrequentPatterns;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.Frequent;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.GrowFrequentPatterns;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.GrowFrequentPatternsInParallel;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.InitSingleEdgePatternEmbeddingsMap;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.IsFrequentPatternCollector;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.NotObsolete;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.NotSubsumed;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.ReportCandidatePatterns;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.ReportParentPatterns;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.ReportSupportedPatterns;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.TopFrequencies;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.TopKFrequency;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.UncompressPattern;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.VerifyPattern;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.CompressPattern;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.preprocessing.AggregateMultipleFunctions;
@@ -45,6 +53,7 @@ import org.gradoop.flink.algorithms.fsm.dimspan.functions.preprocessing.EncodeAn
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.preprocessing.EncodeAndPruneVertices;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.preprocessing.MinFrequency;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.preprocessing.NotEmpty;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.preprocessing.RandomGraphFilter;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.preprocessing.ReportEdgeLabels;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.preprocessing.ReportVertexLabels;
 import org.gradoop.flink.algorithms.fsm.dimspan.gspan.DirectedGSpanLogic;
@@ -137,7 +146,9 @@ public class DIMSpan {
   public DataSet<GraphTransaction> execute(DataSet<LabeledGraphStringString> input) {
 
     DataSet<int[]> encodedInput = preProcess(input);
-    DataSet<WithCount<int[]>> encodedOutput = mine(encodedInput);
+    DataSet<WithCount<int[]>> encodedOutput = fsmConfig.getSampleFraction() < 1.0f ?
+      mineSample(encodedInput) :
+      mine(encodedInput, minFrequency, fsmConfig.getTopK(), fsmConfig.getPatternMode());
 
     return postProcess(encodedOutput);
   }
@@ -173,9 +184,13 @@ public class DIMSpan {
    * Triggers the iterative mining process.
    *
    * @param graphs preprocessed input graph collection
+   * @param frequencyThreshold minimum frequency of patterns in the given graphs
+   * @param topK number of most frequent patterns to mine (0=all frequent patterns)
+   * @param patternMode restriction of the result to closed or maximal patterns
    * @return frequent patterns
    */
-  protected DataSet<WithCount<int[]>> mine(DataSet<int[]> graphs) {
+  protected DataSet<WithCount<int[]>> mine(DataSet<int[]> graphs,
+    DataSet<Long> frequencyThreshold, int topK, PatternMode patternMode) {
 
     DataSet<GraphWithPatternEmbeddingsMap> searchSpace = graphs
       .map(new InitSingleEdgePatternEmbeddingsMap(gSpan, fsmConfig));
@@ -196,23 +211,163 @@ public class DIMSpan {
 
     // ITERATION BODY
 
+    // Subsumed patterns are dropped from the collector as soon as their children are counted.
+    // With top-k, the collected patterns determine the threshold, so they are filtered later.
+    PatternMode growthPatternMode = topK > 0 ? PatternMode.ALL : patternMode;
+
     DataSet<WithCount<int[]>> reports = iterative
       .flatMap(new ReportSupportedPatterns());
 
-    DataSet<WithCount<int[]>> frequentPatterns = getFrequentPatterns(reports);
+    DataSet<WithCount<int[]>> frequentPatterns =
+      getFrequentPatterns(reports, iterative, frequencyThreshold, topK);
+
+    DataSet<GraphWithPatternEmbeddingsMap> grownEmbeddings;
+
+    if (fsmConfig.getGrowthParallelism() > 1) {
+      grownEmbeddings = iterative
+        .mapPartition(new GrowFrequentPatternsInParallel(gSpan, fsmConfig, growthPatternMode))
+        .withBroadcastSet(frequentPatterns, DIMSpanConstants.FREQUENT_PATTERNS);
+    } else {
+      grownEmbeddings = iterative
+        .map(new GrowFrequentPatterns(gSpan, fsmConfig, growthPatternMode))
+        .withBroadcastSet(frequentPatterns, DIMSpanConstants.FREQUENT_PATTERNS);
+    }
 
-    DataSet<GraphWithPatternEmbeddingsMap> grownEmbeddings = iterative
-      .map(new GrowFrequentPatterns(gSpan, fsmConfig))
-      .withBroadcastSet(frequentPatterns, DIMSpanConstants.FREQUENT_PATTERNS)
-      .filter(new NotObsolete());
+    grownEmbeddings = grownEmbeddings.filter(new NotObsolete());
 
     // ITERATION FOOTER
 
-    return iterative
+    DataSet<WithCount<int[]>> result = iterative
       .closeWith(grownEmbeddings, frequentPatterns)
       // keep only collector and expand embedding map keys
       .filter(new IsFrequentPatternCollector())
       .flatMap(new ExpandFrequentPatterns());
+
+    // POSTPROCESSING
+
+    return restrictResult(result, frequencyThreshold, topK,
+      growthPatternMode == patternMode ? PatternMode.ALL : patternMode);
+  }
+
+  /**
+   * Restricts frequent patterns to the top-k ones and to closed or maximal ones.
+   *
+   * @param patterns frequent patterns
+   * @param frequencyThreshold minimum frequency of patterns
+   * @param topK number of most frequent patterns to keep (0=all frequent patterns)
+   * @param patternMode restriction to closed or maximal patterns
+   * @return restricted frequent patterns
+   */
+  private DataSet<WithCount<int[]>> restrictResult(DataSet<WithCount<int[]>> patterns,
+    DataSet<Long> frequencyThreshold, int topK, PatternMode patternMode) {
+
+    // drop patterns collected before the threshold reached its final value
+    if (topK > 0) {
+      patterns = patterns
+        .filter(new Frequent<>())
+        .withBroadcastSet(getTopKFrequency(patterns, frequencyThreshold, topK),
+          DIMSpanConstants.MIN_FREQUENCY);
+    }
+
+    if (patternMode != PatternMode.ALL) {
+      patterns = removeSubsumedPatterns(patterns, patternMode);
+    }
+
+    return patterns;
+  }
+
+  /**
+   * Triggers approximate mining. Candidate patterns are mined from a random sample using a
+   * reduced min support. Afterwards, their exact frequency is counted in all graphs.
+   * Patterns which are frequent but not even a candidate in the sample will be missed.
+   * All frequent patterns of the sample are candidates, top-k and the pattern mode are only
+   * applied to the exact frequencies.
+   *
+   * @param graphs preprocessed input graph collection
+   * @return frequent patterns
+   */
+  private DataSet<WithCount<int[]>> mineSample(DataSet<int[]> graphs) {
+
+    DataSet<int[]> sample = graphs
+      .filter(new RandomGraphFilter<>(fsmConfig.getSampleFraction(), fsmConfig.getRandomSeed()));
+
+    float sampleMinSupport =
+      fsmConfig.getMinSupport() * (1.0f - fsmConfig.getSampleSupportTolerance());
+
+    // mine candidates using the sample's min frequency
+    DataSet<Long> sampleMinFrequency = Count
+      .count(sample)
+      .map(new MinFrequency(sampleMinSupport));
+
+    DataSet<WithCount<int[]>> candidates = mine(sample, sampleMinFrequency, 0, PatternMode.ALL);
+
+    // VERIFICATION
+
+    DataSet<WithCount<int[]>> patterns = graphs
+      .flatMap(new ReportCandidatePatterns(gSpan, fsmConfig))
+      .withBroadcastSet(candidates, DIMSpanConstants.CANDIDATE_PATTERNS)
+      .groupBy(0)
+      .combineGroup(sumPartition())
+      .groupBy(0)
+      .sum(1)
+      .filter(new Frequent<>())
+      .withBroadcastSet(minFrequency, DIMSpanConstants.MIN_FREQUENCY);
+
+    return restrictResult(patterns, minFrequency, fsmConfig.getTopK(),
+      fsmConfig.getPatternMode());
+  }
+
+  /**
+   * Determines the minimum frequency of top-k patterns, i.e., the k-th highest frequency
+   * of the given patterns but not less than the configured minimum frequency.
+   *
+   * @param patterns patterns with frequency
+   * @param frequencyThreshold minimum frequency of patterns
+   * @param topK number of top patterns
+   * @return minimum frequency
+   */
+  private DataSet<Long> getTopKFrequency(DataSet<WithCount<int[]>> patterns,
+    DataSet<Long> frequencyThreshold, int topK) {
+    DataSet<Long> topFrequencies = patterns
+      .mapPartition(new TopFrequencies<>(topK));
+
+    return frequencyThreshold
+      .map(new TopKFrequency(topK))
+      .withBroadcastSet(topFrequencies, DIMSpanConstants.TOP_FREQUENCIES);
+  }
+
+  /**
+   * Removes patterns which are subsumed by a one-edge supergraph, i.e., non-closed patterns
+   * in closed mode and non-maximal patterns in maximal mode. This is only used for patterns
+   * which were not restricted while mining, i.e., for top-k and verified sample patterns.
+   *
+   * @param patterns frequent patterns
+   * @param patternMode closed or maximal mode
+   * @return closed or maximal frequent patterns
+   */
+  private DataSet<WithCount<int[]>> removeSubsumedPatterns(DataSet<WithCount<int[]>> patterns,
+    PatternMode patternMode) {
+    boolean compressed = fsmConfig.getPatternCompressionInStep() != DataflowStep.WITHOUT;
+
+    if (compressed) {
+      patterns = patterns
+        .map(new UncompressPattern());
+    }
+
+    DataSet<WithCount<int[]>> parentReports = patterns
+      .flatMap(new ReportParentPatterns(gSpan));
+
+    patterns = patterns
+      .coGroup(parentReports)
+      .where(0).equalTo(0)
+      .with(new NotSubsumed<>(patternMode == PatternMode.MAXIMAL));
+
+    if (compressed) {
+      patterns = patterns
+        .map(new CompressPattern());
+    }
+
+    return patterns;
   }
 
   /**
@@ -305,9 +460,13 @@ public class DIMSpan {
    * Identifies valid frequent patterns from a dataset of reported patterns.
    *
    * @param patterns reported patterns
+   * @param iterative iteration head including the collector of previous frequent patterns
+   * @param minimumFrequency minimum frequency of patterns
+   * @param topK number of most frequent patterns to mine (0=all frequent patterns)
    * @return valid frequent patterns
    */
-  private DataSet<WithCount<int[]>> getFrequentPatterns(DataSet<WithCount<int[]>> patterns) {
+  private DataSet<WithCount<int[]>> getFrequentPatterns(DataSet<WithCount<int[]>> patterns,
+    DataSet<GraphWithPatternEmbeddingsMap> iterative, DataSet<Long> minimumFrequency, int topK) {
     // COMBINE
 
     patterns = patterns
@@ -332,9 +491,29 @@ public class DIMSpan {
 
     // FILTER
 
+    DataSet<Long> frequencyThreshold = minimumFrequency;
+
+    // raise threshold to the k-th highest frequency of current and previous patterns
+    if (topK > 0) {
+      DataSet<WithCount<int[]>> previousPatterns = iterative
+        .filter(new IsFrequentPatternCollector())
+        .flatMap(new ExpandFrequentPatterns());
+
+      DataSet<WithCount<int[]>> currentPatterns = patterns;
+
+      // non-minimal DFS codes must not raise the threshold
+      if (fsmConfig.getPatternVerificationInStep() == DataflowStep.FILTER) {
+        currentPatterns = currentPatterns
+          .filter(new VerifyPattern(gSpan, fsmConfig));
+      }
+
+      frequencyThreshold =
+        getTopKFrequency(currentPatterns.union(previousPatterns), minimumFrequency, topK);
+    }
+
     patterns = patterns
       .filter(new Frequent<>())
-      .withBroadcastSet(minFrequency, DIMSpanConstants.MIN_FREQUENCY);
+      .withBroadcastSet(frequencyThreshold, DIMSpanConstants.MIN_FREQUENCY);
 
     if (fsmConfig.getPatternVerificationInStep() == DataflowStep.FILTER) {
       patterns = patterns
@@ -66,6 +66,41 @@ public class DIMSpanConfig implements Serializable {
    */
   private boolean branchConstraintEnabled = true;
 
+  /**
+   * Number of threads growing the graphs of a single partition (1=sequential).
+   */
+  private int growthParallelism = 1;
+
+  /**
+   * Maximum number of ints stored as embeddings per graph (0=unbounded).
+   */
+  private int embeddingLimit = 0;
+
+  /**
+   * Number of most frequent patterns to mine (0=all patterns above min support).
+   */
+  private int topK = 0;
+
+  /**
+   * Restriction of the mined patterns to closed or maximal ones.
+   */
+  private PatternMode patternMode = PatternMode.ALL;
+
+  /**
+   * Fraction of graphs sampled to mine candidate patterns from, in (0, 1] (1=no sampling).
+   */
+  private float sampleFraction = 1.0f;
+
+  /**
+   * Relative reduction of the min support while mining the sample.
+   */
+  private float sampleSupportTolerance = 0.1f;
+
+  /**
+   * Random seed for sampling (0=random).
+   */
+  private long randomSeed = 0L;
+
   /**
    * valued constructor
    * @param minSupport minimum relative support of a subgraph
@@ -90,6 +125,12 @@ public class DIMSpanConfig implements Serializable {
       getParameterEnabled("embedding compression", embeddingCompressionEnabled));
     parameters.add("pattern compression @ " + patternCompressionInStep.toString());
     parameters.add("pattern validation @ " + patternVerificationInStep.toString());
+    parameters.add("growth parallelism : " + growthParallelism);
+    parameters.add("embedding limit : " + embeddingLimit);
+    parameters.add("top k : " + topK);
+    parameters.add("pattern mode : " + patternMode.toString());
+    parameters.add("sample fraction : " + sampleFraction);
+    parameters.add("sample support tolerance : " + sampleSupportTolerance);
 
     return StringUtils.join(parameters, "|");
   }
@@ -169,4 +210,70 @@ public class DIMSpanConfig implements Serializable {
   public boolean isBranchConstraintEnabled() {
     return branchConstraintEnabled;
   }
+
+  public int getGrowthParallelism() {
+    return growthParallelism;
+  }
+
+  public void setGrowthParallelism(int growthParallelism) {
+    this.growthParallelism = growthParallelism;
+  }
+
+  public int getEmbeddingLimit() {
+    return embeddingLimit;
+  }
+
+  public void setEmbeddingLimit(int embeddingLimit) {
+    this.embeddingLimit = embeddingLimit;
+  }
+
+  public int getTopK() {
+    return topK;
+  }
+
+  public void setTopK(int topK) {
+    this.topK = topK;
+  }
+
+  public PatternMode getPatternMode() {
+    return patternMode;
+  }
+
+  public void setPatternMode(PatternMode patternMode) {
+    this.patternMode = patternMode;
+  }
+
+  public float getSampleFraction() {
+    return sampleFraction;
+  }
+
+  /**
+   * Sets the fraction of graphs sampled to mine candidate patterns from.
+   *
+   * @param sampleFraction probability of a graph to be sampled, in (0, 1] (1=no sampling)
+   * @throws IllegalArgumentException if the fraction is not in (0, 1]
+   */
+  public void setSampleFraction(float sampleFraction) {
+    if (!(sampleFraction > 0.0f && sampleFraction <= 1.0f)) {
+      throw new IllegalArgumentException(
+        "Sample fraction must be in (0, 1], but was " + sampleFraction);
+    }
+    this.sampleFraction = sampleFraction;
+  }
+
+  public float getSampleSupportTolerance() {
+    return sampleSupportTolerance;
+  }
+
+  public void setSampleSupportTolerance(float sampleSupportTolerance) {
+    this.sampleSupportTolerance = sampleSupportTolerance;
+  }
+
+  public long getRandomSeed() {
+    return randomSeed;
+  }
+
+  public void setRandomSeed(long randomSeed) {
+    this.randomSeed = randomSeed;
+  }
 }
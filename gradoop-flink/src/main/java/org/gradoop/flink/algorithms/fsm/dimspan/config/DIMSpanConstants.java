@@ -40,6 +40,16 @@ public class DIMSpanConstants {
    */
   public static final String EDGE_DICTIONARY = "eld";
 
+  /**
+   * Patterns mined from a sample, to be counted in all graphs.
+   */
+  public static final String CANDIDATE_PATTERNS = "cp";
+
+  /**
+   * Highest pattern frequencies per partition.
+   */
+  public static final String TOP_FREQUENCIES = "tf";
+
   /**
    * set of frequent patterns
    */
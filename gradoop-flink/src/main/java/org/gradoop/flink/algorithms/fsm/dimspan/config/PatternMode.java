@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.dimspan.config;
+
+/**
+ * Options to restrict the set of mined frequent patterns.
+ * <p>
+ * DIMSpan drops subsumed patterns as soon as their one-edge children are counted, so they
+ * are not carried through the remaining iterations. They are still grown, as their children
+ * may be closed or maximal. The think-like-an-embedding miner applies the mode to all
+ * frequent subgraphs after mining.
+ */
+public enum PatternMode implements Comparable<PatternMode> {
+  /**
+   * All frequent patterns.
+   */
+  ALL,
+  /**
+   * Frequent patterns without a one-edge supergraph of the same frequency.
+   */
+  CLOSED,
+  /**
+   * Frequent patterns without a frequent one-edge supergraph.
+   */
+  MAXIMAL
+}
@@ -16,12 +16,15 @@
 package org.gradoop.flink.algorithms.fsm.dimspan.functions.mining;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Ints;
 import org.apache.flink.api.common.functions.RichMapFunction;
 import org.apache.flink.configuration.Configuration;
 import org.gradoop.flink.algorithms.fsm.dimspan.comparison.DFSCodeComparator;
 import org.gradoop.flink.algorithms.fsm.dimspan.config.DIMSpanConfig;
 import org.gradoop.flink.algorithms.fsm.dimspan.config.DIMSpanConstants;
 import org.gradoop.flink.algorithms.fsm.dimspan.config.DataflowStep;
+import org.gradoop.flink.algorithms.fsm.dimspan.config.PatternMode;
 import org.gradoop.flink.algorithms.fsm.dimspan.gspan.GSpanLogic;
 import org.gradoop.flink.algorithms.fsm.dimspan.tuples.PatternEmbeddingsMap;
 import org.gradoop.flink.algorithms.fsm.dimspan.model.Simple16Compressor;
@@ -29,9 +32,14 @@ import org.gradoop.flink.algorithms.fsm.dimspan.tuples.GraphWithPatternEmbedding
 import org.gradoop.flink.model.impl.tuples.WithCount;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * {@code (graph, k-edge pattern -> embeddings) => (graph, k+1-edge pattern -> embeddings)}
+ *
+ * In closed or maximal mode, the collector drops collected patterns subsumed by a frequent
+ * child before it collects the k-edge frequent patterns. Subsumed patterns are still grown,
+ * as their children may be closed or maximal.
  */
 public class GrowFrequentPatterns
   extends RichMapFunction<GraphWithPatternEmbeddingsMap, GraphWithPatternEmbeddingsMap> {
@@ -81,18 +89,30 @@ public class GrowFrequentPatterns
    */
   private final boolean compressEmbeddings;
 
+  /**
+   * maximum number of ints stored as embeddings per graph (0=unbounded)
+   */
+  private final int embeddingLimit;
+
   /**
    * flag to enable pattern verification before counting (true=enabled)
    */
   private final boolean validatePatterns;
 
+  /**
+   * restriction of the collected patterns to closed or maximal ones
+   */
+  private final PatternMode patternMode;
+
   /**
    * Constructor.
    *
    * @param gSpan pattern growth logic
    * @param fsmConfig FSM Configuration
+   * @param patternMode restriction of the collected patterns to closed or maximal ones
    */
-  public GrowFrequentPatterns(GSpanLogic gSpan, DIMSpanConfig fsmConfig) {
+  public GrowFrequentPatterns(GSpanLogic gSpan, DIMSpanConfig fsmConfig,
+    PatternMode patternMode) {
 
     // set pattern growth logic for directed or undirected mode
     this.gSpan = gSpan;
@@ -100,11 +120,14 @@ public class GrowFrequentPatterns
     // cache compression flags
     compressGraphs = fsmConfig.isGraphCompressionEnabled();
     compressEmbeddings = fsmConfig.isEmbeddingCompressionEnabled();
+    embeddingLimit = fsmConfig.getEmbeddingLimit();
     compressPatterns = fsmConfig.getPatternCompressionInStep() == DataflowStep.MAP;
     uncompressFrequentPatterns = fsmConfig.getPatternCompressionInStep() != DataflowStep.WITHOUT;
 
     // cache validation flag
     validatePatterns = fsmConfig.getPatternVerificationInStep() == DataflowStep.MAP;
+
+    this.patternMode = patternMode;
   }
 
   @Override
@@ -151,6 +174,9 @@ public class GrowFrequentPatterns
 
     // union k-1 edge frequent patterns with k-edge ones
     if (pair.isFrequentPatternCollector()) {
+      if (patternMode != PatternMode.ALL) {
+        removeSubsumedPatterns(pair);
+      }
       for (WithCount<int[]> patternWithFrequency : patternFrequencies) {
         pair.getMap().collect(patternWithFrequency);
       }
@@ -194,8 +220,59 @@ public class GrowFrequentPatterns
       if (compressEmbeddings) {
         Simple16Compressor.compressEmbeddings(pair.getMap());
       }
+
+      // drop largest embeddings, they will be recomputed on growth
+      if (embeddingLimit > 0) {
+        pair.getMap().limitEmbeddings(embeddingLimit);
+      }
     }
 
     return pair;
   }
+
+  /**
+   * Drops collected patterns which are subsumed by a k-edge frequent pattern, i.e., parents
+   * of a child with the same frequency in closed mode and parents of any child in maximal mode.
+   *
+   * @param collector frequent pattern collector
+   */
+  private void removeSubsumedPatterns(GraphWithPatternEmbeddingsMap collector) {
+    // highest frequency of a k-edge child per parent pattern
+    Map<List<Integer>, Long> childFrequencies = Maps.newHashMap();
+
+    for (WithCount<int[]> childWithCount : patternFrequencies) {
+      int[] child = childWithCount.getObject();
+
+      if (uncompressFrequentPatterns) {
+        child = Simple16Compressor.uncompress(child);
+      }
+      for (int[] parent : gSpan.getParentPatterns(child)) {
+        childFrequencies.merge(Ints.asList(parent), childWithCount.getCount(), Math::max);
+      }
+    }
+
+    if (childFrequencies.isEmpty()) {
+      return;
+    }
+
+    PatternEmbeddingsMap collected = collector.getMap();
+    PatternEmbeddingsMap notSubsumed = PatternEmbeddingsMap.getEmptyOne();
+
+    for (int i = 0; i < collected.getPatternCount(); i++) {
+      int[] pattern = collected.getPattern(i);
+      int frequency = collected.getValues()[i][0];
+
+      if (uncompressFrequentPatterns) {
+        pattern = Simple16Compressor.uncompress(pattern);
+      }
+      Long childFrequency = childFrequencies.get(Ints.asList(pattern));
+
+      if (childFrequency == null ||
+        (patternMode == PatternMode.CLOSED && childFrequency != frequency)) {
+        notSubsumed.put(collected.getPattern(i), collected.getValues()[i]);
+      }
+    }
+
+    collector.setPatternEmbeddings(notSubsumed);
+  }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.dimspan.functions.mining;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.RichMapPartitionFunction;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.algorithms.fsm.dimspan.config.DIMSpanConfig;
+import org.gradoop.flink.algorithms.fsm.dimspan.config.PatternMode;
+import org.gradoop.flink.algorithms.fsm.dimspan.gspan.GSpanLogic;
+import org.gradoop.flink.algorithms.fsm.dimspan.tuples.GraphWithPatternEmbeddingsMap;
+import org.gradoop.flink.algorithms.fsm.dimspan.tuples.PatternEmbeddingsMap;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * {@code (graph, k-edge pattern -> embeddings) => (graph, k+1-edge pattern -> embeddings)}
+ *
+ * Grows the graphs of a partition concurrently in a bounded fork-join pool. Graphs are
+ * processed in batches and emitted in input order. Pattern growth itself is delegated to
+ * {@link GrowFrequentPatterns}, which only reads shared state once it has been opened.
+ *
+ * If object reuse is enabled, inputs are copied before they are added to a batch, as the
+ * input iterator may return the same instance for every graph.
+ */
+public class GrowFrequentPatternsInParallel extends
+  RichMapPartitionFunction<GraphWithPatternEmbeddingsMap, GraphWithPatternEmbeddingsMap> {
+
+  /**
+   * number of graphs per batch and worker thread
+   */
+  private static final int GRAPHS_PER_THREAD = 16;
+
+  /**
+   * single graph pattern growth
+   */
+  private final GrowFrequentPatterns growFrequentPatterns;
+
+  /**
+   * number of worker threads
+   */
+  private final int parallelism;
+
+  /**
+   * worker pool, created per superstep
+   */
+  private transient ForkJoinPool pool;
+
+  /**
+   * true, if inputs have to be copied before batching
+   */
+  private transient boolean copyInputs;
+
+  /**
+   * Constructor.
+   *
+   * @param gSpan pattern growth logic
+   * @param fsmConfig FSM Configuration
+   * @param patternMode restriction of the collected patterns to closed or maximal ones
+   */
+  public GrowFrequentPatternsInParallel(GSpanLogic gSpan, DIMSpanConfig fsmConfig,
+    PatternMode patternMode) {
+    this.growFrequentPatterns = new GrowFrequentPatterns(gSpan, fsmConfig, patternMode);
+    this.parallelism = fsmConfig.getGrowthParallelism();
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    growFrequentPatterns.setRuntimeContext(getRuntimeContext());
+    growFrequentPatterns.open(parameters);
+    pool = new ForkJoinPool(parallelism);
+    copyInputs = getRuntimeContext().getExecutionConfig().isObjectReuseEnabled();
+  }
+
+  @Override
+  public void mapPartition(Iterable<GraphWithPatternEmbeddingsMap> values,
+    Collector<GraphWithPatternEmbeddingsMap> out) throws Exception {
+
+    int batchSize = parallelism * GRAPHS_PER_THREAD;
+    List<Callable<GraphWithPatternEmbeddingsMap>> batch =
+      Lists.newArrayListWithCapacity(batchSize);
+
+    for (GraphWithPatternEmbeddingsMap value : values) {
+      GraphWithPatternEmbeddingsMap pair = copyInputs ? copy(value) : value;
+      batch.add(() -> growFrequentPatterns.map(pair));
+
+      if (batch.size() == batchSize) {
+        growAndCollect(batch, out);
+      }
+    }
+
+    growAndCollect(batch, out);
+  }
+
+  /**
+   * Grows all graphs of a batch in the worker pool, emits them in input order and clears
+   * the batch.
+   *
+   * @param batch pattern growth tasks
+   * @param out output collector
+   * @throws Exception if pattern growth failed for any graph
+   */
+  private void growAndCollect(List<Callable<GraphWithPatternEmbeddingsMap>> batch,
+    Collector<GraphWithPatternEmbeddingsMap> out) throws Exception {
+
+    for (Future<GraphWithPatternEmbeddingsMap> grown : pool.invokeAll(batch)) {
+      out.collect(grown.get());
+    }
+
+    batch.clear();
+  }
+
+  /**
+   * Creates a deep copy of a graph and its pattern-embeddings map.
+   *
+   * @param pair graph and pattern-embeddings map
+   * @return copy
+   */
+  private GraphWithPatternEmbeddingsMap copy(GraphWithPatternEmbeddingsMap pair) {
+    PatternEmbeddingsMap map = pair.getMap();
+    return new GraphWithPatternEmbeddingsMap(pair.getGraph().clone(),
+      new PatternEmbeddingsMap(copy(map.f0), copy(map.f1)));
+  }
+
+  /**
+   * Creates a deep copy of a two-dimensional array.
+   *
+   * @param muxes array to copy
+   * @return copy
+   */
+  private int[][] copy(int[][] muxes) {
+    return Arrays.stream(muxes).map(int[]::clone).toArray(int[][]::new);
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (pool != null) {
+      pool.shutdownNow();
+      pool = null;
+    }
+    growFrequentPatterns.close();
+    super.close();
+  }
+}
@@ -49,6 +49,11 @@ public class InitSingleEdgePatternEmbeddingsMap implements MapFunction<int[], Gr
    */
   private final boolean compressEmbeddings;
 
+  /**
+   * maximum number of ints stored as embeddings per graph (0=unbounded)
+   */
+  private final int embeddingLimit;
+
   /**
    * Constructor.
    *
@@ -61,6 +66,7 @@ public class InitSingleEdgePatternEmbeddingsMap implements MapFunction<int[], Gr
     // set compression flags depending on configuration
     compressGraphs = fsmConfig.isGraphCompressionEnabled();
     compressEmbeddings = fsmConfig.isEmbeddingCompressionEnabled();
+    embeddingLimit = fsmConfig.getEmbeddingLimit();
     compressPatterns = fsmConfig.getPatternCompressionInStep() == DataflowStep.MAP;
   }
 
@@ -81,6 +87,10 @@ public class InitSingleEdgePatternEmbeddingsMap implements MapFunction<int[], Gr
       Simple16Compressor.compressEmbeddings(map);
     }
 
+    if (embeddingLimit > 0) {
+      map.limitEmbeddings(embeddingLimit);
+    }
+
     return new GraphWithPatternEmbeddingsMap(graph, map);
   }
 
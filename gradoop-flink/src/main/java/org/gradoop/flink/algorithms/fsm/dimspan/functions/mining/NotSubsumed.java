@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.dimspan.functions.mining;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.api.tuples.Countable;
+
+import java.util.Iterator;
+
+/**
+ * {@code (pattern, count) x (pattern, childCount),.. => (pattern, count)}
+ *
+ * Keeps a pattern unless one of its children has the same count (closed mode) or unless
+ * it has any frequent child (maximal mode).
+ *
+ * @param <P> pattern type
+ * @param <R> child report type
+ */
+public class NotSubsumed<P extends Countable, R extends Countable>
+  implements CoGroupFunction<P, R, P> {
+
+  /**
+   * true, if any child subsumes a pattern (maximal mode)
+   */
+  private final boolean maximal;
+
+  /**
+   * Constructor.
+   *
+   * @param maximal true for maximal mode, false for closed mode
+   */
+  public NotSubsumed(boolean maximal) {
+    this.maximal = maximal;
+  }
+
+  @Override
+  public void coGroup(Iterable<P> patterns, Iterable<R> childReports,
+    Collector<P> out) throws Exception {
+
+    // patterns are unique, so there is at most one per group
+    Iterator<P> iterator = patterns.iterator();
+
+    if (iterator.hasNext()) {
+      P pattern = iterator.next();
+      boolean subsumed = false;
+
+      for (R childReport : childReports) {
+        if (maximal || childReport.getCount() == pattern.getCount()) {
+          subsumed = true;
+          break;
+        }
+      }
+
+      if (!subsumed) {
+        out.collect(pattern);
+      }
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.dimspan.functions.mining;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.algorithms.fsm.dimspan.config.DIMSpanConfig;
+import org.gradoop.flink.algorithms.fsm.dimspan.config.DIMSpanConstants;
+import org.gradoop.flink.algorithms.fsm.dimspan.config.DataflowStep;
+import org.gradoop.flink.algorithms.fsm.dimspan.gspan.GSpanLogic;
+import org.gradoop.flink.algorithms.fsm.dimspan.model.Simple16Compressor;
+import org.gradoop.flink.model.impl.tuples.WithCount;
+
+import java.util.List;
+
+/**
+ * {@code graph => (candidatePattern, 1),..}
+ *
+ * Reports all broadcasted candidate patterns contained in a graph.
+ */
+public class ReportCandidatePatterns extends RichFlatMapFunction<int[], WithCount<int[]>> {
+
+  /**
+   * pattern matching logic
+   */
+  private final GSpanLogic gSpan;
+
+  /**
+   * flag to enable pattern decompression (true=enabled)
+   */
+  private final boolean uncompressPatterns;
+
+  /**
+   * candidate patterns as broadcasted
+   */
+  private List<int[]> candidates;
+
+  /**
+   * uncompressed candidate patterns, index relates to candidates
+   */
+  private List<int[]> patterns;
+
+  /**
+   * Constructor.
+   *
+   * @param gSpan pattern matching logic
+   * @param fsmConfig FSM configuration
+   */
+  public ReportCandidatePatterns(GSpanLogic gSpan, DIMSpanConfig fsmConfig) {
+    this.gSpan = gSpan;
+    uncompressPatterns = fsmConfig.getPatternCompressionInStep() != DataflowStep.WITHOUT;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+
+    List<WithCount<int[]>> candidatesWithCount =
+      getRuntimeContext().getBroadcastVariable(DIMSpanConstants.CANDIDATE_PATTERNS);
+
+    candidates = Lists.newArrayListWithExpectedSize(candidatesWithCount.size());
+    patterns = Lists.newArrayListWithExpectedSize(candidatesWithCount.size());
+
+    for (WithCount<int[]> candidateWithCount : candidatesWithCount) {
+      int[] candidate = candidateWithCount.getObject();
+      candidates.add(candidate);
+      patterns.add(uncompressPatterns ? Simple16Compressor.uncompress(candidate) : candidate);
+    }
+  }
+
+  @Override
+  public void flatMap(int[] graph, Collector<WithCount<int[]>> out) throws Exception {
+    for (int i = 0; i < patterns.size(); i++) {
+      if (gSpan.contains(graph, patterns.get(i))) {
+        out.collect(new WithCount<>(candidates.get(i)));
+      }
+    }
+  }
+}
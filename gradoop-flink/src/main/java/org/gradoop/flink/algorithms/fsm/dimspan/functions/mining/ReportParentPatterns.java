@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.dimspan.functions.mining;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.algorithms.fsm.dimspan.gspan.GSpanLogic;
+import org.gradoop.flink.model.impl.tuples.WithCount;
+
+/**
+ * {@code (pattern, count) => (parentPattern, count),..}
+ *
+ * Reports the frequency of a pattern for each of its connected one-edge subgraphs.
+ */
+public class ReportParentPatterns implements FlatMapFunction<WithCount<int[]>, WithCount<int[]>> {
+
+  /**
+   * canonical labeling logic
+   */
+  private final GSpanLogic gSpan;
+
+  /**
+   * Constructor.
+   *
+   * @param gSpan canonical labeling logic
+   */
+  public ReportParentPatterns(GSpanLogic gSpan) {
+    this.gSpan = gSpan;
+  }
+
+  @Override
+  public void flatMap(WithCount<int[]> patternWithCount,
+    Collector<WithCount<int[]>> out) throws Exception {
+
+    for (int[] parent : gSpan.getParentPatterns(patternWithCount.getObject())) {
+      out.collect(new WithCount<>(parent, patternWithCount.getCount()));
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.dimspan.functions.mining;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.api.tuples.Countable;
+
+import java.util.PriorityQueue;
+
+/**
+ * {@code (t1, count1),..,(tN, countN) => countI,..,countJ} (the k highest counts of a partition)
+ *
+ * @param <T> type of something countable
+ */
+public class TopFrequencies<T extends Countable> implements MapPartitionFunction<T, Long> {
+
+  /**
+   * number of counts to keep
+   */
+  private final int k;
+
+  /**
+   * Constructor.
+   *
+   * @param k number of counts to keep
+   */
+  public TopFrequencies(int k) {
+    this.k = k;
+  }
+
+  @Override
+  public void mapPartition(Iterable<T> values, Collector<Long> out) throws Exception {
+    PriorityQueue<Long> topFrequencies = new PriorityQueue<>(k);
+
+    for (T value : values) {
+      long frequency = value.getCount();
+
+      if (topFrequencies.size() < k) {
+        topFrequencies.add(frequency);
+      } else if (frequency > topFrequencies.peek()) {
+        topFrequencies.poll();
+        topFrequencies.add(frequency);
+      }
+    }
+
+    for (Long frequency : topFrequencies) {
+      out.collect(frequency);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.dimspan.functions.mining;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.flink.algorithms.fsm.dimspan.config.DIMSpanConstants;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code minFrequency => max(minFrequency, k-th highest frequency)}
+ *
+ * As pattern frequency is anti-monotone, no pattern below the k-th highest frequency of all
+ * patterns found so far, nor any of its children, can be among the top-k patterns.
+ */
+public class TopKFrequency extends RichMapFunction<Long, Long> {
+
+  /**
+   * number of top patterns
+   */
+  private final int k;
+
+  /**
+   * k-th highest frequency, 0 if less than k frequencies are known
+   */
+  private long kthFrequency;
+
+  /**
+   * Constructor.
+   *
+   * @param k number of top patterns
+   */
+  public TopKFrequency(int k) {
+    this.k = k;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+
+    List<Long> topFrequencies =
+      getRuntimeContext().getBroadcastVariable(DIMSpanConstants.TOP_FREQUENCIES);
+
+    kthFrequency = 0L;
+
+    if (topFrequencies.size() >= k) {
+      Long[] frequencies = topFrequencies.toArray(new Long[0]);
+      Arrays.sort(frequencies, Collections.reverseOrder());
+      kthFrequency = frequencies[k - 1];
+    }
+  }
+
+  @Override
+  public Long map(Long minFrequency) throws Exception {
+    return Math.max(minFrequency, kthFrequency);
+  }
+}
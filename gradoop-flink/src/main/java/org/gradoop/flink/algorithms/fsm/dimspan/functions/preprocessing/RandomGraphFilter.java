@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.dimspan.functions.preprocessing;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.configuration.Configuration;
+
+import java.util.Random;
+
+/**
+ * {@code graph => true, if randomly sampled}
+ *
+ * If a random seed is set, each parallel instance uses the seed plus its subtask index, so
+ * parallel instances draw different but reproducible sequences.
+ *
+ * @param <G> graph type
+ */
+public class RandomGraphFilter<G> extends RichFilterFunction<G> {
+
+  /**
+   * probability of a graph to be sampled
+   */
+  private final float sampleFraction;
+
+  /**
+   * random seed (0=unseeded)
+   */
+  private final long randomSeed;
+
+  /**
+   * random generator
+   */
+  private transient Random randomGenerator;
+
+  /**
+   * Constructor.
+   *
+   * @param sampleFraction probability of a graph to be sampled
+   * @param randomSeed random seed (can be 0)
+   */
+  public RandomGraphFilter(float sampleFraction, long randomSeed) {
+    this.sampleFraction = sampleFraction;
+    this.randomSeed = randomSeed;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    randomGenerator = (randomSeed != 0L) ?
+      new Random(randomSeed + getRuntimeContext().getIndexOfThisSubtask()) :
+      new Random();
+  }
+
+  @Override
+  public boolean filter(G graph) throws Exception {
+    return randomGenerator.nextFloat() < sampleFraction;
+  }
+}
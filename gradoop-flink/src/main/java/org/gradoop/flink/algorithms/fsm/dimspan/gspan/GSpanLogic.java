@@ -70,6 +70,24 @@ public interface GSpanLogic extends Serializable {
    */
   int[] getRightmostPathTimes(int[] pattern);
 
+  /**
+   * Checks if a graph contains at least one embedding of a pattern.
+   *
+   * @param graph graph
+   * @param pattern pattern in DFS code model
+   * @return true, if contained
+   */
+  boolean contains(int[] graph, int[] pattern);
+
+  /**
+   * Determines the minimal DFS codes of all connected subgraphs of a pattern which have one
+   * edge less.
+   *
+   * @param pattern pattern in minimal DFS code
+   * @return distinct parent patterns in minimal DFS code
+   */
+  List<int[]> getParentPatterns(int[] pattern);
+
   /**
    * Turns a pattern in DFS code model into a graph.
    *
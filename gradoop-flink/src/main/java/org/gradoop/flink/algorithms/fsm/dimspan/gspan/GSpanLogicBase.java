@@ -25,6 +25,7 @@ import org.gradoop.flink.algorithms.fsm.dimspan.model.UnsortedSearchGraphUtils;
 import org.gradoop.flink.algorithms.fsm.dimspan.tuples.PatternEmbeddingsMap;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -206,9 +207,10 @@ public abstract class GSpanLogicBase implements GSpanLogic, Serializable {
 
         int[] rightmostPath = rightmostPaths.get(frequentPatternIndex);
 
-        // for each embedding
-        int[][] parentEmbeddings =
-          parentMap.getEmbeddings(parentPatternIndex, uncompressEmbeddings);
+        // for each embedding (recompute, if dropped due to the embedding limit)
+        int[][] parentEmbeddings = parentMap.hasEmbeddings(parentPatternIndex) ?
+          parentMap.getEmbeddings(parentPatternIndex, uncompressEmbeddings) :
+          recomputeEmbeddings(graph, minEdgeId, parentPattern);
 
         PatternEmbeddingsMap currentParentMap =
           growPattern(graph, minEdgeId, parentPattern, parentEmbeddings, rightmostPath);
@@ -221,6 +223,42 @@ public abstract class GSpanLogicBase implements GSpanLogic, Serializable {
     return childMap;
   }
 
+  @Override
+  public boolean contains(int[] graph, int[] pattern) {
+    return recomputeEmbeddings(graph, 0, pattern).length > 0;
+  }
+
+  /**
+   * Recomputes the embeddings of a pattern in a graph by growing the embeddings of its branch
+   * along the pattern's DFS code.
+   *
+   * @param graph graph
+   * @param minEdgeId minimal edge id satisfying the branch constraint
+   * @param pattern pattern
+   *
+   * @return all embeddings of the pattern
+   */
+  private int[][] recomputeEmbeddings(int[] graph, int minEdgeId, int[] pattern) {
+    int[] prefix = dfsCodeUtils.getBranch(pattern);
+    PatternEmbeddingsMap prefixMap = getSingleEdgePatternEmbeddings(graph);
+    int prefixIndex = prefixMap.getIndex(prefix);
+    int[][] embeddings =
+      prefixIndex >= 0 ? prefixMap.getEmbeddings(prefixIndex, false) : new int[0][];
+
+    int edgeCount = dfsCodeUtils.getEdgeCount(pattern);
+
+    for (int k = 2; k <= edgeCount && embeddings.length > 0; k++) {
+      prefixMap =
+        growPattern(graph, minEdgeId, prefix, embeddings, getRightmostPathTimes(prefix));
+      prefix = dfsCodeUtils.getPrefix(pattern, k);
+      prefixIndex = prefixMap.getIndex(prefix);
+      embeddings =
+        prefixIndex >= 0 ? prefixMap.getEmbeddings(prefixIndex, false) : new int[0][];
+    }
+
+    return embeddings;
+  }
+
   /**
    * Grows children of a single supported frequent patterns in a graph (checks time constraint).
    *
@@ -369,18 +407,9 @@ public abstract class GSpanLogicBase implements GSpanLogic, Serializable {
 
     // extend the ONE current k-edge minimal DFS code unit k=|E|
     for (int k = 0; k < graphUtils.getEdgeCount(graph); k++) {
-      int minPatternIndex = 0;
-      int[] minPattern = subEmbeddingsMap.getPattern(minPatternIndex);
-
       // find minimum among all k-edge DFS codes
-      for (int patIndex = 1; patIndex < subEmbeddingsMap.getPatternCount(); patIndex++) {
-        int[] subPattern = subEmbeddingsMap.getPattern(patIndex);
-
-        if (comparator.compare(subPattern, minPattern) < 0) {
-          minPattern = subPattern;
-          minPatternIndex = patIndex;
-        }
-      }
+      int minPatternIndex = getMinPatternIndex(subEmbeddingsMap);
+      int[] minPattern = subEmbeddingsMap.getPattern(minPatternIndex);
 
       // check if input pattern is still child of current minimum
       minimal = dfsCodeUtils.isChildOf(minPattern, pattern);
@@ -404,6 +433,126 @@ public abstract class GSpanLogicBase implements GSpanLogic, Serializable {
     return minimal;
   }
 
+  /**
+   * Finds the index of the minimal DFS code in a pattern-embeddings map.
+   *
+   * @param patternEmbeddings non-empty pattern-embeddings map
+   *
+   * @return index of the minimal pattern
+   */
+  private int getMinPatternIndex(PatternEmbeddingsMap patternEmbeddings) {
+    int minPatternIndex = 0;
+    int[] minPattern = patternEmbeddings.getPattern(minPatternIndex);
+
+    for (int patIndex = 1; patIndex < patternEmbeddings.getPatternCount(); patIndex++) {
+      int[] subPattern = patternEmbeddings.getPattern(patIndex);
+
+      if (comparator.compare(subPattern, minPattern) < 0) {
+        minPattern = subPattern;
+        minPatternIndex = patIndex;
+      }
+    }
+
+    return minPatternIndex;
+  }
+
+  // SUBGRAPHS
+
+  @Override
+  public List<int[]> getParentPatterns(int[] pattern) {
+    List<int[]> parents = new ArrayList<>();
+
+    int edgeCount = graphUtils.getEdgeCount(pattern);
+
+    if (edgeCount > 1) {
+      for (int edgeTime = 0; edgeTime < edgeCount; edgeTime++) {
+        int[] subPattern = dfsCodeUtils.removeExtension(pattern, edgeTime);
+
+        if (isConnected(subPattern)) {
+          int[] parent = getMinimalPattern(getGraph(subPattern));
+
+          if (parent != null &&
+            parents.stream().noneMatch(known -> Objects.deepEquals(known, parent))) {
+            parents.add(parent);
+          }
+        }
+      }
+    }
+
+    return parents;
+  }
+
+  /**
+   * Checks if all edges of a (possibly non-canonical) pattern are connected.
+   *
+   * @param pattern pattern
+   *
+   * @return true, if connected
+   */
+  private boolean isConnected(int[] pattern) {
+    int edgeCount = graphUtils.getEdgeCount(pattern);
+
+    boolean[] reached = new boolean[edgeCount];
+    reached[0] = true;
+    int reachedCount = 1;
+    int[] vertexTimes = {graphUtils.getFromId(pattern, 0), graphUtils.getToId(pattern, 0)};
+
+    boolean grown = true;
+
+    while (grown) {
+      grown = false;
+
+      for (int edgeTime = 1; edgeTime < edgeCount; edgeTime++) {
+        int fromTime = graphUtils.getFromId(pattern, edgeTime);
+        int toTime = graphUtils.getToId(pattern, edgeTime);
+
+        if (!reached[edgeTime] && (ArrayUtils.contains(vertexTimes, fromTime) ||
+          ArrayUtils.contains(vertexTimes, toTime))) {
+          vertexTimes = ArrayUtils.addAll(vertexTimes, fromTime, toTime);
+          reached[edgeTime] = true;
+          reachedCount++;
+          grown = true;
+        }
+      }
+    }
+
+    return reachedCount == edgeCount;
+  }
+
+  /**
+   * Determines the minimal DFS code of a connected graph.
+   *
+   * @param graph graph
+   *
+   * @return minimal DFS code or null, if pattern growth cannot reach it
+   */
+  private int[] getMinimalPattern(int[] graph) {
+    PatternEmbeddingsMap subEmbeddingsMap = getSingleEdgePatternEmbeddings(graph);
+    int minPatternIndex = getMinPatternIndex(subEmbeddingsMap);
+
+    // extend the current minimal DFS code until k=|E|
+    for (int k = 1; k < graphUtils.getEdgeCount(graph); k++) {
+      int[] minPattern = subEmbeddingsMap.getPattern(minPatternIndex);
+
+      subEmbeddingsMap = growPattern(
+        graph,
+        0,
+        minPattern,
+        subEmbeddingsMap.getEmbeddings(minPatternIndex, false),
+        getRightmostPathTimes(minPattern)
+      );
+
+      // such a pattern is never verified to be minimal and thus never mined
+      if (subEmbeddingsMap.isEmpty()) {
+        return null;
+      }
+
+      minPatternIndex = getMinPatternIndex(subEmbeddingsMap);
+    }
+
+    return subEmbeddingsMap.getPattern(minPatternIndex);
+  }
+
   /**
    * Turns a pattern into a graph transaction in adjacency list model.
    *
@@ -33,6 +33,32 @@ public class DFSCodeUtils extends GraphUtilsBase {
     return ArrayUtils.subarray(mux, 0, EDGE_LENGTH);
   }
 
+  /**
+   * Extracts the DFS code formed by the first extensions of a given DFS code multiplex.
+   *
+   * @param mux DFS code multiplex
+   * @param edgeCount number of extensions to keep
+   *
+   * @return mux of the prefix
+   */
+  public int[] getPrefix(int[] mux, int edgeCount) {
+    return ArrayUtils.subarray(mux, 0, edgeCount * EDGE_LENGTH);
+  }
+
+  /**
+   * Removes a single extension from a given DFS code multiplex.
+   * The result is not necessarily a valid DFS code.
+   *
+   * @param mux DFS code multiplex
+   * @param edgeTime index of the extension to remove
+   *
+   * @return mux without the extension
+   */
+  public int[] removeExtension(int[] mux, int edgeTime) {
+    return ArrayUtils.addAll(getPrefix(mux, edgeTime),
+      ArrayUtils.subarray(mux, (edgeTime + 1) * EDGE_LENGTH, mux.length));
+  }
+
   /**
    * Extends a parent DFS code's multiplex
    *
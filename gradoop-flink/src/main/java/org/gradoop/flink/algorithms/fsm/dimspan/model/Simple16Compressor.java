@@ -63,14 +63,17 @@ public class Simple16Compressor {
   }
 
   /**
-   * Convenience method to compress all values of a pattern-embeddings map
+   * Convenience method to compress all values of a pattern-embeddings map.
+   * Dropped embeddings remain empty.
    *
    * @param map pattern-embeddings map
    */
   public static void compressEmbeddings(PatternEmbeddingsMap map) {
     int[][] embeddingMuxes = map.getValues();
     for (int i = 0; i < map.getPatternCount(); i++) {
-      embeddingMuxes[i] = compress(embeddingMuxes[i]);
+      if (map.hasEmbeddings(i)) {
+        embeddingMuxes[i] = compress(embeddingMuxes[i]);
+      }
     }
   }
 }
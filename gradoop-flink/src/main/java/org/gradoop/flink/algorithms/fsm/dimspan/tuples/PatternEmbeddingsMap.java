@@ -21,6 +21,7 @@ import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.flink.algorithms.fsm.dimspan.model.Simple16Compressor;
 import org.gradoop.flink.model.impl.tuples.WithCount;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -155,6 +156,46 @@ public class PatternEmbeddingsMap extends Tuple2<int[][], int[][]> {
     setValues(ArrayUtils.add(getValues(), new int[] {(int) muxWithCount.getCount()}));
   }
 
+  /**
+   * Checks if the embeddings of a pattern are stored or have been dropped.
+   *
+   * @param index pattern index
+   *
+   * @return true, if embeddings are stored
+   */
+  public boolean hasEmbeddings(int index) {
+    return getValues()[index].length > 0;
+  }
+
+  /**
+   * Drops the embeddings of the patterns with the largest embedding data until the remaining
+   * embeddings fit into a given number of ints. Patterns are kept and thus still supported;
+   * their embeddings need to be recomputed before they can be grown.
+   *
+   * @param limit maximum number of ints stored as embeddings
+   */
+  public void limitEmbeddings(int limit) {
+    int[][] values = getValues();
+
+    long size = 0;
+    for (int[] embeddingData : values) {
+      size += embeddingData.length;
+    }
+
+    if (size > limit) {
+      Integer[] indices = new Integer[values.length];
+      for (int i = 0; i < indices.length; i++) {
+        indices[i] = i;
+      }
+      Arrays.sort(indices, (a, b) -> Integer.compare(values[b].length, values[a].length));
+
+      for (int i = 0; i < indices.length && size > limit; i++) {
+        size -= values[indices[i]].length;
+        values[indices[i]] = new int[0];
+      }
+    }
+  }
+
   /**
    * Returns all embeddings for a give pattern index.
    *
@@ -18,11 +18,20 @@ package org.gradoop.flink.algorithms.fsm.transactional;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.operators.IterativeDataSet;
 import org.gradoop.flink.algorithms.fsm.dimspan.config.DIMSpanConstants;
+import org.gradoop.flink.algorithms.fsm.dimspan.config.PatternMode;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.NotSubsumed;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.TopFrequencies;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.TopKFrequency;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.preprocessing.RandomGraphFilter;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.ThinkLikeAnEmbeddingFSMBase;
 import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
+import org.gradoop.flink.algorithms.fsm.transactional.common.TFSMConstants;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.Frequent;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.MinEdgeCount;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.IsResult;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.MinFrequency;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.ReportCandidateSubgraphs;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.ReportParentSubgraphs;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.TFSMSingleEdgeEmbeddings;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.TFSMSubgraphDecoder;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.TFSMSubgraphOnly;
@@ -32,10 +41,16 @@ import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.TFSMGraph;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.tuples.TFSMSubgraph;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.tuples.TFSMSubgraphEmbeddings;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.gradoop.flink.model.impl.operators.count.Count;
+import org.gradoop.flink.model.impl.tuples.WithCount;
 
 /**
  * abstract superclass of different implementations of the gSpan frequent
  * subgraph mining algorithm as Gradoop operator
+ *
+ * Top-k mining and the closed and maximal pattern modes of {@link FSMConfig} are applied to
+ * all frequent subgraphs after mining. If sampling is enabled, they are applied to the
+ * verified frequencies of the subgraphs mined from the sample.
  */
 public class ThinkLikeAnEmbeddingTFSM
   extends ThinkLikeAnEmbeddingFSMBase<TFSMGraph, TFSMSubgraph, TFSMSubgraphEmbeddings> {
@@ -63,6 +78,30 @@ public class ThinkLikeAnEmbeddingTFSM
     DataSet<TFSMGraph> graphs = transactions
       .map(new ToTFSMGraph());
 
+    DataSet<TFSMSubgraph> allFrequentSubgraphs = fsmConfig.getSampleFraction() < 1.0f ?
+      mineSample(graphs) :
+      mine(graphs, minFrequency);
+
+    if (fsmConfig.getMinEdgeCount() > 1) {
+      allFrequentSubgraphs = allFrequentSubgraphs
+        .filter(new MinEdgeCount<>(fsmConfig));
+    }
+
+    allFrequentSubgraphs = restrictResult(allFrequentSubgraphs);
+
+    return allFrequentSubgraphs.map(new TFSMSubgraphDecoder(config));
+  }
+
+  /**
+   * Mines all frequent subgraphs of a graph collection.
+   *
+   * @param graphs graph collection
+   * @param frequencyThreshold minimum frequency of subgraphs
+   * @return frequent subgraphs
+   */
+  private DataSet<TFSMSubgraph> mine(DataSet<TFSMGraph> graphs,
+    DataSet<Long> frequencyThreshold) {
+
     DataSet<TFSMSubgraphEmbeddings> embeddings = graphs
       .flatMap(new TFSMSingleEdgeEmbeddings(fsmConfig));
 
@@ -77,7 +116,7 @@ public class ThinkLikeAnEmbeddingTFSM
       .filter(new IsResult<>(false));
 
     DataSet<TFSMSubgraph> frequentSubgraphs =
-      getFrequentSubgraphs(parentEmbeddings);
+      getFrequentSubgraphs(parentEmbeddings, frequencyThreshold);
 
     parentEmbeddings =
       filterByFrequentSubgraphs(parentEmbeddings, frequentSubgraphs);
@@ -95,34 +134,98 @@ public class ThinkLikeAnEmbeddingTFSM
 
     // ITERATION FOOTER
 
-    DataSet<TFSMSubgraph>  allFrequentSubgraphs = iterative
+    return iterative
       .closeWith(resultAndEmbeddings, childEmbeddings)
       .filter(new IsResult<>(true))
       .map(new TFSMSubgraphOnly());
+  }
 
+  /**
+   * Triggers approximate mining. Candidate subgraphs are mined from a random sample using a
+   * reduced min support. Afterwards, their exact frequency is counted in all graphs.
+   * Subgraphs which are frequent but not even a candidate in the sample will be missed.
+   *
+   * @param graphs preprocessed graph collection
+   * @return frequent subgraphs
+   */
+  private DataSet<TFSMSubgraph> mineSample(DataSet<TFSMGraph> graphs) {
 
-    if (fsmConfig.getMinEdgeCount() > 1) {
-      allFrequentSubgraphs = allFrequentSubgraphs
-        .filter(new MinEdgeCount<>(fsmConfig));
+    DataSet<TFSMGraph> sample = graphs
+      .filter(new RandomGraphFilter<>(fsmConfig.getSampleFraction(), fsmConfig.getRandomSeed()));
+
+    float sampleMinSupport =
+      fsmConfig.getMinSupport() * (1.0f - fsmConfig.getSampleSupportTolerance());
+
+    // mine candidates using the sample's min frequency
+    DataSet<Long> sampleMinFrequency = Count
+      .count(sample)
+      .map(new MinFrequency(sampleMinSupport));
+
+    DataSet<TFSMSubgraph> candidates = mine(sample, sampleMinFrequency);
+
+    // VERIFICATION
+
+    return graphs
+      .flatMap(new ReportCandidateSubgraphs(fsmConfig))
+      .withBroadcastSet(candidates, TFSMConstants.CANDIDATE_SUBGRAPHS)
+      .groupBy(0)
+      .sum(1)
+      .filter(new Frequent<>())
+      .withBroadcastSet(minFrequency, DIMSpanConstants.MIN_FREQUENCY);
+  }
+
+  /**
+   * Restricts frequent subgraphs to the top-k ones and to closed or maximal ones.
+   *
+   * @param subgraphs frequent subgraphs
+   * @return restricted frequent subgraphs
+   */
+  private DataSet<TFSMSubgraph> restrictResult(DataSet<TFSMSubgraph> subgraphs) {
+    int topK = fsmConfig.getTopK();
+
+    if (topK > 0) {
+      DataSet<Long> topFrequencies = subgraphs
+        .mapPartition(new TopFrequencies<>(topK));
+
+      DataSet<Long> topKFrequency = minFrequency
+        .map(new TopKFrequency(topK))
+        .withBroadcastSet(topFrequencies, DIMSpanConstants.TOP_FREQUENCIES);
+
+      subgraphs = subgraphs
+        .filter(new Frequent<>())
+        .withBroadcastSet(topKFrequency, DIMSpanConstants.MIN_FREQUENCY);
     }
 
-    return allFrequentSubgraphs.map(new TFSMSubgraphDecoder(config));
+    PatternMode patternMode = fsmConfig.getPatternMode();
+
+    if (patternMode != PatternMode.ALL) {
+      DataSet<WithCount<String>> parentReports = subgraphs
+        .flatMap(new ReportParentSubgraphs<>(fsmConfig));
+
+      subgraphs = subgraphs
+        .coGroup(parentReports)
+        .where(0).equalTo(0)
+        .with(new NotSubsumed<>(patternMode == PatternMode.MAXIMAL));
+    }
+
+    return subgraphs;
   }
 
   /**
    * Determines frequent subgraphs in a set of embeddings.
    *
    * @param embeddings set of embeddings
+   * @param frequencyThreshold minimum frequency of subgraphs
    * @return frequent subgraphs
    */
   private DataSet<TFSMSubgraph> getFrequentSubgraphs(
-    DataSet<TFSMSubgraphEmbeddings> embeddings) {
+    DataSet<TFSMSubgraphEmbeddings> embeddings, DataSet<Long> frequencyThreshold) {
     return embeddings
         .map(new TFSMSubgraphOnly())
         .groupBy(0)
         .sum(1)
         .filter(new Frequent<>())
-        .withBroadcastSet(minFrequency, DIMSpanConstants.MIN_FREQUENCY);
+        .withBroadcastSet(frequencyThreshold, DIMSpanConstants.MIN_FREQUENCY);
   }
 
 }
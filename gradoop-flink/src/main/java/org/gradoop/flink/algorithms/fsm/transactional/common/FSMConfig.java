@@ -15,6 +15,8 @@
  */
 package org.gradoop.flink.algorithms.fsm.transactional.common;
 
+import org.gradoop.flink.algorithms.fsm.dimspan.config.PatternMode;
+
 import java.io.Serializable;
 
 /**
@@ -47,6 +49,31 @@ public class FSMConfig implements Serializable {
    */
   private final boolean preprocessingEnabled;
 
+  /**
+   * Number of most frequent subgraphs to mine (0=all subgraphs above min support).
+   */
+  private int topK = 0;
+
+  /**
+   * Restriction of the mined subgraphs to closed or maximal ones.
+   */
+  private PatternMode patternMode = PatternMode.ALL;
+
+  /**
+   * Fraction of graphs sampled to mine candidate subgraphs from, in (0, 1] (1=no sampling).
+   */
+  private float sampleFraction = 1.0f;
+
+  /**
+   * Relative reduction of the min support while mining the sample.
+   */
+  private float sampleSupportTolerance = 0.1f;
+
+  /**
+   * Random seed for sampling (0=random).
+   */
+  private long randomSeed = 0L;
+
   /**
    * Constructor.
    *
@@ -129,4 +156,54 @@ public class FSMConfig implements Serializable {
     return preprocessingEnabled;
   }
 
+  public int getTopK() {
+    return topK;
+  }
+
+  public void setTopK(int topK) {
+    this.topK = topK;
+  }
+
+  public PatternMode getPatternMode() {
+    return patternMode;
+  }
+
+  public void setPatternMode(PatternMode patternMode) {
+    this.patternMode = patternMode;
+  }
+
+  public float getSampleFraction() {
+    return sampleFraction;
+  }
+
+  /**
+   * Sets the fraction of graphs sampled to mine candidate subgraphs from.
+   *
+   * @param sampleFraction probability of a graph to be sampled, in (0, 1] (1=no sampling)
+   * @throws IllegalArgumentException if the fraction is not in (0, 1]
+   */
+  public void setSampleFraction(float sampleFraction) {
+    if (!(sampleFraction > 0.0f && sampleFraction <= 1.0f)) {
+      throw new IllegalArgumentException(
+        "Sample fraction must be in (0, 1], but was " + sampleFraction);
+    }
+    this.sampleFraction = sampleFraction;
+  }
+
+  public float getSampleSupportTolerance() {
+    return sampleSupportTolerance;
+  }
+
+  public void setSampleSupportTolerance(float sampleSupportTolerance) {
+    this.sampleSupportTolerance = sampleSupportTolerance;
+  }
+
+  public long getRandomSeed() {
+    return randomSeed;
+  }
+
+  public void setRandomSeed(long randomSeed) {
+    this.randomSeed = randomSeed;
+  }
+
 }
@@ -40,6 +40,11 @@ public class TFSMConstants {
    */
   public static final String FREQUENT_PATTERNS = "fp";
 
+  /**
+   * candidate subgraphs mined from a sample
+   */
+  public static final String CANDIDATE_SUBGRAPHS = "cs";
+
   /**
    * Graph head label of frequent subgraphs
    */
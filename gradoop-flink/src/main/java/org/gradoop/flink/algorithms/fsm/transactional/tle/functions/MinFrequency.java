@@ -26,23 +26,31 @@ import java.math.BigDecimal;
 public class MinFrequency implements MapFunction<Long, Long> {
 
   /**
-   * FSM configuration
+   * minimum support
    */
-  private final FSMConfig fsmConfig;
+  private final float minSupport;
 
   /**
    * Constructor.
    * @param fsmConfig FSM configuration
    */
   public MinFrequency(FSMConfig fsmConfig) {
-    this.fsmConfig = fsmConfig;
+    this(fsmConfig.getMinSupport());
+  }
+
+  /**
+   * Constructor.
+   * @param minSupport minimum support
+   */
+  public MinFrequency(float minSupport) {
+    this.minSupport = minSupport;
   }
 
   @Override
   public Long map(Long count) throws Exception {
     return BigDecimal.valueOf(count)
       .multiply(
-        BigDecimal.valueOf(fsmConfig.getMinSupport())
+        BigDecimal.valueOf(minSupport)
           .setScale(2, BigDecimal.ROUND_HALF_UP)
       )
       .setScale(0, BigDecimal.ROUND_UP)
@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.transactional.tle.functions;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
+import org.gradoop.flink.algorithms.fsm.transactional.common.TFSMConstants;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.FSMEdge;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.TFSMGraph;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.tuples.TFSMSubgraph;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code graph => (canonicalLabel, 1, sample embedding),..}
+ *
+ * Reports all broadcasted candidate subgraphs contained in a graph. Containment is checked by
+ * mapping the edges of a candidate's sample embedding to graph edges one after another and
+ * backtracking on conflicting vertex mappings.
+ */
+public class ReportCandidateSubgraphs extends RichFlatMapFunction<TFSMGraph, TFSMSubgraph> {
+
+  /**
+   * true, if edge directions need to match
+   */
+  private final boolean directed;
+
+  /**
+   * candidate subgraphs as broadcasted
+   */
+  private List<TFSMSubgraph> candidates;
+
+  /**
+   * candidate edges in matching order, index relates to candidates
+   */
+  private List<List<FSMEdge>> candidateEdges;
+
+  /**
+   * graph currently searched
+   */
+  private TFSMGraph graph;
+
+  /**
+   * ids of the current graph's edges by edge label
+   */
+  private Map<String, List<Integer>> edgeIdsByLabel;
+
+  /**
+   * candidate vertex id => graph vertex id
+   */
+  private final Map<Integer, Integer> vertexMapping = Maps.newHashMap();
+
+  /**
+   * graph vertex ids mapped to a candidate vertex
+   */
+  private final Set<Integer> mappedGraphVertexIds = Sets.newHashSet();
+
+  /**
+   * graph edge ids mapped to a candidate edge
+   */
+  private final Set<Integer> mappedGraphEdgeIds = Sets.newHashSet();
+
+  /**
+   * Constructor.
+   *
+   * @param fsmConfig FSM configuration
+   */
+  public ReportCandidateSubgraphs(FSMConfig fsmConfig) {
+    this.directed = fsmConfig.isDirected();
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+
+    candidates = getRuntimeContext().getBroadcastVariable(TFSMConstants.CANDIDATE_SUBGRAPHS);
+    candidateEdges = Lists.newArrayListWithExpectedSize(candidates.size());
+
+    for (TFSMSubgraph candidate : candidates) {
+      candidateEdges.add(getMatchingOrder(candidate.getEmbedding()));
+    }
+  }
+
+  @Override
+  public void flatMap(TFSMGraph value, Collector<TFSMSubgraph> out) throws Exception {
+    graph = value;
+    edgeIdsByLabel = Maps.newHashMap();
+
+    for (Map.Entry<Integer, FSMEdge> edge : graph.getEdges().entrySet()) {
+      edgeIdsByLabel
+        .computeIfAbsent(edge.getValue().getLabel(), label -> Lists.newArrayList())
+        .add(edge.getKey());
+    }
+
+    for (int i = 0; i < candidates.size(); i++) {
+      TFSMSubgraph candidate = candidates.get(i);
+
+      vertexMapping.clear();
+      mappedGraphVertexIds.clear();
+      mappedGraphEdgeIds.clear();
+
+      if (matchEdges(candidate.getEmbedding(), candidateEdges.get(i), 0)) {
+        out.collect(
+          new TFSMSubgraph(candidate.getCanonicalLabel(), 1L, candidate.getEmbedding()));
+      }
+    }
+  }
+
+  /**
+   * Orders the edges of an embedding such that each edge is incident to a vertex of a
+   * previous one, so conflicting vertex mappings are detected early.
+   *
+   * @param embedding candidate embedding
+   * @return edges in matching order
+   */
+  private List<FSMEdge> getMatchingOrder(Embedding embedding) {
+    List<FSMEdge> remaining = Lists.newArrayList(embedding.getEdges().values());
+    List<FSMEdge> order = Lists.newArrayListWithCapacity(remaining.size());
+    Set<Integer> vertexIds = Sets.newHashSet();
+
+    while (!remaining.isEmpty()) {
+      FSMEdge next = remaining.get(0);
+      Iterator<FSMEdge> iterator = remaining.iterator();
+
+      while (iterator.hasNext()) {
+        FSMEdge edge = iterator.next();
+        if (vertexIds.contains(edge.getSourceId()) || vertexIds.contains(edge.getTargetId())) {
+          next = edge;
+          break;
+        }
+      }
+
+      remaining.remove(next);
+      order.add(next);
+      vertexIds.add(next.getSourceId());
+      vertexIds.add(next.getTargetId());
+    }
+
+    return order;
+  }
+
+  /**
+   * Maps the candidate edge at the given index and all following ones to graph edges.
+   *
+   * @param candidate candidate embedding
+   * @param edges candidate edges in matching order
+   * @param index index of the next edge to map
+   * @return true, if all remaining edges could be mapped
+   */
+  private boolean matchEdges(Embedding candidate, List<FSMEdge> edges, int index) {
+    if (index == edges.size()) {
+      return true;
+    }
+
+    List<Integer> graphEdgeIds = edgeIdsByLabel.get(edges.get(index).getLabel());
+
+    if (graphEdgeIds != null) {
+      for (int graphEdgeId : graphEdgeIds) {
+        if (mappedGraphEdgeIds.contains(graphEdgeId)) {
+          continue;
+        }
+
+        FSMEdge graphEdge = graph.getEdges().get(graphEdgeId);
+
+        if (matchEdge(candidate, edges, index, graphEdgeId,
+          graphEdge.getSourceId(), graphEdge.getTargetId()) || !directed &&
+          matchEdge(candidate, edges, index, graphEdgeId,
+            graphEdge.getTargetId(), graphEdge.getSourceId())) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Maps the candidate edge at the given index to a graph edge in the given orientation and
+   * continues with the following edges.
+   *
+   * @param candidate candidate embedding
+   * @param edges candidate edges in matching order
+   * @param index index of the edge to map
+   * @param graphEdgeId graph edge id
+   * @param graphSourceId graph vertex id to map the candidate edge's source to
+   * @param graphTargetId graph vertex id to map the candidate edge's target to
+   * @return true, if this and all following edges could be mapped
+   */
+  private boolean matchEdge(Embedding candidate, List<FSMEdge> edges, int index,
+    int graphEdgeId, int graphSourceId, int graphTargetId) {
+
+    FSMEdge edge = edges.get(index);
+    boolean matched = false;
+
+    boolean newSource = !vertexMapping.containsKey(edge.getSourceId());
+
+    if (mapVertex(candidate, edge.getSourceId(), graphSourceId)) {
+      boolean newTarget = !vertexMapping.containsKey(edge.getTargetId());
+
+      if (mapVertex(candidate, edge.getTargetId(), graphTargetId)) {
+        mappedGraphEdgeIds.add(graphEdgeId);
+        matched = matchEdges(candidate, edges, index + 1);
+        mappedGraphEdgeIds.remove(graphEdgeId);
+
+        if (newTarget) {
+          mappedGraphVertexIds.remove(vertexMapping.remove(edge.getTargetId()));
+        }
+      }
+
+      if (newSource) {
+        mappedGraphVertexIds.remove(vertexMapping.remove(edge.getSourceId()));
+      }
+    }
+
+    return matched;
+  }
+
+  /**
+   * Maps a candidate vertex to a graph vertex, if both have the same label and none of them
+   * is mapped to another vertex.
+   *
+   * @param candidate candidate embedding
+   * @param vertexId candidate vertex id
+   * @param graphVertexId graph vertex id
+   * @return true, if the vertex is mapped to the graph vertex
+   */
+  private boolean mapVertex(Embedding candidate, int vertexId, int graphVertexId) {
+    Integer mappedVertexId = vertexMapping.get(vertexId);
+
+    if (mappedVertexId != null) {
+      return mappedVertexId == graphVertexId;
+    }
+
+    if (mappedGraphVertexIds.contains(graphVertexId) ||
+      !candidate.getVertices().get(vertexId).equals(graph.getVertices().get(graphVertexId))) {
+      return false;
+    }
+
+    vertexMapping.put(vertexId, graphVertexId);
+    mappedGraphVertexIds.add(graphVertexId);
+    return true;
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.transactional.tle.functions;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalLabeler;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.FSMEdge;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.tuples.Subgraph;
+import org.gradoop.flink.model.impl.tuples.WithCount;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code (canonicalLabel, count, sample embedding) => (parentLabel, count),..}
+ *
+ * Reports the frequency of a subgraph for each of its connected one-edge subgraphs.
+ *
+ * @param <S> subgraph type
+ */
+public class ReportParentSubgraphs<S extends Subgraph>
+  implements FlatMapFunction<S, WithCount<String>> {
+
+  /**
+   * canonical labeler
+   */
+  private final CanonicalLabeler canonicalLabeler;
+
+  /**
+   * Constructor.
+   *
+   * @param fsmConfig FSM configuration
+   */
+  public ReportParentSubgraphs(FSMConfig fsmConfig) {
+    this.canonicalLabeler = new CanonicalLabeler(fsmConfig.isDirected());
+  }
+
+  @Override
+  public void flatMap(S subgraph, Collector<WithCount<String>> out) throws Exception {
+    Map<Integer, FSMEdge> edges = subgraph.getEmbedding().getEdges();
+    Map<Integer, String> vertices = subgraph.getEmbedding().getVertices();
+
+    // single edge subgraphs have no parent subgraphs
+    if (edges.size() < 2) {
+      return;
+    }
+
+    Set<String> parentLabels = Sets.newHashSet();
+
+    for (Integer removedEdgeId : edges.keySet()) {
+      Map<Integer, FSMEdge> parentEdges = Maps.newHashMap(edges);
+      parentEdges.remove(removedEdgeId);
+
+      Map<Integer, String> parentVertices = Maps.newHashMap();
+      for (FSMEdge edge : parentEdges.values()) {
+        parentVertices.put(edge.getSourceId(), vertices.get(edge.getSourceId()));
+        parentVertices.put(edge.getTargetId(), vertices.get(edge.getTargetId()));
+      }
+
+      if (isConnected(parentVertices.keySet(), parentEdges)) {
+        String parentLabel = canonicalLabeler.label(new Embedding(parentVertices, parentEdges));
+
+        if (parentLabels.add(parentLabel)) {
+          out.collect(new WithCount<>(parentLabel, subgraph.getCount()));
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks if all vertices are reachable from an arbitrary one, ignoring edge directions.
+   *
+   * @param vertexIds vertex ids
+   * @param edges edges among these vertices
+   * @return true, if connected
+   */
+  private boolean isConnected(Set<Integer> vertexIds, Map<Integer, FSMEdge> edges) {
+    Set<Integer> visited = Sets.newHashSetWithExpectedSize(vertexIds.size());
+    Deque<Integer> pending = new ArrayDeque<>();
+
+    Integer start = vertexIds.iterator().next();
+    visited.add(start);
+    pending.add(start);
+
+    while (!pending.isEmpty()) {
+      int vertexId = pending.poll();
+
+      for (FSMEdge edge : edges.values()) {
+        if (edge.getSourceId() == vertexId && visited.add(edge.getTargetId())) {
+          pending.add(edge.getTargetId());
+        } else if (edge.getTargetId() == vertexId && visited.add(edge.getSourceId())) {
+          pending.add(edge.getSourceId());
+        }
+      }
+    }
+
+    return visited.size() == vertexIds.size();
+  }
+}
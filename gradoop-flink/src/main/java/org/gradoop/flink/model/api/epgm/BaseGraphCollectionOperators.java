@@ -44,6 +44,7 @@ import org.gradoop.flink.model.impl.operators.intersection.IntersectionBroadcast
 import org.gradoop.flink.model.impl.operators.limit.Limit;
 import org.gradoop.flink.model.impl.operators.matching.transactional.TransactionalPatternMatching;
 import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.DepthSearchMatching;
+import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.IndexedDepthSearchMatching;
 import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.PatternMatchingAlgorithm;
 import org.gradoop.flink.model.impl.operators.matching.transactional.function.AddMatchesToProperties;
 import org.gradoop.flink.model.impl.operators.overlap.Overlap;
@@ -135,7 +136,8 @@ public interface BaseGraphCollectionOperators<
    * constructed embeddings.
    *
    * @param query the query pattern in GDL syntax
-   * @param algorithm custom pattern matching algorithm, e.g., {@link DepthSearchMatching}
+   * @param algorithm custom pattern matching algorithm, e.g., {@link DepthSearchMatching} or
+   *                  {@link IndexedDepthSearchMatching} for many small graphs
    * @param returnEmbeddings if true it returns the embeddings as a new graph collection
    *                         if false it returns the input collection with a new property with key
    *                         {@link AddMatchesToProperties#DEFAULT_KEY} and value true/false if the pattern
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.api.functions;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+
+/**
+ * Describes an extension of an {@link AggregateFunction}, in the case the partial aggregate can
+ * be computed using a mutable accumulator instead of calling
+ * {@link AggregateFunction#aggregate} for each increment.
+ * <p>
+ * Folding the increments of a partition using the accumulator has to yield the same partial
+ * aggregate as folding them using {@link AggregateFunction#aggregate}. The aggregation operator
+ * only uses the accumulator, if {@link AggregateFunction#aggregate} is not overridden by a
+ * subclass of the class creating the accumulator.
+ * <p>
+ * Functions used for grouping only pass their increments to the accumulator, as the increments
+ * are computed before the elements are grouped.
+ */
+public interface AccumulatingAggregate extends AggregateFunction {
+
+  /**
+   * Creates a new, empty accumulator for the increments of this function.
+   *
+   * @return new accumulator
+   */
+  PropertyValueAccumulator createAccumulator();
+
+  /**
+   * Describes the value of an element that should be added to the accumulator. The default
+   * implementation returns the increment of the element. Functions may return a cheaper
+   * representation instead, as long as their accumulator accepts it.
+   *
+   * @param element element used to get the value
+   * @return value added to the accumulator, may be NULL, which is handled in the operator
+   */
+  default PropertyValue getAccumulatorIncrement(Element element) {
+    return getIncrement(element);
+  }
+}
@@ -36,6 +36,21 @@ public interface KeyFunction<E, K> extends Serializable {
    */
   K getKey(E element);
 
+  /**
+   * Get the key from the element, reusing a key previously extracted by this function where
+   * possible.<p>
+   * The returned key may be the reused object, a caller must therefore not keep the previous key.
+   * This is used when the caller reuses its output objects anyway.<p>
+   * The default implementation of this function ignores the reused key.
+   *
+   * @param element The element to extract the key from.
+   * @param reuse   A key previously returned by this function (may be {@code null}).
+   * @return The key.
+   */
+  default K getKey(E element, Object reuse) {
+    return getKey(element);
+  }
+
   /**
    * Store a key on an element.<p>
    * This is used to store the grouping key on the super element after grouping.<p>
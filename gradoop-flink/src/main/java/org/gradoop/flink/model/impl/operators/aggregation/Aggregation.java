@@ -28,11 +28,10 @@ import org.gradoop.flink.model.impl.operators.aggregation.functions.AggregateEle
 import org.gradoop.flink.model.impl.operators.aggregation.functions.CombinePartitionAggregates;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.SetAggregateProperty;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -40,6 +39,10 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * Takes a logical graph and user defined aggregate functions as input. The
  * aggregate functions are applied on the logical graph and the resulting
  * aggregate is stored as additional properties at the result graph.
+ * <p>
+ * All vertex aggregate functions are evaluated in a single pass over the vertices, all edge
+ * aggregate functions in a single pass over the edges. The partial aggregate values of all
+ * functions are stored in a single array per partition, which is combined once.
  *
  * @param <G>  The graph head type.
  * @param <V>  The vertex type.
@@ -58,7 +61,7 @@ public class Aggregation<
   /**
    * User-defined aggregate functions which are applied on a single logical graph.
    */
-  private final Set<AggregateFunction> aggregateFunctions;
+  private final List<AggregateFunction> aggregateFunctions;
 
   /**
    * Creates new aggregation.
@@ -70,7 +73,7 @@ public class Aggregation<
     for (AggregateFunction func : aggregateFunctions) {
       checkNotNull(func);
     }
-    this.aggregateFunctions = new HashSet<>(Arrays.asList(aggregateFunctions));
+    this.aggregateFunctions = new ArrayList<>(new LinkedHashSet<>(Arrays.asList(aggregateFunctions)));
   }
 
   @Override
@@ -78,8 +81,22 @@ public class Aggregation<
     DataSet<V> vertices = graph.getVertices();
     DataSet<E> edges = graph.getEdges();
 
-    DataSet<Map<String, PropertyValue>> aggregate = aggregateVertices(vertices)
-      .union(aggregateEdges(edges))
+    // Elements are only read if there is an aggregate function applicable on them.
+    DataSet<PropertyValue[]> partitionAggregates = null;
+    if (aggregateFunctions.stream().anyMatch(AggregateFunction::isVertexAggregation)) {
+      partitionAggregates = vertices.combineGroup(new AggregateElements<>(aggregateFunctions, true));
+    }
+    if (aggregateFunctions.stream().anyMatch(AggregateFunction::isEdgeAggregation)) {
+      DataSet<PropertyValue[]> edgeAggregates =
+        edges.combineGroup(new AggregateElements<>(aggregateFunctions, false));
+      partitionAggregates = partitionAggregates == null ? edgeAggregates :
+        partitionAggregates.union(edgeAggregates);
+    }
+    if (partitionAggregates == null) {
+      return graph;
+    }
+
+    DataSet<PropertyValue[]> aggregate = partitionAggregates
       .reduceGroup(new CombinePartitionAggregates(aggregateFunctions));
 
     DataSet<G> graphHead = graph.getGraphHead()
@@ -88,28 +105,4 @@ public class Aggregation<
 
     return graph.getFactory().fromDataSets(graphHead, vertices, edges);
   }
-
-  /**
-   * Applies vertex aggregate functions to the partitions of a vertex data set.
-   *
-   * @param vertices vertex data set
-   * @return partition aggregate values mapped from their property key
-   */
-  private DataSet<Map<String, PropertyValue>> aggregateVertices(DataSet<V> vertices) {
-    return vertices.combineGroup(new AggregateElements<>(aggregateFunctions.stream()
-      .filter(AggregateFunction::isVertexAggregation)
-      .collect(Collectors.toSet())));
-  }
-
-  /**
-   * Applies edge aggregate functions to the partitions of an edge data set.
-   *
-   * @param edges edge data set
-   * @return partition aggregate values
-   */
-  private DataSet<Map<String, PropertyValue>> aggregateEdges(DataSet<E> edges) {
-    return edges.combineGroup(new AggregateElements<>(aggregateFunctions.stream()
-      .filter(AggregateFunction::isEdgeAggregation)
-      .collect(Collectors.toSet())));
-  }
 }
@@ -31,14 +31,14 @@ import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.AggregateTransactions;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.ApplyAggregateElements;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.ApplyAggregateIncrements;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.CombinePartitionApplyAggregates;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.SetAggregateProperties;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -64,7 +64,12 @@ public class ApplyAggregation<
   /**
    * User-defined aggregate functions which get applied on a graph collection.
    */
-  private final Set<AggregateFunction> aggregateFunctions;
+  private final List<AggregateFunction> aggregateFunctions;
+
+  /**
+   * Should the increments of each element be expanded to its graphs instead of the element?
+   */
+  private boolean expandIncrements = false;
 
   /**
    * Creates a new operator instance.
@@ -75,7 +80,7 @@ public class ApplyAggregation<
     for (AggregateFunction aggFunc : aggregateFunctions) {
       checkNotNull(aggFunc);
     }
-    this.aggregateFunctions = new HashSet<>(Arrays.asList(aggregateFunctions));
+    this.aggregateFunctions = new ArrayList<>(new LinkedHashSet<>(Arrays.asList(aggregateFunctions)));
   }
 
   @Override
@@ -83,11 +88,25 @@ public class ApplyAggregation<
     DataSet<G> graphHeads = collection.getGraphHeads();
     DataSet<GradoopId> graphIds = graphHeads.map(new Id<>());
 
-    DataSet<Tuple2<GradoopId, Map<String, PropertyValue>>> aggregate =
-      aggregateVertices(collection.getVertices(), graphIds)
+    DataSet<Tuple2<GradoopId, PropertyValue[]>> aggregate;
+    if (expandIncrements) {
+      /* Increments are computed once per element and combined per graph id before the shuffle,
+         elements are not duplicated for each graph. */
+      aggregate = collection.getVertices()
+        .flatMap(new ApplyAggregateIncrements<>(aggregateFunctions, true))
+        .withBroadcastSet(graphIds, ElementsOfSelectedGraphs.GRAPH_IDS)
+        .union(collection.getEdges()
+          .flatMap(new ApplyAggregateIncrements<>(aggregateFunctions, false))
+          .withBroadcastSet(graphIds, ElementsOfSelectedGraphs.GRAPH_IDS))
+        .groupBy(0)
+        .reduceGroup(new CombinePartitionApplyAggregates(aggregateFunctions))
+        .setCombinable(true);
+    } else {
+      aggregate = aggregateVertices(collection.getVertices(), graphIds)
         .union(aggregateEdges(collection.getEdges(), graphIds))
         .groupBy(0)
         .reduceGroup(new CombinePartitionApplyAggregates(aggregateFunctions));
+    }
 
     graphHeads = graphHeads
       .coGroup(aggregate)
@@ -105,6 +124,25 @@ public class ApplyAggregation<
     return collection.getFactory().fromTransactions(updatedTransactions);
   }
 
+  /**
+   * Enable or disable expanding increments instead of elements.
+   * <p>
+   * By default, each element is duplicated for every graph containing it, the aggregate functions
+   * are then applied per graph. If enabled, the increments of each element are computed once and
+   * only those are duplicated for every graph containing the element. The increments are combined
+   * per graph before they are shuffled. This reduces the amount of data if elements are contained
+   * in many graphs or if elements are large compared to their increments.
+   * <p>
+   * This option is disabled by default.
+   *
+   * @param expandIncrements {@code true}, if increments should be expanded instead of elements.
+   * @return This operator.
+   */
+  public ApplyAggregation<G, V, E, LG, GC> setExpandIncrements(boolean expandIncrements) {
+    this.expandIncrements = expandIncrements;
+    return this;
+  }
+
   /**
    * Applies an aggregate function to the partitions of a vertex data set.
    *
@@ -112,15 +150,13 @@ public class ApplyAggregation<
    * @param graphIds graph ids to aggregate
    * @return partition aggregate value
    */
-  private DataSet<Tuple2<GradoopId, Map<String, PropertyValue>>> aggregateVertices(
+  private DataSet<Tuple2<GradoopId, PropertyValue[]>> aggregateVertices(
     DataSet<V> vertices, DataSet<GradoopId> graphIds) {
     return vertices
       .flatMap(new ElementsOfSelectedGraphs<>())
       .withBroadcastSet(graphIds, ElementsOfSelectedGraphs.GRAPH_IDS)
       .groupBy(0)
-      .combineGroup(new ApplyAggregateElements<>(aggregateFunctions.stream()
-        .filter(AggregateFunction::isVertexAggregation)
-        .collect(Collectors.toSet())));
+      .combineGroup(new ApplyAggregateElements<>(aggregateFunctions, true));
   }
 
   /**
@@ -130,14 +166,12 @@ public class ApplyAggregation<
    * @param graphIds graph ids to aggregate
    * @return partition aggregate value
    */
-  private DataSet<Tuple2<GradoopId, Map<String, PropertyValue>>> aggregateEdges(
+  private DataSet<Tuple2<GradoopId, PropertyValue[]>> aggregateEdges(
     DataSet<E> edges, DataSet<GradoopId> graphIds) {
     return edges
       .flatMap(new ElementsOfSelectedGraphs<>())
       .withBroadcastSet(graphIds, ElementsOfSelectedGraphs.GRAPH_IDS)
       .groupBy(0)
-      .combineGroup(new ApplyAggregateElements<>(aggregateFunctions.stream()
-        .filter(AggregateFunction::isEdgeAggregation)
-        .collect(Collectors.toSet())));
+      .combineGroup(new ApplyAggregateElements<>(aggregateFunctions, false));
   }
 }
@@ -19,43 +19,60 @@ import org.apache.flink.api.common.functions.GroupCombineFunction;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.List;
 
 /**
  * Applies aggregate functions to the elements.
+ * The partial aggregate values of all functions are stored in a single array, at the index of
+ * their function.
  *
  * @param <T> element type
  */
 public class AggregateElements<T extends Element>
-  implements GroupCombineFunction<T, Map<String, PropertyValue>> {
+  implements GroupCombineFunction<T, PropertyValue[]> {
 
   /**
    * Aggregate functions.
    */
-  private final Set<AggregateFunction> aggregateFunctions;
+  private final List<AggregateFunction> aggregateFunctions;
+
+  /**
+   * Indices of the aggregate functions applicable on the elements.
+   */
+  private final int[] indices;
+
+  /**
+   * Accumulators of the aggregate functions supporting them.
+   */
+  private final PropertyValueAccumulator[] accumulators;
 
   /**
    * Creates a new instance of a AggregateElements group combine function.
    *
-   * @param aggregateFunctions aggregate functions
+   * @param aggregateFunctions all aggregate functions
+   * @param vertices {@code true}, if the elements are vertices, {@code false} for edges
    */
-  public AggregateElements(Set<AggregateFunction> aggregateFunctions) {
+  public AggregateElements(List<AggregateFunction> aggregateFunctions, boolean vertices) {
     this.aggregateFunctions = aggregateFunctions;
+    this.indices = AggregateUtil.getIndices(aggregateFunctions, vertices);
+    this.accumulators = AggregateUtil.createAccumulators(aggregateFunctions);
   }
 
   @Override
-  public void combine(Iterable<T> elements, Collector<Map<String, PropertyValue>> out) {
-    Map<String, PropertyValue> aggregate = new HashMap<>();
+  public void combine(Iterable<T> elements, Collector<PropertyValue[]> out) {
+    PropertyValue[] aggregate = new PropertyValue[aggregateFunctions.size()];
+    boolean empty = true;
 
     for (T element : elements) {
-      aggregate = AggregateUtil.increment(aggregate, element, aggregateFunctions);
+      AggregateUtil.increment(aggregate, accumulators, element, aggregateFunctions, indices);
+      empty = false;
     }
 
-    if (!aggregate.isEmpty()) {
+    if (!empty) {
+      AggregateUtil.flush(aggregate, accumulators, aggregateFunctions);
       out.collect(aggregate);
     }
   }
@@ -19,13 +19,11 @@ import org.apache.flink.api.common.functions.MapFunction;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.List;
 
 /**
  * Applies an {@link AggregateFunction} to the vertex or edge set of a graph transaction.
@@ -33,89 +31,50 @@ import java.util.stream.Collectors;
 public class AggregateTransactions implements MapFunction<GraphTransaction, GraphTransaction> {
 
   /**
-   * Set of all aggregate functions.
+   * List of all aggregate functions.
    */
-  private final Set<AggregateFunction> aggregateFunctions;
+  private final List<AggregateFunction> aggregateFunctions;
   /**
-   * Set of aggregate vertex functions.
+   * Indices of aggregate vertex functions.
    */
-  private final Set<AggregateFunction> vertexAggregateFunctions;
+  private final int[] vertexAggregateFunctions;
   /**
-   * Set of aggregate edge functions.
+   * Indices of aggregate edge functions.
    */
-  private final Set<AggregateFunction> edgeAggregateFunctions;
+  private final int[] edgeAggregateFunctions;
   /**
-   * Set of aggregate default values.
+   * Accumulators of the aggregate functions supporting them.
    */
-  private final Map<String, PropertyValue> aggregateDefaultValues;
+  private final PropertyValueAccumulator[] accumulators;
 
   /**
    * Creates a new instance of a AggregateTransactions map function.
    *
    * @param aggregateFunctions vertex or edge aggregate functions with possible default value
    */
-  public AggregateTransactions(Set<AggregateFunction> aggregateFunctions) {
+  public AggregateTransactions(List<AggregateFunction> aggregateFunctions) {
     // initialization logic to avoid instanceOf checking during execution
     this.aggregateFunctions = aggregateFunctions;
-
-    vertexAggregateFunctions = aggregateFunctions.stream()
-      .filter(AggregateFunction::isVertexAggregation)
-      .collect(Collectors.toSet());
-
-    edgeAggregateFunctions = aggregateFunctions.stream()
-      .filter(AggregateFunction::isEdgeAggregation)
-      .collect(Collectors.toSet());
-
-    aggregateDefaultValues = new HashMap<>();
-    for (AggregateFunction func : aggregateFunctions) {
-      aggregateDefaultValues.put(func.getAggregatePropertyKey(),
-        AggregateUtil.getDefaultAggregate(func));
-    }
+    vertexAggregateFunctions = AggregateUtil.getIndices(aggregateFunctions, true);
+    edgeAggregateFunctions = AggregateUtil.getIndices(aggregateFunctions, false);
+    accumulators = AggregateUtil.createAccumulators(aggregateFunctions);
   }
 
   @Override
   public GraphTransaction map(GraphTransaction graphTransaction) throws Exception {
-    Map<String, PropertyValue> aggregate = new HashMap<>();
-    aggregate = aggregateVertices(aggregate, graphTransaction);
-    aggregate = aggregateEdges(aggregate, graphTransaction);
-
-    for (AggregateFunction function : aggregateFunctions) {
-      aggregate.computeIfPresent(function.getAggregatePropertyKey(),
-        (k, v) -> function.postAggregate(v));
-    }
-    aggregateDefaultValues.forEach(aggregate::putIfAbsent);
-
-    aggregate.forEach(graphTransaction.getGraphHead()::setProperty);
-    return graphTransaction;
-  }
-
-  /**
-   * Applies the aggregate functions on the vertices of the given graph transaction.
-   *
-   * @param aggregate map to hold the aggregate values
-   * @param graphTransaction graph transaction
-   * @return final vertex aggregate value
-   */
-  private Map<String, PropertyValue> aggregateVertices(Map<String, PropertyValue> aggregate,
-                                                       GraphTransaction graphTransaction) {
+    PropertyValue[] aggregate = new PropertyValue[aggregateFunctions.size()];
     for (EPGMVertex vertex : graphTransaction.getVertices()) {
-      aggregate = AggregateUtil.increment(aggregate, vertex, vertexAggregateFunctions);
+      AggregateUtil.increment(aggregate, accumulators, vertex, aggregateFunctions,
+        vertexAggregateFunctions);
     }
-    return aggregate;
-  }
-
-  /**
-   * Applies the aggregate functions on the edges of the given graph transaction.
-   *
-   * @param aggregate map to hold the aggregate values
-   * @param graphTransaction graph transaction
-   * @return final edge aggregate value
-   */
-  private Map<String, PropertyValue> aggregateEdges(Map<String, PropertyValue> aggregate,
-                                                    GraphTransaction graphTransaction) {
     for (EPGMEdge edge : graphTransaction.getEdges()) {
-      aggregate = AggregateUtil.increment(aggregate, edge, edgeAggregateFunctions);
+      AggregateUtil.increment(aggregate, accumulators, edge, aggregateFunctions,
+        edgeAggregateFunctions);
     }
-    return aggregate;
+    AggregateUtil.flush(aggregate, accumulators, aggregateFunctions);
+
+    AggregateUtil.finish(aggregate, aggregateFunctions)
+      .forEach(graphTransaction.getGraphHead()::setProperty);
+    return graphTransaction;
   }
 }
@@ -17,11 +17,15 @@ package org.gradoop.flink.model.impl.operators.aggregation.functions;
 
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
 import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.stream.IntStream;
 
 /**
  * Utility functions for the aggregation operator
@@ -29,24 +33,178 @@ import java.util.Set;
 public class AggregateUtil {
 
   /**
-   * Increments the aggregate map by the increment of the aggregate functions on the element
+   * Increments the partial aggregate values by the increments of some aggregate functions on the
+   * element. The aggregate values are stored at the index of their aggregate function,
+   * {@code null} is used if there is no aggregate value yet.
    *
-   * @param aggregate aggregate map to be incremented
+   * @param aggregate aggregate values to be incremented
    * @param element element to increment with
-   * @param aggregateFunctions aggregate functions
-   * @return incremented aggregate map
+   * @param aggregateFunctions all aggregate functions
+   * @param indices indices of the aggregate functions to apply on the element
    */
-  static Map<String, PropertyValue> increment(Map<String, PropertyValue> aggregate,
-                                              Element element,
-                                              Set<AggregateFunction> aggregateFunctions) {
-    for (AggregateFunction aggFunc : aggregateFunctions) {
+  static void increment(PropertyValue[] aggregate, Element element,
+    List<AggregateFunction> aggregateFunctions, int[] indices) {
+    for (int index : indices) {
+      AggregateFunction aggFunc = aggregateFunctions.get(index);
       PropertyValue increment = aggFunc.getIncrement(element);
       if (increment != null) {
-        aggregate.compute(aggFunc.getAggregatePropertyKey(), (key, agg) -> agg == null ?
-          increment.copy() : aggFunc.aggregate(agg, increment));
+        aggregate[index] = aggregate[index] == null ?
+          increment.copy() : aggFunc.aggregate(aggregate[index], increment);
       }
     }
-    return aggregate;
+  }
+
+  /**
+   * Increments the partial aggregate values by the increments of some aggregate functions on the
+   * element, like {@link #increment(PropertyValue[], Element, List, int[])}. Increments of
+   * functions with an accumulator are added to their accumulator instead, those have to be
+   * written to the aggregate values by {@link #flush(PropertyValue[], PropertyValueAccumulator[], List)}.
+   *
+   * @param aggregate aggregate values to be incremented
+   * @param accumulators accumulators of the aggregate functions, see {@link #createAccumulators}
+   * @param element element to increment with
+   * @param aggregateFunctions all aggregate functions
+   * @param indices indices of the aggregate functions to apply on the element
+   */
+  static void increment(PropertyValue[] aggregate, PropertyValueAccumulator[] accumulators,
+    Element element, List<AggregateFunction> aggregateFunctions, int[] indices) {
+    for (int index : indices) {
+      AggregateFunction aggFunc = aggregateFunctions.get(index);
+      if (accumulators[index] != null) {
+        PropertyValue value = ((AccumulatingAggregate) aggFunc).getAccumulatorIncrement(element);
+        if (value != null) {
+          accumulators[index].add(value);
+        }
+        continue;
+      }
+      PropertyValue increment = aggFunc.getIncrement(element);
+      if (increment != null) {
+        aggregate[index] = aggregate[index] == null ?
+          increment.copy() : aggFunc.aggregate(aggregate[index], increment);
+      }
+    }
+  }
+
+  /**
+   * Writes the values of the accumulators to the partial aggregate values and resets them.
+   *
+   * @param aggregate aggregate values to be updated
+   * @param accumulators accumulators of the aggregate functions, see {@link #createAccumulators}
+   * @param aggregateFunctions all aggregate functions
+   */
+  static void flush(PropertyValue[] aggregate, PropertyValueAccumulator[] accumulators,
+    List<AggregateFunction> aggregateFunctions) {
+    for (int i = 0; i < accumulators.length; i++) {
+      if (accumulators[i] != null && !accumulators[i].isEmpty()) {
+        PropertyValue value = accumulators[i].getValue();
+        aggregate[i] = aggregate[i] == null ?
+          value : aggregateFunctions.get(i).aggregate(aggregate[i], value);
+        accumulators[i].reset();
+      }
+    }
+  }
+
+  /**
+   * Creates an accumulator for each function implementing {@link AccumulatingAggregate}. The
+   * partial aggregates of those functions can be computed without creating a property value per
+   * increment. Other functions have no accumulator, i.e. {@code null} at their index.
+   *
+   * @param aggregateFunctions all aggregate functions
+   * @return accumulators at the index of their aggregate function
+   */
+  public static PropertyValueAccumulator[] createAccumulators(
+    List<AggregateFunction> aggregateFunctions) {
+    PropertyValueAccumulator[] accumulators =
+      new PropertyValueAccumulator[aggregateFunctions.size()];
+    for (int i = 0; i < accumulators.length; i++) {
+      AggregateFunction aggFunc = aggregateFunctions.get(i);
+      if (usesAccumulator(aggFunc)) {
+        accumulators[i] = ((AccumulatingAggregate) aggFunc).createAccumulator();
+      }
+    }
+    return accumulators;
+  }
+
+  /**
+   * Checks whether the accumulator of an aggregate function can be used instead of its
+   * {@link AggregateFunction#aggregate} method. This is the case, if the function implements
+   * {@link AccumulatingAggregate} and {@link AggregateFunction#aggregate} is not overridden
+   * by a subclass of the class creating the accumulator. The same holds for
+   * {@link AggregateFunction#getIncrement}, if the function provides its own
+   * {@link AccumulatingAggregate#getAccumulatorIncrement}.
+   *
+   * @param aggregateFunction aggregate function
+   * @return true, if the accumulator of the function should be used
+   */
+  static boolean usesAccumulator(AggregateFunction aggregateFunction) {
+    if (!(aggregateFunction instanceof AccumulatingAggregate)) {
+      return false;
+    }
+    try {
+      Class<?> aggregateClass = aggregateFunction.getClass()
+        .getMethod("aggregate", PropertyValue.class, PropertyValue.class).getDeclaringClass();
+      Class<?> accumulatorClass = aggregateFunction.getClass()
+        .getMethod("createAccumulator").getDeclaringClass();
+      Class<?> incrementClass = aggregateFunction.getClass()
+        .getMethod("getIncrement", Element.class).getDeclaringClass();
+      Class<?> accumulatorIncrementClass = aggregateFunction.getClass()
+        .getMethod("getAccumulatorIncrement", Element.class).getDeclaringClass();
+      return aggregateClass.isAssignableFrom(accumulatorClass) &&
+        (accumulatorIncrementClass == AccumulatingAggregate.class ||
+          incrementClass.isAssignableFrom(accumulatorIncrementClass));
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Merges partial aggregate values of the same aggregate functions. The first array is updated.
+   *
+   * @param aggregate aggregate values to be updated
+   * @param other aggregate values to merge
+   * @param aggregateFunctions all aggregate functions
+   */
+  static void merge(PropertyValue[] aggregate, PropertyValue[] other,
+    List<AggregateFunction> aggregateFunctions) {
+    for (int i = 0; i < aggregate.length; i++) {
+      if (other[i] != null) {
+        aggregate[i] = aggregate[i] == null ?
+          other[i] : aggregateFunctions.get(i).aggregate(aggregate[i], other[i]);
+      }
+    }
+  }
+
+  /**
+   * Computes the final aggregate values from partial aggregate values, replacing missing values
+   * by the default value of their aggregate function.
+   *
+   * @param aggregate partial aggregate values, may be {@code null} if there are none
+   * @param aggregateFunctions all aggregate functions
+   * @return final aggregate values mapped from their property key
+   */
+  static Map<String, PropertyValue> finish(PropertyValue[] aggregate,
+    List<AggregateFunction> aggregateFunctions) {
+    Map<String, PropertyValue> result = new HashMap<>();
+    for (int i = 0; i < aggregateFunctions.size(); i++) {
+      AggregateFunction aggFunc = aggregateFunctions.get(i);
+      result.put(aggFunc.getAggregatePropertyKey(), aggregate == null || aggregate[i] == null ?
+        getDefaultAggregate(aggFunc) : aggFunc.postAggregate(aggregate[i]));
+    }
+    return result;
+  }
+
+  /**
+   * Returns the indices of all aggregate functions applicable on vertices or edges.
+   *
+   * @param aggregateFunctions all aggregate functions
+   * @param vertices {@code true} for vertex aggregate functions, {@code false} for edges
+   * @return indices of the applicable aggregate functions
+   */
+  static int[] getIndices(List<AggregateFunction> aggregateFunctions, boolean vertices) {
+    return IntStream.range(0, aggregateFunctions.size())
+      .filter(i -> vertices ? aggregateFunctions.get(i).isVertexAggregation() :
+        aggregateFunctions.get(i).isEdgeAggregation())
+      .toArray();
   }
 
   /**
@@ -21,59 +21,72 @@ import org.apache.flink.util.Collector;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.Set;
+import java.util.List;
 
 /**
- * Applies vertex aggregate functions to vertices with the same graph id.
- * {@code (graphId,vertex),.. => (graphId,[aggregateKey,aggregateValue]),..}
+ * Applies vertex or edge aggregate functions to elements with the same graph id.
+ * {@code (graphId,element),.. => (graphId,[aggregateValue,..]),..}
+ * <p>
+ * The partial aggregate values of all functions are stored in a single array, at the index of
+ * their function.
  *
  * @param <T> element type
  */
 public class ApplyAggregateElements<T extends Element>
-  implements GroupCombineFunction<Tuple2<GradoopId, T>, Tuple2<GradoopId, Map<String, PropertyValue>>> {
+  implements GroupCombineFunction<Tuple2<GradoopId, T>, Tuple2<GradoopId, PropertyValue[]>> {
 
   /**
    * Aggregate functions.
    */
-  private final Set<AggregateFunction> aggregateFunctions;
+  private final List<AggregateFunction> aggregateFunctions;
+  /**
+   * Indices of the aggregate functions applicable on the elements.
+   */
+  private final int[] indices;
+  /**
+   * Accumulators of the aggregate functions supporting them.
+   */
+  private final PropertyValueAccumulator[] accumulators;
   /**
    * Reuse tuple.
    */
-  private final Tuple2<GradoopId, Map<String, PropertyValue>> reusePair = new Tuple2<>();
+  private final Tuple2<GradoopId, PropertyValue[]> reusePair = new Tuple2<>();
 
   /**
    * Creates a new instance of a ApplyAggregateElements group combine function.
    *
-   * @param aggregateFunctions aggregate functions
+   * @param aggregateFunctions all aggregate functions
+   * @param vertices {@code true}, if the elements are vertices, {@code false} for edges
    */
-  public ApplyAggregateElements(Set<AggregateFunction> aggregateFunctions) {
+  public ApplyAggregateElements(List<AggregateFunction> aggregateFunctions, boolean vertices) {
     this.aggregateFunctions = aggregateFunctions;
+    this.indices = AggregateUtil.getIndices(aggregateFunctions, vertices);
+    this.accumulators = AggregateUtil.createAccumulators(aggregateFunctions);
   }
 
   @Override
   public void combine(Iterable<Tuple2<GradoopId, T>> elements,
-    Collector<Tuple2<GradoopId, Map<String, PropertyValue>>> out) {
+    Collector<Tuple2<GradoopId, PropertyValue[]>> out) {
 
     Iterator<Tuple2<GradoopId, T>> iterator = elements.iterator();
     Tuple2<GradoopId, T> graphIdElement = iterator.next();
 
-    Map<String, PropertyValue> aggregate = AggregateUtil.increment(new HashMap<>(),
-      graphIdElement.f1, aggregateFunctions);
+    PropertyValue[] aggregate = new PropertyValue[aggregateFunctions.size()];
+    AggregateUtil.increment(aggregate, accumulators, graphIdElement.f1, aggregateFunctions,
+      indices);
 
     while (iterator.hasNext()) {
       T element = iterator.next().f1;
-      aggregate = AggregateUtil.increment(aggregate, element, aggregateFunctions);
+      AggregateUtil.increment(aggregate, accumulators, element, aggregateFunctions, indices);
     }
+    AggregateUtil.flush(aggregate, accumulators, aggregateFunctions);
 
-    if (!aggregate.isEmpty()) {
-      reusePair.f0 = graphIdElement.f0;
-      reusePair.f1 = aggregate;
-      out.collect(reusePair);
-    }
+    reusePair.f0 = graphIdElement.f0;
+    reusePair.f1 = aggregate;
+    out.collect(reusePair);
   }
 }
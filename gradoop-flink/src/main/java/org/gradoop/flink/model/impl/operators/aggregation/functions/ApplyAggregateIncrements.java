@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.GraphElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.functions.epgm.ElementsOfSelectedGraphs;
+
+import java.util.List;
+
+/**
+ * graphIds (BC)
+ * {@code element => (graphId,[increment,..]),..}
+ * <p>
+ * Applies vertex or edge aggregate functions to an element once and emits its increments for
+ * each selected graph containing the element. Unlike {@link ElementsOfSelectedGraphs}, the
+ * element itself is not duplicated.
+ *
+ * @param <T> element type
+ */
+public class ApplyAggregateIncrements<T extends GraphElement>
+  extends RichFlatMapFunction<T, Tuple2<GradoopId, PropertyValue[]>> {
+
+  /**
+   * Aggregate functions.
+   */
+  private final List<AggregateFunction> aggregateFunctions;
+  /**
+   * Indices of the aggregate functions applicable on the elements.
+   */
+  private final int[] indices;
+  /**
+   * Reuse tuple.
+   */
+  private final Tuple2<GradoopId, PropertyValue[]> reusePair = new Tuple2<>();
+  /**
+   * Selected graph ids.
+   */
+  private GradoopIdSet graphIds;
+
+  /**
+   * Creates a new instance of a ApplyAggregateIncrements flat map function.
+   * The selected graph ids are expected as broadcast set {@link ElementsOfSelectedGraphs#GRAPH_IDS}.
+   *
+   * @param aggregateFunctions all aggregate functions
+   * @param vertices {@code true}, if the elements are vertices, {@code false} for edges
+   */
+  public ApplyAggregateIncrements(List<AggregateFunction> aggregateFunctions, boolean vertices) {
+    this.aggregateFunctions = aggregateFunctions;
+    this.indices = AggregateUtil.getIndices(aggregateFunctions, vertices);
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    graphIds = GradoopIdSet.fromExisting(
+      getRuntimeContext().getBroadcastVariable(ElementsOfSelectedGraphs.GRAPH_IDS));
+  }
+
+  @Override
+  public void flatMap(T element, Collector<Tuple2<GradoopId, PropertyValue[]>> out) {
+    PropertyValue[] increments = null;
+    for (GradoopId graphId : element.getGraphIds()) {
+      if (graphIds.contains(graphId)) {
+        if (increments == null) {
+          increments = new PropertyValue[aggregateFunctions.size()];
+          AggregateUtil.increment(increments, element, aggregateFunctions, indices);
+        }
+        reusePair.f0 = graphId;
+        reusePair.f1 = increments;
+        out.collect(reusePair);
+      }
+    }
+  }
+}
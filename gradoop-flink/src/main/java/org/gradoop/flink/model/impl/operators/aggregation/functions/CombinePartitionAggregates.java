@@ -21,47 +21,37 @@ import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
 import java.util.Iterator;
-import java.util.Map;
-import java.util.Set;
+import java.util.List;
 
 /**
  * Aggregates the aggregate values of different partitions
  */
 public class CombinePartitionAggregates
-  implements GroupReduceFunction<Map<String, PropertyValue>, Map<String, PropertyValue>> {
+  implements GroupReduceFunction<PropertyValue[], PropertyValue[]> {
 
   /**
    * Aggregate Functions
    */
-  private final Set<AggregateFunction> aggregateFunctions;
+  private final List<AggregateFunction> aggregateFunctions;
 
   /**
    * Creates a new instance of a CombinePartitionAggregates group reduce function.
    *
    * @param aggregateFunctions aggregate functions
    */
-  public CombinePartitionAggregates(Set<AggregateFunction> aggregateFunctions) {
+  public CombinePartitionAggregates(List<AggregateFunction> aggregateFunctions) {
     this.aggregateFunctions = aggregateFunctions;
   }
 
   @Override
-  public void reduce(Iterable<Map<String, PropertyValue>> partitionAggregates,
-    Collector<Map<String, PropertyValue>> out) throws Exception {
+  public void reduce(Iterable<PropertyValue[]> partitionAggregates,
+    Collector<PropertyValue[]> out) throws Exception {
 
-    Iterator<Map<String, PropertyValue>> iterator = partitionAggregates.iterator();
-    Map<String, PropertyValue> aggregate = iterator.next();
+    Iterator<PropertyValue[]> iterator = partitionAggregates.iterator();
+    PropertyValue[] aggregate = iterator.next();
 
     while (iterator.hasNext()) {
-      Map<String, PropertyValue> next = iterator.next();
-
-      for (AggregateFunction aggFunc : aggregateFunctions) {
-        String propertyKey = aggFunc.getAggregatePropertyKey();
-        PropertyValue nextAgg = next.get(propertyKey);
-        if (nextAgg != null) {
-          aggregate.compute(propertyKey, (key, agg) -> agg == null ?
-            nextAgg : aggFunc.aggregate(agg, nextAgg));
-        }
-      }
+      AggregateUtil.merge(aggregate, iterator.next(), aggregateFunctions);
     }
 
     out.collect(aggregate);
@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.model.impl.operators.aggregation.functions;
 
+import org.apache.flink.api.common.functions.GroupCombineFunction;
 import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.util.Collector;
@@ -23,50 +24,50 @@ import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
 import java.util.Iterator;
-import java.util.Map;
-import java.util.Set;
+import java.util.List;
 
 /**
- * Aggregates the aggregate values of partitions with the same graph id
+ * Aggregates the aggregate values of partitions with the same graph id.
+ * <p>
+ * This function can also be used as a combiner, e.g. to aggregate the increments of single
+ * elements before they are shuffled.
  */
-public class CombinePartitionApplyAggregates implements GroupReduceFunction
-  <Tuple2<GradoopId, Map<String, PropertyValue>>, Tuple2<GradoopId, Map<String, PropertyValue>>> {
+public class CombinePartitionApplyAggregates implements
+  GroupReduceFunction<Tuple2<GradoopId, PropertyValue[]>, Tuple2<GradoopId, PropertyValue[]>>,
+  GroupCombineFunction<Tuple2<GradoopId, PropertyValue[]>, Tuple2<GradoopId, PropertyValue[]>> {
 
   /**
    * Aggregate Functions
    */
-  private final Set<AggregateFunction> aggregateFunctions;
+  private final List<AggregateFunction> aggregateFunctions;
 
   /**
    * Creates a new instance of a CombinePartitionApplyAggregates group reduce function.
    *
    * @param aggregateFunctions aggregate functions
    */
-  public CombinePartitionApplyAggregates(Set<AggregateFunction> aggregateFunctions) {
+  public CombinePartitionApplyAggregates(List<AggregateFunction> aggregateFunctions) {
     this.aggregateFunctions = aggregateFunctions;
   }
 
   @Override
-  public void reduce(Iterable<Tuple2<GradoopId, Map<String, PropertyValue>>> values,
-    Collector<Tuple2<GradoopId, Map<String, PropertyValue>>> out) throws Exception {
+  public void reduce(Iterable<Tuple2<GradoopId, PropertyValue[]>> values,
+    Collector<Tuple2<GradoopId, PropertyValue[]>> out) throws Exception {
 
-    Iterator<Tuple2<GradoopId, Map<String, PropertyValue>>> iterator = values.iterator();
+    Iterator<Tuple2<GradoopId, PropertyValue[]>> iterator = values.iterator();
 
-    Tuple2<GradoopId, Map<String, PropertyValue>> aggregate = iterator.next();
+    Tuple2<GradoopId, PropertyValue[]> aggregate = iterator.next();
 
     while (iterator.hasNext()) {
-      Tuple2<GradoopId, Map<String, PropertyValue>> next = iterator.next();
-
-      for (AggregateFunction aggFunc : aggregateFunctions) {
-        String propertyKey = aggFunc.getAggregatePropertyKey();
-        PropertyValue nextAgg = next.f1.get(propertyKey);
-        if (nextAgg != null) {
-          aggregate.f1.compute(propertyKey, (key, agg) -> agg == null ?
-            nextAgg : aggFunc.aggregate(agg, nextAgg));
-        }
-      }
+      AggregateUtil.merge(aggregate.f1, iterator.next().f1, aggregateFunctions);
     }
 
     out.collect(aggregate);
   }
+
+  @Override
+  public void combine(Iterable<Tuple2<GradoopId, PropertyValue[]>> values,
+    Collector<Tuple2<GradoopId, PropertyValue[]>> out) throws Exception {
+    reduce(values, out);
+  }
 }
@@ -23,10 +23,8 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 
 /**
  * Sets aggregate values of graph heads.
@@ -34,55 +32,35 @@ import java.util.Set;
  * @param <G> type of the graph head
  */
 public class SetAggregateProperties<G extends GraphHead>
-  implements CoGroupFunction<G, Tuple2<GradoopId, Map<String, PropertyValue>>, G> {
-
-  /**
-   * default values used to replace aggregate values in case of NULL.
-   */
-  private final Map<String, PropertyValue> defaultValues;
+  implements CoGroupFunction<G, Tuple2<GradoopId, PropertyValue[]>, G> {
 
   /**
    * Aggregate functions from the aggregation step.
    */
-  private final Set<AggregateFunction> aggregateFunctions;
+  private final List<AggregateFunction> aggregateFunctions;
 
   /**
    * Creates a new instance of a SetAggregateProperties coGroup function.
    *
    * @param aggregateFunctions aggregate functions
    */
-  public SetAggregateProperties(final Set<AggregateFunction> aggregateFunctions) {
-
-    defaultValues = new HashMap<>();
+  public SetAggregateProperties(final List<AggregateFunction> aggregateFunctions) {
     this.aggregateFunctions = Objects.requireNonNull(aggregateFunctions);
-
-    for (AggregateFunction func : aggregateFunctions) {
-      Objects.requireNonNull(func);
-      defaultValues.put(func.getAggregatePropertyKey(), AggregateUtil.getDefaultAggregate(func));
-    }
+    aggregateFunctions.forEach(Objects::requireNonNull);
   }
 
   @Override
-  public void coGroup(Iterable<G> left, Iterable<Tuple2<GradoopId, Map<String, PropertyValue>>> right,
+  public void coGroup(Iterable<G> left, Iterable<Tuple2<GradoopId, PropertyValue[]>> right,
                       Collector<G> out) {
 
     for (G leftElem : left) {
-      boolean rightEmpty = true;
-      for (Tuple2<GradoopId, Map<String, PropertyValue>> rightElem : right) {
-        Map<String, PropertyValue> values = rightElem.f1;
-        // Apply post-aggregation step.
-        for (AggregateFunction function : aggregateFunctions) {
-          values.computeIfPresent(function.getAggregatePropertyKey(),
-            (k, v) -> function.postAggregate(v));
-        }
-        values.forEach(leftElem::setProperty);
-        out.collect(leftElem);
-        rightEmpty = false;
-      }
-      if (rightEmpty) {
-        defaultValues.forEach(leftElem::setProperty);
-        out.collect(leftElem);
+      PropertyValue[] values = null;
+      for (Tuple2<GradoopId, PropertyValue[]> rightElem : right) {
+        values = rightElem.f1;
       }
+      // Apply post-aggregation step, use default values in case of NULL.
+      AggregateUtil.finish(values, aggregateFunctions).forEach(leftElem::setProperty);
+      out.collect(leftElem);
     }
   }
 }
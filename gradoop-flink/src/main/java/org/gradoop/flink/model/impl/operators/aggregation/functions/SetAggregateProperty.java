@@ -22,10 +22,10 @@ import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 /**
  * Sets aggregate values of a graph head.
@@ -42,55 +42,35 @@ public class SetAggregateProperty<G extends GraphHead>
   public static final String VALUE = "value";
 
   /**
-   * The set of used aggregate functions.
+   * The list of used aggregate functions.
    */
-  private final Set<AggregateFunction> aggregateFunctions;
+  private final List<AggregateFunction> aggregateFunctions;
 
   /**
    * map from aggregate property key to its value
    */
   private Map<String, PropertyValue> aggregateValues;
 
-  /**
-   * map from aggregate property key to its default value
-   * used to replace aggregate value in case of NULL.
-   */
-  private final Map<String, PropertyValue> defaultValues;
-
-
   /**
    * Creates a new instance of a SetAggregateProperty rich map function.
    *
    * @param aggregateFunctions aggregate functions
    */
-  public SetAggregateProperty(Set<AggregateFunction> aggregateFunctions) {
+  public SetAggregateProperty(List<AggregateFunction> aggregateFunctions) {
     this.aggregateFunctions = Objects.requireNonNull(aggregateFunctions);
-
-    defaultValues = new HashMap<>();
-
-    for (AggregateFunction func : aggregateFunctions) {
-      Objects.requireNonNull(func);
-      defaultValues.put(func.getAggregatePropertyKey(), AggregateUtil.getDefaultAggregate(func));
-    }
+    aggregateFunctions.forEach(Objects::requireNonNull);
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
 
-    if (getRuntimeContext().getBroadcastVariable(VALUE).isEmpty()) {
-      aggregateValues = defaultValues;
-    } else {
-      aggregateValues = (Map<String, PropertyValue>) getRuntimeContext()
-        .getBroadcastVariable(VALUE).get(0);
-      // Compute post-aggregate functions.
-      for (AggregateFunction function : aggregateFunctions) {
-        aggregateValues.computeIfPresent(function.getAggregatePropertyKey(),
-          (k, v) -> function.postAggregate(v));
-      }
-      defaultValues.forEach(aggregateValues::putIfAbsent);
-    }
+    List<PropertyValue[]> aggregate = getRuntimeContext().getBroadcastVariable(VALUE);
+    // The broadcast values are shared between tasks, post-aggregate functions may modify them.
+    PropertyValue[] values = aggregate.isEmpty() ? null : Arrays.stream(aggregate.get(0))
+      .map(value -> value == null ? null : value.copy()).toArray(PropertyValue[]::new);
+    // Compute post-aggregate functions and replace missing values by their defaults.
+    aggregateValues = AggregateUtil.finish(values, aggregateFunctions);
   }
 
   @Override
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.average;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils.NumericAccumulator;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Accumulates the sum and the number of values considered by an {@link Average}.
+ * <p>
+ * Numerical values are counted once, lists in the internal format of {@link Average} are added
+ * with their count. The result is only converted to that format by {@link #getValue()}.
+ */
+public class AverageAccumulator implements PropertyValueAccumulator {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * The sum of all values.
+   */
+  private final NumericAccumulator sum = NumericAccumulator.sum();
+
+  /**
+   * The number of values added to the sum.
+   */
+  private long count;
+
+  @Override
+  public void add(PropertyValue value) {
+    if (value.isList()) {
+      List<PropertyValue> partial = value.getList();
+      sum.add(partial.get(0));
+      count += partial.get(1).getLong();
+    } else {
+      sum.add(value);
+      count++;
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return sum.isEmpty();
+  }
+
+  @Override
+  public PropertyValue getValue() {
+    if (sum.isEmpty()) {
+      return null;
+    }
+    return PropertyValue.create(Arrays.asList(sum.getValue(), PropertyValue.create(count)));
+  }
+
+  @Override
+  public void reset() {
+    sum.reset();
+    count = 0;
+  }
+}
@@ -17,6 +17,8 @@ package org.gradoop.flink.model.impl.operators.aggregation.functions.average;
 
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
 
 import java.util.Arrays;
@@ -24,8 +26,12 @@ import java.util.Objects;
 
 /**
  * Base class for aggregate functions determining the average of a numeric property value.
+ * <p>
+ * Partial aggregates are computed using an {@link AverageAccumulator}, which adds the property
+ * values directly instead of creating a list per element.
  */
-public class AverageProperty extends BaseAggregateFunction implements Average {
+public class AverageProperty extends BaseAggregateFunction implements Average,
+  AccumulatingAggregate {
 
   /**
    * A property value containing the number {@code 1}, as a {@code long}.
@@ -60,13 +66,32 @@ public class AverageProperty extends BaseAggregateFunction implements Average {
 
   @Override
   public PropertyValue getIncrement(Element element) {
+    PropertyValue value = getNumber(element);
+    return value == null ? Average.IGNORED_VALUE : PropertyValue.create(Arrays.asList(value, ONE));
+  }
+
+  @Override
+  public PropertyValue getAccumulatorIncrement(Element element) {
+    return getNumber(element);
+  }
+
+  @Override
+  public PropertyValueAccumulator createAccumulator() {
+    return new AverageAccumulator();
+  }
+
+  /**
+   * Reads the value to aggregate from an element.
+   *
+   * @param element element to read the value from
+   * @return numerical value or {@code null}, if the property is not set
+   * @throws IllegalArgumentException if the value is not a number
+   */
+  private PropertyValue getNumber(Element element) {
     PropertyValue value = element.getPropertyValue(propertyKey);
-    if (value == null) {
-      return Average.IGNORED_VALUE;
-    } else if (!value.isNumber()) {
+    if (value != null && !value.isNumber()) {
       throw new IllegalArgumentException("Property value has to be a number.");
-    } else {
-      return PropertyValue.create(Arrays.asList(value, ONE));
     }
+    return value;
   }
 }
@@ -17,6 +17,9 @@ package org.gradoop.flink.model.impl.operators.aggregation.functions.count;
 
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils.NumericAccumulator;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
 import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.Sum;
@@ -24,7 +27,8 @@ import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.Sum;
 /**
  * Superclass of counting aggregate functions.
  */
-public class Count extends BaseAggregateFunction implements Sum, AggregateDefaultValue {
+public class Count extends BaseAggregateFunction implements Sum, AggregateDefaultValue,
+  AccumulatingAggregate {
 
   /**
    * Creates a new instance of a Count aggregate function.
@@ -51,4 +55,9 @@ public class Count extends BaseAggregateFunction implements Sum, AggregateDefaul
   public PropertyValue getDefaultValue() {
     return PropertyValue.create(0L);
   }
+
+  @Override
+  public PropertyValueAccumulator createAccumulator() {
+    return NumericAccumulator.sum();
+  }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.distinct;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
+
+import java.util.Objects;
+
+/**
+ * Superclass of aggregate functions that estimate the number of distinct values of a property.<p>
+ * This aggregate function uses a HyperLogLog sketch internally, which can be merged without
+ * collecting the values. Small sets of values are stored as a set of hash values, the result is
+ * exact in this case. Larger sets are stored using {@code 2^precision} registers, the relative
+ * standard error of the estimate is {@code 1.04 / sqrt(2^precision)}. The aggregation operator
+ * keeps the sketch of a partition decoded and only encodes it once per partition.<p>
+ * The final value will be a {@code long} value or {@link PropertyValue#NULL_VALUE null}, if
+ * the property was not set on any element.
+ */
+public class DistinctCountProperty extends BaseAggregateFunction implements AccumulatingAggregate {
+
+  /**
+   * The default precision, using 4096 registers (about 1.6% standard error).
+   */
+  public static final int DEFAULT_PRECISION = 12;
+
+  /**
+   * Property key whose value should be aggregated.
+   */
+  private final String propertyKey;
+
+  /**
+   * The number of bits of a hash used to select a register.
+   */
+  private final int precision;
+
+  /**
+   * Creates a new instance of a DistinctCountProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   */
+  public DistinctCountProperty(String propertyKey) {
+    this(propertyKey, "distinct_" + propertyKey);
+  }
+
+  /**
+   * Creates a new instance of a DistinctCountProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param aggregatePropertyKey aggregate property key
+   */
+  public DistinctCountProperty(String propertyKey, String aggregatePropertyKey) {
+    this(propertyKey, aggregatePropertyKey, DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates a new instance of a DistinctCountProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param aggregatePropertyKey aggregate property key
+   * @param precision number of bits used to select a register, between 4 and 16
+   */
+  public DistinctCountProperty(String propertyKey, String aggregatePropertyKey, int precision) {
+    super(aggregatePropertyKey);
+    Objects.requireNonNull(propertyKey);
+    if (precision < 4 || precision > 16) {
+      throw new IllegalArgumentException("Precision has to be between 4 and 16.");
+    }
+    this.propertyKey = propertyKey;
+    this.precision = precision;
+  }
+
+  @Override
+  public PropertyValue getIncrement(Element element) {
+    PropertyValue value = element.getPropertyValue(propertyKey);
+    return value == null || value.isNull() ? null : PropertyValue.create(HyperLogLog.hash(value));
+  }
+
+  @Override
+  public PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
+    return HyperLogLog.merge(aggregate, increment, precision);
+  }
+
+  @Override
+  public PropertyValueAccumulator createAccumulator() {
+    return new HyperLogLog.Accumulator(precision);
+  }
+
+  @Override
+  public PropertyValue postAggregate(PropertyValue result) {
+    return PropertyValue.create(HyperLogLog.estimate(result));
+  }
+}
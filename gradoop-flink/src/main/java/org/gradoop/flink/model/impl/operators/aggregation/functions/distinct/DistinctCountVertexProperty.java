@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.distinct;
+
+import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+
+/**
+ * Aggregate function estimating the number of distinct values of a specified property over all
+ * vertices.
+ *
+ * @see DistinctCountProperty
+ */
+public class DistinctCountVertexProperty extends DistinctCountProperty implements VertexAggregateFunction {
+
+  /**
+   * Creates a new instance of a DistinctCountVertexProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   */
+  public DistinctCountVertexProperty(String propertyKey) {
+    super(propertyKey);
+  }
+
+  /**
+   * Creates a new instance of a DistinctCountVertexProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param aggregatePropertyKey aggregate property key
+   */
+  public DistinctCountVertexProperty(String propertyKey, String aggregatePropertyKey) {
+    super(propertyKey, aggregatePropertyKey);
+  }
+
+  /**
+   * Creates a new instance of a DistinctCountVertexProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param aggregatePropertyKey aggregate property key
+   * @param precision number of bits used to select a register, between 4 and 16
+   */
+  public DistinctCountVertexProperty(String propertyKey, String aggregatePropertyKey, int precision) {
+    super(propertyKey, aggregatePropertyKey, precision);
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.distinct;
+
+import com.google.common.hash.Hashing;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Utility functions for HyperLogLog sketches stored as property values.<p>
+ * A sketch is stored in one of two formats:
+ * <ul>
+ *   <li>sparse: a {@link Set} of {@code long} hash values, as long as it is smaller than the dense
+ *   format. The number of distinct values is known exactly in this case.</li>
+ *   <li>dense: a {@link List} of {@code long} values, each storing eight one-byte registers.</li>
+ * </ul>
+ * A single {@code long} hash value is used as the sketch of a single value. Sketches are built
+ * and merged using an {@link Accumulator}, which keeps the hash values or registers decoded.
+ */
+final class HyperLogLog {
+
+  /**
+   * Number of registers stored in a single {@code long} value.
+   */
+  private static final int REGISTERS_PER_WORD = Long.BYTES;
+
+  /**
+   * No instances of this class are needed.
+   */
+  private HyperLogLog() {
+  }
+
+  /**
+   * Get the hash of a property value.
+   *
+   * @param value The property value.
+   * @return A 64-bit hash of the value.
+   */
+  static long hash(PropertyValue value) {
+    return Hashing.murmur3_128().hashBytes(value.getRawBytes()).asLong();
+  }
+
+  /**
+   * Merge two sketches. The second sketch is not changed.
+   *
+   * @param sketch    The sketch to update.
+   * @param other     The sketch to merge.
+   * @param precision The number of bits used to select a register.
+   * @return The merged sketch.
+   */
+  static PropertyValue merge(PropertyValue sketch, PropertyValue other, int precision) {
+    Accumulator accumulator = new Accumulator(precision);
+    accumulator.add(sketch);
+    accumulator.add(other);
+    return accumulator.getValue();
+  }
+
+  /**
+   * Get the (estimated) number of distinct values added to a sketch.
+   *
+   * @param sketch The sketch.
+   * @return The number of distinct values.
+   */
+  static long estimate(PropertyValue sketch) {
+    if (sketch.isLong()) {
+      return 1L;
+    } else if (sketch.isSet()) {
+      return sketch.getSet().size();
+    }
+    List<PropertyValue> registers = sketch.getList();
+    int registerCount = registers.size() * REGISTERS_PER_WORD;
+    double sum = 0d;
+    int zeros = 0;
+    for (PropertyValue word : registers) {
+      long bits = word.getLong();
+      for (int i = 0; i < REGISTERS_PER_WORD; i++) {
+        int rank = (int) (bits >>> (i * Byte.SIZE)) & 0xFF;
+        sum += 1d / (1L << rank);
+        if (rank == 0) {
+          zeros++;
+        }
+      }
+    }
+    double alpha = 0.7213d / (1d + 1.079d / registerCount);
+    double estimate = alpha * registerCount * registerCount / sum;
+    if (estimate <= 2.5d * registerCount && zeros > 0) {
+      // Use linear counting for small cardinalities.
+      estimate = registerCount * Math.log((double) registerCount / zeros);
+    }
+    return Math.round(estimate);
+  }
+
+  /**
+   * Add a hash value to the registers of a dense sketch.
+   *
+   * @param registers The registers, each word storing {@value #REGISTERS_PER_WORD} registers.
+   * @param precision The number of bits used to select a register.
+   * @param hash      The hash value.
+   */
+  private static void addHash(long[] registers, int precision, long hash) {
+    int index = (int) (hash >>> (Long.SIZE - precision));
+    // The remaining bits are used to determine the rank, a guard bit limits the rank.
+    long rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+    int word = index / REGISTERS_PER_WORD;
+    int shift = (index % REGISTERS_PER_WORD) * Byte.SIZE;
+    long bits = registers[word];
+    if (rank > ((bits >>> shift) & 0xFF)) {
+      registers[word] = (bits & ~(0xFFL << shift)) | (rank << shift);
+    }
+  }
+
+  /**
+   * Get the maximum of each register stored in two words.
+   *
+   * @param first  The first word.
+   * @param second The second word.
+   * @return A word containing the maximum register values.
+   */
+  private static long maxRegisters(long first, long second) {
+    long result = 0L;
+    for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+      result |= Math.max((first >>> shift) & 0xFF, (second >>> shift) & 0xFF) << shift;
+    }
+    return result;
+  }
+
+  /**
+   * Accumulates sketches in their decoded form. Single hash values and sparse sketches are
+   * added to a set of hash values, which is replaced by an array of registers once the sparse
+   * format gets larger than the dense format. A property value is only created by
+   * {@link #getValue()}.
+   */
+  static final class Accumulator implements PropertyValueAccumulator {
+
+    /**
+     * serial version uid
+     */
+    private static final long serialVersionUID = 42L;
+
+    /**
+     * The number of bits used to select a register.
+     */
+    private final int precision;
+
+    /**
+     * The hash values, as long as the sketch is sparse.
+     */
+    private final Set<Long> hashes = new HashSet<>();
+
+    /**
+     * The registers, {@code null} as long as the sketch is sparse.
+     */
+    private long[] registers;
+
+    /**
+     * Creates a new, empty accumulator.
+     *
+     * @param precision The number of bits used to select a register.
+     */
+    Accumulator(int precision) {
+      this.precision = precision;
+    }
+
+    /**
+     * Adds a sketch, which may be a single hash value.
+     *
+     * @param sketch The sketch.
+     */
+    @Override
+    public void add(PropertyValue sketch) {
+      if (sketch.isList()) {
+        toDense();
+        List<PropertyValue> otherRegisters = sketch.getList();
+        for (int word = 0; word < registers.length; word++) {
+          registers[word] = maxRegisters(registers[word], otherRegisters.get(word).getLong());
+        }
+      } else if (sketch.isSet()) {
+        for (PropertyValue hash : sketch.getSet()) {
+          addHash(hash.getLong());
+        }
+      } else {
+        addHash(sketch.getLong());
+      }
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return registers == null && hashes.isEmpty();
+    }
+
+    @Override
+    public PropertyValue getValue() {
+      if (registers != null) {
+        List<PropertyValue> words = new ArrayList<>(registers.length);
+        for (long word : registers) {
+          words.add(PropertyValue.create(word));
+        }
+        return PropertyValue.create(words);
+      } else if (hashes.isEmpty()) {
+        return null;
+      }
+      Set<PropertyValue> values = new HashSet<>();
+      for (long hash : hashes) {
+        values.add(PropertyValue.create(hash));
+      }
+      return PropertyValue.create(values);
+    }
+
+    @Override
+    public void reset() {
+      hashes.clear();
+      registers = null;
+    }
+
+    /**
+     * Adds a single hash value.
+     *
+     * @param hash The hash value.
+     */
+    private void addHash(long hash) {
+      if (registers != null) {
+        HyperLogLog.addHash(registers, precision, hash);
+      } else if (hashes.add(hash) && hashes.size() > (1 << precision) / REGISTERS_PER_WORD) {
+        // The sparse format is larger than the dense format.
+        toDense();
+      }
+    }
+
+    /**
+     * Switches to the dense format, if the sketch is still sparse.
+     */
+    private void toDense() {
+      if (registers == null) {
+        registers = new long[(1 << precision) / REGISTERS_PER_WORD];
+        for (long hash : hashes) {
+          HyperLogLog.addHash(registers, precision, hash);
+        }
+        hashes.clear();
+      }
+    }
+  }
+}
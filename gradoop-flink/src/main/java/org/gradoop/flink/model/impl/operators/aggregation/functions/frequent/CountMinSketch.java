@@ -0,0 +1,285 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.frequent;
+
+import com.google.common.hash.Hashing;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility functions for Count-Min sketches tracking the most frequent values, stored as property
+ * values.<p>
+ * A sketch is stored in one of two formats:
+ * <ul>
+ *   <li>exact: a {@link Map} from each value to its number of occurrences, as long as there are at
+ *   most {@code capacity} distinct values.</li>
+ *   <li>approximate: a {@link List} containing a map of candidate values to their estimated
+ *   number of occurrences, followed by {@value #DEPTH} rows of {@value #WIDTH} counters.</li>
+ * </ul>
+ * Estimates never underestimate the number of occurrences. They overestimate it by at most
+ * {@code e / WIDTH} of all values with a probability of {@code 1 - e^-DEPTH}. Sketches are built
+ * and merged using an {@link Accumulator}, which keeps the counts and counters decoded.
+ */
+final class CountMinSketch {
+
+  /**
+   * Number of counters in each row.
+   */
+  static final int WIDTH = 256;
+
+  /**
+   * Number of rows, each using a different hash function.
+   */
+  static final int DEPTH = 4;
+
+  /**
+   * No instances of this class are needed.
+   */
+  private CountMinSketch() {
+  }
+
+  /**
+   * Merge two sketches. The second sketch is not changed.
+   *
+   * @param sketch   The sketch to update.
+   * @param other    The sketch to merge.
+   * @param capacity The maximum number of values counted exactly or tracked as candidates.
+   * @return The merged sketch.
+   */
+  static PropertyValue merge(PropertyValue sketch, PropertyValue other, int capacity) {
+    Accumulator accumulator = new Accumulator(capacity);
+    accumulator.add(sketch);
+    accumulator.add(other);
+    return accumulator.getValue();
+  }
+
+  /**
+   * Get the most frequent values of a sketch and their (estimated) number of occurrences.
+   *
+   * @param sketch The sketch.
+   * @param limit  The maximum number of values.
+   * @return A map from the most frequent values to their number of occurrences.
+   */
+  static Map<PropertyValue, PropertyValue> getMostFrequent(PropertyValue sketch, int limit) {
+    Map<PropertyValue, PropertyValue> encoded =
+      sketch.isMap() ? sketch.getMap() : sketch.getList().get(0).getMap();
+    Map<PropertyValue, Long> counts = new HashMap<>();
+    encoded.forEach((value, count) -> counts.put(value, count.getLong()));
+    trim(counts, limit);
+    return encode(counts);
+  }
+
+  /**
+   * Get the index of the counter of a value in each row.
+   *
+   * @param value The value.
+   * @return The indices, relative to the start of the counters.
+   */
+  private static int[] getIndices(PropertyValue value) {
+    ByteBuffer hash = ByteBuffer.wrap(
+      Hashing.murmur3_128().hashBytes(value.getRawBytes()).asBytes());
+    long first = hash.getLong();
+    long second = hash.getLong();
+    int[] indices = new int[DEPTH];
+    for (int row = 0; row < DEPTH; row++) {
+      // Combine two hash values to simulate independent hash functions for each row.
+      indices[row] = row * WIDTH + (int) Math.floorMod(first + row * second, (long) WIDTH);
+    }
+    return indices;
+  }
+
+  /**
+   * Remove all but the most frequent values from a map.
+   *
+   * @param counts A map from values to their number of occurrences, which is updated.
+   * @param limit  The maximum number of values to keep.
+   */
+  private static void trim(Map<PropertyValue, Long> counts, int limit) {
+    if (counts.size() <= limit) {
+      return;
+    } else if (counts.size() == limit + 1) {
+      // A single value was added, remove the least frequent one.
+      counts.entrySet().stream()
+        .min(Map.Entry.comparingByValue())
+        .ifPresent(e -> counts.remove(e.getKey()));
+      return;
+    }
+    List<Map.Entry<PropertyValue, Long>> entries = new ArrayList<>(counts.entrySet());
+    entries.sort(Map.Entry.<PropertyValue, Long>comparingByValue(Comparator.reverseOrder()));
+    Map<PropertyValue, Long> result = new HashMap<>();
+    entries.stream().limit(limit).forEach(e -> result.put(e.getKey(), e.getValue()));
+    counts.clear();
+    counts.putAll(result);
+  }
+
+  /**
+   * Get the property value representation of a map from values to their number of occurrences.
+   *
+   * @param counts A map from values to their number of occurrences.
+   * @return A map from values to their number of occurrences as property values.
+   */
+  private static Map<PropertyValue, PropertyValue> encode(Map<PropertyValue, Long> counts) {
+    Map<PropertyValue, PropertyValue> result = new HashMap<>();
+    counts.forEach((value, count) -> result.put(value, PropertyValue.create(count)));
+    return result;
+  }
+
+  /**
+   * Accumulates sketches in their decoded form. Values are counted exactly in a map, until there
+   * are more than {@code capacity} distinct values. The map is then used to track the candidates
+   * and all values are counted by an array of counters. A property value is only created by
+   * {@link #getValue()}.
+   */
+  static final class Accumulator implements PropertyValueAccumulator {
+
+    /**
+     * serial version uid
+     */
+    private static final long serialVersionUID = 42L;
+
+    /**
+     * The maximum number of values counted exactly or tracked as candidates.
+     */
+    private final int capacity;
+
+    /**
+     * The exact number of occurrences of each value or the estimates of the candidate values.
+     */
+    private final Map<PropertyValue, Long> counts = new HashMap<>();
+
+    /**
+     * The counters, {@code null} as long as values are counted exactly.
+     */
+    private long[] counters;
+
+    /**
+     * Creates a new, empty accumulator.
+     *
+     * @param capacity The maximum number of values counted exactly or tracked as candidates.
+     */
+    Accumulator(int capacity) {
+      this.capacity = capacity;
+    }
+
+    /**
+     * Adds a sketch.
+     *
+     * @param sketch The sketch.
+     */
+    @Override
+    public void add(PropertyValue sketch) {
+      if (sketch.isMap()) {
+        sketch.getMap().forEach((value, count) -> addCount(value, count.getLong()));
+        return;
+      }
+      toApproximate();
+      List<PropertyValue> otherCounters = sketch.getList();
+      for (int i = 0; i < counters.length; i++) {
+        counters[i] += otherCounters.get(i + 1).getLong();
+      }
+      for (PropertyValue value : otherCounters.get(0).getMap().keySet()) {
+        counts.put(value, 0L);
+      }
+      counts.replaceAll((value, count) -> estimate(value));
+      trim(counts, capacity);
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return counters == null && counts.isEmpty();
+    }
+
+    @Override
+    public PropertyValue getValue() {
+      if (counters == null) {
+        return counts.isEmpty() ? null : PropertyValue.create(encode(counts));
+      }
+      List<PropertyValue> values = new ArrayList<>(1 + counters.length);
+      values.add(PropertyValue.create(encode(counts)));
+      for (long counter : counters) {
+        values.add(PropertyValue.create(counter));
+      }
+      return PropertyValue.create(values);
+    }
+
+    @Override
+    public void reset() {
+      counts.clear();
+      counters = null;
+    }
+
+    /**
+     * Adds occurrences of a single value.
+     *
+     * @param value The value.
+     * @param count The number of occurrences.
+     */
+    private void addCount(PropertyValue value, long count) {
+      // Keys are copied, as the increments may share their values with the aggregated elements.
+      Long previous = counts.get(value);
+      if (counters == null) {
+        counts.put(previous == null ? value.copy() : value,
+          previous == null ? count : previous + count);
+        if (counts.size() > capacity) {
+          // Too many distinct values, switch to the approximate format.
+          toApproximate();
+        }
+        return;
+      }
+      for (int index : getIndices(value)) {
+        counters[index] += count;
+      }
+      counts.put(previous == null ? value.copy() : value, estimate(value));
+      trim(counts, capacity);
+    }
+
+    /**
+     * Switches to the approximate format, if values are still counted exactly.
+     */
+    private void toApproximate() {
+      if (counters == null) {
+        counters = new long[WIDTH * DEPTH];
+        counts.forEach((value, count) -> {
+          for (int index : getIndices(value)) {
+            counters[index] += count;
+          }
+        });
+        trim(counts, capacity);
+      }
+    }
+
+    /**
+     * Estimate the number of occurrences of a value.
+     *
+     * @param value The value.
+     * @return The estimated number of occurrences.
+     */
+    private long estimate(PropertyValue value) {
+      long estimate = Long.MAX_VALUE;
+      for (int index : getIndices(value)) {
+        estimate = Math.min(estimate, counters[index]);
+      }
+      return estimate;
+    }
+  }
+}
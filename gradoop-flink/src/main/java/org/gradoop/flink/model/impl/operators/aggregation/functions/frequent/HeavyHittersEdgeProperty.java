@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.frequent;
+
+import org.gradoop.flink.model.api.functions.EdgeAggregateFunction;
+
+/**
+ * Aggregate function determining the most frequent values of a specified property over all
+ * edges.
+ *
+ * @see HeavyHittersProperty
+ */
+public class HeavyHittersEdgeProperty extends HeavyHittersProperty implements EdgeAggregateFunction {
+
+  /**
+   * Creates a new instance of a HeavyHittersEdgeProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param k number of most frequent values to determine
+   */
+  public HeavyHittersEdgeProperty(String propertyKey, int k) {
+    super(propertyKey, k);
+  }
+
+  /**
+   * Creates a new instance of a HeavyHittersEdgeProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param k number of most frequent values to determine
+   * @param aggregatePropertyKey aggregate property key
+   */
+  public HeavyHittersEdgeProperty(String propertyKey, int k, String aggregatePropertyKey) {
+    super(propertyKey, k, aggregatePropertyKey);
+  }
+}
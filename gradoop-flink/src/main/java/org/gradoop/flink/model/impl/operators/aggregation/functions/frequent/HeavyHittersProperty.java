@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.frequent;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Superclass of aggregate functions that determine the most frequent values of a property.<p>
+ * This aggregate function counts values exactly, as long as there are only a few distinct values.
+ * Otherwise it uses a {@link CountMinSketch Count-Min sketch} internally and tracks a limited
+ * number of candidates, which can be merged without collecting the values. Counts of the result
+ * may be overestimated in this case. The aggregation operator keeps the sketch of a partition
+ * decoded and only encodes it once per partition.<p>
+ * The final value will be a {@link Map} from the {@code k} most frequent values to
+ * their number of occurrences.
+ */
+public class HeavyHittersProperty extends BaseAggregateFunction implements AccumulatingAggregate {
+
+  /**
+   * The number of candidates tracked for each value of the result.
+   */
+  private static final int CANDIDATES_PER_RESULT = 4;
+
+  /**
+   * Property key whose value should be aggregated.
+   */
+  private final String propertyKey;
+
+  /**
+   * The number of values in the result.
+   */
+  private final int k;
+
+  /**
+   * Creates a new instance of a HeavyHittersProperty aggregate function. The aggregate property
+   * key will be the original property key, prefixed with {@code top_}.
+   *
+   * @param propertyKey property key to aggregate
+   * @param k number of most frequent values to determine
+   */
+  public HeavyHittersProperty(String propertyKey, int k) {
+    this(propertyKey, k, "top_" + propertyKey);
+  }
+
+  /**
+   * Creates a new instance of a HeavyHittersProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param k number of most frequent values to determine
+   * @param aggregatePropertyKey aggregate property key
+   */
+  public HeavyHittersProperty(String propertyKey, int k, String aggregatePropertyKey) {
+    super(aggregatePropertyKey);
+    Objects.requireNonNull(propertyKey);
+    if (k < 1) {
+      throw new IllegalArgumentException("At least one value has to be determined.");
+    }
+    this.propertyKey = propertyKey;
+    this.k = k;
+  }
+
+  @Override
+  public PropertyValue getIncrement(Element element) {
+    PropertyValue value = element.getPropertyValue(propertyKey);
+    if (value == null || value.isNull()) {
+      return null;
+    }
+    Map<PropertyValue, PropertyValue> counts = new HashMap<>();
+    counts.put(value, PropertyValue.create(1L));
+    return PropertyValue.create(counts);
+  }
+
+  @Override
+  public PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
+    return CountMinSketch.merge(aggregate, increment, k * CANDIDATES_PER_RESULT);
+  }
+
+  @Override
+  public PropertyValueAccumulator createAccumulator() {
+    return new CountMinSketch.Accumulator(k * CANDIDATES_PER_RESULT);
+  }
+
+  @Override
+  public PropertyValue postAggregate(PropertyValue result) {
+    return PropertyValue.create(CountMinSketch.getMostFrequent(result, k));
+  }
+}
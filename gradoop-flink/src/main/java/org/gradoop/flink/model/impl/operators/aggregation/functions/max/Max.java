@@ -17,10 +17,14 @@ package org.gradoop.flink.model.impl.operators.aggregation.functions.max;
 
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueUtils;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
 /**
  * Interface of aggregate functions that determine a maximal value.
+ * <p>
+ * Implementations may use {@link PropertyValueUtils.NumericAccumulator#max()} instead of
+ * {@link #aggregate} to find the maximum of a partition by implementing {@link AccumulatingAggregate}.
  */
 public interface Max extends AggregateFunction {
 
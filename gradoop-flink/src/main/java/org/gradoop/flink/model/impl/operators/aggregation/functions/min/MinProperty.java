@@ -17,6 +17,9 @@ package org.gradoop.flink.model.impl.operators.aggregation.functions.min;
 
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils.NumericAccumulator;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
 
 import java.util.Objects;
@@ -24,7 +27,7 @@ import java.util.Objects;
 /**
  * Superclass of aggregate functions that determine a minimal property value.
  */
-public class MinProperty extends BaseAggregateFunction implements Min {
+public class MinProperty extends BaseAggregateFunction implements Min, AccumulatingAggregate {
 
   /**
    * Property key whose value should be aggregated.
@@ -56,4 +59,9 @@ public class MinProperty extends BaseAggregateFunction implements Min {
   public PropertyValue getIncrement(Element element) {
     return element.getPropertyValue(propertyKey);
   }
+
+  @Override
+  public PropertyValueAccumulator createAccumulator() {
+    return NumericAccumulator.min();
+  }
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.quantile;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A KLL sketch, used to approximate quantiles of a stream of {@code double} values.<p>
+ * The sketch stores values in levels, a value on level {@code h} represents {@code 2^h} values
+ * of the stream. When a level exceeds its capacity, it is sorted and every second value is moved
+ * to the next level. The capacity of the top level is {@code k}, lower levels have smaller
+ * capacities. Whether the values at odd or even positions are moved is chosen by a random number
+ * generator, which is seeded by {@code k} or by the state of a decoded sketch. Compacting the same
+ * values in the same order therefore always yields the same sketch.<p>
+ * The sketch is stored as a {@link List} of property values. The list contains the number of
+ * levels, the size of each level (starting with level 0) and the values of each level (starting
+ * with the top level). Values of level 0 are therefore stored at the end of the list.
+ * A single {@code double} value is used as the sketch of that value.<p>
+ * An instance of this class is used as an accumulator, which keeps the levels decoded while values
+ * are added. A property value is only created by {@link #getValue()}.
+ */
+final class KllSketch implements PropertyValueAccumulator {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * The factor by which the capacity decreases from one level to the level below.
+   */
+  private static final double CAPACITY_DECAY = 2d / 3d;
+
+  /**
+   * The capacity of the top level.
+   */
+  private final int k;
+
+  /**
+   * The values stored on each level.
+   */
+  private final List<List<Double>> levels;
+
+  /**
+   * Chooses which values of a level are moved to the next level.
+   */
+  private final Random random;
+
+  /**
+   * Create a new, empty sketch.
+   *
+   * @param k The capacity of the top level.
+   */
+  KllSketch(int k) {
+    this.k = k;
+    this.levels = new ArrayList<>();
+    this.random = new Random(k);
+  }
+
+  /**
+   * Create a new sketch from its property value representation. The random number generator is
+   * seeded by the state of the sketch.
+   *
+   * @param k      The capacity of the top level.
+   * @param sketch The sketch or a single value.
+   */
+  private KllSketch(int k, PropertyValue sketch) {
+    this.k = k;
+    this.levels = decode(sketch);
+    this.random = new Random(31L * k + sketch.hashCode());
+  }
+
+  /**
+   * Merge two sketches. The second sketch is not changed.
+   *
+   * @param sketch The sketch to update.
+   * @param other  The sketch to merge.
+   * @param k      The capacity of the top level.
+   * @return The merged sketch.
+   */
+  static PropertyValue merge(PropertyValue sketch, PropertyValue other, int k) {
+    KllSketch merged = new KllSketch(k, sketch);
+    merged.add(other);
+    return merged.getValue();
+  }
+
+  /**
+   * Get an approximation of a quantile of the values added to a sketch.
+   *
+   * @param sketch   The sketch.
+   * @param quantile The quantile, between 0 and 1.
+   * @return The approximated quantile.
+   */
+  static double getQuantile(PropertyValue sketch, double quantile) {
+    if (!sketch.isList()) {
+      return sketch.getDouble();
+    }
+    List<List<Double>> decoded = decode(sketch);
+    List<double[]> weighted = new ArrayList<>();
+    long totalWeight = 0L;
+    for (int level = 0; level < decoded.size(); level++) {
+      for (double value : decoded.get(level)) {
+        weighted.add(new double[] {value, 1L << level});
+      }
+      totalWeight += (long) decoded.get(level).size() << level;
+    }
+    weighted.sort((first, second) -> Double.compare(first[0], second[0]));
+    double rank = quantile * totalWeight;
+    double weight = 0d;
+    for (double[] value : weighted) {
+      weight += value[1];
+      if (weight >= rank) {
+        return value[0];
+      }
+    }
+    return weighted.get(weighted.size() - 1)[0];
+  }
+
+  /**
+   * Adds a sketch, which may be a single value, to this sketch.
+   *
+   * @param sketch The sketch.
+   */
+  @Override
+  public void add(PropertyValue sketch) {
+    if (levels.isEmpty()) {
+      levels.add(new ArrayList<>());
+    }
+    if (!sketch.isList()) {
+      List<Double> values = levels.get(0);
+      values.add(sketch.getDouble());
+      if (values.size() > capacity(k, 0, levels.size())) {
+        compress();
+      }
+      return;
+    }
+    List<List<Double>> otherLevels = decode(sketch);
+    for (int level = 0; level < otherLevels.size(); level++) {
+      if (level == levels.size()) {
+        levels.add(new ArrayList<>());
+      }
+      levels.get(level).addAll(otherLevels.get(level));
+    }
+    compress();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return levels.isEmpty();
+  }
+
+  @Override
+  public PropertyValue getValue() {
+    return levels.isEmpty() ? null : PropertyValue.create(toList());
+  }
+
+  @Override
+  public void reset() {
+    levels.clear();
+    random.setSeed(k);
+  }
+
+  /**
+   * Decode the levels of a sketch.
+   *
+   * @param sketch The sketch or a single value.
+   * @return The values stored on each level.
+   */
+  private static List<List<Double>> decode(PropertyValue sketch) {
+    List<List<Double>> decoded = new ArrayList<>();
+    if (!sketch.isList()) {
+      decoded.add(new ArrayList<>(Collections.singletonList(sketch.getDouble())));
+      return decoded;
+    }
+    List<PropertyValue> values = sketch.getList();
+    int levelCount = values.get(0).getInt();
+    int offset = values.size();
+    for (int level = 0; level < levelCount; level++) {
+      int size = values.get(level + 1).getInt();
+      List<Double> levelValues = new ArrayList<>(size);
+      for (int i = offset - size; i < offset; i++) {
+        levelValues.add(values.get(i).getDouble());
+      }
+      decoded.add(levelValues);
+      offset -= size;
+    }
+    return decoded;
+  }
+
+  /**
+   * Get the capacity of a level.
+   *
+   * @param k          The capacity of the top level.
+   * @param level      The level.
+   * @param levelCount The number of levels.
+   * @return The maximum number of values stored on this level.
+   */
+  private static int capacity(int k, int level, int levelCount) {
+    return Math.max(2, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, levelCount - level - 1)));
+  }
+
+  /**
+   * Compact levels until no level exceeds its capacity.
+   */
+  private void compress() {
+    int level = 0;
+    while (level < levels.size()) {
+      List<Double> values = levels.get(level);
+      if (values.size() <= capacity(k, level, levels.size())) {
+        level++;
+        continue;
+      }
+      if (level + 1 == levels.size()) {
+        levels.add(new ArrayList<>());
+      }
+      Collections.sort(values);
+      // Keep a single value if the size is odd, move every second other value to the next level.
+      int keep = values.size() % 2;
+      List<Double> next = levels.get(level + 1);
+      for (int i = keep + random.nextInt(2); i < values.size(); i += 2) {
+        next.add(values.get(i));
+      }
+      values.subList(keep, values.size()).clear();
+      // Adding a level decreases the capacity of all levels below, start again.
+      level = 0;
+    }
+  }
+
+  /**
+   * Get the property value representation of this sketch.
+   *
+   * @return The list representation of this sketch.
+   */
+  private List<PropertyValue> toList() {
+    List<PropertyValue> values = new ArrayList<>();
+    values.add(PropertyValue.create(levels.size()));
+    for (List<Double> level : levels) {
+      values.add(PropertyValue.create(level.size()));
+    }
+    for (int level = levels.size() - 1; level >= 0; level--) {
+      for (double value : levels.get(level)) {
+        values.add(PropertyValue.create(value));
+      }
+    }
+    return values;
+  }
+}
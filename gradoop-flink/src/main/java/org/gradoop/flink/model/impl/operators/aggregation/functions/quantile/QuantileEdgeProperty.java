@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.quantile;
+
+import org.gradoop.flink.model.api.functions.EdgeAggregateFunction;
+
+/**
+ * Aggregate function approximating a quantile of a specified property over all edges.
+ *
+ * @see QuantileProperty
+ */
+public class QuantileEdgeProperty extends QuantileProperty implements EdgeAggregateFunction {
+
+  /**
+   * Creates a new instance of a QuantileEdgeProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile to approximate, between 0 and 1
+   */
+  public QuantileEdgeProperty(String propertyKey, double quantile) {
+    super(propertyKey, quantile);
+  }
+
+  /**
+   * Creates a new instance of a QuantileEdgeProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile to approximate, between 0 and 1
+   * @param aggregatePropertyKey aggregate property key
+   */
+  public QuantileEdgeProperty(String propertyKey, double quantile, String aggregatePropertyKey) {
+    super(propertyKey, quantile, aggregatePropertyKey);
+  }
+
+  /**
+   * Creates a new instance of a QuantileEdgeProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile to approximate, between 0 and 1
+   * @param aggregatePropertyKey aggregate property key
+   * @param k capacity of the sketch, larger values increase accuracy and size of the sketch
+   */
+  public QuantileEdgeProperty(String propertyKey, double quantile, String aggregatePropertyKey,
+    int k) {
+    super(propertyKey, quantile, aggregatePropertyKey, k);
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.quantile;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
+
+import java.util.Objects;
+
+/**
+ * Superclass of aggregate functions that approximate a quantile of a numeric property value,
+ * e.g. the median.<p>
+ * This aggregate function uses a {@link KllSketch KLL sketch} internally, which can be merged
+ * without collecting the values. The result is exact as long as there are at most {@code k}
+ * values, otherwise the rank of the result deviates from the requested rank by about
+ * {@code 1.7 / k} of all values. The aggregation operator keeps the sketch of a partition
+ * decoded and only encodes it once per partition.<p>
+ * The final value will be a {@code double} value.
+ */
+public class QuantileProperty extends BaseAggregateFunction implements AccumulatingAggregate {
+
+  /**
+   * The default capacity of the sketch, about 1% rank error.
+   */
+  public static final int DEFAULT_K = 200;
+
+  /**
+   * Property key whose value should be aggregated.
+   */
+  private final String propertyKey;
+
+  /**
+   * The quantile to approximate.
+   */
+  private final double quantile;
+
+  /**
+   * The capacity of the sketch.
+   */
+  private final int k;
+
+  /**
+   * Creates a new instance of a QuantileProperty aggregate function. The aggregate property key
+   * will be the original property key, prefixed with {@code p} and the percentile, e.g.
+   * {@code p50_age} for the median of {@code age}.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile to approximate, between 0 and 1
+   */
+  public QuantileProperty(String propertyKey, double quantile) {
+    this(propertyKey, quantile, "p" + Math.round(quantile * 100) + "_" + propertyKey);
+  }
+
+  /**
+   * Creates a new instance of a QuantileProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile to approximate, between 0 and 1
+   * @param aggregatePropertyKey aggregate property key
+   */
+  public QuantileProperty(String propertyKey, double quantile, String aggregatePropertyKey) {
+    this(propertyKey, quantile, aggregatePropertyKey, DEFAULT_K);
+  }
+
+  /**
+   * Creates a new instance of a QuantileProperty aggregate function.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile to approximate, between 0 and 1
+   * @param aggregatePropertyKey aggregate property key
+   * @param k capacity of the sketch, larger values increase accuracy and size of the sketch
+   */
+  public QuantileProperty(String propertyKey, double quantile, String aggregatePropertyKey,
+    int k) {
+    super(aggregatePropertyKey);
+    Objects.requireNonNull(propertyKey);
+    if (quantile < 0d || quantile > 1d) {
+      throw new IllegalArgumentException("Quantile has to be between 0 and 1.");
+    }
+    if (k < 8) {
+      throw new IllegalArgumentException("Capacity has to be at least 8.");
+    }
+    this.propertyKey = propertyKey;
+    this.quantile = quantile;
+    this.k = k;
+  }
+
+  @Override
+  public PropertyValue getIncrement(Element element) {
+    PropertyValue value = element.getPropertyValue(propertyKey);
+    if (value == null || value.isNull()) {
+      return null;
+    } else if (!value.isNumber()) {
+      throw new IllegalArgumentException("Property value has to be a number.");
+    }
+    return PropertyValue.create(((Number) value.getObject()).doubleValue());
+  }
+
+  @Override
+  public PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
+    return KllSketch.merge(aggregate, increment, k);
+  }
+
+  @Override
+  public PropertyValueAccumulator createAccumulator() {
+    return new KllSketch(k);
+  }
+
+  @Override
+  public PropertyValue postAggregate(PropertyValue result) {
+    return PropertyValue.create(KllSketch.getQuantile(result, quantile));
+  }
+}
@@ -17,10 +17,14 @@ package org.gradoop.flink.model.impl.operators.aggregation.functions.sum;
 
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueUtils;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
 /**
  * Interface of summing aggregate functions
+ * <p>
+ * Implementations may compute partial sums using {@link PropertyValueUtils.NumericAccumulator#sum()}
+ * by implementing {@link AccumulatingAggregate}, which yields the same result as {@link #aggregate}.
  */
 public interface Sum extends AggregateFunction {
 
@@ -17,6 +17,9 @@ package org.gradoop.flink.model.impl.operators.aggregation.functions.sum;
 
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils.NumericAccumulator;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.BaseAggregateFunction;
 
 import java.util.Objects;
@@ -24,7 +27,7 @@ import java.util.Objects;
 /**
  * Superclass of aggregate functions that sum property values of elements.
  */
-public class SumProperty extends BaseAggregateFunction implements Sum {
+public class SumProperty extends BaseAggregateFunction implements Sum, AccumulatingAggregate {
 
   /**
    * Property key whose value should be aggregated.
@@ -56,4 +59,9 @@ public class SumProperty extends BaseAggregateFunction implements Sum {
   public PropertyValue getIncrement(Element element) {
     return element.getPropertyValue(propertyKey);
   }
+
+  @Override
+  public PropertyValueAccumulator createAccumulator() {
+    return NumericAccumulator.sum();
+  }
 }
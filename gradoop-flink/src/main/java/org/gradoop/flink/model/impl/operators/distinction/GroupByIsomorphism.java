@@ -16,16 +16,28 @@
 package org.gradoop.flink.model.impl.operators.distinction;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
 import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.api.epgm.BaseGraph;
 import org.gradoop.flink.model.api.epgm.BaseGraphCollection;
 import org.gradoop.flink.model.api.functions.GraphHeadReduceFunction;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.utils.LeftSide;
+import org.gradoop.flink.model.impl.operators.distinction.functions.CanonicalClass;
+import org.gradoop.flink.model.impl.operators.distinction.functions.CanonicalClassLabel;
+import org.gradoop.flink.model.impl.operators.distinction.functions.DigestWithInvariant;
+import org.gradoop.flink.model.impl.operators.distinction.functions.EdgeInvariants;
 import org.gradoop.flink.model.impl.operators.distinction.functions.GraphHeadGroup;
+import org.gradoop.flink.model.impl.operators.distinction.functions.GraphHeadInvariant;
+import org.gradoop.flink.model.impl.operators.distinction.functions.MixInvariant;
+import org.gradoop.flink.model.impl.operators.distinction.functions.SharedInvariant;
+import org.gradoop.flink.model.impl.operators.distinction.functions.VertexInvariant;
 import org.gradoop.flink.model.impl.operators.selection.SelectionBase;
-import org.gradoop.flink.model.impl.operators.tostring.CanonicalAdjacencyMatrixBuilder;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalAdjacencyMatrixDigestBuilder;
 import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadToEmptyString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.VertexToDataString;
@@ -74,19 +86,61 @@ public class GroupByIsomorphism<
   }
 
   /**
-   * Creates a canonical label for each graph in a collection.
+   * Creates a canonical label for each graph in a collection. Labels are compact class
+   * identifiers, i.e., isomorphic graphs share the same label.
+   *
+   * A cheap invariant (vertex labels, edge labels and degrees) is computed for every graph first.
+   * Graphs with a unique invariant represent their own class. For graphs sharing their
+   * invariant with others, a 128-bit digest of the canonical adjacency matrix is built and
+   * graphs are grouped by it. The canonical strings themselves are never built or shipped.
    *
    * @param collection input collection
    * @return graph head label set
    */
   DataSet<GraphHeadString> getCanonicalLabels(GC collection) {
-    // Init builder for canonical labels
-    CanonicalAdjacencyMatrixBuilder<G, V, E, LG, GC> camBuilder =
-      new CanonicalAdjacencyMatrixBuilder<>(
+    // (graphId, vertexId, invariant)
+    DataSet<Tuple3<GradoopId, GradoopId, Long>> vertexInvariants = collection.getVertices()
+      .flatMap(new VertexInvariant<>())
+      .union(collection.getEdges()
+        .flatMap(new EdgeInvariants<>()))
+      .groupBy(0, 1)
+      .sum(2)
+      .map(new MixInvariant());
+
+    // (graphId, invariant)
+    DataSet<Tuple2<GradoopId, Long>> graphInvariants = collection.getGraphHeads()
+      .leftOuterJoin(vertexInvariants
+        .groupBy(0)
+        .sum(2))
+      .where(new Id<>()).equalTo(0)
+      .with(new GraphHeadInvariant<>());
+
+    DataSet<Tuple2<GradoopId, Long>> sharedInvariants = graphInvariants
+      .groupBy(1)
+      .reduceGroup(new SharedInvariant());
+
+    DataSet<G> sharedGraphHeads = collection.getGraphHeads()
+      .join(sharedInvariants)
+      .where(new Id<>()).equalTo(0)
+      .with(new LeftSide<>());
+
+    // Init builder for canonical adjacency matrix digests
+    CanonicalAdjacencyMatrixDigestBuilder<G, V, E, LG, GC> digestBuilder =
+      new CanonicalAdjacencyMatrixDigestBuilder<>(
       new GraphHeadToEmptyString<>(),  new VertexToDataString<>(), new EdgeToDataString<>(), true);
 
-    // create canonical labels for all graph heads and choose representative for all distinct ones
-    return camBuilder
-      .getGraphHeadStrings(collection);
+    // create digests for graphs of shared invariants and group them by digest
+    DataSet<GraphHeadString> canonicalClasses = digestBuilder
+      .getGraphHeadDigests(selectVerticesAndEdges(collection, sharedGraphHeads))
+      .join(sharedInvariants)
+      .where(0).equalTo(0)
+      .with(new DigestWithInvariant())
+      .groupBy(1, 2)
+      .reduceGroup(new CanonicalClass());
+
+    return graphInvariants
+      .leftOuterJoin(canonicalClasses)
+      .where(0).equalTo(0)
+      .with(new CanonicalClassLabel());
   }
 }
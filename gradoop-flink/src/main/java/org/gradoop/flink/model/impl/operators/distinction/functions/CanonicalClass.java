@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.distinction.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Assigns graphs of equal canonical adjacency matrix digests to the same class. The class is
+ * represented by the id of one of its graphs. Invariants are compared only if digests collide,
+ * as graphs of different invariants cannot be isomorphic.
+ *
+ * {@code (graphId, digestHigh, digestLow, invariant),.. -> (graphId, representativeId),..}
+ */
+public class CanonicalClass implements
+  GroupReduceFunction<Tuple4<GradoopId, Long, Long, Long>, GraphHeadString> {
+
+  @Override
+  public void reduce(Iterable<Tuple4<GradoopId, Long, Long, Long>> iterable,
+    Collector<GraphHeadString> out) throws Exception {
+    // usually, all invariants of a group are equal
+    List<Long> invariants = new ArrayList<>(1);
+    List<String> representatives = new ArrayList<>(1);
+
+    for (Tuple4<GradoopId, Long, Long, Long> graphDigest : iterable) {
+      int index = invariants.indexOf(graphDigest.f3);
+
+      if (index < 0) {
+        index = invariants.size();
+        invariants.add(graphDigest.f3);
+        representatives.add(graphDigest.f0.toString());
+      }
+
+      out.collect(new GraphHeadString(graphDigest.f0, representatives.get(index)));
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.distinction.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+
+/**
+ * {@code (graphId, invariant) x (graphId, representativeId) -> (graphId, representativeId)}
+ *
+ * A graph without class (i.e., with a unique invariant) represents itself.
+ */
+public class CanonicalClassLabel implements
+  JoinFunction<Tuple2<GradoopId, Long>, GraphHeadString, GraphHeadString> {
+
+  @Override
+  public GraphHeadString join(Tuple2<GradoopId, Long> invariant,
+    GraphHeadString canonicalClass) throws Exception {
+    return canonicalClass != null ? canonicalClass :
+      new GraphHeadString(invariant.f0, invariant.f0.toString());
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.distinction.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadDigest;
+
+/**
+ * {@code (graphId, digestHigh, digestLow) x (graphId, invariant) ->
+ * (graphId, digestHigh, digestLow, invariant)}
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0;f1;f2")
+@FunctionAnnotation.ForwardedFieldsSecond("f1->f3")
+public class DigestWithInvariant implements JoinFunction
+  <GraphHeadDigest, Tuple2<GradoopId, Long>, Tuple4<GradoopId, Long, Long, Long>> {
+
+  @Override
+  public Tuple4<GradoopId, Long, Long, Long> join(GraphHeadDigest graphHeadDigest,
+    Tuple2<GradoopId, Long> invariant) throws Exception {
+    return new Tuple4<>(
+      graphHeadDigest.f0, graphHeadDigest.f1, graphHeadDigest.f2, invariant.f1);
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.distinction.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * {@code edge -> (graphId, sourceId, hash(outgoing label)), (graphId, targetId, hash(incoming
+ * label)),..}
+ *
+ * @param <E> edge type
+ */
+public class EdgeInvariants<E extends Edge>
+  implements FlatMapFunction<E, Tuple3<GradoopId, GradoopId, Long>> {
+
+  /**
+   * prefix of outgoing edge labels
+   */
+  private static final String OUTGOING = ">";
+  /**
+   * prefix of incoming edge labels
+   */
+  private static final String INCOMING = "<";
+
+  @Override
+  public void flatMap(E edge, Collector<Tuple3<GradoopId, GradoopId, Long>> out) throws
+    Exception {
+    long outgoingHash = InvariantHash.hash(OUTGOING + edge.getLabel());
+    long incomingHash = InvariantHash.hash(INCOMING + edge.getLabel());
+
+    for (GradoopId graphId : edge.getGraphIds()) {
+      out.collect(new Tuple3<>(graphId, edge.getSourceId(), outgoingHash));
+      out.collect(new Tuple3<>(graphId, edge.getTargetId(), incomingHash));
+    }
+  }
+}
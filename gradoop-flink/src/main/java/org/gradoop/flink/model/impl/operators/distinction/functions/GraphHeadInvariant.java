@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.distinction.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.api.entities.GraphHead;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * {@code graphHead x (graphId, *, invariant) -> (graphId, invariant)}
+ *
+ * Graphs without vertices have the invariant {@code 0}.
+ *
+ * @param <G> graph head type
+ */
+public class GraphHeadInvariant<G extends GraphHead>
+  implements JoinFunction<G, Tuple3<GradoopId, GradoopId, Long>, Tuple2<GradoopId, Long>> {
+
+  @Override
+  public Tuple2<GradoopId, Long> join(G graphHead,
+    Tuple3<GradoopId, GradoopId, Long> invariant) throws Exception {
+    return new Tuple2<>(graphHead.getId(), invariant == null ? 0L : invariant.f2);
+  }
+}
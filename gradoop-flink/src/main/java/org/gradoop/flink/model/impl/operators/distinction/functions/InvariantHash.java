@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.distinction.functions;
+
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Hash functions to derive isomorphism invariants of graphs. Invariants are combined by summing
+ * up mixed hash values which makes them independent of element order.
+ */
+public final class InvariantHash {
+
+  /**
+   * No instances.
+   */
+  private InvariantHash() {
+  }
+
+  /**
+   * 64-bit hash of a string.
+   *
+   * @param value string
+   * @return hash value
+   */
+  public static long hash(String value) {
+    return Hashing.murmur3_128().hashString(value, StandardCharsets.UTF_8).asLong();
+  }
+
+  /**
+   * Mixes the bits of a (summed up) hash value, such that a sum of mixed values does not
+   * just reflect the sum of the original values.
+   *
+   * @param value hash value
+   * @return mixed value
+   */
+  public static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+    value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+    return value ^ (value >>> 31);
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.distinction.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * {@code (graphId, vertexId, invariant) -> (graphId, vertexId, mix(invariant))}
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1")
+public class MixInvariant implements
+  MapFunction<Tuple3<GradoopId, GradoopId, Long>, Tuple3<GradoopId, GradoopId, Long>> {
+
+  @Override
+  public Tuple3<GradoopId, GradoopId, Long> map(
+    Tuple3<GradoopId, GradoopId, Long> invariant) throws Exception {
+    invariant.f2 = InvariantHash.mix(invariant.f2);
+    return invariant;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.distinction.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.Iterator;
+
+/**
+ * Filters graphs whose invariant is shared by at least one other graph. Graphs with a unique
+ * invariant are not isomorphic to any other graph.
+ *
+ * {@code (graphId, invariant),.. -> (graphId, invariant),..}
+ */
+public class SharedInvariant
+  implements GroupReduceFunction<Tuple2<GradoopId, Long>, Tuple2<GradoopId, Long>> {
+
+  @Override
+  public void reduce(Iterable<Tuple2<GradoopId, Long>> iterable,
+    Collector<Tuple2<GradoopId, Long>> out) throws Exception {
+    Iterator<Tuple2<GradoopId, Long>> iterator = iterable.iterator();
+
+    Tuple2<GradoopId, Long> first = iterator.next();
+
+    if (iterator.hasNext()) {
+      out.collect(first);
+
+      while (iterator.hasNext()) {
+        out.collect(iterator.next());
+      }
+    }
+  }
+}
@@ -23,7 +23,7 @@ import org.gradoop.flink.model.api.epgm.BaseGraph;
 import org.gradoop.flink.model.api.epgm.BaseGraphCollection;
 import org.gradoop.flink.model.api.operators.BinaryBaseGraphCollectionToValueOperator;
 import org.gradoop.flink.model.impl.functions.bool.Equals;
-import org.gradoop.flink.model.impl.operators.tostring.CanonicalAdjacencyMatrixBuilder;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalAdjacencyMatrixDigestBuilder;
 import org.gradoop.flink.model.impl.operators.tostring.api.EdgeToString;
 import org.gradoop.flink.model.impl.operators.tostring.api.GraphHeadToString;
 import org.gradoop.flink.model.impl.operators.tostring.api.VertexToString;
@@ -47,9 +47,10 @@ public class CollectionEquality<
   implements BinaryBaseGraphCollectionToValueOperator<GC, DataSet<Boolean>> {
 
   /**
-   * builder to create the string representations of graph collections used for comparison.
+   * builder to create the digests of graph collections used for comparison.
    */
-  private final CanonicalAdjacencyMatrixBuilder<G, V, E, LG, GC> canonicalAdjacencyMatrixBuilder;
+  private final CanonicalAdjacencyMatrixDigestBuilder<G, V, E, LG, GC>
+    canonicalAdjacencyMatrixBuilder;
 
   /**
    * Constructor to set string representations.
@@ -62,7 +63,7 @@ public class CollectionEquality<
   public CollectionEquality(GraphHeadToString<G> graphHeadToString,
     VertexToString<V> vertexToString, EdgeToString<E> edgeToString, boolean directed) {
     // sets mode for directed or undirected graphs
-    this.canonicalAdjacencyMatrixBuilder = new CanonicalAdjacencyMatrixBuilder<>(
+    this.canonicalAdjacencyMatrixBuilder = new CanonicalAdjacencyMatrixDigestBuilder<>(
       graphHeadToString, vertexToString, edgeToString, directed);
   }
 
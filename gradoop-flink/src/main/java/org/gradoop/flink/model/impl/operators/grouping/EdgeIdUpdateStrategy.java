@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+/**
+ * Used to define how the source- and target-IDs of edges are updated to the IDs of their
+ * super-vertices, using the mapping from vertex-ID to super-vertex-ID.
+ */
+public enum EdgeIdUpdateStrategy {
+  /**
+   * Join the edges with the mapping on the source-ID and again on the target-ID.
+   * The edges are repartitioned once for every join.
+   */
+  REPARTITION,
+  /**
+   * Partition the edges by source-ID once. The distinct (source-ID, target-ID) pairs of the edges
+   * are joined with the mapping, which is co-partitioned on the vertex-ID for the source-ID join.
+   * The edges are then updated by a single join with those pairs, which does not repartition the
+   * edges again. This is suited for large mappings, especially if edges share their endpoints.
+   */
+  DISTINCT_ENDPOINTS,
+  /**
+   * Broadcast the mapping to every task and update the edges without repartitioning them.
+   * The whole mapping has to fit into the memory of every task. This should therefore only be
+   * used if the number of vertices is small.
+   */
+  BROADCAST
+}
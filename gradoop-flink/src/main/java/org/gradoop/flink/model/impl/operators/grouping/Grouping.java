@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.model.impl.operators.grouping;
 
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.operators.UnsortedGrouping;
 import org.gradoop.common.model.api.entities.Edge;
@@ -135,6 +136,11 @@ public abstract class Grouping<
    */
   private final boolean retainVerticesWithoutGroup;
 
+  /**
+   * The strategy used to update the source and target ids of the edges.
+   */
+  private final EdgeIdUpdateStrategy edgeIdUpdateStrategy;
+
   /**
    * Creates grouping operator instance.
    *
@@ -144,14 +150,18 @@ public abstract class Grouping<
    * @param edgeLabelGroups             stores grouping properties for edge labels
    * @param retainVerticesWithoutGroup  a flag to retain vertices that are not affected by the
    *                                    grouping
+   * @param edgeIdUpdateStrategy        the strategy used to update the source and target ids
+   *                                    of the edges
    */
   Grouping(boolean useVertexLabels, boolean useEdgeLabels, List<LabelGroup> vertexLabelGroups,
-    List<LabelGroup> edgeLabelGroups, boolean retainVerticesWithoutGroup) {
+    List<LabelGroup> edgeLabelGroups, boolean retainVerticesWithoutGroup,
+    EdgeIdUpdateStrategy edgeIdUpdateStrategy) {
     this.useVertexLabels = useVertexLabels;
     this.useEdgeLabels = useEdgeLabels;
     this.vertexLabelGroups = vertexLabelGroups;
     this.edgeLabelGroups = edgeLabelGroups;
     this.retainVerticesWithoutGroup = retainVerticesWithoutGroup;
+    this.edgeIdUpdateStrategy = edgeIdUpdateStrategy;
   }
 
   @Override
@@ -224,6 +234,15 @@ public abstract class Grouping<
     return vertexLabelGroups;
   }
 
+  /**
+   * Returns the strategy used to update the source and target ids of the edges.
+   *
+   * @return edge id update strategy
+   */
+  protected EdgeIdUpdateStrategy getEdgeIdUpdateStrategy() {
+    return edgeIdUpdateStrategy;
+  }
+
   /**
    * Returns tuple which contains the properties used for a specific edge label.
    *
@@ -274,6 +293,7 @@ public abstract class Grouping<
 
   /**
    * Build super edges by joining them with vertices and their super vertex.
+   * The join is executed according to the {@link EdgeIdUpdateStrategy}.
    *
    * @param edgeFactory edgeFactory
    * @param edgesToGroup input edgesToGroup
@@ -285,21 +305,31 @@ public abstract class Grouping<
     DataSet<E> edgesToGroup,
     DataSet<VertexWithSuperVertex> vertexToRepresentativeMap) {
 
+    // build edge group items
     DataSet<EdgeGroupItem> edges = edgesToGroup
-      // build edge group items
-      .flatMap(new BuildEdgeGroupItem<>(useEdgeLabels(), getEdgeLabelGroups()))
-      // join edges with vertex-group-map on source-id == vertex-id
-      .join(vertexToRepresentativeMap)
-      .where(0).equalTo(0)
-      .with(new UpdateEdgeGroupItem(0))
-      .withForwardedFieldsFirst("f1;f2;f3;f4")
-      .withForwardedFieldsSecond("f1->f0")
-      // join result with vertex-group-map on target-id == vertex-id
-      .join(vertexToRepresentativeMap)
-      .where(1).equalTo(0)
-      .with(new UpdateEdgeGroupItem(1))
-      .withForwardedFieldsFirst("f0;f2;f3;f4")
-      .withForwardedFieldsSecond("f1->f1");
+      .flatMap(new BuildEdgeGroupItem<>(useEdgeLabels(), getEdgeLabelGroups()));
+
+    if (getEdgeIdUpdateStrategy() == EdgeIdUpdateStrategy.DISTINCT_ENDPOINTS) {
+      // join edges with the vertex-group-map on their distinct (source-id, target-id) pairs
+      edges = KeyedGroupingUtils.updateEdgeIdsByEndpoints(edges, vertexToRepresentativeMap, 0, 1);
+    } else {
+      JoinHint joinHint = getEdgeIdUpdateStrategy() == EdgeIdUpdateStrategy.BROADCAST ?
+        JoinHint.BROADCAST_HASH_SECOND : JoinHint.OPTIMIZER_CHOOSES;
+
+      edges = edges
+        // join edges with vertex-group-map on source-id == vertex-id
+        .join(vertexToRepresentativeMap, joinHint)
+        .where(0).equalTo(0)
+        .with(new UpdateEdgeGroupItem(0))
+        .withForwardedFieldsFirst("f1;f2;f3;f4")
+        .withForwardedFieldsSecond("f1->f0")
+        // join result with vertex-group-map on target-id == vertex-id
+        .join(vertexToRepresentativeMap, joinHint)
+        .where(1).equalTo(0)
+        .with(new UpdateEdgeGroupItem(1))
+        .withForwardedFieldsFirst("f0;f2;f3;f4")
+        .withForwardedFieldsSecond("f1->f1");
+    }
 
     // group + combine
     DataSet<EdgeGroupItem> combinedEdges = groupEdges(edges)
@@ -416,6 +446,11 @@ public abstract class Grouping<
      */
     private boolean retainVerticesWithoutGroup;
 
+    /**
+     * The strategy used to update the source and target ids of the edges.
+     */
+    private EdgeIdUpdateStrategy edgeIdUpdateStrategy = EdgeIdUpdateStrategy.REPARTITION;
+
     /**
      * Creates a new grouping builder
      */
@@ -664,6 +699,19 @@ public abstract class Grouping<
       return this;
     }
 
+    /**
+     * Set the strategy used to update the source and target ids of the edges to the ids of their
+     * super vertices. See {@link EdgeIdUpdateStrategy}.
+     *
+     * @param edgeIdUpdateStrategy edge id update strategy
+     * @return this builder
+     */
+    public GroupingBuilder setEdgeIdUpdateStrategy(EdgeIdUpdateStrategy edgeIdUpdateStrategy) {
+      Objects.requireNonNull(edgeIdUpdateStrategy);
+      this.edgeIdUpdateStrategy = edgeIdUpdateStrategy;
+      return this;
+    }
+
     /**
      * Define, if the edge label shall be used for grouping edges.
      *
@@ -771,12 +819,12 @@ public abstract class Grouping<
       case GROUP_REDUCE:
         groupingOperator = new GroupingGroupReduce<>(
           useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups,
-          retainVerticesWithoutGroup);
+          retainVerticesWithoutGroup, edgeIdUpdateStrategy);
         break;
       case GROUP_COMBINE:
         groupingOperator = new GroupingGroupCombine<>(
           useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups,
-          retainVerticesWithoutGroup);
+          retainVerticesWithoutGroup, edgeIdUpdateStrategy);
         break;
       case GROUP_WITH_KEYFUNCTIONS:
         if (retainVerticesWithoutGroup) {
@@ -785,7 +833,8 @@ public abstract class Grouping<
         }
         groupingOperator = KeyedGroupingUtils.createInstance(
           useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups,
-          globalVertexAggregateFunctions, globalEdgeAggregateFunctions);
+          globalVertexAggregateFunctions, globalEdgeAggregateFunctions)
+          .setEdgeIdUpdateStrategy(edgeIdUpdateStrategy);
         break;
       default:
         throw new IllegalArgumentException("Unsupported strategy: " + strategy);
@@ -78,12 +78,15 @@ public class GroupingGroupReduce<
    * @param edgeLabelGroups             stores grouping properties for edge labels
    * @param retainVerticesWithoutGroup  a flag to retain vertices that are not affected by the
    *                                    grouping
+   * @param edgeIdUpdateStrategy        the strategy used to update the source and target ids
+   *                                    of the edges
    */
   GroupingGroupReduce(boolean useVertexLabels, boolean useEdgeLabels,
     List<LabelGroup> vertexLabelGroups, List<LabelGroup> edgeLabelGroups,
-    boolean retainVerticesWithoutGroup) {
+    boolean retainVerticesWithoutGroup,
+    EdgeIdUpdateStrategy edgeIdUpdateStrategy) {
     super(useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups,
-      retainVerticesWithoutGroup);
+      retainVerticesWithoutGroup, edgeIdUpdateStrategy);
   }
 
   @Override
@@ -15,6 +15,10 @@
  */
 package org.gradoop.flink.model.impl.operators.keyedgrouping;
 
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+import org.apache.flink.api.common.operators.base.ReduceOperatorBase.CombineHint;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple2;
@@ -27,19 +31,29 @@ import org.gradoop.flink.model.api.epgm.BaseGraphCollection;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.KeyFunction;
 import org.gradoop.flink.model.api.operators.UnaryBaseGraphToBaseGraphOperator;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.SourceId;
+import org.gradoop.flink.model.impl.functions.epgm.TargetId;
 import org.gradoop.flink.model.impl.functions.filters.Not;
+import org.gradoop.flink.model.impl.functions.utils.LeftSide;
+import org.gradoop.flink.model.impl.operators.grouping.EdgeIdUpdateStrategy;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildSuperEdgeFromTuple;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildSuperVertexFromTuple;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildSuperVertexIdFromKeys;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildTuplesFromEdges;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildTuplesFromSuperEdges;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildTuplesFromSuperVertices;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildTuplesFromVertices;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.FilterSuperVertices;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.ReduceEdgeTuples;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.ReduceSuperVertexTuples;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.ReduceVertexTuples;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.UpdateIdField;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.IntStream;
 
 /**
@@ -93,6 +107,32 @@ public class KeyedGrouping<
    */
   private boolean useGroupCombine = true;
 
+  /**
+   * Should super vertex IDs be derived from the grouping keys? This allows the vertex reduce step
+   * to be combined, which avoids skew caused by large groups.
+   */
+  private boolean useSkewResistance = false;
+
+  /**
+   * Should the edge combine step be hash-based instead of sort-based?
+   */
+  private boolean useHashCombine = false;
+
+  /**
+   * How should the mapping from vertex-ID to super-vertex-ID be applied to the edges?
+   */
+  private EdgeIdUpdateStrategy edgeIdUpdateStrategy = EdgeIdUpdateStrategy.REPARTITION;
+
+  /**
+   * Should partial aggregate values be stored on super-elements, to allow incremental updates?
+   */
+  private boolean retainPartialAggregates = false;
+
+  /**
+   * Is the input graph a summary graph with partial aggregates retained?
+   */
+  private boolean aggregatedInput = false;
+
   /**
    * Instantiate this grouping function.
    *
@@ -125,47 +165,255 @@ public class KeyedGrouping<
     /* First we create tuple representations of each vertex.
        Those tuples will then be grouped by the respective key fields (the fields containing the values
        extracted by the key functions) and reduced to assign a super vertex and to calculate aggregates. */
-    DataSet<Tuple> verticesWithSuperVertex = graph.getVertices()
+    DataSet<Tuple> verticesWithSuperVertex;
+    DataSet<Tuple2<GradoopId, GradoopId>> idToSuperId;
+    if (useSkewResistance) {
+      /* Super vertex IDs are derived from the key fields, the mapping from vertex-ID to super-vertex-ID
+         is therefore known without grouping. Super vertices are reduced with a combine step, i.e. every
+         task sends at most one tuple per group, no matter how large the group is. */
+      DataSet<Tuple> verticesWithSuperId = buildVertexTuples(graph)
+        .map(new BuildSuperVertexIdFromKeys<>(getVertexKeyTypes(), GradoopId.get()));
+      idToSuperId = verticesWithSuperId
+        .project(GroupingConstants.VERTEX_TUPLE_ID, GroupingConstants.VERTEX_TUPLE_SUPERID);
+      verticesWithSuperVertex = verticesWithSuperId
+        .groupBy(getInternalVertexGroupingKeys())
+        .reduceGroup(new ReduceSuperVertexTuples<>(
+          GroupingConstants.VERTEX_TUPLE_RESERVED + vertexGroupingKeys.size(), vertexAggregateFunctions))
+        .setCombinable(true);
+    } else {
+      verticesWithSuperVertex = buildVertexTuples(graph)
+        .groupBy(getInternalVertexGroupingKeys())
+        .reduceGroup(new ReduceVertexTuples<>(
+          GroupingConstants.VERTEX_TUPLE_RESERVED + vertexGroupingKeys.size(), vertexAggregateFunctions));
+      /* Extract a mapping from vertex-ID to super-vertex-ID from the result of the vertex-reduce step. */
+      idToSuperId = verticesWithSuperVertex
+        .filter(new Not<>(new FilterSuperVertices<>()))
+        .project(GroupingConstants.VERTEX_TUPLE_ID, GroupingConstants.VERTEX_TUPLE_SUPERID);
+    }
+
+    /* Create tuple representations of each edge and update the source- and target-ids of those tuples with
+       with the mapping extracted in the previous step. Edges will then point from and to super-vertices. */
+    DataSet<Tuple> edgesWithUpdatedIds = updateEdgeIds(buildEdgeTuples(graph), idToSuperId);
+
+    /* Group the edge-tuples by the key fields and vertex IDs and reduce them to single elements. */
+    DataSet<Tuple> superEdgeTuples = reduceEdgeTuples(edgesWithUpdatedIds);
+
+    return buildSuperGraph(graph, verticesWithSuperVertex, superEdgeTuples, retainPartialAggregates);
+  }
+
+  /**
+   * Update a previous result of this operator with additional vertices and edges.<p>
+   * The vertices and edges of the delta graph are grouped together with the super-vertices and
+   * super-edges of the summary graph, which are treated as partially aggregated groups. The result
+   * is equal to the grouping of all vertices and edges of both the original and the delta graph,
+   * without the original graph being read again. Super-vertices keep their IDs.<p>
+   * This requires that
+   * <ul>
+   *   <li>the summary graph was computed by an operator with the same key and aggregate
+   *   functions and {@link #setRetainPartialAggregates(boolean) partial aggregates retained},</li>
+   *   <li>the key functions extract the same key from a super-element as from the elements it
+   *   represents (this is the case for label and property keys) and</li>
+   *   <li>the edges of the delta graph only connect vertices of the delta graph. Use
+   *   {@link #executeIncremental(BaseGraph, BaseGraph, DataSet)} if delta edges connect
+   *   previous vertices.</li>
+   * </ul>
+   * The result retains partial aggregates and can therefore be updated again.
+   * The execution fails with an {@link IllegalStateException} if an edge of the delta graph is
+   * connected to a vertex which is not part of the delta graph.
+   *
+   * @param summary The result of a previous execution of this operator.
+   * @param delta   The graph containing the new vertices and edges.
+   * @return The updated summary graph.
+   */
+  public LG executeIncremental(LG summary, LG delta) {
+    return executeIncremental(summary, delta, null);
+  }
+
+  /**
+   * Update a previous result of this operator with additional vertices and edges, where the edges
+   * of the delta graph may connect vertices that have been grouped before.<p>
+   * The super-vertex of such a previous vertex is resolved by extracting its grouping keys and
+   * looking up the super-vertex with equal keys in the summary graph. Only the previous vertices
+   * connected to a delta edge are considered. Apart from that, the same requirements as for
+   * {@link #executeIncremental(BaseGraph, BaseGraph)} apply. The execution fails with an
+   * {@link IllegalStateException} if an endpoint of a delta edge is neither a delta vertex nor
+   * one of the previous vertices.
+   *
+   * @param summary          The result of a previous execution of this operator.
+   * @param delta            The graph containing the new vertices and edges.
+   * @param previousVertices The vertices grouped before, may be {@code null} if delta edges only
+   *                         connect delta vertices.
+   * @return The updated summary graph.
+   */
+  public LG executeIncremental(LG summary, LG delta, DataSet<V> previousVertices) {
+    /* Group new vertices together with the existing super-vertices. Sorting the groups by the super-vertex
+       ID makes sure that an existing super-vertex is the first tuple of its group and keeps its ID. */
+    DataSet<Tuple> verticesWithSuperVertex = delta.getVertices()
       .map(new BuildTuplesFromVertices<>(vertexGroupingKeys, vertexAggregateFunctions))
+      .union(summary.getVertices()
+        .map(new BuildTuplesFromSuperVertices<>(vertexGroupingKeys, vertexAggregateFunctions, true)))
       .groupBy(getInternalVertexGroupingKeys())
+      .sortGroup(GroupingConstants.VERTEX_TUPLE_SUPERID, Order.DESCENDING)
       .reduceGroup(new ReduceVertexTuples<>(
         GroupingConstants.VERTEX_TUPLE_RESERVED + vertexGroupingKeys.size(), vertexAggregateFunctions));
-    /* Extract a mapping from vertex-ID to super-vertex-ID from the result of the vertex-reduce step. */
+    /* The mapping contains new vertices and previous vertices connected to new edges, existing
+       super-vertices are not part of it. */
     DataSet<Tuple2<GradoopId, GradoopId>> idToSuperId = verticesWithSuperVertex
       .filter(new Not<>(new FilterSuperVertices<>()))
       .project(GroupingConstants.VERTEX_TUPLE_ID, GroupingConstants.VERTEX_TUPLE_SUPERID);
+    if (previousVertices != null) {
+      idToSuperId = idToSuperId.union(getPreviousIdToSuperId(summary, delta, previousVertices));
+    }
 
-    /* Create tuple representations of each edge and update the source- and target-ids of those tuples with
-       with the mapping extracted in the previous step. Edges will then point from and to super-vertices. */
-    DataSet<Tuple> edgesWithUpdatedIds = graph.getEdges()
+    /* Existing super-edges already point from and to super-vertices. New edges are joined with
+       outer joins, so that an edge without a known endpoint causes the execution to fail. */
+    DataSet<Tuple> edgesWithUpdatedIds = delta.getEdges()
       .map(new BuildTuplesFromEdges<>(edgeGroupingKeys, edgeAggregateFunctions))
-      .join(idToSuperId)
+      .leftOuterJoin(idToSuperId)
       .where(GroupingConstants.EDGE_TUPLE_SOURCEID)
       .equalTo(GroupingConstants.VERTEX_TUPLE_ID)
       .with(new UpdateIdField<>(GroupingConstants.EDGE_TUPLE_SOURCEID))
-      .join(idToSuperId)
+      .leftOuterJoin(idToSuperId)
+      .where(GroupingConstants.EDGE_TUPLE_TARGETID)
+      .equalTo(GroupingConstants.VERTEX_TUPLE_ID)
+      .with(new UpdateIdField<>(GroupingConstants.EDGE_TUPLE_TARGETID))
+      .union(summary.getEdges()
+        .map(new BuildTuplesFromSuperEdges<>(edgeGroupingKeys, edgeAggregateFunctions)));
+
+    DataSet<Tuple> superEdgeTuples = reduceEdgeTuples(edgesWithUpdatedIds);
+
+    return buildSuperGraph(summary, verticesWithSuperVertex, superEdgeTuples, true);
+  }
+
+  /**
+   * Get the mapping from vertex-ID to super-vertex-ID for previous vertices connected to an edge
+   * of the delta graph. The super-vertex is the vertex of the summary graph with equal keys.
+   *
+   * @param summary          The result of a previous execution of this operator.
+   * @param delta            The graph containing the new vertices and edges.
+   * @param previousVertices The vertices grouped before.
+   * @return The mapping from vertex-ID to super-vertex-ID for the connected previous vertices.
+   */
+  private DataSet<Tuple2<GradoopId, GradoopId>> getPreviousIdToSuperId(LG summary, LG delta,
+    DataSet<V> previousVertices) {
+    DataSet<GradoopId> endpointIds = delta.getEdges()
+      .map(new SourceId<>())
+      .union(delta.getEdges().map(new TargetId<>()))
+      .distinct();
+
+    /* Only keys are needed to find the super-vertex, aggregate values are omitted. */
+    DataSet<Tuple> superVertexKeys = summary.getVertices()
+      .map(new BuildTuplesFromSuperVertices<>(vertexGroupingKeys, Collections.emptyList(), true));
+
+    return previousVertices
+      .join(endpointIds)
+      .where(new Id<>()).equalTo("*")
+      .with(new LeftSide<>())
+      .map(new BuildTuplesFromVertices<>(vertexGroupingKeys, Collections.emptyList()))
+      .join(superVertexKeys)
+      .where(getInternalVertexGroupingKeys()).equalTo(getInternalVertexGroupingKeys())
+      .projectFirst(GroupingConstants.VERTEX_TUPLE_ID)
+      .projectSecond(GroupingConstants.VERTEX_TUPLE_SUPERID);
+  }
+
+  /**
+   * Create tuple representations of the vertices of a graph. If the graph is a summary graph,
+   * partial aggregate values are read instead of aggregate increments.
+   *
+   * @param graph The input graph.
+   * @return The vertex tuples, without super vertex ID.
+   */
+  private DataSet<Tuple> buildVertexTuples(LG graph) {
+    BuildTuplesFromVertices<V> buildTuples = aggregatedInput ?
+      new BuildTuplesFromSuperVertices<>(vertexGroupingKeys, vertexAggregateFunctions, false) :
+      new BuildTuplesFromVertices<>(vertexGroupingKeys, vertexAggregateFunctions);
+    return graph.getVertices().map(buildTuples);
+  }
+
+  /**
+   * Create tuple representations of the edges of a graph. If the graph is a summary graph,
+   * partial aggregate values are read instead of aggregate increments.
+   *
+   * @param graph The input graph.
+   * @return The edge tuples.
+   */
+  private DataSet<Tuple> buildEdgeTuples(LG graph) {
+    BuildTuplesFromEdges<E> buildTuples = aggregatedInput ?
+      new BuildTuplesFromSuperEdges<>(edgeGroupingKeys, edgeAggregateFunctions) :
+      new BuildTuplesFromEdges<>(edgeGroupingKeys, edgeAggregateFunctions);
+    return graph.getEdges().map(buildTuples);
+  }
+
+  /**
+   * Update the source- and target-IDs of edge tuples to the IDs of their super-vertices.
+   *
+   * @param edgeTuples  The edge tuples.
+   * @param idToSuperId The mapping from vertex-ID to super-vertex-ID.
+   * @return The edge tuples pointing from and to super-vertices.
+   */
+  private DataSet<Tuple> updateEdgeIds(DataSet<Tuple> edgeTuples,
+    DataSet<Tuple2<GradoopId, GradoopId>> idToSuperId) {
+    if (edgeIdUpdateStrategy == EdgeIdUpdateStrategy.DISTINCT_ENDPOINTS) {
+      return KeyedGroupingUtils.updateEdgeIdsByEndpoints(edgeTuples, idToSuperId,
+        GroupingConstants.EDGE_TUPLE_SOURCEID, GroupingConstants.EDGE_TUPLE_TARGETID);
+    }
+    JoinHint joinHint = edgeIdUpdateStrategy == EdgeIdUpdateStrategy.BROADCAST ?
+      JoinHint.BROADCAST_HASH_SECOND : JoinHint.OPTIMIZER_CHOOSES;
+    return edgeTuples
+      .join(idToSuperId, joinHint)
+      .where(GroupingConstants.EDGE_TUPLE_SOURCEID)
+      .equalTo(GroupingConstants.VERTEX_TUPLE_ID)
+      .with(new UpdateIdField<>(GroupingConstants.EDGE_TUPLE_SOURCEID))
+      .join(idToSuperId, joinHint)
       .where(GroupingConstants.EDGE_TUPLE_TARGETID)
       .equalTo(GroupingConstants.VERTEX_TUPLE_ID)
       .with(new UpdateIdField<>(GroupingConstants.EDGE_TUPLE_TARGETID));
+  }
 
-    /* Group the edge-tuples by the key fields and vertex IDs and reduce them to single elements. */
-    DataSet<Tuple> superEdgeTuples = edgesWithUpdatedIds
+  /**
+   * Group the edge tuples by the key fields and vertex IDs and reduce them to super-edge tuples.
+   *
+   * @param edgeTuples The edge tuples, pointing from and to super-vertices.
+   * @return The super-edge tuples.
+   */
+  private DataSet<Tuple> reduceEdgeTuples(DataSet<Tuple> edgeTuples) {
+    if (useGroupCombine && useHashCombine) {
+      /* Pre-aggregate edge tuples in an in-memory hash table before the shuffle. */
+      return edgeTuples
+        .groupBy(getInternalEdgeGroupingKeys())
+        .reduce(new ReduceEdgeTuples<>(
+          GroupingConstants.EDGE_TUPLE_RESERVED + edgeGroupingKeys.size(), edgeAggregateFunctions))
+        .setCombineHint(CombineHint.HASH);
+    }
+    return edgeTuples
       .groupBy(getInternalEdgeGroupingKeys())
       .reduceGroup(new ReduceEdgeTuples<>(
         GroupingConstants.EDGE_TUPLE_RESERVED + edgeGroupingKeys.size(), edgeAggregateFunctions))
       .setCombinable(useGroupCombine);
+  }
 
+  /**
+   * Build the summary graph from super-vertex and super-edge tuples.
+   *
+   * @param graph                   The input graph, used to access factories.
+   * @param verticesWithSuperVertex The result of the vertex reduce step.
+   * @param superEdgeTuples         The super-edge tuples.
+   * @param retainPartials          Store partial aggregate values on the super-elements.
+   * @return The summary graph.
+   */
+  private LG buildSuperGraph(LG graph, DataSet<Tuple> verticesWithSuperVertex,
+    DataSet<Tuple> superEdgeTuples, boolean retainPartials) {
     /* Rebuild super-vertices from vertex-tuples. Those new vertices contain the data extracted by the key
        functions and aggregated by the aggregate functions. */
     DataSet<V> superVertices = verticesWithSuperVertex
       .filter(new FilterSuperVertices<>())
       .map(new BuildSuperVertexFromTuple<>(vertexGroupingKeys, vertexAggregateFunctions,
-        graph.getFactory().getVertexFactory()));
+        graph.getFactory().getVertexFactory(), retainPartials));
 
     /* Rebuild super-edges from edge-tuples. */
     DataSet<E> superEdges = superEdgeTuples
       .map(new BuildSuperEdgeFromTuple<>(edgeGroupingKeys, edgeAggregateFunctions,
-        graph.getFactory().getEdgeFactory()));
+        graph.getFactory().getEdgeFactory(), retainPartials));
 
     return graph.getFactory().fromDataSets(superVertices, superEdges);
   }
@@ -190,6 +438,15 @@ public class KeyedGrouping<
       GroupingConstants.VERTEX_TUPLE_RESERVED + vertexGroupingKeys.size()).toArray();
   }
 
+  /**
+   * Get the types of the vertex grouping keys.
+   *
+   * @return The key types, in the order of the key fields.
+   */
+  private TypeInformation<?>[] getVertexKeyTypes() {
+    return vertexGroupingKeys.stream().map(KeyFunction::getType).toArray(TypeInformation<?>[]::new);
+  }
+
   /**
    * Enable or disable an optional combine step before the reduce step.
    * Note that this currently only affects the edge reduce step.
@@ -203,4 +460,105 @@ public class KeyedGrouping<
     this.useGroupCombine = useGroupCombine;
     return this;
   }
+
+  /**
+   * Enable or disable a hash-based combine step for edges.
+   * <p>
+   * If enabled, edge tuples are pre-aggregated in a hash table in managed memory before they are
+   * shuffled, instead of being sorted. When the table is full, the partial aggregates are emitted
+   * and the table is cleared. This is usually faster if there are a lot more edges than super-edges.
+   * This option has no effect, if the combine step is disabled.
+   * <p>
+   * The hash-based combine step is disabled by default.
+   *
+   * @param useHashCombine {@code true}, if the edge combine step should be hash-based.
+   * @return This operator.
+   * @see #setUseGroupCombine(boolean)
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setUseHashCombine(boolean useHashCombine) {
+    this.useHashCombine = useHashCombine;
+    return this;
+  }
+
+  /**
+   * Set the strategy used to update the source- and target-IDs of edges to super-vertex-IDs.
+   * <p>
+   * By default, the edges are repartitioned twice, once to update their source- and once to
+   * update their target-IDs. {@link EdgeIdUpdateStrategy#DISTINCT_ENDPOINTS} repartitions the
+   * edges only once and is suited for large mappings. {@link EdgeIdUpdateStrategy#BROADCAST}
+   * does not repartition the edges at all, but copies the mapping to every task and should
+   * therefore only be used if the number of vertices is small.
+   * <p>
+   * The default strategy is {@link EdgeIdUpdateStrategy#REPARTITION}.
+   *
+   * @param edgeIdUpdateStrategy The strategy used to update edges.
+   * @return This operator.
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setEdgeIdUpdateStrategy(
+    EdgeIdUpdateStrategy edgeIdUpdateStrategy) {
+    this.edgeIdUpdateStrategy = Objects.requireNonNull(edgeIdUpdateStrategy);
+    return this;
+  }
+
+  /**
+   * Enable or disable storing partial aggregate values on super-elements.
+   * <p>
+   * Some aggregate functions (e.g. average) compute their final value from an internal partial
+   * value, which can not be restored from the final value. If enabled, those partial values are
+   * stored as additional properties on the super-elements, with a key prefixed by
+   * {@value GroupingConstants#PARTIAL_AGGREGATE_PREFIX}. This is required to update the result
+   * using {@link #executeIncremental(BaseGraph, BaseGraph)}.
+   * <p>
+   * This option is disabled by default.
+   *
+   * @param retainPartialAggregates {@code true}, if partial aggregate values should be stored.
+   * @return This operator.
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setRetainPartialAggregates(boolean retainPartialAggregates) {
+    this.retainPartialAggregates = retainPartialAggregates;
+    return this;
+  }
+
+  /**
+   * Set whether the input graph is a summary graph with partial aggregates retained.
+   * <p>
+   * If enabled, the vertices and edges of the input graph are treated as partially aggregated
+   * groups, i.e. the aggregate functions merge their (partial) aggregate values instead of
+   * computing increments. This allows a summary graph to be grouped again by a subset of its
+   * grouping keys, which yields the same result as grouping the original graph by those keys.
+   * The summary graph has to be computed by an operator with the same aggregate functions and
+   * {@link #setRetainPartialAggregates(boolean) partial aggregates retained}.
+   * <p>
+   * This option is disabled by default.
+   *
+   * @param aggregatedInput {@code true}, if the input graph is a summary graph.
+   * @return This operator.
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setAggregatedInput(boolean aggregatedInput) {
+    this.aggregatedInput = aggregatedInput;
+    return this;
+  }
+
+  /**
+   * Enable or disable skew resistant vertex grouping.
+   * <p>
+   * By default, all vertices of a group are sent to a single task, which assigns a random
+   * super-vertex ID and emits the mapping from vertex ID to super-vertex ID for every vertex.
+   * A single large group (e.g. when grouping by label and most vertices share one label) will
+   * therefore be processed by a single task.
+   * <p>
+   * If enabled, super-vertex IDs are derived from a hash of the grouping keys instead. The mapping
+   * is then computed without grouping and super-vertices are reduced using a combine step, so that
+   * large groups are aggregated by all tasks in parallel.
+   * This requires equal keys to have equal binary representations.
+   * <p>
+   * This option is disabled by default.
+   *
+   * @param useSkewResistance {@code true}, if super-vertex IDs should be derived from the keys.
+   * @return This operator.
+   */
+  public KeyedGrouping<G, V, E, LG, GC> setUseSkewResistance(boolean useSkewResistance) {
+    this.useSkewResistance = useSkewResistance;
+    return this;
+  }
 }
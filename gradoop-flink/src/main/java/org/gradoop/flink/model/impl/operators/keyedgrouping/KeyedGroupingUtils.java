@@ -15,17 +15,27 @@
  */
 package org.gradoop.flink.model.impl.operators.keyedgrouping;
 
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple4;
 import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.api.epgm.BaseGraph;
 import org.gradoop.flink.model.api.epgm.BaseGraphCollection;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.KeyFunction;
 import org.gradoop.flink.model.api.functions.KeyFunctionWithDefaultValue;
+import org.gradoop.flink.model.impl.operators.grouping.EdgeIdUpdateStrategy;
 import org.gradoop.flink.model.impl.operators.grouping.Grouping;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.BuildEdgeEndpoints;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.UpdateEdgeEndpoints;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.UpdateEndpointField;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.labelspecific.LabelSpecificAggregatorWrapper;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.labelspecific.UnlabeledGroupAggregatorWrapper;
 import org.gradoop.flink.model.impl.operators.keyedgrouping.labelspecific.LabelSpecificKeyFunction;
@@ -41,7 +51,7 @@ import java.util.stream.Collectors;
 /**
  * Utilities for the {@link KeyedGrouping} implementation.<p>
  * This class provides functions used to convert arguments of the {@link Grouping} implementation to
- * key functions and aggregate functions.
+ * key functions and aggregate functions, as well as the edge update shared by both implementations.
  */
 public final class KeyedGroupingUtils {
 
@@ -169,6 +179,47 @@ public final class KeyedGroupingUtils {
       asKeyFunctions(useEdgeLabels, edgeLabelGroups), edgeAggregators);
   }
 
+  /**
+   * Update the source- and target-IDs of edge tuples to the IDs of their super-vertices using the
+   * distinct (source-ID, target-ID) pairs of the edges.<p>
+   * The edges are partitioned by source-ID once. Their distinct endpoint pairs are then resolved
+   * by joining them with the mapping, first on the source-ID, where the pairs are already
+   * partitioned, and then on the target-ID. Finally the edges are updated by a single join with
+   * the resolved pairs, which only needs to repartition the pairs.
+   *
+   * @param edges       The edge tuples.
+   * @param idToSuperId The mapping from vertex-ID to super-vertex-ID.
+   * @param sourceField The index of the source-ID field of the edge tuples.
+   * @param targetField The index of the target-ID field of the edge tuples.
+   * @param <T> The edge tuple type.
+   * @param <M> The type of the mapping tuples.
+   * @return The edge tuples pointing from and to super-vertices.
+   * @see EdgeIdUpdateStrategy#DISTINCT_ENDPOINTS
+   */
+  public static <T extends Tuple, M extends Tuple2<GradoopId, GradoopId>> DataSet<T>
+  updateEdgeIdsByEndpoints(DataSet<T> edges, DataSet<M> idToSuperId, int sourceField,
+    int targetField) {
+    DataSet<T> partitionedEdges = edges.partitionByHash(sourceField);
+
+    DataSet<Tuple4<GradoopId, GradoopId, GradoopId, GradoopId>> endpoints = partitionedEdges
+      .map(new BuildEdgeEndpoints<>(sourceField, targetField))
+      .withForwardedFields("f" + sourceField + "->f0;f" + targetField + "->f1")
+      .distinct(0, 1)
+      .join(idToSuperId)
+      .where(0).equalTo(0)
+      .with(new UpdateEndpointField<>(2))
+      .withForwardedFieldsFirst("f0;f1;f3")
+      .join(idToSuperId)
+      .where(1).equalTo(0)
+      .with(new UpdateEndpointField<>(3))
+      .withForwardedFieldsFirst("f0;f1;f2");
+
+    return partitionedEdges
+      .join(endpoints, JoinHint.REPARTITION_HASH_SECOND)
+      .where(sourceField, targetField).equalTo(0, 1)
+      .with(new UpdateEdgeEndpoints<>(sourceField, targetField));
+  }
+
   /**
    * Get the default label group or return {@code null} if other label groups exist in the list.<p>
    * This is used internally to check for label-specific grouping.
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Extract the source- and target-ID of an edge tuple.<p>
+ * The result is a {@link Tuple4} of source-ID, target-ID, super-source-ID and super-target-ID,
+ * where the super-IDs are initialized with the source- and target-ID and updated later on.
+ *
+ * @param <T> The edge tuple type.
+ */
+public class BuildEdgeEndpoints<T extends Tuple>
+  implements MapFunction<T, Tuple4<GradoopId, GradoopId, GradoopId, GradoopId>> {
+
+  /**
+   * The index of the source-ID field.
+   */
+  private final int sourceField;
+
+  /**
+   * The index of the target-ID field.
+   */
+  private final int targetField;
+
+  /**
+   * Create a new instance of this function.
+   *
+   * @param sourceField The index of the source-ID field.
+   * @param targetField The index of the target-ID field.
+   */
+  public BuildEdgeEndpoints(int sourceField, int targetField) {
+    this.sourceField = sourceField;
+    this.targetField = targetField;
+  }
+
+  @Override
+  public Tuple4<GradoopId, GradoopId, GradoopId, GradoopId> map(T edgeTuple) {
+    GradoopId sourceId = edgeTuple.getField(sourceField);
+    GradoopId targetId = edgeTuple.getField(targetField);
+    return new Tuple4<>(sourceId, targetId, sourceId, targetId);
+  }
+}
@@ -54,7 +54,23 @@ public class BuildSuperEdgeFromTuple<T extends Tuple, E extends Edge>
    */
   public BuildSuperEdgeFromTuple(List<KeyFunction<E, ?>> groupingKeys,
     List<AggregateFunction> aggregateFunctions, EdgeFactory<E> edgeFactory) {
-    super(GroupingConstants.EDGE_TUPLE_RESERVED, groupingKeys, aggregateFunctions);
+    this(groupingKeys, aggregateFunctions, edgeFactory, false);
+  }
+
+  /**
+   * Initialize this function.
+   *
+   * @param groupingKeys            The grouping key functions.
+   * @param aggregateFunctions      The aggregate functions.
+   * @param edgeFactory             A factory used to create new edges.
+   * @param retainPartialAggregates Store partial aggregate values on the edges.
+   * @see GroupingConstants#PARTIAL_AGGREGATE_PREFIX
+   */
+  public BuildSuperEdgeFromTuple(List<KeyFunction<E, ?>> groupingKeys,
+    List<AggregateFunction> aggregateFunctions, EdgeFactory<E> edgeFactory,
+    boolean retainPartialAggregates) {
+    super(GroupingConstants.EDGE_TUPLE_RESERVED, groupingKeys, aggregateFunctions,
+      retainPartialAggregates);
     reuse = Objects.requireNonNull(edgeFactory).createEdge(GradoopId.NULL_VALUE, GradoopId.NULL_VALUE);
     edgeType = edgeFactory.getType();
   }
@@ -52,19 +52,27 @@ abstract class BuildSuperElementFromTuple<T extends Tuple, E extends Element>
    */
   private final List<AggregateFunction> aggregateFunctions;
 
+  /**
+   * Should partial aggregate values be stored on the element?
+   */
+  private final boolean retainPartialAggregates;
+
   /**
    * Initialize this function.
    *
-   * @param tupleDataOffset    The number of reserved fields in the tuple.
-   * @param groupingKeys       The grouping key functions.
-   * @param aggregateFunctions The aggregate functions.
+   * @param tupleDataOffset         The number of reserved fields in the tuple.
+   * @param groupingKeys            The grouping key functions.
+   * @param aggregateFunctions      The aggregate functions.
+   * @param retainPartialAggregates Store partial aggregate values on the element.
    */
   BuildSuperElementFromTuple(int tupleDataOffset,
     List<KeyFunction<E, ?>> groupingKeys,
-    List<AggregateFunction> aggregateFunctions) {
+    List<AggregateFunction> aggregateFunctions,
+    boolean retainPartialAggregates) {
     this.tupleDataOffset = tupleDataOffset;
     this.keyFunctions = Objects.requireNonNull(groupingKeys);
     this.aggregateFunctions = Objects.requireNonNull(aggregateFunctions);
+    this.retainPartialAggregates = retainPartialAggregates;
   }
 
   /**
@@ -86,12 +94,19 @@ abstract class BuildSuperElementFromTuple<T extends Tuple, E extends Element>
     // Calculate aggregate values and set them.
     for (int i = 0; i < aggregateFunctions.size(); i++) {
       final AggregateFunction function = aggregateFunctions.get(i);
-      final PropertyValue postAggregateValue = function.postAggregate(
-        tupleData.getField(tupleDataOffset + keyFunctions.size() + i));
+      final PropertyValue aggregateValue = tupleData.getField(tupleDataOffset + keyFunctions.size() + i);
+      // Copy the partial aggregate value, since post-processing may modify it.
+      final PropertyValue partialValue = retainPartialAggregates ? aggregateValue.copy() : null;
+      final PropertyValue postAggregateValue = function.postAggregate(aggregateValue);
       if (postAggregateValue != null) {
         element.setProperty(function.getAggregatePropertyKey(), postAggregateValue.isNull() ?
           AggregateUtil.getDefaultAggregate(function) : postAggregateValue);
       }
+      // Keep the partial aggregate value, if it can not be restored from the final value.
+      if (partialValue != null && !partialValue.isNull() && !partialValue.equals(postAggregateValue)) {
+        element.setProperty(GroupingConstants.PARTIAL_AGGREGATE_PREFIX +
+          function.getAggregatePropertyKey(), partialValue);
+      }
     }
     return element;
   }
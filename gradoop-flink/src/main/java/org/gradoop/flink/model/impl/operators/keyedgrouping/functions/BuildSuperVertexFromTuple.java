@@ -53,7 +53,23 @@ public class BuildSuperVertexFromTuple<T extends Tuple, E extends Vertex>
    */
   public BuildSuperVertexFromTuple(List<KeyFunction<E, ?>> groupingKeys,
     List<AggregateFunction> aggregateFunctions, VertexFactory<E> vertexFactory) {
-    super(GroupingConstants.VERTEX_TUPLE_RESERVED, groupingKeys, aggregateFunctions);
+    this(groupingKeys, aggregateFunctions, vertexFactory, false);
+  }
+
+  /**
+   * Initialize this function.
+   *
+   * @param groupingKeys            The grouping key functions.
+   * @param aggregateFunctions      The aggregate functions.
+   * @param vertexFactory           A factory used to create new vertices.
+   * @param retainPartialAggregates Store partial aggregate values on the vertices.
+   * @see GroupingConstants#PARTIAL_AGGREGATE_PREFIX
+   */
+  public BuildSuperVertexFromTuple(List<KeyFunction<E, ?>> groupingKeys,
+    List<AggregateFunction> aggregateFunctions, VertexFactory<E> vertexFactory,
+    boolean retainPartialAggregates) {
+    super(GroupingConstants.VERTEX_TUPLE_RESERVED, groupingKeys, aggregateFunctions,
+      retainPartialAggregates);
     reuse = Objects.requireNonNull(vertexFactory).createVertex();
     vertexType = vertexFactory.getType();
   }
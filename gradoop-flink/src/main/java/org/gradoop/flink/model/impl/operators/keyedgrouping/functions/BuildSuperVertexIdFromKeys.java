@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import com.google.common.hash.Hashing;
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Assign a super vertex ID to a vertex tuple that is derived from its grouping keys.<p>
+ * The ID is a 96 bit hash of the binary representation of all grouping keys and a seed. Vertices
+ * with equal keys will therefore get the same super vertex ID on every task, without having to
+ * bring all vertices of a group together. The seed is used to make IDs unique for each execution
+ * of the grouping operator.<p>
+ * <i>Note: </i> This requires the binary representation of equal keys to be equal.
+ *
+ * @param <T> The vertex tuple type.
+ */
+public class BuildSuperVertexIdFromKeys<T extends Tuple> extends RichMapFunction<T, T> {
+
+  /**
+   * The types of the grouping keys.
+   */
+  private final TypeInformation<?>[] keyTypes;
+
+  /**
+   * The seed used for the hash function.
+   */
+  private final GradoopId seed;
+
+  /**
+   * The serializers of the grouping keys.
+   */
+  private transient TypeSerializer<Object>[] keySerializers;
+
+  /**
+   * Buffer used to serialize the grouping keys.
+   */
+  private transient DataOutputSerializer buffer;
+
+  /**
+   * Initialize this function.
+   *
+   * @param keyTypes The types of the grouping keys, in the order of the key fields.
+   * @param seed     The seed used to derive super vertex IDs.
+   */
+  public BuildSuperVertexIdFromKeys(TypeInformation<?>[] keyTypes, GradoopId seed) {
+    this.keyTypes = Objects.requireNonNull(keyTypes);
+    this.seed = Objects.requireNonNull(seed);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    keySerializers = new TypeSerializer[keyTypes.length];
+    for (int i = 0; i < keyTypes.length; i++) {
+      keySerializers[i] = (TypeSerializer<Object>) keyTypes[i]
+        .createSerializer(getRuntimeContext().getExecutionConfig());
+    }
+    buffer = new DataOutputSerializer(64);
+  }
+
+  @Override
+  public T map(T tuple) throws Exception {
+    buffer.clear();
+    buffer.write(seed.toByteArray());
+    for (int i = 0; i < keySerializers.length; i++) {
+      keySerializers[i].serialize(tuple.getField(GroupingConstants.VERTEX_TUPLE_RESERVED + i),
+        buffer);
+    }
+    byte[] hash = Hashing.murmur3_128().hashBytes(buffer.getSharedBuffer(), 0, buffer.length())
+      .asBytes();
+    tuple.setField(GradoopId.fromByteArray(Arrays.copyOf(hash, GradoopId.ID_SIZE)),
+      GroupingConstants.VERTEX_TUPLE_SUPERID);
+    return tuple;
+  }
+}
@@ -47,12 +47,12 @@ public class BuildTuplesFromElements<E extends Element>
   /**
    * The grouping key functions.
    */
-  private final List<KeyFunction<E, ?>> keys;
+  private final KeyFunction<E, ?>[] keys;
 
   /**
    * The aggregate functions.
    */
-  private final List<AggregateFunction> aggregateFunctions;
+  private final AggregateFunction[] aggregateFunctions;
 
   /**
    * The number of fields to be reserved for IDs.
@@ -77,14 +77,16 @@ public class BuildTuplesFromElements<E extends Element>
    * @param keys               The grouping keys.
    * @param aggregateFunctions The aggregate functions used to determine the aggregate property
    */
+  @SuppressWarnings("unchecked")
   public BuildTuplesFromElements(int tupleDataOffset, List<KeyFunction<E, ?>> keys,
     List<AggregateFunction> aggregateFunctions) {
     this.tupleDataOffset = tupleDataOffset;
     if (tupleDataOffset < 0) {
       throw new IllegalArgumentException("The number of reserved tuple fields must not be negative.");
     }
-    this.keys = Objects.requireNonNull(keys);
-    this.aggregateFunctions = Objects.requireNonNull(aggregateFunctions);
+    this.keys = Objects.requireNonNull(keys).toArray(new KeyFunction[0]);
+    this.aggregateFunctions = Objects.requireNonNull(aggregateFunctions)
+      .toArray(new AggregateFunction[0]);
     final int tupleSize = tupleDataOffset + keys.size() + aggregateFunctions.size();
     if (tupleSize > Tuple.MAX_ARITY) {
       throw new UnsupportedOperationException("Number of elements is too high for tuple: " + tupleSize +
@@ -114,18 +116,51 @@ public class BuildTuplesFromElements<E extends Element>
     return new TupleTypeInfo<>(elementTypes);
   }
 
+  /**
+   * {@inheritDoc}<p>
+   * The output tuple is reused, keys extracted for the previous element are therefore reused by
+   * the key functions as well.
+   */
   @Override
   public Tuple map(E element) throws Exception {
     int field = tupleDataOffset;
-    for (KeyFunction<? super E, ?> key : keys) {
-      reuseTuple.setField(key.getKey(element), field);
+    for (KeyFunction<E, ?> key : keys) {
+      reuseTuple.setField(key.getKey(element, reuseTuple.getField(field)), field);
       field++;
     }
     for (AggregateFunction aggregateFunction : aggregateFunctions) {
-      final PropertyValue increment = aggregateFunction.getIncrement(element);
+      final PropertyValue increment = getAggregateValue(aggregateFunction, element);
       reuseTuple.setField(increment == null ? NULL_VALUE : increment, field);
       field++;
     }
     return reuseTuple;
   }
+
+  /**
+   * Get the initial aggregate value of an element. This is the increment of the element by default.
+   *
+   * @param aggregateFunction The aggregate function.
+   * @param element           The element.
+   * @return The initial aggregate value, may be {@code null}.
+   */
+  protected PropertyValue getAggregateValue(AggregateFunction aggregateFunction, E element) {
+    return aggregateFunction.getIncrement(element);
+  }
+
+  /**
+   * Get the partial aggregate value stored on a super-element. This is the value stored with
+   * {@link GroupingConstants#PARTIAL_AGGREGATE_PREFIX}, if set, or the final aggregate value
+   * otherwise.
+   *
+   * @param aggregateFunction The aggregate function.
+   * @param superElement      The super-element.
+   * @return The partial aggregate value, may be {@code null}.
+   */
+  static PropertyValue getPartialAggregateValue(AggregateFunction aggregateFunction,
+    Element superElement) {
+    final String key = aggregateFunction.getAggregatePropertyKey();
+    final PropertyValue partial =
+      superElement.getPropertyValue(GroupingConstants.PARTIAL_AGGREGATE_PREFIX + key);
+    return partial != null ? partial : superElement.getPropertyValue(key);
+  }
 }
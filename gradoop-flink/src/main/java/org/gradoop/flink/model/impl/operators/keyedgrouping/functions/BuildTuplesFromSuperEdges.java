@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.KeyFunction;
+
+import java.util.List;
+
+/**
+ * Build a tuple-based representation of super-edges of a previous grouping result.
+ * Tuples will contain the source ID, the target ID, all grouping keys and all partial aggregate
+ * values.
+ *
+ * @param <E> The element type.
+ */
+public class BuildTuplesFromSuperEdges<E extends Edge> extends BuildTuplesFromEdges<E> {
+
+  /**
+   * Initialize this function, setting the grouping keys and aggregate functions.
+   *
+   * @param keys               The grouping keys.
+   * @param aggregateFunctions The aggregate functions used to determine the aggregate property
+   */
+  public BuildTuplesFromSuperEdges(List<KeyFunction<E, ?>> keys,
+    List<AggregateFunction> aggregateFunctions) {
+    super(keys, aggregateFunctions);
+  }
+
+  @Override
+  protected PropertyValue getAggregateValue(AggregateFunction aggregateFunction, E element) {
+    return getPartialAggregateValue(aggregateFunction, element);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.java.tuple.Tuple;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.KeyFunction;
+
+import java.util.List;
+
+/**
+ * Build a tuple-based representation of super-vertices of a previous grouping result.
+ * Tuples will contain the vertex ID, a field for the super vertex ID, all grouping keys and all
+ * partial aggregate values.
+ * <p>
+ * If the super vertex ID is kept, it is set to the vertex ID. The tuples are then identified as
+ * existing super-vertices, like super-vertex tuples created by {@link ReduceVertexTuples}.
+ * Otherwise the super vertex ID is left empty and the super-vertices are grouped like regular
+ * vertices, e.g. to group a summary graph by fewer keys.
+ *
+ * @param <E> The element type.
+ */
+public class BuildTuplesFromSuperVertices<E extends Element> extends BuildTuplesFromVertices<E> {
+
+  /**
+   * Should the vertex ID be used as super vertex ID?
+   */
+  private final boolean keepSuperVertexId;
+
+  /**
+   * Initialize this function, setting the grouping keys and aggregate functions.
+   *
+   * @param keys               The grouping keys.
+   * @param aggregateFunctions The aggregate functions used to determine the aggregate property
+   * @param keepSuperVertexId  Use the vertex ID as super vertex ID.
+   */
+  public BuildTuplesFromSuperVertices(List<KeyFunction<E, ?>> keys,
+    List<AggregateFunction> aggregateFunctions, boolean keepSuperVertexId) {
+    super(keys, aggregateFunctions);
+    this.keepSuperVertexId = keepSuperVertexId;
+  }
+
+  @Override
+  public Tuple map(E element) throws Exception {
+    final Tuple result = super.map(element);
+    if (keepSuperVertexId) {
+      result.setField(element.getId(), GroupingConstants.VERTEX_TUPLE_SUPERID);
+    }
+    return result;
+  }
+
+  @Override
+  protected PropertyValue getAggregateValue(AggregateFunction aggregateFunction, E element) {
+    return getPartialAggregateValue(aggregateFunction, element);
+  }
+}
@@ -43,4 +43,9 @@ public abstract class GroupingConstants {
    * The number of reserved fields in the tuple-representation of an edge.
    */
   public static final int EDGE_TUPLE_RESERVED = 2;
+  /**
+   * The prefix of the property key used to store the partial aggregate value of an aggregate
+   * function on a super-element, if it differs from the final aggregate value.
+   */
+  public static final String PARTIAL_AGGREGATE_PREFIX = "__partial_";
 }
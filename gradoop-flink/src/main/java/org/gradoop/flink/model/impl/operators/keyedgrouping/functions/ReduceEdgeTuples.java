@@ -16,6 +16,7 @@
 package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
 
 import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.common.functions.ReduceFunction;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.util.Collector;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
@@ -24,11 +25,15 @@ import java.util.List;
 
 /**
  * Reduce edge tuples, calculating aggregate values.
+ * <p>
+ * This function can also be used as a {@link ReduceFunction}, which allows Flink to use a
+ * hash-based combine strategy. In that case, aggregate functions are called for each pair of
+ * tuples, as there is no group to keep an accumulator for.
  *
  * @param <T> The tuple type.
  */
 public class ReduceEdgeTuples<T extends Tuple> extends ReduceElementTuples<T>
-  implements GroupCombineFunction<T, T> {
+  implements GroupCombineFunction<T, T>, ReduceFunction<T> {
 
   /**
    * Initialize this reduce function.
@@ -55,8 +60,15 @@ public class ReduceEdgeTuples<T extends Tuple> extends ReduceElementTuples<T>
         first = inputTuple;
         continue;
       }
-      callAggregateFunctions(first, inputTuple);
+      accumulateAggregates(first, inputTuple);
     }
+    writeAccumulators(first);
     out.collect(first);
   }
+
+  @Override
+  public T reduce(T first, T second) throws Exception {
+    callAggregateFunctions(first, second);
+    return first;
+  }
 }
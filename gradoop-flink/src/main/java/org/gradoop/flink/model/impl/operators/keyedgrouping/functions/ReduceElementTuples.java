@@ -18,12 +18,18 @@ package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
 import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.AggregateUtil;
 
 import java.util.List;
 
 /**
  * Reduce vertex tuples, calculating aggregate values.
+ * <p>
+ * Increments of functions implementing {@link AccumulatingAggregate} are added to an accumulator
+ * per function, which is written to the tuple representing the group only once per group.
  *
  * @param <T> The tuple type.
  */
@@ -39,6 +45,11 @@ abstract class ReduceElementTuples<T extends Tuple> implements GroupReduceFuncti
    */
   private final List<AggregateFunction> aggregateFunctions;
 
+  /**
+   * The accumulators of the aggregate functions, {@code null} for functions without one.
+   */
+  private final PropertyValueAccumulator[] accumulators;
+
   /**
    * Instantiate this base class, setting the data offset and aggregate functions.
    *
@@ -48,29 +59,85 @@ abstract class ReduceElementTuples<T extends Tuple> implements GroupReduceFuncti
   ReduceElementTuples(int tupleDataOffset, List<AggregateFunction> aggregateFunctions) {
     this.tupleDataOffset = tupleDataOffset;
     this.aggregateFunctions = aggregateFunctions;
+    this.accumulators = AggregateUtil.createAccumulators(aggregateFunctions);
   }
 
   /**
-   * Calculate aggregate functions and update tuple fields.
+   * Calculate aggregate functions and update tuple fields, adding increments of functions with an
+   * accumulator to their accumulator. Those values have to be written to the tuple representing the
+   * group by {@link #writeAccumulators(Tuple)}, once all tuples of the group were processed.
    *
    * @param superTuple       The tuple storing the current aggregate values.
    * @param inputTuple       The tuple storing the increment values.
    */
-  void callAggregateFunctions(T superTuple, T inputTuple) {
-    // Calculate aggregate values.
+  void accumulateAggregates(T superTuple, T inputTuple) {
     for (int i = 0; i < aggregateFunctions.size(); i++) {
-      final PropertyValue aggregate = superTuple.getField(i + tupleDataOffset);
+      if (accumulators[i] == null) {
+        callAggregateFunction(i, superTuple, inputTuple);
+        continue;
+      }
       final PropertyValue increment = inputTuple.getField(i + tupleDataOffset);
       // Delete the increment from the input tuple as it is not needed anymore.
       inputTuple.setField(PropertyValue.NULL_VALUE, i + tupleDataOffset);
-      // Do not aggregate if the increment is null.
       if (!increment.equals(PropertyValue.NULL_VALUE)) {
-        if (aggregate.equals(PropertyValue.NULL_VALUE)) {
-          // If the aggregate is null, use the increment as the new initial value.
-          superTuple.setField(increment, i + tupleDataOffset);
-        } else {
-          superTuple.setField(aggregateFunctions.get(i).aggregate(aggregate, increment), i + tupleDataOffset);
-        }
+        accumulators[i].add(increment);
+      }
+    }
+  }
+
+  /**
+   * Write the values of the accumulators to the tuple representing the group and reset them.
+   *
+   * @param superTuple The tuple storing the current aggregate values.
+   */
+  void writeAccumulators(T superTuple) {
+    for (int i = 0; i < accumulators.length; i++) {
+      if (accumulators[i] == null || accumulators[i].isEmpty()) {
+        continue;
+      }
+      final PropertyValue aggregate = superTuple.getField(i + tupleDataOffset);
+      // Add the value of the first tuple, which is used as the tuple representing the group.
+      if (!aggregate.equals(PropertyValue.NULL_VALUE)) {
+        accumulators[i].add(aggregate);
+      }
+      superTuple.setField(accumulators[i].getValue(), i + tupleDataOffset);
+      accumulators[i].reset();
+    }
+  }
+
+  /**
+   * Calculate aggregate functions and update tuple fields.
+   *
+   * @param superTuple       The tuple storing the current aggregate values.
+   * @param inputTuple       The tuple storing the increment values.
+   */
+  void callAggregateFunctions(T superTuple, T inputTuple) {
+    // Calculate aggregate values.
+    for (int i = 0; i < aggregateFunctions.size(); i++) {
+      callAggregateFunction(i, superTuple, inputTuple);
+    }
+  }
+
+  /**
+   * Calculate a single aggregate function and update its tuple fields.
+   *
+   * @param index            The index of the aggregate function.
+   * @param superTuple       The tuple storing the current aggregate values.
+   * @param inputTuple       The tuple storing the increment values.
+   */
+  private void callAggregateFunction(int index, T superTuple, T inputTuple) {
+    final PropertyValue aggregate = superTuple.getField(index + tupleDataOffset);
+    final PropertyValue increment = inputTuple.getField(index + tupleDataOffset);
+    // Delete the increment from the input tuple as it is not needed anymore.
+    inputTuple.setField(PropertyValue.NULL_VALUE, index + tupleDataOffset);
+    // Do not aggregate if the increment is null.
+    if (!increment.equals(PropertyValue.NULL_VALUE)) {
+      if (aggregate.equals(PropertyValue.NULL_VALUE)) {
+        // If the aggregate is null, use the increment as the new initial value.
+        superTuple.setField(increment, index + tupleDataOffset);
+      } else {
+        superTuple.setField(aggregateFunctions.get(index).aggregate(aggregate, increment),
+          index + tupleDataOffset);
       }
     }
   }
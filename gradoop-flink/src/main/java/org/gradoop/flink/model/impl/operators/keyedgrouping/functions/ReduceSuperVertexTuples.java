@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants.VERTEX_TUPLE_ID;
+import static org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants.VERTEX_TUPLE_SUPERID;
+
+/**
+ * Reduce vertex tuples with an already assigned super vertex ID to a single tuple representing the
+ * super vertex, calculating aggregate values.<p>
+ * Unlike {@link ReduceVertexTuples}, this function does not output the vertex tuples. It can
+ * therefore be used as a combiner, which avoids sending all vertices of a large group to a single
+ * task.
+ *
+ * @param <T> The tuple type.
+ * @see BuildSuperVertexIdFromKeys
+ */
+public class ReduceSuperVertexTuples<T extends Tuple> extends ReduceElementTuples<T>
+  implements GroupCombineFunction<T, T> {
+
+  /**
+   * Initialize this reduce function.
+   *
+   * @param tupleDataOffset    The data offset of the tuple. This will be
+   *                           {@value GroupingConstants#VERTEX_TUPLE_RESERVED} {@code +}
+   *                           the number of the grouping keys.
+   * @param aggregateFunctions The vertex aggregate functions.
+   */
+  public ReduceSuperVertexTuples(int tupleDataOffset, List<AggregateFunction> aggregateFunctions) {
+    super(tupleDataOffset, aggregateFunctions);
+  }
+
+  @Override
+  public void combine(Iterable<T> values, Collector<T> out) throws Exception {
+    reduce(values, out);
+  }
+
+  @Override
+  public void reduce(Iterable<T> input, Collector<T> out) throws Exception {
+    T superVertexTuple = null;
+
+    for (T inputTuple : input) {
+      if (superVertexTuple == null) {
+        // Copy the first tuple to be used as the super-vertex tuple.
+        superVertexTuple = inputTuple.copy();
+      } else {
+        // Call aggregate functions for every other tuple of the group.
+        accumulateAggregates(superVertexTuple, inputTuple);
+      }
+    }
+    if (superVertexTuple == null) {
+      // This should not happen, since the reduce function can not be called on an empty group.
+      throw new IllegalStateException(
+        "Super-vertex was not initialized. Do not call this function on empty groups.");
+    }
+    writeAccumulators(superVertexTuple);
+    // The super vertex is identified by having the same vertex ID and super vertex ID.
+    final GradoopId superVertexId = superVertexTuple.getField(VERTEX_TUPLE_SUPERID);
+    superVertexTuple.setField(superVertexId, VERTEX_TUPLE_ID);
+    out.collect(superVertexTuple);
+  }
+}
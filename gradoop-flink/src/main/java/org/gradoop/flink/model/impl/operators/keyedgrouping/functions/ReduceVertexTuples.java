@@ -34,6 +34,9 @@ import static org.gradoop.flink.model.impl.operators.keyedgrouping.functions.Gro
  *   <li>A tuple representing the super vertex, storing the keys and aggregation results for the group.
  *   The super vertex is identified by having the same vertex ID and super vertex ID.</li>
  * </ul>
+ * If the first tuple of a group is a super vertex tuple of a previous grouping result, its ID is
+ * kept and the remaining tuples of the group are assigned to it. Groups have to be sorted
+ * accordingly (see {@link BuildTuplesFromSuperVertices}).
  *
  * @param <T> The tuple type.
  */
@@ -55,15 +58,22 @@ public class ReduceVertexTuples<T extends Tuple> extends ReduceElementTuples<T>
   @Override
   public void reduce(Iterable<T> input, Collector<T> out) throws Exception {
     T superVertexTuple = null;
-    GradoopId superVertexId = GradoopId.get();
+    GradoopId superVertexId = null;
 
     for (T inputTuple : input) {
       if (superVertexTuple == null) {
         // Copy the first tuple to be used as the super-vertex tuple.
         superVertexTuple = inputTuple.copy();
+        final GradoopId id = inputTuple.getField(VERTEX_TUPLE_ID);
+        if (id.equals(inputTuple.getField(VERTEX_TUPLE_SUPERID))) {
+          // The first tuple is an existing super vertex, keep its ID.
+          superVertexId = id;
+          continue;
+        }
+        superVertexId = GradoopId.get();
       } else {
         // Call aggregate functions for every other tuple of the group.
-        callAggregateFunctions(superVertexTuple, inputTuple);
+        accumulateAggregates(superVertexTuple, inputTuple);
       }
       // Assign the super-vertex ID.
       inputTuple.setField(superVertexId, VERTEX_TUPLE_SUPERID);
@@ -76,6 +86,7 @@ public class ReduceVertexTuples<T extends Tuple> extends ReduceElementTuples<T>
       throw new IllegalStateException(
         "Super-vertex was not initialized. Do not call this function on empty groups.");
     }
+    writeAccumulators(superVertexTuple);
     superVertexTuple.setField(superVertexId, VERTEX_TUPLE_ID);
     superVertexTuple.setField(superVertexId, VERTEX_TUPLE_SUPERID);
     out.collect(superVertexTuple);
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.common.model.api.entities.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Remove all partial aggregate values from a super-element.
+ *
+ * @param <E> The element type.
+ * @see GroupingConstants#PARTIAL_AGGREGATE_PREFIX
+ */
+public class RemovePartialAggregates<E extends Element> implements MapFunction<E, E> {
+
+  @Override
+  public E map(E element) {
+    if (element.getPropertyCount() == 0) {
+      return element;
+    }
+    List<String> partialKeys = new ArrayList<>();
+    for (String key : element.getPropertyKeys()) {
+      if (key.startsWith(GroupingConstants.PARTIAL_AGGREGATE_PREFIX)) {
+        partialKeys.add(key);
+      }
+    }
+    partialKeys.forEach(element::removeProperty);
+    return element;
+  }
+}
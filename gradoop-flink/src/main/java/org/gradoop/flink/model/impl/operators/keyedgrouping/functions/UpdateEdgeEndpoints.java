@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Update the source- and target-ID of an edge tuple to the IDs of their super-vertices.
+ * The left side of this join function is the edge tuple and the right side an endpoint tuple
+ * created by {@link BuildEdgeEndpoints} with both super-IDs set.
+ *
+ * @param <T> The edge tuple type.
+ */
+public class UpdateEdgeEndpoints<T extends Tuple>
+  implements JoinFunction<T, Tuple4<GradoopId, GradoopId, GradoopId, GradoopId>, T> {
+
+  /**
+   * The index of the source-ID field.
+   */
+  private final int sourceField;
+
+  /**
+   * The index of the target-ID field.
+   */
+  private final int targetField;
+
+  /**
+   * Create a new instance of this update function.
+   *
+   * @param sourceField The index of the source-ID field.
+   * @param targetField The index of the target-ID field.
+   */
+  public UpdateEdgeEndpoints(int sourceField, int targetField) {
+    this.sourceField = sourceField;
+    this.targetField = targetField;
+  }
+
+  @Override
+  public T join(T edgeTuple, Tuple4<GradoopId, GradoopId, GradoopId, GradoopId> endpoints) {
+    edgeTuple.setField(endpoints.f2, sourceField);
+    edgeTuple.setField(endpoints.f3, targetField);
+    return edgeTuple;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Set the super-source-ID or super-target-ID of an edge endpoint tuple.
+ * The left side of this join function is the endpoint tuple created by {@link BuildEdgeEndpoints}
+ * and the right side a {@link Tuple2} with the vertex-ID and the super-vertex-ID.
+ *
+ * @param <M> The type of the vertex-ID to super-vertex-ID mapping.
+ */
+public class UpdateEndpointField<M extends Tuple2<GradoopId, GradoopId>> implements
+  JoinFunction<Tuple4<GradoopId, GradoopId, GradoopId, GradoopId>, M,
+    Tuple4<GradoopId, GradoopId, GradoopId, GradoopId>> {
+
+  /**
+   * The index of the field to update.
+   */
+  private final int index;
+
+  /**
+   * Create a new instance of this update function.
+   *
+   * @param index The index of the field to update.
+   */
+  public UpdateEndpointField(int index) {
+    this.index = index;
+  }
+
+  @Override
+  public Tuple4<GradoopId, GradoopId, GradoopId, GradoopId> join(
+    Tuple4<GradoopId, GradoopId, GradoopId, GradoopId> endpoints, M idToSuperId) {
+    endpoints.setField(idToSuperId.f1, index);
+    return endpoints;
+  }
+}
@@ -23,7 +23,7 @@ import org.gradoop.common.model.impl.id.GradoopId;
 /**
  * Update a tuple field with a certain index to a value from another tuple.
  * The left side of this join function is the tuple to be updated and the right side a {@link Tuple2}
- * with the old and new value.
+ * with the old and new value. When used in an outer join, a missing right side is considered an error.
  *
  * @param <T> The input- and result-tuple type.
  */
@@ -45,6 +45,9 @@ public class UpdateIdField<T extends Tuple> implements JoinFunction<T, Tuple2<Gr
 
   @Override
   public T join(T inputTuple, Tuple2<GradoopId, GradoopId> updateValue) throws Exception {
+    if (updateValue == null) {
+      throw new IllegalStateException("No update value for ID " + inputTuple.getField(index));
+    }
     inputTuple.setField(updateValue.f1, index);
     return inputTuple;
   }
@@ -55,10 +55,15 @@ public class CompositeKeyFunction<T> implements KeyFunction<T, Tuple> {
     reuseTuple = Tuple.newInstance(componentFunctions.size());
   }
 
+  /**
+   * {@inheritDoc}<p>
+   * Since the tuple is reused, the previous keys of the component functions are reused as well.
+   */
   @Override
   public Tuple getKey(T element) {
     for (int index = 0; index < componentFunctions.size(); index++) {
-      reuseTuple.setField(componentFunctions.get(index).getKey(element), index);
+      reuseTuple.setField(componentFunctions.get(index).getKey(element, reuseTuple.getField(index)),
+        index);
     }
     return reuseTuple;
   }
@@ -18,6 +18,8 @@ package org.gradoop.flink.model.impl.operators.keyedgrouping.keys;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.gradoop.common.model.api.entities.Attributed;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.Type;
+import org.gradoop.common.model.impl.properties.bytes.Bytes;
 import org.gradoop.flink.model.api.functions.KeyFunctionWithDefaultValue;
 
 import java.util.Objects;
@@ -49,6 +51,46 @@ public class PropertyKeyFunction<T extends Attributed> implements KeyFunctionWit
     return value == null ? PropertyValue.NULL_VALUE.getRawBytes() : value.getRawBytes();
   }
 
+  /**
+   * {@inheritDoc}<p>
+   * The raw bytes of {@code long}, {@code int}, {@code double} and {@code null} values are written
+   * to the reused key, if it has the correct size. Other types are serialized to a new array.
+   */
+  @Override
+  public byte[] getKey(T element, Object reuse) {
+    if (!(reuse instanceof byte[])) {
+      return getKey(element);
+    }
+    final byte[] key = (byte[]) reuse;
+    final PropertyValue value = element.getPropertyValue(propertyKey);
+    final Object object = value == null ? null : value.getObject();
+    if (object == null) {
+      if (key.length == PropertyValue.OFFSET) {
+        key[0] = Type.NULL.getTypeByte();
+        return key;
+      }
+    } else if (object instanceof Long) {
+      if (key.length == PropertyValue.OFFSET + Bytes.SIZEOF_LONG) {
+        key[0] = Type.LONG.getTypeByte();
+        Bytes.putLong(key, PropertyValue.OFFSET, (Long) object);
+        return key;
+      }
+    } else if (object instanceof Integer) {
+      if (key.length == PropertyValue.OFFSET + Bytes.SIZEOF_INT) {
+        key[0] = Type.INTEGER.getTypeByte();
+        Bytes.putInt(key, PropertyValue.OFFSET, (Integer) object);
+        return key;
+      }
+    } else if (object instanceof Double) {
+      if (key.length == PropertyValue.OFFSET + Bytes.SIZEOF_DOUBLE) {
+        key[0] = Type.DOUBLE.getTypeByte();
+        Bytes.putDouble(key, PropertyValue.OFFSET, (Double) object);
+        return key;
+      }
+    }
+    return value == null ? PropertyValue.NULL_VALUE.getRawBytes() : value.getRawBytes();
+  }
+
   @Override
   public void addKeyToElement(T element, Object key) {
     if (!(key instanceof byte[])) {
@@ -16,6 +16,7 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher;
 
 import com.google.common.collect.Sets;
+import org.apache.flink.api.common.JobExecutionResult;
 import org.apache.flink.api.java.DataSet;
 import org.apache.log4j.Logger;
 import org.gradoop.common.model.api.entities.Edge;
@@ -30,16 +31,22 @@ import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.PatternMatching;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.debug.PrintEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.debug.QueryPlanProfiler;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ElementsFromEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.add.AddEmbeddingsElements;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.ProjectEmbeddingsElements;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.LimitEmbeddingsNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.BitsetDualSimulation;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.FatVertex;
+import org.s1ck.gdl.model.GraphElement;
 
 import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.collect.Sets.difference;
 import static com.google.common.collect.Sets.intersection;
 import static org.gradoop.flink.model.impl.operators.matching.common.debug.Printer.log;
@@ -79,6 +86,23 @@ public class CypherPatternMatching<
    * Statistics about the data graph
    */
   private final GraphStatistics graphStatistics;
+  /**
+   * If true, the data graph is reduced to the elements surviving a dual simulation of the query
+   * before the query plan is executed.
+   */
+  private final boolean semiJoinReduction;
+  /**
+   * Maximum number of matches to return, a value smaller than 1 means no limit.
+   */
+  private final int limit;
+  /**
+   * If true, the next execution collects runtime statistics for every node of the query plan.
+   */
+  private boolean profiling;
+  /**
+   * Profiler of the last profiled execution.
+   */
+  private QueryPlanProfiler profiler;
 
   /**
    * Instantiates a new operator.
@@ -106,11 +130,60 @@ public class CypherPatternMatching<
    */
   public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      false, 0);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * If {@code semiJoinReduction} is enabled, vertices and edges that can not be part of any match
+   * are removed by a dual simulation of the query before the query plan is executed. This
+   * semi-join reduces the inputs of all joins in the plan, which pays off for selective patterns
+   * on large graphs. The reduction is skipped for queries it does not support, i.e. queries
+   * containing variable length paths, isolated query vertices or inline property predicates.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param semiJoinReduction   true, if the graph shall be reduced before query execution
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    boolean semiJoinReduction) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      semiJoinReduction, 0);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * If {@code limit} is positive, at most that many (arbitrary) matches are returned. The limit
+   * is applied to the embeddings produced by the query plan and pushed below the final
+   * projections, so result construction and post processing only run on the limited matches.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param semiJoinReduction   true, if the graph shall be reduced before query execution
+   * @param limit               maximum number of matches, values smaller than 1 disable the limit
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    boolean semiJoinReduction, int limit) {
     super(query, attachData, LOG);
     this.constructionPattern = constructionPattern;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
     this.graphStatistics = graphStatistics;
+    this.semiJoinReduction = semiJoinReduction;
+    this.limit = limit;
   }
 
   @Override
@@ -120,11 +193,14 @@ public class CypherPatternMatching<
 
   @Override
   protected GC executeForPattern(LG graph) {
-    // Query planning
     QueryHandler queryHandler = getQueryHandler();
-    QueryPlan plan =
-      new GreedyPlanner<>(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy).plan()
-        .getQueryPlan();
+
+    QueryPlan plan = createPlan(graph, queryHandler);
+
+    if (profiling) {
+      profiler = new QueryPlanProfiler(plan, queryHandler, graphStatistics);
+      profiler.enableProfiling();
+    }
 
     // Query execution
     DataSet<Embedding> embeddings = plan.execute();
@@ -150,6 +226,120 @@ public class CypherPatternMatching<
       PostProcessor.extractGraphCollection(finalElements, graph.getCollectionFactory(), true);
   }
 
+  /**
+   * Returns the query plan for the given graph including the estimated cardinality of every plan
+   * node. The query is not executed.
+   *
+   * @param graph data graph
+   * @return query plan description
+   */
+  public String explain(LG graph) {
+    QueryHandler queryHandler = getQueryHandler();
+    return new QueryPlanProfiler(createPlan(graph, queryHandler), queryHandler, graphStatistics)
+      .explain();
+  }
+
+  /**
+   * Executes the operator like {@link #execute(BaseGraph)}, but collects the number of
+   * embeddings and the runtime of every node of the query plan. After the job computing the
+   * result has finished, the statistics are available via {@link #getProfile}.
+   *
+   * @param graph data graph
+   * @return matches
+   */
+  public GC profile(LG graph) {
+    profiling = true;
+    try {
+      return execute(graph);
+    } finally {
+      profiling = false;
+    }
+  }
+
+  /**
+   * Returns the query plan of the last call to {@link #profile} including the estimated and
+   * actual cardinality as well as the runtime of every plan node.
+   *
+   * @param result result of the job computing the profiled matches, e.g.
+   *               {@code env.getLastJobExecutionResult()}
+   * @return query plan description
+   */
+  public String getProfile(JobExecutionResult result) {
+    checkState(profiler != null, "No query plan has been profiled.");
+    return profiler.profile(result);
+  }
+
+  /**
+   * Computes the query plan for the given graph.
+   *
+   * @param graph data graph
+   * @param queryHandler query handler
+   * @return query plan
+   */
+  private QueryPlan createPlan(LG graph, QueryHandler queryHandler) {
+    // Semi-join reduction (if enabled and supported)
+    LG inputGraph = semiJoinReduction && isReducible(queryHandler) ? reduce(graph) : graph;
+
+    // Query planning
+    QueryPlan plan =
+      new GreedyPlanner<>(inputGraph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy)
+        .plan().getQueryPlan();
+
+    if (limit > 0) {
+      plan = new QueryPlan(LimitEmbeddingsNode.pushDown(plan.getRoot(), limit));
+    }
+    return plan;
+  }
+
+  /**
+   * Reduces the graph to the vertices and edges contained in the maximum dual simulation match of
+   * the query. Every match of the query (under homomorphism and isomorphism) is contained in
+   * that graph, thus the query result is not affected.
+   *
+   * @param graph data graph
+   * @return reduced data graph
+   */
+  private LG reduce(LG graph) {
+    DataSet<FatVertex> fatVertices =
+      new BitsetDualSimulation<G, V, E, LG, GC>(getQuery(), false).simulate(graph);
+
+    return graph.getFactory().fromDataSets(graph.getGraphHead(),
+      PostProcessor.extractVerticesWithData(fatVertices, graph.getVertices()),
+      PostProcessor.extractEdgesWithData(fatVertices, graph.getEdges()));
+  }
+
+  /**
+   * Checks if the query can be evaluated by a dual simulation. This excludes variable length
+   * paths, query vertices without incident edges and inline property predicates, which are
+   * evaluated differently by the Cypher engine.
+   *
+   * @param queryHandler query handler
+   * @return true, if the semi-join reduction can be applied for the query
+   */
+  static boolean isReducible(QueryHandler queryHandler) {
+    for (org.s1ck.gdl.model.Edge edge : queryHandler.getEdges()) {
+      if (edge.hasVariableLength() || hasProperties(edge)) {
+        return false;
+      }
+    }
+    for (org.s1ck.gdl.model.Vertex vertex : queryHandler.getVertices()) {
+      if (queryHandler.getEdgesByVertexId(vertex.getId()).isEmpty() || hasProperties(vertex)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if the query element defines inline properties.
+   *
+   * @param element query element
+   * @return true, if the query element has properties
+   */
+  private static boolean hasProperties(GraphElement element) {
+    return element.getProperties() != null && !element.getProperties().isEmpty();
+  }
+
   /**
    * Method to construct final embedded elements
    *
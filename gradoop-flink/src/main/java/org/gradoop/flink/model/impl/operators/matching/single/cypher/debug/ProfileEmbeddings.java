@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.debug;
+
+import org.apache.flink.api.common.accumulators.LongCounter;
+import org.apache.flink.api.common.accumulators.LongMaximum;
+import org.apache.flink.api.common.accumulators.LongMinimum;
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Forwards embeddings unchanged and collects runtime statistics about them in accumulators:
+ *
+ * <ul>
+ * <li>{@code prefix + ROWS}: number of embeddings</li>
+ * <li>{@code prefix + FIRST}: earliest time (ms) an embedding was seen by any subtask</li>
+ * <li>{@code prefix + LAST}: latest time (ms) a subtask finished</li>
+ * </ul>
+ */
+@FunctionAnnotation.ForwardedFields("*")
+public class ProfileEmbeddings extends RichMapFunction<Embedding, Embedding> {
+  /**
+   * Accumulator suffix for the number of embeddings.
+   */
+  public static final String ROWS = "-rows";
+  /**
+   * Accumulator suffix for the time the first embedding was seen.
+   */
+  public static final String FIRST = "-first";
+  /**
+   * Accumulator suffix for the time the operator finished.
+   */
+  public static final String LAST = "-last";
+  /**
+   * Accumulator prefix
+   */
+  private final String prefix;
+  /**
+   * Counts the embeddings
+   */
+  private transient LongCounter rows;
+  /**
+   * Time the first embedding was seen
+   */
+  private transient LongMinimum first;
+  /**
+   * Time the subtask finished
+   */
+  private transient LongMaximum last;
+  /**
+   * True, if at least one embedding was seen by this subtask
+   */
+  private transient boolean seen;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param prefix accumulator prefix, unique within the job
+   */
+  public ProfileEmbeddings(String prefix) {
+    this.prefix = prefix;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    rows = new LongCounter();
+    first = new LongMinimum();
+    last = new LongMaximum();
+    seen = false;
+    getRuntimeContext().addAccumulator(prefix + ROWS, rows);
+    getRuntimeContext().addAccumulator(prefix + FIRST, first);
+    getRuntimeContext().addAccumulator(prefix + LAST, last);
+  }
+
+  @Override
+  public Embedding map(Embedding embedding) {
+    if (!seen) {
+      first.add(System.currentTimeMillis());
+      seen = true;
+    }
+    rows.add(1L);
+    return embedding;
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (seen) {
+      last.add(System.currentTimeMillis());
+    }
+    super.close();
+  }
+}
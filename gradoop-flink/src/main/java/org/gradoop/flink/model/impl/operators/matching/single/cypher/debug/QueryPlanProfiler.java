@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.debug;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.flink.api.common.JobExecutionResult;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+
+/**
+ * Renders a {@link QueryPlan} including the estimated cardinality of every node (EXPLAIN) and,
+ * if the plan was profiled, the actual cardinality and runtime of every node (PROFILE).
+ *
+ * Profiling must be enabled via {@link #enableProfiling()} before the plan is executed. The
+ * actual values are read from the accumulators of the {@link JobExecutionResult}, e.g.
+ * {@code env.getLastJobExecutionResult()}.
+ */
+public class QueryPlanProfiler {
+  /**
+   * Used for indentation when creating a string representation of the plan
+   */
+  private static final String PAD_STRING = "|.";
+  /**
+   * The query plan
+   */
+  private final QueryPlan queryPlan;
+  /**
+   * Query handler used for estimation
+   */
+  private final QueryHandler queryHandler;
+  /**
+   * Graph statistics used for estimation
+   */
+  private final GraphStatistics graphStatistics;
+
+  /**
+   * Creates a new profiler.
+   *
+   * @param queryPlan query plan
+   * @param queryHandler query handler
+   * @param graphStatistics graph statistics
+   */
+  public QueryPlanProfiler(QueryPlan queryPlan, QueryHandler queryHandler,
+    GraphStatistics graphStatistics) {
+    this.queryPlan = queryPlan;
+    this.queryHandler = queryHandler;
+    this.graphStatistics = graphStatistics;
+  }
+
+  /**
+   * Enables profiling for all nodes of the query plan. Must be called before the plan is
+   * executed.
+   */
+  public void enableProfiling() {
+    enableProfiling(queryPlan.getRoot(), "cypher-profile-" + GradoopId.get() + "-", 0);
+  }
+
+  /**
+   * Returns the plan including the estimated cardinality of every node.
+   *
+   * @return plan description
+   */
+  public String explain() {
+    StringBuilder sb = new StringBuilder();
+    printPlanNode(queryPlan.getRoot(), 0, sb, null);
+    return sb.toString();
+  }
+
+  /**
+   * Returns the plan including the estimated and actual cardinality of every node as well as the
+   * time between the first embedding produced by the node and the end of its last task.
+   *
+   * @param result result of the job that executed the profiled plan
+   * @return plan description
+   */
+  public String profile(JobExecutionResult result) {
+    StringBuilder sb = new StringBuilder();
+    printPlanNode(queryPlan.getRoot(), 0, sb, result);
+    return sb.toString();
+  }
+
+  /**
+   * Recursively assigns accumulator prefixes to the sub tree of the given node in pre-order.
+   *
+   * @param node root plan node
+   * @param prefix prefix shared by all nodes of the plan
+   * @param index index of the node
+   * @return next free index
+   */
+  private int enableProfiling(PlanNode node, String prefix, int index) {
+    node.setProfilingPrefix(prefix + index++);
+    if (node instanceof UnaryNode) {
+      index = enableProfiling(((UnaryNode) node).getChildNode(), prefix, index);
+    } else if (node instanceof BinaryNode) {
+      index = enableProfiling(((BinaryNode) node).getLeftChild(), prefix, index);
+      index = enableProfiling(((BinaryNode) node).getRightChild(), prefix, index);
+    }
+    return index;
+  }
+
+  /**
+   * Recursively prints the sub tree of the given node in pre-order.
+   *
+   * @param node root plan node
+   * @param level level of the whole query tree
+   * @param sb string builder to append
+   * @param result job execution result or {@code null} to print estimations only
+   */
+  private void printPlanNode(PlanNode node, int level, StringBuilder sb,
+    JobExecutionResult result) {
+    long estimated = new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)
+      .getCardinality();
+
+    sb.append(String.format("%s|-%s [estimated: %d", StringUtils.leftPad("", level * 2, PAD_STRING),
+      node, estimated));
+    if (result != null && node.getProfilingPrefix() != null) {
+      String prefix = node.getProfilingPrefix();
+      Long rows = result.getAccumulatorResult(prefix + ProfileEmbeddings.ROWS);
+      Long first = result.getAccumulatorResult(prefix + ProfileEmbeddings.FIRST);
+      Long last = result.getAccumulatorResult(prefix + ProfileEmbeddings.LAST);
+      sb.append(String.format(", actual: %d", rows == null ? 0L : rows));
+      if (first != null && last != null && last >= first) {
+        sb.append(String.format(", time: %d ms", last - first));
+      }
+    }
+    sb.append(String.format("]%n"));
+
+    level++;
+    if (node instanceof UnaryNode) {
+      printPlanNode(((UnaryNode) node).getChildNode(), level, sb, result);
+    } else if (node instanceof BinaryNode) {
+      printPlanNode(((BinaryNode) node).getLeftChild(), level, sb, result);
+      printPlanNode(((BinaryNode) node).getRightChild(), level, sb, result);
+    }
+  }
+}
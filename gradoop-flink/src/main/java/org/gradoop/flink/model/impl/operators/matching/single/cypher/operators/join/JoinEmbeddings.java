@@ -19,8 +19,9 @@ import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
-import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractJoinColumns;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.SetJoinKeyType;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.keys.EmbeddingJoinKeyTypeInfo;
 
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +37,9 @@ import java.util.List;
  * <li>all properties from the right side are appended to the proeprties of the left side,
  *     <em>no</em> deduplication is performed</li>
  * </ul>
+ *
+ * Both inputs are typed as {@link EmbeddingJoinKeyTypeInfo} on their join columns, so Flink
+ * compares the embeddings directly on their (serialized) id data instead of extracting keys.
  */
 public class JoinEmbeddings implements PhysicalOperator {
 
@@ -179,9 +183,14 @@ public class JoinEmbeddings implements PhysicalOperator {
 
   @Override
   public DataSet<Embedding> evaluate() {
-    return left.join(right, joinHint)
-      .where(new ExtractJoinColumns(leftJoinColumns))
-      .equalTo(new ExtractJoinColumns(rightJoinColumns))
+    return left
+      .map(new SetJoinKeyType(leftJoinColumns))
+      .name(getName() + " (left keys)")
+      .join(right
+        .map(new SetJoinKeyType(rightJoinColumns))
+        .name(getName() + " (right keys)"), joinHint)
+      .where("*")
+      .equalTo("*")
       .with(new MergeEmbeddings(rightColumns, rightJoinColumns,
         distinctVertexColumnsLeft, distinctVertexColumnsRight,
         distinctEdgeColumnsLeft, distinctEdgeColumnsRight))
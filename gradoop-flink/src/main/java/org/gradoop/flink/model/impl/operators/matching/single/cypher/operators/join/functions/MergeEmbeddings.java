@@ -15,7 +15,6 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.flink.api.common.functions.FlatJoinFunction;
 import org.apache.flink.api.common.functions.FlatMapFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
@@ -48,10 +47,6 @@ public class MergeEmbeddings implements
    * Non-Join columns from the right side.
    */
   private final int[] nonJoinColumnsRight;
-  /**
-   * Number of join columns of the right side.
-   */
-  private final int joinColumnsRightSize;
   /**
    * Vertex columns of the left embedding that need to have distinct id values.
    */
@@ -97,7 +92,6 @@ public class MergeEmbeddings implements
     this.nonJoinColumnsRight = IntStream.range(0, rightColumns)
       .filter(col -> !joinColumnsRight.contains(col))
       .toArray();
-    this.joinColumnsRightSize = joinColumnsRight.size();
 
     ToIntFunction<Integer> f = i -> i;
     this.distinctVertexColumnsLeft = distinctVertexColumnsLeft.stream().mapToInt(f).toArray();
@@ -160,9 +154,7 @@ public class MergeEmbeddings implements
    * @param right right embedding
    */
   protected void buildEmbedding(Embedding left, Embedding right) {
-    reuseEmbedding.setIdData(mergeIdData(left, right));
-    reuseEmbedding.setPropertyData(mergePropertyData(left, right));
-    reuseEmbedding.setIdListData(mergeIdListData(left, right));
+    reuseEmbedding.merge(left, right, nonJoinColumnsRight);
   }
 
   /**
@@ -199,54 +191,4 @@ public class MergeEmbeddings implements
     }
     return isDistinct;
   }
-
-  /**
-   * Merges the idData columns of left and right
-   * All entries of left are kept as well as all right entries which aren't join columns
-   *
-   * @param left the left hand side embedding
-   * @param right the right hand side embedding
-   * @return the merged data represented as byte array
-   */
-  private byte[] mergeIdData(Embedding left, Embedding right) {
-    byte[] newIdData = new byte[
-      left.getIdData().length +
-      right.getIdData().length -
-      (joinColumnsRightSize * (Embedding.ID_ENTRY_SIZE))
-    ];
-
-    int offset = left.getIdData().length;
-    System.arraycopy(left.getIdData(), 0, newIdData, 0, offset);
-
-    for (int i : nonJoinColumnsRight) {
-      System.arraycopy(right.getRawIdEntry(i), 0, newIdData, offset, Embedding.ID_ENTRY_SIZE);
-      offset += Embedding.ID_ENTRY_SIZE;
-    }
-
-    return newIdData;
-  }
-
-  /**
-   * Merges the propertyData columns of the left and right embeddings
-   * All entries from both sides are kept.
-   *
-   * @param left the left hand side embedding
-   * @param right the right hand side embedding
-   * @return the merged data represented as byte array
-   */
-  private byte[] mergePropertyData(Embedding left, Embedding right) {
-    return ArrayUtils.addAll(left.getPropertyData(), right.getPropertyData());
-  }
-
-  /**
-   * Merges the idListData columns of the left and right embeddings
-   * All entries from both sides are kept.
-   *
-   * @param left the left hand side embedding
-   * @param right the right hand side embedding
-   * @return the merged data represented as byte array
-   */
-  private byte[] mergeIdListData(Embedding left, Embedding right) {
-    return ArrayUtils.addAll(left.getIdListData(), right.getIdListData());
-  }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.keys.EmbeddingJoinKeyTypeInfo;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.List;
+
+/**
+ * Forwards embeddings unchanged but declares them as {@link EmbeddingJoinKeyTypeInfo} on the
+ * given columns, which allows joining them on their id columns without key extraction.
+ */
+@FunctionAnnotation.ForwardedFields("*")
+public class SetJoinKeyType implements MapFunction<Embedding, Embedding>,
+  ResultTypeQueryable<Embedding> {
+  /**
+   * Type information of the output embeddings.
+   */
+  private final EmbeddingJoinKeyTypeInfo typeInfo;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param columns join columns of the embeddings
+   */
+  public SetJoinKeyType(List<Integer> columns) {
+    this.typeInfo = new EmbeddingJoinKeyTypeInfo(
+      columns.stream().mapToInt(Integer::intValue).toArray());
+  }
+
+  @Override
+  public Embedding map(Embedding embedding) {
+    return embedding;
+  }
+
+  @Override
+  public TypeInformation<Embedding> getProducedType() {
+    return typeInfo;
+  }
+}
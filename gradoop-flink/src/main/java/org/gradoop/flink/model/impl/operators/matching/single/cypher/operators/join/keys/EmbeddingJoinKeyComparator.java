@@ -0,0 +1,290 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.keys;
+
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.base.array.BytePrimitiveArrayComparator;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.io.IOException;
+
+/**
+ * Compares embeddings by the ids stored at a fixed list of columns.
+ * <p>
+ * The comparator works directly on the id data of the embedding (and on its serialized form) and
+ * never creates key objects. It offers normalized keys consisting of the concatenated raw ids of
+ * the join columns, which allows Flink to sort embeddings by their join columns in managed memory.
+ * <p>
+ * The join columns must contain single ids, id list entries are not supported.
+ */
+public class EmbeddingJoinKeyComparator extends TypeComparator<Embedding> {
+
+  /**
+   * Default class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Columns of the embedding that are compared.
+   */
+  private final int[] columns;
+
+  /**
+   * Sort order.
+   */
+  private final boolean ascending;
+
+  /**
+   * Length of the concatenated key in bytes.
+   */
+  private final int keyLength;
+
+  /**
+   * Key of the reference embedding.
+   */
+  private final byte[] referenceKey;
+
+  /**
+   * Reused key holder used by {@link #extractKeys(Object, Object[], int)}.
+   */
+  private final byte[] extractedKey;
+
+  /**
+   * Comparators for the extracted key.
+   */
+  private final TypeComparator[] flatComparators;
+
+  /**
+   * Buffer for the serialized id data of the first record.
+   */
+  private byte[] firstBuffer;
+
+  /**
+   * Buffer for the serialized id data of the second record.
+   */
+  private byte[] secondBuffer;
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param columns columns of the embedding that are compared
+   * @param ascending sort order
+   */
+  public EmbeddingJoinKeyComparator(int[] columns, boolean ascending) {
+    this.columns = columns;
+    this.ascending = ascending;
+    this.keyLength = columns.length * GradoopId.ID_SIZE;
+    this.referenceKey = new byte[keyLength];
+    this.extractedKey = new byte[keyLength];
+    this.flatComparators = new TypeComparator[] {new BytePrimitiveArrayComparator(ascending)};
+    this.firstBuffer = new byte[0];
+    this.secondBuffer = new byte[0];
+  }
+
+  @Override
+  public int hash(Embedding record) {
+    byte[] idData = record.getIdData();
+    int hash = 1;
+    for (int column : columns) {
+      int offset = getKeyOffset(column);
+      for (int i = offset; i < offset + GradoopId.ID_SIZE; i++) {
+        hash = 31 * hash + idData[i];
+      }
+    }
+    return hash;
+  }
+
+  @Override
+  public void setReference(Embedding toCompare) {
+    copyKey(toCompare.getIdData(), referenceKey);
+  }
+
+  @Override
+  public boolean equalToReference(Embedding candidate) {
+    byte[] idData = candidate.getIdData();
+    int keyOffset = 0;
+    for (int column : columns) {
+      int offset = getKeyOffset(column);
+      for (int i = 0; i < GradoopId.ID_SIZE; i++) {
+        if (idData[offset + i] != referenceKey[keyOffset + i]) {
+          return false;
+        }
+      }
+      keyOffset += GradoopId.ID_SIZE;
+    }
+    return true;
+  }
+
+  @Override
+  public int compareToReference(TypeComparator<Embedding> referencedComparator) {
+    byte[] otherKey = ((EmbeddingJoinKeyComparator) referencedComparator).referenceKey;
+    int comp = 0;
+    for (int i = 0; i < keyLength && comp == 0; i++) {
+      comp = otherKey[i] - referenceKey[i];
+    }
+    return ascending ? comp : -comp;
+  }
+
+  @Override
+  public int compare(Embedding first, Embedding second) {
+    int comp = compareIdData(first.getIdData(), second.getIdData());
+    return ascending ? comp : -comp;
+  }
+
+  @Override
+  public int compareSerialized(DataInputView firstSource, DataInputView secondSource)
+    throws IOException {
+    firstBuffer = readIdData(firstSource, firstBuffer);
+    secondBuffer = readIdData(secondSource, secondBuffer);
+    int comp = compareIdData(firstBuffer, secondBuffer);
+    return ascending ? comp : -comp;
+  }
+
+  @Override
+  public boolean supportsNormalizedKey() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsSerializationWithKeyNormalization() {
+    return false;
+  }
+
+  @Override
+  public int getNormalizeKeyLen() {
+    return keyLength;
+  }
+
+  @Override
+  public boolean isNormalizedKeyPrefixOnly(int keyBytes) {
+    return keyBytes < keyLength;
+  }
+
+  @Override
+  public void putNormalizedKey(Embedding record, MemorySegment target, int offset, int numBytes) {
+    byte[] idData = record.getIdData();
+    int written = 0;
+    for (int c = 0; c < columns.length && written < numBytes; c++) {
+      int idOffset = getKeyOffset(columns[c]);
+      for (int i = 0; i < GradoopId.ID_SIZE && written < numBytes; i++) {
+        // shift the signed byte range to an unsigned one to keep the order of compare()
+        target.put(offset + written, (byte) (idData[idOffset + i] - Byte.MIN_VALUE));
+        written++;
+      }
+    }
+    for (; written < numBytes; written++) {
+      target.put(offset + written, (byte) 0);
+    }
+  }
+
+  @Override
+  public void writeWithKeyNormalization(Embedding record, DataOutputView target) {
+    throw new UnsupportedOperationException("Key normalized serialization is not supported.");
+  }
+
+  @Override
+  public Embedding readWithKeyDenormalization(Embedding reuse, DataInputView source) {
+    throw new UnsupportedOperationException("Key normalized serialization is not supported.");
+  }
+
+  @Override
+  public boolean invertNormalizedKey() {
+    return !ascending;
+  }
+
+  @Override
+  public TypeComparator<Embedding> duplicate() {
+    return new EmbeddingJoinKeyComparator(columns, ascending);
+  }
+
+  @Override
+  public int extractKeys(Object record, Object[] target, int index) {
+    copyKey(((Embedding) record).getIdData(), extractedKey);
+    target[index] = extractedKey;
+    return 1;
+  }
+
+  @Override
+  public TypeComparator[] getFlatComparators() {
+    return flatComparators;
+  }
+
+  /**
+   * Compares the join columns of two id data arrays.
+   *
+   * @param first id data of the first embedding
+   * @param second id data of the second embedding
+   * @return negative, zero or positive value if the first key is smaller, equal or larger
+   */
+  private int compareIdData(byte[] first, byte[] second) {
+    for (int column : columns) {
+      int offset = getKeyOffset(column);
+      for (int i = offset; i < offset + GradoopId.ID_SIZE; i++) {
+        int comp = first[i] - second[i];
+        if (comp != 0) {
+          return comp;
+        }
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Copies the ids stored at the join columns into the target key.
+   *
+   * @param idData id data of an embedding
+   * @param target target key
+   */
+  private void copyKey(byte[] idData, byte[] target) {
+    int keyOffset = 0;
+    for (int column : columns) {
+      System.arraycopy(idData, getKeyOffset(column), target, keyOffset, GradoopId.ID_SIZE);
+      keyOffset += GradoopId.ID_SIZE;
+    }
+  }
+
+  /**
+   * Reads the id data of a serialized embedding into the given buffer. The remaining fields of
+   * the embedding are not read.
+   *
+   * @param source serialized embedding
+   * @param buffer buffer to reuse
+   * @return buffer containing the id data
+   * @throws IOException if the source cannot be read
+   */
+  private byte[] readIdData(DataInputView source, byte[] buffer) throws IOException {
+    int length = source.readInt();
+    if (buffer.length < length) {
+      buffer = new byte[length];
+    }
+    source.readFully(buffer, 0, length);
+    return buffer;
+  }
+
+  /**
+   * Returns the offset of the id stored at the given column in the id data array.
+   *
+   * @param column embedding column
+   * @return offset of the raw id
+   */
+  private static int getKeyOffset(int column) {
+    return column * Embedding.ID_ENTRY_SIZE + 1;
+  }
+}
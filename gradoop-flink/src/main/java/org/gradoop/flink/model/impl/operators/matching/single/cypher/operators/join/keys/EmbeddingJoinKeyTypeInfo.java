@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.keys;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.AtomicType;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.runtime.ValueSerializer;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Type information for embeddings that are used as key by their id columns, e.g. in
+ * {@code left.join(right).where("*").equalTo("*")}.
+ * <p>
+ * The serializer is the same as for plain embeddings, comparisons are done by the
+ * {@link EmbeddingJoinKeyComparator}. Two instances are considered equal if they compare the
+ * same number of columns, which makes the left and right side of a join compatible even if their
+ * join columns are at different positions.
+ */
+public class EmbeddingJoinKeyTypeInfo extends TypeInformation<Embedding>
+  implements AtomicType<Embedding> {
+
+  /**
+   * Default class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Join columns of the embedding.
+   */
+  private final int[] columns;
+
+  /**
+   * Creates a new type information.
+   *
+   * @param columns join columns of the embedding
+   */
+  public EmbeddingJoinKeyTypeInfo(int[] columns) {
+    this.columns = columns;
+  }
+
+  @Override
+  public boolean isBasicType() {
+    return false;
+  }
+
+  @Override
+  public boolean isTupleType() {
+    return false;
+  }
+
+  @Override
+  public int getArity() {
+    return 1;
+  }
+
+  @Override
+  public int getTotalFields() {
+    return 1;
+  }
+
+  @Override
+  public Class<Embedding> getTypeClass() {
+    return Embedding.class;
+  }
+
+  @Override
+  public boolean isKeyType() {
+    return true;
+  }
+
+  @Override
+  public TypeSerializer<Embedding> createSerializer(ExecutionConfig config) {
+    return new ValueSerializer<>(Embedding.class);
+  }
+
+  @Override
+  public TypeComparator<Embedding> createComparator(boolean sortOrderAscending,
+    ExecutionConfig executionConfig) {
+    return new EmbeddingJoinKeyComparator(columns, sortOrderAscending);
+  }
+
+  @Override
+  public String toString() {
+    return "EmbeddingJoinKeyTypeInfo<" + columns.length + ">";
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof EmbeddingJoinKeyTypeInfo)) {
+      return false;
+    }
+    EmbeddingJoinKeyTypeInfo other = (EmbeddingJoinKeyTypeInfo) obj;
+    return other.canEqual(this) && columns.length == other.columns.length;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Embedding.class.hashCode() + columns.length;
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof EmbeddingJoinKeyTypeInfo;
+  }
+}
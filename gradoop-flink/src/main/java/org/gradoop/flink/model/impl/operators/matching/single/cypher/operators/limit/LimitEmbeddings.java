@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.limit;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Returns at most the given number of (arbitrary) embeddings from the input.
+ * <p>
+ * Each partition forwards at most {@code limit} embeddings (combine step) before the final
+ * limit is applied on a single task, thus only {@code parallelism * limit} embeddings are
+ * shuffled.
+ */
+public class LimitEmbeddings implements PhysicalOperator {
+  /**
+   * Input embeddings
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Maximum number of output embeddings
+   */
+  private final int limit;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * Creates a new limit operator.
+   *
+   * @param input embeddings to limit
+   * @param limit maximum number of output embeddings
+   */
+  public LimitEmbeddings(DataSet<Embedding> input, int limit) {
+    if (limit < 1) {
+      throw new IllegalArgumentException("Limit must be positive, was " + limit);
+    }
+    this.input = input;
+    this.limit = limit;
+    this.name = "LimitEmbeddings";
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    return input
+      .first(limit)
+      .name(getName());
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
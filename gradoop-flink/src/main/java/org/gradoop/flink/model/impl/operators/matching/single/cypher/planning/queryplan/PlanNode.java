@@ -16,6 +16,7 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan;
 
 import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.debug.ProfileEmbeddings;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 
@@ -27,13 +28,53 @@ public abstract class PlanNode {
    * Describes the output of that node.
    */
   private EmbeddingMetaData embeddingMetaData;
+  /**
+   * Accumulator prefix used to profile the output of that node, {@code null} if the node is not
+   * profiled.
+   */
+  private String profilingPrefix;
 
   /**
    * Recursively executes this node and returns the resulting {@link Embedding} data set.
+   * If profiling is enabled for the node, its output is counted by a {@link ProfileEmbeddings}
+   * function.
+   *
+   * @return embeddings
+   */
+  public DataSet<Embedding> execute() {
+    DataSet<Embedding> result = executeNode();
+    if (profilingPrefix != null) {
+      result = result
+        .map(new ProfileEmbeddings(profilingPrefix))
+        .name("Profile " + profilingPrefix);
+    }
+    return result;
+  }
+
+  /**
+   * Executes the node specific operator on the (recursively executed) input nodes.
    *
    * @return embeddings
    */
-  public abstract DataSet<Embedding> execute();
+  protected abstract DataSet<Embedding> executeNode();
+
+  /**
+   * Enables profiling of the output of that node using accumulators with the given prefix.
+   *
+   * @param profilingPrefix accumulator prefix, unique within the query plan
+   */
+  public void setProfilingPrefix(String profilingPrefix) {
+    this.profilingPrefix = profilingPrefix;
+  }
+
+  /**
+   * Returns the accumulator prefix used to profile that node.
+   *
+   * @return accumulator prefix or {@code null} if the node is not profiled
+   */
+  public String getProfilingPrefix() {
+    return profilingPrefix;
+  }
 
   /**
    * Returns the meta data describing the embeddings produced by this node.
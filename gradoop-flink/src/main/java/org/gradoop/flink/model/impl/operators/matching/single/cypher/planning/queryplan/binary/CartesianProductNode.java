@@ -79,7 +79,7 @@ public class CartesianProductNode extends BinaryNode implements JoinNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     CartesianProduct op = new CartesianProduct(getLeftChild().execute(), getRightChild().execute(),
       getRightChild().getEmbeddingMetaData().getEntryCount(),
       getDistinctVertexColumnsLeft(), getDistinctVertexColumnsRight(),
@@ -111,7 +111,7 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     ExpandEmbeddings op = new ExpandEmbeddingsBulk(
       getLeftChild().execute(), getRightChild().execute(),
       expandColumn, lowerBound, upperBound, expandDirection,
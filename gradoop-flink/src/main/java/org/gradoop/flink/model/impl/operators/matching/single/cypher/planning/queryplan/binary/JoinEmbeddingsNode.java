@@ -88,7 +88,7 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     JoinEmbeddings op = new JoinEmbeddings(getLeftChild().execute(), getRightChild().execute(),
       getRightChild().getEmbeddingMetaData().getEntryCount(),
       getJoinColumnsLeft(), getJoinColumnsRight(),
@@ -96,7 +96,7 @@ public class ValueJoinNode extends BinaryNode implements JoinNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     ValueJoin op = new ValueJoin(getLeftChild().execute(), getRightChild().execute(),
       getJoinPropertiesLeft(), getJoinPropertiesRight(),
       getRightChild().getEmbeddingMetaData().getEntryCount(),
@@ -89,7 +89,7 @@ public class FilterAndProjectEdgesNode<E extends Edge> extends LeafNode
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     FilterAndProjectEdges<E> op =  new FilterAndProjectEdges<>(
       edges,
       filterPredicate,
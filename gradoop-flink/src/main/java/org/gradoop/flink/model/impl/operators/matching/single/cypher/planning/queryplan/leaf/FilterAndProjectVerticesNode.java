@@ -71,7 +71,7 @@ public class FilterAndProjectVerticesNode<V extends Vertex> extends LeafNode
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     FilterAndProjectVertices<V> op =
       new FilterAndProjectVertices<>(vertices, filterPredicate, projectionKeys);
     op.setName(toString());
@@ -44,7 +44,7 @@ public class FilterEmbeddingsNode extends UnaryNode implements FilterNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     FilterEmbeddings op =
       new FilterEmbeddings(getChildNode().execute(), filterPredicate, getEmbeddingMetaData());
     op.setName(toString());
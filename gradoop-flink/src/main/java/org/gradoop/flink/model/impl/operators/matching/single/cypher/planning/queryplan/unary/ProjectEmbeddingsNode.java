@@ -59,8 +59,17 @@ public class ProjectEmbeddingsNode extends UnaryNode implements ProjectionNode {
       .collect(Collectors.toList());
   }
 
+  /**
+   * Returns the property keys used for projection.
+   *
+   * @return projected property keys
+   */
+  public List<Pair<String, String>> getProjectionKeys() {
+    return projectionKeys;
+  }
+
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> executeNode() {
     ProjectEmbeddings op =  new ProjectEmbeddings(getChildNode().execute(), whiteListColumns);
     op.setName(toString());
     return op.evaluate();
@@ -17,7 +17,6 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos;
 
 import com.google.common.collect.Lists;
 import com.google.common.primitives.Ints;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.types.CopyableValue;
@@ -38,6 +37,10 @@ import static java.util.stream.Collectors.joining;
  * path (Edge, Vertex, Edge, Vertex, ..., Edge).
  * The reference is stored via the elements ID. Additionally the embedding ca store an ordered
  * list of PropertyValues.
+ * <p>
+ * All three internal arrays can be addressed in constant time: id entries have a fixed width,
+ * the property data starts with an offset table and id list entries store the offset of their
+ * list in the id list data.
  */
 public class Embedding implements Value, CopyableValue<Embedding> {
 
@@ -67,12 +70,13 @@ public class Embedding implements Value, CopyableValue<Embedding> {
   private byte[] idData;
 
   /**
-   * Holds all properties in the form (length, property value)
+   * Holds all properties in the form (count, offset+, property value+). The offsets are relative
+   * to the end of the offset table, an empty array represents an empty property list.
    */
   private byte[] propertyData;
 
   /**
-   * Holds all id lists in the form (pointer, count, ID+)
+   * Holds all id lists in the form (count, ID+)
    */
   private byte[] idListData;
 
@@ -104,7 +108,11 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param id the Id that will be appended
    */
   public void add(GradoopId id) {
-    add(id, false);
+    byte[] newIds = Arrays.copyOf(idData, idData.length + ID_ENTRY_SIZE);
+    newIds[idData.length] = ID_ENTRY_FLAG;
+    writeId(id, newIds, idData.length + 1);
+
+    idData = newIds;
   }
 
 
@@ -142,13 +150,13 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return the entries ID
    */
   public byte[] getRawId(int column) {
-    byte[] rawEntry = getRawIdEntry(column);
+    int offset = getIdOffset(column);
 
-    if (rawEntry[0] == ID_LIST_FLAG) {
+    if (idData[offset] == ID_LIST_FLAG) {
       throw new UnsupportedOperationException("Can't return ID for ID List");
     }
 
-    return ArrayUtils.subarray(rawEntry, 1, ID_ENTRY_SIZE);
+    return Arrays.copyOfRange(idData, offset + 1, offset + ID_ENTRY_SIZE);
   }
 
   /**
@@ -158,7 +166,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    */
   public byte[] getRawIdEntry(int column) {
     int offset = getIdOffset(column);
-    return ArrayUtils.subarray(idData, offset, offset + ID_ENTRY_SIZE);
+    return Arrays.copyOfRange(idData, offset, offset + ID_ENTRY_SIZE);
   }
 
   /**
@@ -193,16 +201,13 @@ public class Embedding implements Value, CopyableValue<Embedding> {
   }
 
   /**
-   * Adds an entry to the embedding.
-   * This can either be an ID representing referencing a Vertex/Edge or a pointer to a path entry
-   * @param id the id that will be added to the embedding
-   * @param isIdList indicates if the id represents a GraphElement or points to a path entry
+   * Adds an entry pointing to a path entry to the embedding.
+   * @param idListOffset offset of the path entry in the idListData array
    */
-  private void add(GradoopId id, boolean isIdList) {
-    byte[] newIds = new byte[idData.length + 1 + GradoopId.ID_SIZE];
-    System.arraycopy(idData, 0, newIds, 0, idData.length);
-    newIds[idData.length] = isIdList ? ID_LIST_FLAG : ID_ENTRY_FLAG;
-    System.arraycopy(id.toByteArray(), 0, newIds, idData.length + 1, GradoopId.ID_SIZE);
+  private void addIdListPointer(int idListOffset) {
+    byte[] newIds = Arrays.copyOf(idData, idData.length + ID_ENTRY_SIZE);
+    newIds[idData.length] = ID_LIST_FLAG;
+    writeInt(idListOffset, newIds, idData.length + 1);
 
     idData = newIds;
   }
@@ -238,19 +243,34 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param properties new properties
    */
   public void addPropertyValues(PropertyValue... properties) {
-    int newPropertiesSize = propertyData.length;
-    for (PropertyValue property : properties) {
-      newPropertiesSize += property.getByteSize() + Integer.BYTES;
+    if (properties.length == 0) {
+      return;
     }
+    int count = getPropertyCount(propertyData);
+    int payloadOffset = getPayloadOffset(count);
+    int payloadSize = propertyData.length - payloadOffset;
 
-    byte[] newPropertyData = new byte[newPropertiesSize];
+    int newCount = count + properties.length;
+    int newPayloadOffset = getPayloadOffset(newCount);
+    int newPayloadSize = payloadSize;
+    for (PropertyValue property : properties) {
+      newPayloadSize += property.getByteSize();
+    }
 
-    System.arraycopy(propertyData, 0, newPropertyData, 0, propertyData.length);
+    byte[] newPropertyData = new byte[newPayloadOffset + newPayloadSize];
+    writeInt(newCount, newPropertyData, 0);
+    if (count > 0) {
+      System.arraycopy(propertyData, Integer.BYTES, newPropertyData, Integer.BYTES,
+        count * Integer.BYTES);
+      System.arraycopy(propertyData, payloadOffset, newPropertyData, newPayloadOffset, payloadSize);
+    }
 
-    int offset = propertyData.length;
-    for (PropertyValue property : properties) {
-      writeProperty(property, newPropertyData, offset);
-      offset += property.getByteSize() + Integer.BYTES;
+    int offset = payloadSize;
+    for (int i = 0; i < properties.length; i++) {
+      writeInt(offset, newPropertyData, Integer.BYTES * (1 + count + i));
+      System.arraycopy(properties[i].getRawBytes(), 0,
+        newPropertyData, newPayloadOffset + offset, properties[i].getByteSize());
+      offset += properties[i].getByteSize();
     }
 
     this.propertyData = newPropertyData;
@@ -263,17 +283,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return the property stored at the specified index
    */
   public PropertyValue getProperty(int column) {
-    int offset = getPropertyOffset(column);
-
-    int entryLength = Ints.fromByteArray(
-      ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES)
-    );
-
-    offset += Integer.BYTES;
-
-    return PropertyValue.fromRawBytes(
-      ArrayUtils.subarray(propertyData, offset, offset + entryLength)
-    );
+    return PropertyValue.fromRawBytes(getRawProperty(column));
   }
 
   /**
@@ -282,13 +292,12 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return Internal representation of the property stored at the specified column
    */
   public byte[] getRawProperty(int column) {
-    int offset = getPropertyOffset(column);
-
-    int entryLength = Ints.fromByteArray(
-      ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES)
-    );
-
-    return ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES + entryLength);
+    int count = getPropertyCount(propertyData);
+    if (column < 0 || column >= count) {
+      throw new IndexOutOfBoundsException("Cant find Property. " + column + " >= " + count);
+    }
+    return Arrays.copyOfRange(propertyData,
+      getPropertyStart(propertyData, count, column), getPropertyEnd(propertyData, count, column));
   }
 
   /**
@@ -296,48 +305,54 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return List of all property values stored in the embedding
    */
   public List<PropertyValue> getProperties() {
-    List<PropertyValue> properties = new ArrayList<>();
-    int offset = 0;
-    int entrySize;
-    while (offset < propertyData.length) {
-      entrySize =
-        Ints.fromByteArray(ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES));
-
-      offset += Integer.BYTES;
-
-      properties.add(PropertyValue.fromRawBytes(
-        ArrayUtils.subarray(propertyData, offset, offset + entrySize)
-      ));
-
-      offset += entrySize;
+    int count = getPropertyCount(propertyData);
+    List<PropertyValue> properties = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      properties.add(PropertyValue.fromRawBytes(Arrays.copyOfRange(propertyData,
+        getPropertyStart(propertyData, count, i), getPropertyEnd(propertyData, count, i))));
     }
 
     return properties;
   }
 
   /**
-   * Returns the offset of the property in the propertyData array
-   * @param column the index of the property
-   * @return Offset of the property in the propertyData array
+   * Returns the number of properties stored in the given property data
+   * @param data property data
+   * @return number of stored properties
    */
-  private int getPropertyOffset(int column) {
-    int i = 0;
-    int offset = 0;
-    int entryLength;
-
-    while (i < column && offset < propertyData.length) {
-      entryLength =
-        Ints.fromByteArray(ArrayUtils.subarray(propertyData, offset, offset + Integer.BYTES));
+  private static int getPropertyCount(byte[] data) {
+    return data.length == 0 ? 0 : readInt(data, 0);
+  }
 
-      offset += entryLength + Integer.BYTES;
-      i++;
-    }
+  /**
+   * Returns the offset of the first property value, i.e. the size of the offset table
+   * @param count number of stored properties
+   * @return Offset of the first property value in the propertyData array
+   */
+  private static int getPayloadOffset(int count) {
+    return count == 0 ? 0 : (1 + count) * Integer.BYTES;
+  }
 
-    if (offset >= propertyData.length) {
-      throw new IndexOutOfBoundsException("Cant find Property. " + (i - 1) + " < " + column);
-    }
+  /**
+   * Returns the offset of the property in the property data array
+   * @param data property data
+   * @param count number of stored properties
+   * @param column the index of the property
+   * @return Offset of the property in the property data array
+   */
+  private static int getPropertyStart(byte[] data, int count, int column) {
+    return getPayloadOffset(count) + readInt(data, (1 + column) * Integer.BYTES);
+  }
 
-    return offset;
+  /**
+   * Returns the offset behind the property in the property data array
+   * @param data property data
+   * @param count number of stored properties
+   * @param column the index of the property
+   * @return Offset behind the property in the property data array
+   */
+  private static int getPropertyEnd(byte[] data, int count, int column) {
+    return column == count - 1 ? data.length : getPropertyStart(data, count, column + 1);
   }
 
   // ---------------------------------------------------------------------------------------------
@@ -349,18 +364,14 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param ids the path that will be added to the embedding
    */
   public void add(GradoopId... ids) {
-    GradoopId pointer = GradoopId.get();
-    add(pointer, true);
+    addIdListPointer(idListData.length);
 
-    byte[] newIdLists = new byte[idListData.length +
-      GradoopId.ID_SIZE + Integer.BYTES +
-      ids.length * GradoopId.ID_SIZE];
+    byte[] newIdLists = Arrays.copyOf(idListData,
+      idListData.length + Integer.BYTES + ids.length * GradoopId.ID_SIZE);
 
-    System.arraycopy(idListData, 0, newIdLists, 0, idListData.length);
-    writeId(pointer, newIdLists, idListData.length);
-    writeInt(ids.length, newIdLists, idListData.length + GradoopId.ID_SIZE);
+    writeInt(ids.length, newIdLists, idListData.length);
 
-    int offset = idListData.length + GradoopId.ID_SIZE + Integer.BYTES;
+    int offset = idListData.length + Integer.BYTES;
     for (GradoopId id: ids) {
       writeId(id, newIdLists, offset);
       offset += GradoopId.ID_SIZE;
@@ -377,8 +388,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
   public List<GradoopId> getIdList(int column) {
     int offset = getIdListOffset(column);
 
-    int listSize =
-      Ints.fromByteArray(ArrayUtils.subarray(idListData, offset, offset + Integer.BYTES));
+    int listSize = readInt(idListData, offset);
 
     offset += Integer.BYTES;
 
@@ -386,7 +396,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
 
     for (int i = 0; i < listSize; i++) {
       idList.add(GradoopId.fromByteArray(
-        ArrayUtils.subarray(idListData, offset, offset + GradoopId.ID_SIZE)
+        Arrays.copyOfRange(idListData, offset, offset + GradoopId.ID_SIZE)
       ));
       offset += GradoopId.ID_SIZE;
     }
@@ -402,34 +412,88 @@ public class Embedding implements Value, CopyableValue<Embedding> {
   private int getIdListOffset(int column) {
     int pointerOffset = getIdOffset(column);
 
-    if (idData[pointerOffset++] != ID_LIST_FLAG) {
+    if (idData[pointerOffset] != ID_LIST_FLAG) {
       throw new UnsupportedOperationException("Entry is not an IDList");
     }
 
-    byte[] pointer = ArrayUtils.subarray(idData, pointerOffset, pointerOffset + GradoopId.ID_SIZE);
-
-    int offset = 0;
-    byte[] comparePointer;
-    int listSize;
-    boolean found = false;
+    return readInt(idData, pointerOffset + 1);
+  }
 
-    while (!found && offset < idListData.length) {
-      comparePointer = ArrayUtils.subarray(idListData, offset, offset + GradoopId.ID_SIZE);
-      offset += GradoopId.ID_SIZE;
-      found = Arrays.equals(pointer, comparePointer);
+  // ---------------------------------------------------------------------------------------------
+  //  Merging
+  // ---------------------------------------------------------------------------------------------
 
-      if (!found) {
-        listSize =
-          Ints.fromByteArray(ArrayUtils.subarray(idListData, offset, offset + Integer.BYTES));
-        offset += GradoopId.ID_SIZE * listSize + Integer.BYTES;
+  /**
+   * Replaces the content of this embedding by the merge result of left and right.
+   * All entries of left are kept as well as the specified columns of right, which are appended
+   * in the given order. Properties and id lists of both sides are kept.
+   * <p>
+   * Each of the three internal arrays is allocated exactly once, the data of the input
+   * embeddings is copied in bulk.
+   *
+   * @param left the left hand side embedding
+   * @param right the right hand side embedding
+   * @param rightColumns columns of the right embedding that are appended
+   */
+  public void merge(Embedding left, Embedding right, int[] rightColumns) {
+    byte[] leftIds = left.idData;
+    byte[] rightIds = right.idData;
+    int idListShift = left.idListData.length;
+
+    byte[] newIdData = Arrays.copyOf(leftIds, leftIds.length + rightColumns.length * ID_ENTRY_SIZE);
+    int offset = leftIds.length;
+    for (int column : rightColumns) {
+      int rightOffset = right.getIdOffset(column);
+      System.arraycopy(rightIds, rightOffset, newIdData, offset, ID_ENTRY_SIZE);
+      if (newIdData[offset] == ID_LIST_FLAG) {
+        writeInt(readInt(rightIds, rightOffset + 1) + idListShift, newIdData, offset + 1);
       }
+      offset += ID_ENTRY_SIZE;
     }
 
-    if (!found) {
-      throw new RuntimeException("Could not find IdList entry");
+    byte[] newIdListData = Arrays.copyOf(left.idListData, idListShift + right.idListData.length);
+    System.arraycopy(right.idListData, 0, newIdListData, idListShift, right.idListData.length);
+
+    this.idData = newIdData;
+    this.propertyData = mergePropertyData(left.propertyData, right.propertyData);
+    this.idListData = newIdListData;
+  }
+
+  /**
+   * Concatenates two property data arrays. The offset table of the right side is shifted by
+   * the payload size of the left side.
+   *
+   * @param left left property data
+   * @param right right property data
+   * @return concatenated property data
+   */
+  private static byte[] mergePropertyData(byte[] left, byte[] right) {
+    if (right.length == 0) {
+      return left;
+    }
+    if (left.length == 0) {
+      return right;
     }
+    int leftCount = getPropertyCount(left);
+    int rightCount = getPropertyCount(right);
+    int leftPayloadOffset = getPayloadOffset(leftCount);
+    int rightPayloadOffset = getPayloadOffset(rightCount);
+    int leftPayloadSize = left.length - leftPayloadOffset;
+    int rightPayloadSize = right.length - rightPayloadOffset;
+    int newPayloadOffset = getPayloadOffset(leftCount + rightCount);
+
+    byte[] merged = new byte[newPayloadOffset + leftPayloadSize + rightPayloadSize];
+    writeInt(leftCount + rightCount, merged, 0);
+    System.arraycopy(left, Integer.BYTES, merged, Integer.BYTES, leftCount * Integer.BYTES);
+    for (int i = 0; i < rightCount; i++) {
+      writeInt(readInt(right, (1 + i) * Integer.BYTES) + leftPayloadSize,
+        merged, (1 + leftCount + i) * Integer.BYTES);
+    }
+    System.arraycopy(left, leftPayloadOffset, merged, newPayloadOffset, leftPayloadSize);
+    System.arraycopy(right, rightPayloadOffset,
+      merged, newPayloadOffset + leftPayloadSize, rightPayloadSize);
 
-    return offset;
+    return merged;
   }
 
   // ---------------------------------------------------------------------------------------------
@@ -491,9 +555,32 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return Embedding with the projected property list
    */
   public Embedding project(List<Integer> propertyWhiteList) {
-    byte[] newPropertyData = new byte[0];
+    int count = getPropertyCount(propertyData);
+    int newCount = propertyWhiteList.size();
+    int newPayloadOffset = getPayloadOffset(newCount);
+
+    int newPayloadSize = 0;
     for (int index : propertyWhiteList) {
-      newPropertyData = ArrayUtils.addAll(newPropertyData, getRawProperty(index));
+      if (index < 0 || index >= count) {
+        throw new IndexOutOfBoundsException("Cant find Property. " + index + " >= " + count);
+      }
+      newPayloadSize += getPropertyEnd(propertyData, count, index) -
+        getPropertyStart(propertyData, count, index);
+    }
+
+    byte[] newPropertyData = new byte[newPayloadOffset + newPayloadSize];
+    if (newCount > 0) {
+      writeInt(newCount, newPropertyData, 0);
+    }
+
+    int offset = 0;
+    int i = 0;
+    for (int index : propertyWhiteList) {
+      int start = getPropertyStart(propertyData, count, index);
+      int length = getPropertyEnd(propertyData, count, index) - start;
+      writeInt(offset, newPropertyData, (1 + i++) * Integer.BYTES);
+      System.arraycopy(propertyData, start, newPropertyData, newPayloadOffset + offset, length);
+      offset += length;
     }
 
     return new Embedding(idData, newPropertyData, idListData);
@@ -507,10 +594,11 @@ public class Embedding implements Value, CopyableValue<Embedding> {
   public Embedding reverse() {
     byte[] newIdData = new byte[idData.length];
 
-    for (int i = size() - 1; i >= 0; i--) {
+    int size = size();
+    for (int i = size - 1; i >= 0; i--) {
       System.arraycopy(
-        getRawIdEntry(i), 0,
-        newIdData,  (size() - 1 - i) * ID_ENTRY_SIZE,
+        idData, i * ID_ENTRY_SIZE,
+        newIdData,  (size - 1 - i) * ID_ENTRY_SIZE,
         ID_ENTRY_SIZE
       );
     }
@@ -539,32 +627,33 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param target Target byte array
    * @param offset offset the value will be written to
    */
-  private void writeInt(int value, byte[] target, int offset) {
-    System.arraycopy(Ints.toByteArray(value), 0, target, offset, Integer.BYTES);
+  private static void writeInt(int value, byte[] target, int offset) {
+    target[offset]     = (byte) (value >> 24);
+    target[offset + 1] = (byte) (value >> 16);
+    target[offset + 2] = (byte) (value >> 8);
+    target[offset + 3] = (byte) value;
   }
 
   /**
-   * Writes the byte representation of a GradoopId into the target byte array
-   * starting at the specified offset
-   * @param value  GradoopId that will be written
-   * @param target Target byte array
-   * @param offset offset the value will be written to
+   * Reads an Integer from the source byte array starting at the specified offset
+   * @param source Source byte array
+   * @param offset offset the value will be read from
+   * @return Integer stored at the offset
    */
-  private void writeId(GradoopId value, byte[] target, int offset) {
-    System.arraycopy(value.toByteArray(), 0, target, offset, GradoopId.ID_SIZE);
+  private static int readInt(byte[] source, int offset) {
+    return Ints.fromBytes(source[offset], source[offset + 1], source[offset + 2],
+      source[offset + 3]);
   }
 
   /**
-   * Writes the byte representation of a property into the target byte array
+   * Writes the byte representation of a GradoopId into the target byte array
    * starting at the specified offset
-   * @param value  PropertyValue that will be written
+   * @param value  GradoopId that will be written
    * @param target Target byte array
    * @param offset offset the value will be written to
    */
-  private void writeProperty(PropertyValue value, byte[] target, int offset) {
-    writeInt(value.getByteSize(), target, offset);
-    offset += Integer.BYTES;
-    System.arraycopy(value.getRawBytes(), 0, target, offset, value.getByteSize());
+  private static void writeId(GradoopId value, byte[] target, int offset) {
+    System.arraycopy(value.toByteArray(), 0, target, offset, GradoopId.ID_SIZE);
   }
 
   // ---------------------------------------------------------------------------------------------
@@ -46,6 +46,7 @@ import org.gradoop.flink.model.impl.operators.matching.common.functions.Matching
 import org.gradoop.flink.model.impl.operators.matching.common.query.DFSTraverser;
 import org.gradoop.flink.model.impl.operators.matching.common.query.TraversalCode;
 import org.gradoop.flink.model.impl.operators.matching.common.query.Traverser;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.common.tuples.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.common.tuples.IdWithCandidates;
 import org.gradoop.flink.model.impl.operators.matching.common.tuples.TripleWithCandidates;
@@ -54,6 +55,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.preserving.explora
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.SetPairForLoopTraverser;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.SetPairTraverser;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TraverserStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TraverserStrategySelector;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TripleForLoopTraverser;
 import org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser.TripleTraverser;
 
@@ -106,6 +108,10 @@ public class ExplorativePatternMatching<
    * Strategy iterating the graph
    */
   private final TraverserStrategy traverserStrategy;
+  /**
+   * Statistics about the search graph, used by the adaptive traverser strategy
+   */
+  private final GraphStatistics graphStatistics;
 
   /**
    * Create new operator instance
@@ -117,13 +123,15 @@ public class ExplorativePatternMatching<
    * @param traverser               Traverser used for the query graph
    * @param edgeStepJoinStrategy    Join strategy for edge extension
    * @param vertexStepJoinStrategy  Join strategy for vertex extension
+   * @param graphStatistics         statistics about the search graph (may be null)
    */
   private ExplorativePatternMatching(String query, boolean attachData,
     MatchStrategy matchStrategy,
     TraverserStrategy traverserStrategy,
     Traverser traverser,
     JoinOperatorBase.JoinHint edgeStepJoinStrategy,
-    JoinOperatorBase.JoinHint vertexStepJoinStrategy) {
+    JoinOperatorBase.JoinHint vertexStepJoinStrategy,
+    GraphStatistics graphStatistics) {
     super(query, attachData, LOG);
     this.matchStrategy          = matchStrategy;
     this.traverserStrategy = traverserStrategy;
@@ -131,6 +139,7 @@ public class ExplorativePatternMatching<
     this.traverser.setQueryHandler(getQueryHandler());
     this.edgeStepJoinStrategy   = edgeStepJoinStrategy;
     this.vertexStepJoinStrategy = vertexStepJoinStrategy;
+    this.graphStatistics        = graphStatistics;
   }
 
   @Override
@@ -164,12 +173,22 @@ public class ExplorativePatternMatching<
   @Override
   protected GC executeForPattern(LG graph) {
 
-    TraversalCode traversalCode = traverser.traverse();
+    TraversalCode traversalCode;
+    TraverserStrategy strategy = traverserStrategy;
+
+    if (strategy == TraverserStrategy.ADAPTIVE) {
+      TraverserStrategySelector selector =
+        new TraverserStrategySelector(getQueryHandler(), graphStatistics);
+      traversalCode = selector.traverse(traverser);
+      strategy = selector.select(traversalCode);
+    } else {
+      traversalCode = traverser.traverse();
+    }
 
     DataSet<Tuple1<Embedding<GradoopId>>> embeddings;
 
-    if (traverserStrategy == TraverserStrategy.SET_PAIR_BULK_ITERATION ||
-      traverserStrategy == TraverserStrategy.SET_PAIR_FOR_LOOP_ITERATION) {
+    if (strategy == TraverserStrategy.SET_PAIR_BULK_ITERATION ||
+      strategy == TraverserStrategy.SET_PAIR_FOR_LOOP_ITERATION) {
 
       //--------------------------------------------------------------------------
       // Pre-processing (filter candidates)
@@ -187,7 +206,7 @@ public class ExplorativePatternMatching<
 
       SetPairTraverser<GradoopId> distributedTraverser;
 
-      if (traverserStrategy == TraverserStrategy.SET_PAIR_BULK_ITERATION) {
+      if (strategy == TraverserStrategy.SET_PAIR_BULK_ITERATION) {
         distributedTraverser = new SetPairBulkTraverser<>(traversalCode, matchStrategy,
           traverser.getQueryHandler().getVertexCount(), traverser.getQueryHandler().getEdgeCount(),
           GradoopId.class, edgeStepJoinStrategy, vertexStepJoinStrategy, getVertexMapping(),
@@ -200,7 +219,7 @@ public class ExplorativePatternMatching<
       }
 
       embeddings = distributedTraverser.traverse(vertices, edges);
-    } else if (traverserStrategy == TraverserStrategy.TRIPLES_FOR_LOOP_ITERATION) {
+    } else if (strategy == TraverserStrategy.TRIPLES_FOR_LOOP_ITERATION) {
       DataSet<TripleWithCandidates<GradoopId>> triples = PreProcessor
         .filterTriplets(graph, getQuery());
 
@@ -213,7 +232,7 @@ public class ExplorativePatternMatching<
       embeddings = distributedTraverser.traverse(triples);
 
     } else {
-      throw new IllegalArgumentException("Unsupported traverser strategy: " + traverserStrategy);
+      throw new IllegalArgumentException("Unsupported traverser strategy: " + strategy);
     }
 
     //--------------------------------------------------------------------------
@@ -266,6 +285,10 @@ public class ExplorativePatternMatching<
      * Join strategy for vertex extensions during traversal
      */
     private JoinOperatorBase.JoinHint vertexStepJoinStrategy;
+    /**
+     * Statistics about the search graph
+     */
+    private GraphStatistics graphStatistics;
 
     /**
      * Creates a new builder instance
@@ -358,6 +381,19 @@ public class ExplorativePatternMatching<
       return this;
     }
 
+    /**
+     * Sets statistics about the search graph. They are required by
+     * {@link TraverserStrategy#ADAPTIVE} to pick the start vertex of the traversal and the
+     * iteration strategy.
+     *
+     * @param graphStatistics graph statistics
+     * @return modified builder
+     */
+    public Builder setGraphStatistics(GraphStatistics graphStatistics) {
+      this.graphStatistics = graphStatistics;
+      return this;
+    }
+
     /**
      * Instantiates a new {@link ExplorativePatternMatching} operator.
      *
@@ -379,9 +415,12 @@ public class ExplorativePatternMatching<
       Objects.requireNonNull(traverser, "Missing traverser");
       Objects.requireNonNull(edgeStepJoinStrategy, "Missing join strategy");
       Objects.requireNonNull(vertexStepJoinStrategy, "Missing join strategy");
+      if (traverserStrategy == TraverserStrategy.ADAPTIVE) {
+        Objects.requireNonNull(graphStatistics, "Missing graph statistics");
+      }
 
       return new ExplorativePatternMatching<>(query, attachData, matchStrategy, traverserStrategy, traverser,
-        edgeStepJoinStrategy, vertexStepJoinStrategy);
+        edgeStepJoinStrategy, vertexStepJoinStrategy, graphStatistics);
     }
 
   }
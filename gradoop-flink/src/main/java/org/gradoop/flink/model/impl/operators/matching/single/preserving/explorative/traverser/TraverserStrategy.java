@@ -30,5 +30,9 @@ public enum TraverserStrategy {
   /**
    * Traverse the graph based on edge triples in a for loop.
    */
-  TRIPLES_FOR_LOOP_ITERATION
+  TRIPLES_FOR_LOOP_ITERATION,
+  /**
+   * Choose the traversal order and a set pair iteration based on graph statistics.
+   */
+  ADAPTIVE
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser;
+
+import org.gradoop.common.util.GradoopConstants;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.RootedTraverser;
+import org.gradoop.flink.model.impl.operators.matching.common.query.Step;
+import org.gradoop.flink.model.impl.operators.matching.common.query.TraversalCode;
+import org.gradoop.flink.model.impl.operators.matching.common.query.Traverser;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.s1ck.gdl.model.Vertex;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Uses {@link GraphStatistics} about the search graph to decide how a query is traversed.
+ *
+ * The traversal starts at the query vertex with the lowest estimated number of candidates. The
+ * resulting {@link TraversalCode} is used to estimate the number of partial embeddings after each
+ * step. If the largest intermediate result is expected to outgrow the search graph, the for-loop
+ * traverser is chosen, since it lets the optimizer plan every step separately instead of keeping
+ * all partial embeddings in a single bulk iteration.
+ */
+public class TraverserStrategySelector {
+  /**
+   * Query handler to access the query graph
+   */
+  private final QueryHandler queryHandler;
+  /**
+   * Statistics about the search graph
+   */
+  private final GraphStatistics graphStatistics;
+
+  /**
+   * Creates a new selector.
+   *
+   * @param queryHandler query handler
+   * @param graphStatistics statistics about the search graph
+   */
+  public TraverserStrategySelector(QueryHandler queryHandler, GraphStatistics graphStatistics) {
+    this.queryHandler = queryHandler;
+    this.graphStatistics = graphStatistics;
+  }
+
+  /**
+   * Returns the query vertex with the lowest estimated number of candidates. Ties are resolved in
+   * favor of the vertex with more incident query edges.
+   *
+   * @return id of the most selective query vertex
+   */
+  public long getRootVertex() {
+    Vertex root = null;
+    long rootCardinality = Long.MAX_VALUE;
+    int rootDegree = -1;
+
+    for (Vertex vertex : queryHandler.getVertices()) {
+      long cardinality = getVertexCardinality(vertex.getLabel());
+      int degree = queryHandler.getEdgesByVertexId(vertex.getId()).size();
+
+      if (cardinality < rootCardinality || (cardinality == rootCardinality && degree > rootDegree)) {
+        root = vertex;
+        rootCardinality = cardinality;
+        rootDegree = degree;
+      }
+    }
+    return root.getId();
+  }
+
+  /**
+   * Traverses the query graph. If the traverser supports it, the traversal starts at the most
+   * selective query vertex.
+   *
+   * @param traverser traverser for the query graph
+   * @return traversal code
+   */
+  public TraversalCode traverse(Traverser traverser) {
+    return traverser instanceof RootedTraverser ?
+      ((RootedTraverser) traverser).traverse(getRootVertex()) : traverser.traverse();
+  }
+
+  /**
+   * Estimates the largest number of partial embeddings produced while following the given
+   * traversal code.
+   *
+   * @param traversalCode traversal code
+   * @return estimated maximum intermediate result size
+   */
+  public double estimateMaxCardinality(TraversalCode traversalCode) {
+    Set<Long> visited = new HashSet<>();
+
+    long root = traversalCode.getSteps().isEmpty() ?
+      getRootVertex() : traversalCode.getStep(0).getFrom();
+    visited.add(root);
+
+    double cardinality = getVertexCardinality(queryHandler.getVertexById(root).getLabel());
+    double maxCardinality = cardinality;
+
+    for (Step step : traversalCode.getSteps()) {
+      String fromLabel = queryHandler.getVertexById(step.getFrom()).getLabel();
+      String toLabel = queryHandler.getVertexById(step.getTo()).getLabel();
+      String edgeLabel = queryHandler.getEdgeById(step.getVia()).getLabel();
+
+      cardinality *= getAverageDegree(fromLabel, edgeLabel, step.isOutgoing());
+
+      if (!visited.add(step.getTo())) {
+        // closing an existing path: the edge has to hit one specific candidate
+        cardinality /= Math.max(1L, getVertexCardinality(toLabel));
+      }
+      maxCardinality = Math.max(maxCardinality, cardinality);
+    }
+    return maxCardinality;
+  }
+
+  /**
+   * Chooses the iteration strategy for the given traversal code.
+   *
+   * @param traversalCode traversal code
+   * @return {@link TraverserStrategy#SET_PAIR_FOR_LOOP_ITERATION} if the intermediate results are
+   * expected to exceed the size of the search graph, {@link TraverserStrategy#SET_PAIR_BULK_ITERATION}
+   * otherwise
+   */
+  public TraverserStrategy select(TraversalCode traversalCode) {
+    long graphSize = graphStatistics.getVertexCount() + graphStatistics.getEdgeCount();
+
+    return estimateMaxCardinality(traversalCode) > graphSize ?
+      TraverserStrategy.SET_PAIR_FOR_LOOP_ITERATION : TraverserStrategy.SET_PAIR_BULK_ITERATION;
+  }
+
+  /**
+   * Returns the average number of edges with the given label that leave (or enter) a vertex with
+   * the given label.
+   *
+   * @param vertexLabel label of the vertex the step starts at
+   * @param edgeLabel label of the traversed edge
+   * @param isOutgoing true, iff the edge is traversed in its direction
+   * @return average degree
+   */
+  private double getAverageDegree(String vertexLabel, String edgeLabel, boolean isOutgoing) {
+    long edgeCount = isOutgoing ?
+      graphStatistics.getEdgeCountBySource(vertexLabel, edgeLabel) :
+      graphStatistics.getEdgeCountByTarget(vertexLabel, edgeLabel);
+
+    if (edgeCount == 0L) {
+      edgeCount = getEdgeCardinality(edgeLabel);
+    }
+    return (double) edgeCount / Math.max(1L, getVertexCardinality(vertexLabel));
+  }
+
+  /**
+   * Returns the estimated number of candidates for a query vertex with the given label.
+   *
+   * @param label query vertex label
+   * @return estimated number of candidates
+   */
+  private long getVertexCardinality(String label) {
+    long cardinality = label.equals(GradoopConstants.DEFAULT_VERTEX_LABEL) ?
+      0L : graphStatistics.getVertexCount(label);
+
+    return cardinality > 0L ? cardinality : graphStatistics.getVertexCount();
+  }
+
+  /**
+   * Returns the estimated number of candidates for a query edge with the given label.
+   *
+   * @param label query edge label
+   * @return estimated number of candidates
+   */
+  private long getEdgeCardinality(String label) {
+    long cardinality = label.equals(GradoopConstants.DEFAULT_EDGE_LABEL) ?
+      0L : graphStatistics.getEdgeCount(label);
+
+    return cardinality > 0L ? cardinality : graphStatistics.getEdgeCount();
+  }
+}
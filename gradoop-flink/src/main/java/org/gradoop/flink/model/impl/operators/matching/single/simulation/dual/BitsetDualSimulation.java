@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.DeltaIteration;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.GraphHead;
+import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.flink.model.api.epgm.BaseGraph;
+import org.gradoop.flink.model.api.epgm.BaseGraphCollection;
+import org.gradoop.flink.model.impl.operators.matching.common.PreProcessor;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.BitsetFatVertexToFatVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.BuildBitsetFatVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.CloneAndReverse;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.CombinedMessages;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.GroupedBitsetFatVertices;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.GroupedMessages;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.UpdateBitsetVertexState;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.ValidBitsetFatVertices;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions.ValidateBitsetNeighborhood;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.BitsetFatVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.FatVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.Message;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.util.QueryBitsets;
+
+/**
+ * Vertex-centric Dual-Simulation using delta iteration, where query candidates of vertices and
+ * edges are encoded as {@code long} bitsets. Each deletion carries all candidates a vertex
+ * drops within a superstep. Only vertices receiving deletions are updated and re-validated.
+ *
+ * Queries with vertex or edge ids exceeding the bitset size are simulated by
+ * {@link DualSimulation}.
+ *
+ * @param <G> The graph head type.
+ * @param <V> The vertex type.
+ * @param <E> The edge type.
+ * @param <LG> The graph type.
+ * @param <GC> The graph collection type.
+ */
+public class BitsetDualSimulation<
+  G extends GraphHead,
+  V extends Vertex,
+  E extends Edge,
+  LG extends BaseGraph<G, V, E, LG, GC>,
+  GC extends BaseGraphCollection<G, V, E, LG, GC>> extends DualSimulation<G, V, E, LG, GC> {
+
+  /**
+   * Creates a new operator instance.
+   *
+   * @param query       GDL based query
+   * @param attachData  attach original data to resulting vertices/edges
+   */
+  public BitsetDualSimulation(String query, boolean attachData) {
+    super(query, attachData, false);
+  }
+
+  @Override
+  public DataSet<FatVertex> simulate(LG graph) {
+    if (!QueryBitsets.isApplicable(getQueryHandler())) {
+      return super.simulate(graph);
+    }
+
+    //--------------------------------------------------------------------------
+    // Pre-processing (filter candidates + build initial solution set)
+    //--------------------------------------------------------------------------
+
+    DataSet<BitsetFatVertex> vertices = PreProcessor.filterTriplets(graph, getQuery())
+      .flatMap(new CloneAndReverse())
+      .groupBy(1) // sourceId
+      .combineGroup(new BuildBitsetFatVertex(getQuery()))
+      .groupBy(0) // vertexId
+      .reduceGroup(new GroupedBitsetFatVertices());
+
+    DataSet<Message> initialWorkingSet = validate(vertices);
+
+    //--------------------------------------------------------------------------
+    // Dual Simulation
+    //--------------------------------------------------------------------------
+
+    // ITERATION HEAD
+    DeltaIteration<BitsetFatVertex, Message> iteration = vertices
+      .iterateDelta(initialWorkingSet, Integer.MAX_VALUE, 0);
+
+    // ITERATION BODY
+
+    // get updated vertices
+    DataSet<BitsetFatVertex> deltas = iteration.getSolutionSet()
+      .join(iteration.getWorkset())
+      .where(0).equalTo(0)
+      .with(new UpdateBitsetVertexState(getQuery()));
+
+    // prepare new messages for the next round from updates
+    DataSet<Message> updates = validate(deltas
+      .filter(new ValidBitsetFatVertices()));
+
+    // ITERATION FOOTER
+    // filter vertices with no candidates after iteration
+    return iteration.closeWith(deltas, updates)
+      .filter(new ValidBitsetFatVertices())
+      .map(new BitsetFatVertexToFatVertex(getQueryHandler().getEdgeCount()));
+  }
+
+  /**
+   * Validates the neighborhood of the given vertices and groups the resulting deletions by
+   * recipient.
+   *
+   * @param vertices fat vertices
+   * @return one message per recipient
+   */
+  private DataSet<Message> validate(DataSet<BitsetFatVertex> vertices) {
+    return vertices
+      .flatMap(new ValidateBitsetNeighborhood(getQuery()))
+      .groupBy(0)
+      .combineGroup(new CombinedMessages())
+      .groupBy(0)
+      .reduceGroup(new GroupedMessages());
+  }
+}
@@ -121,25 +121,36 @@ public class DualSimulation<
    * @return match graph
    */
   protected GC executeForPattern(LG graph) {
+    DataSet<FatVertex> result = simulate(graph);
+
     //--------------------------------------------------------------------------
-    // Pre-processing (filter candidates + build initial working set)
+    // Post-processing (build maximum match graph)
     //--------------------------------------------------------------------------
 
-    DataSet<TripleWithCandidates<GradoopId>> triples = filterTriples(graph);
-    DataSet<FatVertex> fatVertices = buildInitialWorkingSet(triples);
+    return postProcess(graph, result);
+  }
 
+  /**
+   * Computes the dual simulation of the query on the given graph without building the
+   * maximum match graph. Each resulting fat vertex represents a data vertex that is contained in
+   * the maximum match graph, including its remaining candidates and outgoing edges.
+   *
+   * @param graph data graph
+   * @return fat vertices remaining after dual simulation
+   */
+  public DataSet<FatVertex> simulate(LG graph) {
     //--------------------------------------------------------------------------
-    // Dual Simulation
+    // Pre-processing (filter candidates + build initial working set)
     //--------------------------------------------------------------------------
 
-    DataSet<FatVertex> result = useBulkIteration ?
-      simulateBulk(fatVertices) : simulateDelta(fatVertices);
+    DataSet<TripleWithCandidates<GradoopId>> triples = filterTriples(graph);
+    DataSet<FatVertex> fatVertices = buildInitialWorkingSet(triples);
 
     //--------------------------------------------------------------------------
-    // Post-processing (build maximum match graph)
+    // Dual Simulation
     //--------------------------------------------------------------------------
 
-    return postProcess(graph, result);
+    return useBulkIteration ? simulateBulk(fatVertices) : simulateDelta(fatVertices);
   }
 
   /**
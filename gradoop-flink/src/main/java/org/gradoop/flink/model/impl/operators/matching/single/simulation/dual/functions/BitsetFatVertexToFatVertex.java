@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.BitsetFatVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.FatVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.IdPair;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts a {@link BitsetFatVertex} to a {@link FatVertex}.
+ * <p>
+ * Forwarded fields:
+ * <br>
+ * f0: vertex id
+ * f2: parent ids
+ * f3: counters for incoming edge candidates
+ */
+@FunctionAnnotation.ForwardedFields("f0;f2;f3")
+public class BitsetFatVertexToFatVertex implements MapFunction<BitsetFatVertex, FatVertex> {
+
+  /**
+   * Number of query edges
+   */
+  private final int queryEdgeCount;
+
+  /**
+   * Constructor
+   *
+   * @param queryEdgeCount number of query edges
+   */
+  public BitsetFatVertexToFatVertex(int queryEdgeCount) {
+    this.queryEdgeCount = queryEdgeCount;
+  }
+
+  @Override
+  public FatVertex map(BitsetFatVertex bitsetFatVertex) throws Exception {
+    FatVertex fatVertex = new FatVertex();
+    fatVertex.setVertexId(bitsetFatVertex.getVertexId());
+
+    List<Long> candidates = Lists.newArrayList();
+    for (long vQ = bitsetFatVertex.getCandidates(); vQ != 0L; vQ &= vQ - 1) {
+      candidates.add((long) Long.numberOfTrailingZeros(vQ));
+    }
+    fatVertex.setCandidates(candidates);
+
+    fatVertex.setParentIds(bitsetFatVertex.getParentIds());
+    fatVertex.setIncomingCandidateCounts(bitsetFatVertex.getIncomingCandidateCounts());
+
+    Map<IdPair, boolean[]> edgeCandidates = Maps.newHashMap();
+    for (Map.Entry<IdPair, Long> edge : bitsetFatVertex.getEdgeCandidates().entrySet()) {
+      boolean[] edgeCandidateArray = new boolean[queryEdgeCount];
+      for (long eQ = edge.getValue(); eQ != 0L; eQ &= eQ - 1) {
+        edgeCandidateArray[Long.numberOfTrailingZeros(eQ)] = true;
+      }
+      edgeCandidates.put(edge.getKey(), edgeCandidateArray);
+    }
+    fatVertex.setEdgeCandidates(edgeCandidates);
+
+    fatVertex.setUpdated(false);
+    return fatVertex;
+  }
+}
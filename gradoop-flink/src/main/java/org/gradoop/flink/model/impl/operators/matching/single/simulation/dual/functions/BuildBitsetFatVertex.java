@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.functions.RichGroupCombineFunction;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.BitsetFatVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.IdPair;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.TripleWithDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.util.QueryBitsets;
+
+/**
+ * Combines a collection of {@link TripleWithDirection} to a {@link BitsetFatVertex}.
+ */
+public class BuildBitsetFatVertex
+  extends RichGroupCombineFunction<TripleWithDirection, BitsetFatVertex> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * GDL query
+   */
+  private final String query;
+  /**
+   * Number of query edges
+   */
+  private transient int queryEdgeCount;
+  /**
+   * Query structure as bitsets
+   */
+  private transient QueryBitsets queryBitsets;
+
+  /**
+   * Constructor
+   *
+   * @param query GDL query
+   */
+  public BuildBitsetFatVertex(String query) {
+    this.query = query;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    QueryHandler queryHandler = new QueryHandler(query);
+    this.queryEdgeCount = queryHandler.getEdgeCount();
+    this.queryBitsets = new QueryBitsets(queryHandler);
+  }
+
+  @Override
+  public void combine(Iterable<TripleWithDirection> triples,
+    Collector<BitsetFatVertex> collector) throws Exception {
+
+    BitsetFatVertex fatVertex = null;
+
+    for (TripleWithDirection triple : triples) {
+      if (fatVertex == null) {
+        fatVertex = initFatVertex(triple);
+      }
+
+      long edgeCandidates = QueryBitsets.toBitset(triple.getCandidates());
+
+      if (triple.isOutgoing()) {
+        processOutgoingEdgeTriple(fatVertex, triple, edgeCandidates);
+      } else {
+        processIncomingEdgeTriple(fatVertex, triple, edgeCandidates);
+      }
+    }
+
+    collector.collect(fatVertex);
+  }
+
+  /**
+   * Initializes the fat vertex.
+   *
+   * @param triple edge triple
+   * @return empty fat vertex
+   */
+  private BitsetFatVertex initFatVertex(TripleWithDirection triple) {
+    BitsetFatVertex fatVertex = new BitsetFatVertex();
+    fatVertex.setVertexId(triple.getSourceId());
+    fatVertex.setCandidates(0L);
+    fatVertex.setParentIds(Lists.newArrayList());
+    fatVertex.setIncomingCandidateCounts(new int[queryEdgeCount]);
+    fatVertex.setEdgeCandidates(Maps.newHashMap());
+    return fatVertex;
+  }
+
+  /**
+   * Updates vertex candidates and outgoing edges (OUT_CA) of the fat vertex based on the given
+   * outgoing edge triple.
+   *
+   * @param fatVertex fat vertex
+   * @param triple outgoing edge triple
+   * @param edgeCandidates query edge candidates of the triple
+   */
+  private void processOutgoingEdgeTriple(BitsetFatVertex fatVertex, TripleWithDirection triple,
+    long edgeCandidates) {
+    fatVertex.setCandidates(
+      fatVertex.getCandidates() | queryBitsets.getSourceVertices(edgeCandidates));
+
+    IdPair idPair = new IdPair();
+    idPair.setEdgeId(triple.getEdgeId());
+    idPair.setTargetId(triple.getTargetId());
+    fatVertex.getEdgeCandidates().put(idPair, edgeCandidates);
+  }
+
+  /**
+   * Updates vertex candidates (CA), parent ids (P_IDs) and incoming edge candidate counts (IN_CA)
+   * of the fat vertex based on the given incoming edge triple.
+   *
+   * @param fatVertex fat vertex
+   * @param triple incoming edge triple
+   * @param edgeCandidates query edge candidates of the triple
+   */
+  private void processIncomingEdgeTriple(BitsetFatVertex fatVertex, TripleWithDirection triple,
+    long edgeCandidates) {
+    if (edgeCandidates == 0L) {
+      return;
+    }
+
+    for (long eQ = edgeCandidates; eQ != 0L; eQ &= eQ - 1) {
+      fatVertex.getIncomingCandidateCounts()[Long.numberOfTrailingZeros(eQ)]++;
+    }
+
+    if (!fatVertex.getParentIds().contains(triple.getTargetId())) {
+      fatVertex.getParentIds().add(triple.getTargetId());
+    }
+
+    fatVertex.setCandidates(
+      fatVertex.getCandidates() | queryBitsets.getTargetVertices(edgeCandidates));
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.BitsetFatVertex;
+
+/**
+ * Merges multiple fat vertices into a single {@link BitsetFatVertex}.
+ * <p>
+ * {@code [fatVertex] -> fatVertex}
+ * <p>
+ * Forwarded fields:
+ * <ul>
+ * <li>f0: vertex id</li>
+ * </ul>
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class GroupedBitsetFatVertices
+  implements GroupReduceFunction<BitsetFatVertex, BitsetFatVertex> {
+
+  @Override
+  public void reduce(Iterable<BitsetFatVertex> vertices,
+    Collector<BitsetFatVertex> collector) throws Exception {
+    BitsetFatVertex result = null;
+
+    for (BitsetFatVertex vertex : vertices) {
+      if (result == null) {
+        result = vertex;
+      } else {
+        merge(result, vertex);
+      }
+    }
+
+    collector.collect(result);
+  }
+
+  /**
+   * Merges a fat vertex into another one.
+   *
+   * @param result base
+   * @param diff   diff to merge
+   */
+  private void merge(BitsetFatVertex result, BitsetFatVertex diff) {
+    // update vertex candidates (CA)
+    result.setCandidates(result.getCandidates() | diff.getCandidates());
+
+    // update parent ids (P_IDs)
+    for (GradoopId parentId : diff.getParentIds()) {
+      if (!result.getParentIds().contains(parentId)) {
+        result.getParentIds().add(parentId);
+      }
+    }
+
+    // update incoming edge counts (IN_CA)
+    for (int i = 0; i < diff.getIncomingCandidateCounts().length; i++) {
+      result.getIncomingCandidateCounts()[i] += diff.getIncomingCandidateCounts()[i];
+    }
+
+    // update outgoing edges (OUT_CA)
+    result.getEdgeCandidates().putAll(diff.getEdgeCandidates());
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions;
+
+import org.apache.flink.api.common.functions.RichJoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.BitsetFatVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.IdPair;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.Message;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.util.MessageType;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.util.QueryBitsets;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Updates the state of a {@link BitsetFatVertex} according to the message it receives. The
+ * deletions of the message are bitsets of query vertex candidates.
+ *
+ * Forwarded Fields First:
+ *
+ * f0: vertex id
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+public class UpdateBitsetVertexState
+  extends RichJoinFunction<BitsetFatVertex, Message, BitsetFatVertex> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * GDL query
+   */
+  private final String query;
+  /**
+   * Query structure as bitsets
+   */
+  private transient QueryBitsets queryBitsets;
+
+  /**
+   * Constructor
+   *
+   * @param query GDL query
+   */
+  public UpdateBitsetVertexState(String query) {
+    this.query = query;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    queryBitsets = new QueryBitsets(new QueryHandler(query));
+  }
+
+  @Override
+  public BitsetFatVertex join(BitsetFatVertex fatVertex, Message message) throws Exception {
+    for (int i = 0; i < message.getSenderIds().size(); i++) {
+      processDeletion(fatVertex, message.getSenderIds().get(i),
+        message.getDeletions().get(i), message.getMessageTypes().get(i));
+    }
+    return fatVertex;
+  }
+
+  /**
+   * Processes a deletion on the current vertex.
+   *
+   * @param fatVertex   fat vertex
+   * @param senderId    sender vertexId
+   * @param deletions   bitset of sender vertex candidate deletions
+   * @param messageType message type
+   */
+  private void processDeletion(BitsetFatVertex fatVertex, GradoopId senderId,
+    long deletions, MessageType messageType) {
+    switch (messageType) {
+    case FROM_SELF:
+      fatVertex.setCandidates(fatVertex.getCandidates() & ~deletions);
+      if (fatVertex.getCandidates() != 0L) {
+        updateOutgoingEdges(fatVertex, queryBitsets.getOutgoingEdges(deletions), null);
+      }
+      break;
+    case FROM_CHILD:
+      updateOutgoingEdges(fatVertex, queryBitsets.getIncomingEdges(deletions), senderId);
+      break;
+    case FROM_PARENT:
+      updateIncomingEdges(fatVertex, queryBitsets.getOutgoingEdges(deletions));
+      break;
+    case FROM_CHILD_REMOVE:
+      fatVertex.getEdgeCandidates().keySet()
+        .removeIf(idPair -> idPair.getTargetId().equals(senderId));
+      break;
+    case FROM_PARENT_REMOVE:
+      updateIncomingEdges(fatVertex, queryBitsets.getOutgoingEdges(deletions));
+      fatVertex.getParentIds().removeAll(Collections.singleton(senderId));
+      break;
+    default:
+      throw new IllegalArgumentException("Unsupported type: " + messageType);
+    }
+  }
+
+  /**
+   * Decrements the incoming edge counter of each given query edge.
+   *
+   * @param fatVertex  fat vertex
+   * @param queryEdges bitset of edge candidates to be removed
+   */
+  private void updateIncomingEdges(BitsetFatVertex fatVertex, long queryEdges) {
+    int[] counts = fatVertex.getIncomingCandidateCounts();
+    for (long eQ = queryEdges; eQ != 0L; eQ &= eQ - 1) {
+      int index = Long.numberOfTrailingZeros(eQ);
+      if (counts[index] > 0) {
+        counts[index]--;
+      }
+    }
+  }
+
+  /**
+   * Removes the given query edges from the candidates of outgoing edges. Updates only those
+   * outgoing edges which point to a specific target vertex, if given. Edges without candidates
+   * are removed.
+   *
+   * @param fatVertex    fat vertex
+   * @param queryEdges   bitset of edge candidates to be removed
+   * @param targetVertex target vertex to consider or {@code null} for all
+   */
+  private void updateOutgoingEdges(BitsetFatVertex fatVertex, long queryEdges,
+    GradoopId targetVertex) {
+    if (queryEdges == 0L) {
+      return;
+    }
+    Iterator<Map.Entry<IdPair, Long>> edgeIterator =
+      fatVertex.getEdgeCandidates().entrySet().iterator();
+
+    while (edgeIterator.hasNext()) {
+      Map.Entry<IdPair, Long> edge = edgeIterator.next();
+      if (targetVertex == null || edge.getKey().getTargetId().equals(targetVertex)) {
+        long remaining = edge.getValue() & ~queryEdges;
+        if (remaining == 0L) {
+          edgeIterator.remove();
+        } else {
+          edge.setValue(remaining);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.BitsetFatVertex;
+
+/**
+ * Filters a {@link BitsetFatVertex} if it has query candidates.
+ *
+ * Read fields:
+ *
+ * f1: vertex query candidates
+ */
+@FunctionAnnotation.ReadFields("f1")
+public class ValidBitsetFatVertices implements FilterFunction<BitsetFatVertex> {
+
+  @Override
+  public boolean filter(BitsetFatVertex fatVertex) throws Exception {
+    return fatVertex.getCandidates() != 0L;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.functions;
+
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.BitsetFatVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.Deletion;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples.IdPair;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.util.MessageType;
+import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.util.QueryBitsets;
+
+/**
+ * Validates the neighborhood of a {@link BitsetFatVertex} according to the query.
+ * <p>
+ * A query vertex candidate is valid, if the vertex has incoming edge candidates for all incoming
+ * and outgoing edge candidates for all outgoing query edges of that candidate. All invalid
+ * candidates are sent to the neighbors (and the vertex itself) as a single deletion whose
+ * candidate field contains the bitset of invalid candidates.
+ * <p>
+ * {@code fatVertex -> [deletion]}
+ * <p>
+ * {@code f0->f1: vertexId -> senderId}
+ */
+@FunctionAnnotation.ForwardedFields("f0->f1")
+public class ValidateBitsetNeighborhood extends RichFlatMapFunction<BitsetFatVertex, Deletion> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * GDL query
+   */
+  private final String query;
+  /**
+   * Query structure as bitsets
+   */
+  private transient QueryBitsets queryBitsets;
+  /**
+   * Reduce instantiations
+   */
+  private final Deletion reuseDeletion;
+
+  /**
+   * Constructor
+   *
+   * @param query GDL query
+   */
+  public ValidateBitsetNeighborhood(String query) {
+    this.query = query;
+    this.reuseDeletion = new Deletion();
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    queryBitsets = new QueryBitsets(new QueryHandler(query));
+  }
+
+  @Override
+  public void flatMap(BitsetFatVertex fatVertex, Collector<Deletion> collector) throws Exception {
+    long candidates = fatVertex.getCandidates();
+    long outgoingEdgeCandidates = getOutgoingEdgeCandidates(fatVertex);
+    long deletions = 0L;
+
+    for (long remaining = candidates; remaining != 0L; remaining &= remaining - 1) {
+      long vQ = Long.lowestOneBit(remaining);
+
+      boolean isValidChild = hasIncomingEdgeCandidates(fatVertex,
+        queryBitsets.getIncomingEdges(vQ));
+      boolean isValidParent = isValidChild && (queryBitsets.getOutgoingEdges(vQ) &
+        ~outgoingEdgeCandidates) == 0L;
+
+      if (!isValidParent) {
+        deletions |= vQ;
+      }
+    }
+
+    if (deletions != 0L) {
+      sendDeletions(deletions, deletions == candidates, fatVertex, collector);
+    }
+  }
+
+  /**
+   * Checks if the vertex has at least one incoming edge candidate for each of the given query
+   * edges.
+   *
+   * @param fatVertex vertex
+   * @param queryEdges query edge bitset
+   * @return true, if all query edges have incoming candidates
+   */
+  private boolean hasIncomingEdgeCandidates(BitsetFatVertex fatVertex, long queryEdges) {
+    for (long eQ = queryEdges; eQ != 0L; eQ &= eQ - 1) {
+      if (fatVertex.getIncomingCandidateCounts()[Long.numberOfTrailingZeros(eQ)] == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Sends a delete message to the vertex' neighborhood including itself.
+   *
+   * @param deletions   bitset of vertex candidates that need to be deleted
+   * @param toBeRemoved true, if {@code fatVertex} will be removed
+   * @param fatVertex   current vertex
+   * @param collector   message collector
+   */
+  private void sendDeletions(long deletions, boolean toBeRemoved, BitsetFatVertex fatVertex,
+    Collector<Deletion> collector) {
+    reuseDeletion.setSenderId(fatVertex.getVertexId());
+    reuseDeletion.setDeletion(deletions);
+
+    // self
+    reuseDeletion.setMessageType(MessageType.FROM_SELF);
+    reuseDeletion.setRecipientId(fatVertex.getVertexId());
+    collector.collect(reuseDeletion);
+
+    // parents
+    reuseDeletion.setMessageType(toBeRemoved ?
+      MessageType.FROM_CHILD_REMOVE : MessageType.FROM_CHILD);
+    for (GradoopId parentId : fatVertex.getParentIds()) {
+      reuseDeletion.setRecipientId(parentId);
+      collector.collect(reuseDeletion);
+    }
+
+    // children
+    reuseDeletion.setMessageType(toBeRemoved ?
+      MessageType.FROM_PARENT_REMOVE : MessageType.FROM_PARENT);
+    for (IdPair idPair : fatVertex.getEdgeCandidates().keySet()) {
+      reuseDeletion.setRecipientId(idPair.getTargetId());
+      collector.collect(reuseDeletion);
+    }
+  }
+
+  /**
+   * Returns all outgoing edge candidates for the given vertex.
+   *
+   * @param fatVertex fat vertex
+   * @return bitset of all outgoing edge candidates of {@code fatVertex}
+   */
+  private long getOutgoingEdgeCandidates(BitsetFatVertex fatVertex) {
+    long outgoingEdgeCandidates = 0L;
+    for (long candidates : fatVertex.getEdgeCandidates().values()) {
+      outgoingEdgeCandidates |= candidates;
+    }
+    return outgoingEdgeCandidates;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a vertex and its neighborhood. In contrast to {@link FatVertex}, query candidates
+ * are encoded as bitsets.
+ *
+ * f0: vertex id
+ * f1: vertex query candidates (bitset)
+ * f2: parent ids
+ * f3: counters for incoming edge candidates
+ * f4: outgoing edges (edgeId, targetId) and their query candidates (bitset)
+ */
+public class BitsetFatVertex extends Tuple5<GradoopId, Long, List<GradoopId>,
+    int[], Map<IdPair, Long>> {
+
+  public GradoopId getVertexId() {
+    return f0;
+  }
+
+  public void setVertexId(GradoopId vertexId) {
+    f0 = vertexId;
+  }
+
+  public Long getCandidates() {
+    return f1;
+  }
+
+  public void setCandidates(Long candidates) {
+    f1 = candidates;
+  }
+
+  public List<GradoopId> getParentIds() {
+    return f2;
+  }
+
+  public void setParentIds(List<GradoopId> parentIds) {
+    f2 = parentIds;
+  }
+
+  public int[] getIncomingCandidateCounts() {
+    return f3;
+  }
+
+  public void setIncomingCandidateCounts(int[] incomingCandidateCounts) {
+    f3 = incomingCandidateCounts;
+  }
+
+  public Map<IdPair, Long> getEdgeCandidates() {
+    return f4;
+  }
+
+  public void setEdgeCandidates(Map<IdPair, Long> edgeCandidates) {
+    f4 = edgeCandidates;
+  }
+}
@@ -24,7 +24,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.ut
  *
  * f0: recipient vertex id
  * f1: sender vertex id
- * f2: candidate for deletion
+ * f2: candidate for deletion (bitset of candidates in BitsetDualSimulation)
  * f3: message type
  */
 public class Deletion extends Tuple4<GradoopId, GradoopId, Long, MessageType> {
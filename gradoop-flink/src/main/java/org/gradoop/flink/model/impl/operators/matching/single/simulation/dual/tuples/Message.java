@@ -27,7 +27,7 @@ import java.util.List;
  *
  * f0: recipient vertex id
  * f1: sender vertex ids
- * f2: candidate deletions
+ * f2: candidate deletions (bitsets of candidates in BitsetDualSimulation)
  * f3: message types
  */
 public class Message extends
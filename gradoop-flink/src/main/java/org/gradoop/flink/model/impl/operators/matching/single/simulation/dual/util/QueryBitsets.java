@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.simulation.dual.util;
+
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.s1ck.gdl.model.Edge;
+import org.s1ck.gdl.model.Vertex;
+
+/**
+ * Encodes the structure of a query graph as bitsets, where bit {@code i} represents the query
+ * vertex or query edge with id {@code i}. Applicable to queries with vertex and edge ids
+ * smaller than 64.
+ */
+public class QueryBitsets {
+
+  /**
+   * query vertex id -> bitset of outgoing query edges
+   */
+  private final long[] outgoingEdges;
+  /**
+   * query vertex id -> bitset of incoming query edges
+   */
+  private final long[] incomingEdges;
+  /**
+   * query edge id -> source vertex bit
+   */
+  private final long[] sourceVertices;
+  /**
+   * query edge id -> target vertex bit
+   */
+  private final long[] targetVertices;
+
+  /**
+   * Constructor.
+   *
+   * @param queryHandler query handler
+   */
+  public QueryBitsets(QueryHandler queryHandler) {
+    outgoingEdges = new long[Long.SIZE];
+    incomingEdges = new long[Long.SIZE];
+    sourceVertices = new long[Long.SIZE];
+    targetVertices = new long[Long.SIZE];
+
+    for (Edge edge : queryHandler.getEdges()) {
+      int edgeId = (int) edge.getId();
+      int sourceId = (int) edge.getSourceVertexId().longValue();
+      int targetId = (int) edge.getTargetVertexId().longValue();
+
+      outgoingEdges[sourceId] |= 1L << edgeId;
+      incomingEdges[targetId] |= 1L << edgeId;
+      sourceVertices[edgeId] = 1L << sourceId;
+      targetVertices[edgeId] = 1L << targetId;
+    }
+  }
+
+  /**
+   * Checks if all vertex and edge ids of the query can be represented by a bitset.
+   *
+   * @param queryHandler query handler
+   * @return true, iff all ids are smaller than 64
+   */
+  public static boolean isApplicable(QueryHandler queryHandler) {
+    for (Vertex vertex : queryHandler.getVertices()) {
+      if (vertex.getId() < 0 || vertex.getId() >= Long.SIZE) {
+        return false;
+      }
+    }
+    for (Edge edge : queryHandler.getEdges()) {
+      if (edge.getId() < 0 || edge.getId() >= Long.SIZE) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the outgoing edges of the given query vertices.
+   *
+   * @param vertices query vertex bitset
+   * @return query edge bitset
+   */
+  public long getOutgoingEdges(long vertices) {
+    return collect(outgoingEdges, vertices);
+  }
+
+  /**
+   * Returns the incoming edges of the given query vertices.
+   *
+   * @param vertices query vertex bitset
+   * @return query edge bitset
+   */
+  public long getIncomingEdges(long vertices) {
+    return collect(incomingEdges, vertices);
+  }
+
+  /**
+   * Returns the source vertices of the given query edges.
+   *
+   * @param edges query edge bitset
+   * @return query vertex bitset
+   */
+  public long getSourceVertices(long edges) {
+    return collect(sourceVertices, edges);
+  }
+
+  /**
+   * Returns the target vertices of the given query edges.
+   *
+   * @param edges query edge bitset
+   * @return query vertex bitset
+   */
+  public long getTargetVertices(long edges) {
+    return collect(targetVertices, edges);
+  }
+
+  /**
+   * Converts a candidate array to a bitset.
+   *
+   * @param candidates candidate array
+   * @return bitset
+   */
+  public static long toBitset(boolean[] candidates) {
+    long bitset = 0L;
+    for (int i = 0; i < candidates.length; i++) {
+      if (candidates[i]) {
+        bitset |= 1L << i;
+      }
+    }
+    return bitset;
+  }
+
+  /**
+   * Unions the entries of the given array whose index is set in the bitset.
+   *
+   * @param entries bitsets by index
+   * @param indices index bitset
+   * @return union of the selected entries
+   */
+  private static long collect(long[] entries, long indices) {
+    long result = 0L;
+    while (indices != 0L) {
+      result |= entries[Long.numberOfTrailingZeros(indices)];
+      indices &= indices - 1;
+    }
+    return result;
+  }
+}
@@ -0,0 +1,489 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.transactional.algorithm;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.IdWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.common.tuples.TripleWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.transactional.tuples.GraphWithCandidates;
+import org.s1ck.gdl.model.Edge;
+import org.s1ck.gdl.model.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Stack;
+
+/**
+ * A depth-first pattern matching algorithm working on a dense integer index of each graph.
+ * <p>
+ * The vertices and edges of a graph are first mapped to consecutive integers. Outgoing and
+ * incoming edges of each vertex as well as the candidate vertices of each query vertex are
+ * stored in compressed arrays. Embeddings are then enumerated depth-first on a single integer
+ * embedding, which is extended and reverted in place. Only complete embeddings are converted
+ * back to ids.
+ * <p>
+ * The matching semantics are the same as of {@link DepthSearchMatching}, i.e. vertices and edges
+ * are matched isomorphically. All arrays are reused for the next graph and the query is only
+ * parsed once, which makes this algorithm suited for many small graphs.
+ */
+public class IndexedDepthSearchMatching implements PatternMatchingAlgorithm {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 42L;
+  /**
+   * Value of an unmapped query vertex or edge.
+   */
+  private static final int UNMAPPED = -1;
+
+  /**
+   * The query the plan was built for.
+   */
+  private transient String plannedQuery;
+  /**
+   * Number of query vertices.
+   */
+  private transient int queryVertexCount;
+  /**
+   * Number of query edges.
+   */
+  private transient int queryEdgeCount;
+  /**
+   * Query vertices in the order they are matched.
+   */
+  private transient int[] plan;
+  /**
+   * {@code plan position -> query edges matched together with the vertex at that position}
+   */
+  private transient int[][] stepEdges;
+  /**
+   * {@code plan position -> the other query vertex of each of those edges}
+   */
+  private transient int[][] stepOtherVertices;
+  /**
+   * {@code plan position -> true, if the edge is an outgoing edge of the vertex at that position}
+   */
+  private transient boolean[][] stepOutgoing;
+
+  /**
+   * {@code vertex index -> vertex id}, sorted
+   */
+  private transient GradoopId[] vertexIds;
+  /**
+   * {@code vertex index -> vertex candidates}
+   */
+  private transient boolean[][] vertexCandidates;
+  /**
+   * {@code edge index -> edge id}
+   */
+  private transient GradoopId[] edgeIds;
+  /**
+   * {@code edge index -> edge candidates}
+   */
+  private transient boolean[][] edgeCandidates;
+  /**
+   * {@code edge index -> source vertex index}
+   */
+  private transient int[] edgeSources;
+  /**
+   * {@code edge index -> target vertex index}
+   */
+  private transient int[] edgeTargets;
+  /**
+   * Offsets of the outgoing edges of each vertex in {@link #outEdges}.
+   */
+  private transient int[] outOffsets;
+  /**
+   * Outgoing edge indices, ordered by source vertex.
+   */
+  private transient int[] outEdges;
+  /**
+   * Offsets of the incoming edges of each vertex in {@link #inEdges}.
+   */
+  private transient int[] inOffsets;
+  /**
+   * Incoming edge indices, ordered by target vertex.
+   */
+  private transient int[] inEdges;
+  /**
+   * Offsets of the candidate vertices of each query vertex in {@link #candidateVertices}.
+   */
+  private transient int[] candidateOffsets;
+  /**
+   * Candidate vertex indices, ordered by query vertex.
+   */
+  private transient int[] candidateVertices;
+  /**
+   * Next free position per vertex, used while building the indices.
+   */
+  private transient int[] cursors;
+  /**
+   * Vertices in the current embedding.
+   */
+  private transient boolean[] usedVertices;
+  /**
+   * Edges in the current embedding.
+   */
+  private transient boolean[] usedEdges;
+  /**
+   * {@code query vertex -> vertex index} of the current embedding
+   */
+  private transient int[] vertexMapping;
+  /**
+   * {@code query edge -> edge index} of the current embedding
+   */
+  private transient int[] edgeMapping;
+  /**
+   * Found embeddings, {@code null} if the search stops at the first embedding.
+   */
+  private transient List<Embedding<GradoopId>> results;
+
+  @Override
+  public Boolean hasEmbedding(GraphWithCandidates graph, String query) {
+    initialize(graph, query);
+    results = null;
+    return matchVertex(0);
+  }
+
+  @Override
+  public List<Embedding<GradoopId>> findEmbeddings(GraphWithCandidates graph, String query) {
+    initialize(graph, query);
+    List<Embedding<GradoopId>> embeddings = new ArrayList<>();
+    results = embeddings;
+    matchVertex(0);
+    results = null;
+    return embeddings;
+  }
+
+  /**
+   * Matches the query vertex at a position of the plan, followed by its edges.
+   *
+   * @param position position in the plan
+   * @return true, if the search should stop
+   */
+  private boolean matchVertex(int position) {
+    if (position == plan.length) {
+      if (results == null) {
+        return true;
+      }
+      results.add(buildEmbedding());
+      return false;
+    }
+    int queryVertex = plan[position];
+    for (int i = candidateOffsets[queryVertex]; i < candidateOffsets[queryVertex + 1]; i++) {
+      int vertex = candidateVertices[i];
+      if (!usedVertices[vertex]) {
+        usedVertices[vertex] = true;
+        vertexMapping[queryVertex] = vertex;
+        boolean stop = matchEdge(position, 0);
+        usedVertices[vertex] = false;
+        if (stop) {
+          return true;
+        }
+      }
+    }
+    vertexMapping[queryVertex] = UNMAPPED;
+    return false;
+  }
+
+  /**
+   * Matches a query edge of the vertex at a position of the plan, followed by the remaining edges
+   * of that vertex and the next position.
+   *
+   * @param position position in the plan
+   * @param index index of the edge in the edges of that position
+   * @return true, if the search should stop
+   */
+  private boolean matchEdge(int position, int index) {
+    if (index == stepEdges[position].length) {
+      return matchVertex(position + 1);
+    }
+    int queryEdge = stepEdges[position][index];
+    int vertex = vertexMapping[plan[position]];
+    int other = vertexMapping[stepOtherVertices[position][index]];
+    boolean outgoing = stepOutgoing[position][index];
+    int[] offsets = outgoing ? outOffsets : inOffsets;
+    int[] edges = outgoing ? outEdges : inEdges;
+    int[] opposites = outgoing ? edgeTargets : edgeSources;
+
+    for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+      int edge = edges[i];
+      if (!usedEdges[edge] && opposites[edge] == other && edgeCandidates[edge][queryEdge]) {
+        usedEdges[edge] = true;
+        edgeMapping[queryEdge] = edge;
+        boolean stop = matchEdge(position, index + 1);
+        usedEdges[edge] = false;
+        if (stop) {
+          return true;
+        }
+      }
+    }
+    edgeMapping[queryEdge] = UNMAPPED;
+    return false;
+  }
+
+  /**
+   * Converts the current embedding to an embedding of ids.
+   *
+   * @return embedding of vertex and edge ids
+   */
+  private Embedding<GradoopId> buildEmbedding() {
+    GradoopId[] vertexMappingIds = new GradoopId[queryVertexCount];
+    for (int i = 0; i < queryVertexCount; i++) {
+      vertexMappingIds[i] = vertexMapping[i] == UNMAPPED ? null : vertexIds[vertexMapping[i]];
+    }
+    GradoopId[] edgeMappingIds = new GradoopId[queryEdgeCount];
+    for (int i = 0; i < queryEdgeCount; i++) {
+      edgeMappingIds[i] = edgeMapping[i] == UNMAPPED ? null : edgeIds[edgeMapping[i]];
+    }
+    Embedding<GradoopId> embedding = new Embedding<>();
+    embedding.setVertexMapping(vertexMappingIds);
+    embedding.setEdgeMapping(edgeMappingIds);
+    return embedding;
+  }
+
+  /**
+   * Builds the plan for a new query and the indices of a graph.
+   *
+   * @param graph graph with candidates
+   * @param query query string
+   */
+  private void initialize(GraphWithCandidates graph, String query) {
+    if (!query.equals(plannedQuery)) {
+      buildQueryPlan(new QueryHandler(query));
+      plannedQuery = query;
+    }
+
+    // vertex indices are positions in the sorted vertex ids
+    List<IdWithCandidates<GradoopId>> vertices = graph.getVertexCandidates();
+    int vertexCount = vertices.size();
+    vertexIds = ensureCapacity(vertexIds, vertexCount);
+    vertexCandidates = ensureCapacity(vertexCandidates, vertexCount);
+    for (int i = 0; i < vertexCount; i++) {
+      vertexIds[i] = vertices.get(i).getId();
+    }
+    Arrays.sort(vertexIds, 0, vertexCount);
+    for (IdWithCandidates<GradoopId> vertex : vertices) {
+      vertexCandidates[Arrays.binarySearch(vertexIds, 0, vertexCount, vertex.getId())] =
+        vertex.getCandidates();
+    }
+
+    // edges with both vertices in the graph
+    List<TripleWithCandidates<GradoopId>> edges = graph.getEdgeCandidates();
+    edgeIds = ensureCapacity(edgeIds, edges.size());
+    edgeCandidates = ensureCapacity(edgeCandidates, edges.size());
+    edgeSources = ensureCapacity(edgeSources, edges.size());
+    edgeTargets = ensureCapacity(edgeTargets, edges.size());
+    int edgeCount = 0;
+    for (TripleWithCandidates<GradoopId> edge : edges) {
+      int source = Arrays.binarySearch(vertexIds, 0, vertexCount, edge.getSourceId());
+      int target = Arrays.binarySearch(vertexIds, 0, vertexCount, edge.getTargetId());
+      if (source >= 0 && target >= 0) {
+        edgeIds[edgeCount] = edge.getEdgeId();
+        edgeCandidates[edgeCount] = edge.getCandidates();
+        edgeSources[edgeCount] = source;
+        edgeTargets[edgeCount] = target;
+        edgeCount++;
+      }
+    }
+
+    // adjacency of each vertex
+    cursors = ensureCapacity(cursors, Math.max(vertexCount, queryVertexCount) + 1);
+    outOffsets = ensureCapacity(outOffsets, vertexCount + 1);
+    outEdges = ensureCapacity(outEdges, edgeCount);
+    buildIndex(edgeSources, edgeCount, vertexCount, outOffsets, outEdges);
+    inOffsets = ensureCapacity(inOffsets, vertexCount + 1);
+    inEdges = ensureCapacity(inEdges, edgeCount);
+    buildIndex(edgeTargets, edgeCount, vertexCount, inOffsets, inEdges);
+
+    // candidate vertices of each query vertex
+    candidateOffsets = ensureCapacity(candidateOffsets, queryVertexCount + 1);
+    Arrays.fill(candidateOffsets, 0, queryVertexCount + 1, 0);
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      for (int queryVertex = 0; queryVertex < queryVertexCount; queryVertex++) {
+        if (vertexCandidates[vertex][queryVertex]) {
+          candidateOffsets[queryVertex + 1]++;
+        }
+      }
+    }
+    for (int queryVertex = 0; queryVertex < queryVertexCount; queryVertex++) {
+      candidateOffsets[queryVertex + 1] += candidateOffsets[queryVertex];
+    }
+    candidateVertices = ensureCapacity(candidateVertices, candidateOffsets[queryVertexCount]);
+    System.arraycopy(candidateOffsets, 0, cursors, 0, queryVertexCount);
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      for (int queryVertex = 0; queryVertex < queryVertexCount; queryVertex++) {
+        if (vertexCandidates[vertex][queryVertex]) {
+          candidateVertices[cursors[queryVertex]++] = vertex;
+        }
+      }
+    }
+
+    // the empty embedding
+    usedVertices = ensureCapacity(usedVertices, vertexCount);
+    Arrays.fill(usedVertices, 0, vertexCount, false);
+    usedEdges = ensureCapacity(usedEdges, edgeCount);
+    Arrays.fill(usedEdges, 0, edgeCount, false);
+    vertexMapping = ensureCapacity(vertexMapping, queryVertexCount);
+    Arrays.fill(vertexMapping, 0, queryVertexCount, UNMAPPED);
+    edgeMapping = ensureCapacity(edgeMapping, queryEdgeCount);
+    Arrays.fill(edgeMapping, 0, queryEdgeCount, UNMAPPED);
+  }
+
+  /**
+   * Builds a compressed index of edges by one of their vertices.
+   *
+   * @param keys {@code edge index -> vertex index} to index the edges by
+   * @param edgeCount number of edges
+   * @param vertexCount number of vertices
+   * @param offsets offsets of the edges of each vertex (output)
+   * @param entries edge indices ordered by vertex (output)
+   */
+  private void buildIndex(int[] keys, int edgeCount, int vertexCount, int[] offsets,
+    int[] entries) {
+    Arrays.fill(offsets, 0, vertexCount + 1, 0);
+    for (int edge = 0; edge < edgeCount; edge++) {
+      offsets[keys[edge] + 1]++;
+    }
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      offsets[vertex + 1] += offsets[vertex];
+    }
+    System.arraycopy(offsets, 0, cursors, 0, vertexCount);
+    for (int edge = 0; edge < edgeCount; edge++) {
+      entries[cursors[keys[edge]]++] = edge;
+    }
+  }
+
+  /**
+   * Builds the plan that determines in which order query vertices are matched. Each query edge
+   * is matched together with the later of its vertices.
+   *
+   * @param handler query handler
+   */
+  private void buildQueryPlan(QueryHandler handler) {
+    queryVertexCount = handler.getVertexCount();
+    queryEdgeCount = handler.getEdgeCount();
+
+    // depth-first traversal of the query graph, like DepthSearchMatching
+    int[] queryPlan = new int[queryVertexCount];
+    int step = 0;
+    Set<Long> alreadyVisited = new HashSet<>();
+    Stack<Vertex> stack = new Stack<>();
+    stack.push(handler.getVertexById(0L));
+    alreadyVisited.add(0L);
+    while (!stack.isEmpty()) {
+      Vertex current = stack.pop();
+      queryPlan[step] = (int) current.getId();
+      step++;
+      Collection<Vertex> neighbors = handler.getNeighbors(current.getId());
+      for (Vertex neighbor : neighbors) {
+        if (alreadyVisited.add(neighbor.getId())) {
+          stack.push(neighbor);
+        }
+      }
+    }
+    plan = Arrays.copyOf(queryPlan, step);
+
+    int[] positions = new int[queryVertexCount];
+    Arrays.fill(positions, UNMAPPED);
+    for (int position = 0; position < plan.length; position++) {
+      positions[plan[position]] = position;
+    }
+
+    List<List<int[]>> edgesPerPosition = new ArrayList<>();
+    for (int position = 0; position < plan.length; position++) {
+      edgesPerPosition.add(new ArrayList<>());
+    }
+    for (Edge edge : handler.getEdges()) {
+      int source = Math.toIntExact(edge.getSourceVertexId());
+      int target = Math.toIntExact(edge.getTargetVertexId());
+      if (positions[source] == UNMAPPED || positions[target] == UNMAPPED) {
+        continue;
+      }
+      // {query edge, other query vertex, outgoing}
+      if (positions[source] >= positions[target]) {
+        edgesPerPosition.get(positions[source]).add(new int[] {(int) edge.getId(), target, 1});
+      } else {
+        edgesPerPosition.get(positions[target]).add(new int[] {(int) edge.getId(), source, 0});
+      }
+    }
+
+    stepEdges = new int[plan.length][];
+    stepOtherVertices = new int[plan.length][];
+    stepOutgoing = new boolean[plan.length][];
+    for (int position = 0; position < plan.length; position++) {
+      List<int[]> stepEdgeList = edgesPerPosition.get(position);
+      stepEdges[position] = new int[stepEdgeList.size()];
+      stepOtherVertices[position] = new int[stepEdgeList.size()];
+      stepOutgoing[position] = new boolean[stepEdgeList.size()];
+      for (int i = 0; i < stepEdgeList.size(); i++) {
+        stepEdges[position][i] = stepEdgeList.get(i)[0];
+        stepOtherVertices[position][i] = stepEdgeList.get(i)[1];
+        stepOutgoing[position][i] = stepEdgeList.get(i)[2] == 1;
+      }
+    }
+  }
+
+  /**
+   * Returns an array of at least the given size, reusing the given array if possible.
+   *
+   * @param array array to reuse, may be {@code null}
+   * @param size required size
+   * @return array of at least the given size
+   */
+  private static int[] ensureCapacity(int[] array, int size) {
+    return array != null && array.length >= size ? array : new int[Math.max(size, 16)];
+  }
+
+  /**
+   * Returns an array of at least the given size, reusing the given array if possible.
+   *
+   * @param array array to reuse, may be {@code null}
+   * @param size required size
+   * @return array of at least the given size
+   */
+  private static boolean[] ensureCapacity(boolean[] array, int size) {
+    return array != null && array.length >= size ? array : new boolean[Math.max(size, 16)];
+  }
+
+  /**
+   * Returns an array of at least the given size, reusing the given array if possible.
+   *
+   * @param array array to reuse, may be {@code null}
+   * @param size required size
+   * @return array of at least the given size
+   */
+  private static boolean[][] ensureCapacity(boolean[][] array, int size) {
+    return array != null && array.length >= size ? array : new boolean[Math.max(size, 16)][];
+  }
+
+  /**
+   * Returns an array of at least the given size, reusing the given array if possible.
+   *
+   * @param array array to reuse, may be {@code null}
+   * @param size required size
+   * @return array of at least the given size
+   */
+  private static GradoopId[] ensureCapacity(GradoopId[] array, int size) {
+    return array != null && array.length >= size ? array : new GradoopId[Math.max(size, 16)];
+  }
+}
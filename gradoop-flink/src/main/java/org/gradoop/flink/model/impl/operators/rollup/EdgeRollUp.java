@@ -15,9 +15,14 @@
  */
 package org.gradoop.flink.model.impl.operators.rollup;
 
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGrouping;
 
 import java.util.List;
 
@@ -63,6 +68,13 @@ public class EdgeRollUp extends RollUp {
       edgeAggregateFunctions, strategy);
   }
 
+  @Override
+  KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection>
+  createKeyedGrouping(List<String> groupingKeys) {
+    return new KeyedGrouping<>(asKeyFunctions(vertexGroupingKeys), vertexAggregateFunctions,
+      asKeyFunctions(groupingKeys), edgeAggregateFunctions);
+  }
+
   @Override
   List<List<String>> getGroupingKeyCombinations() {
     return createGroupingKeyCombinations(edgeGroupingKeys);
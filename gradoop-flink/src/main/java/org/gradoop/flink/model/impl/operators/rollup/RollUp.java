@@ -16,16 +16,22 @@
 package org.gradoop.flink.model.impl.operators.rollup;
 
 import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.KeyFunction;
 import org.gradoop.flink.model.api.operators.UnaryGraphToCollectionOperator;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.epgm.SetProperty;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping;
 import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.GroupingKeys;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGrouping;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.RemovePartialAggregates;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -37,6 +43,11 @@ import java.util.List;
  * keys A, B and C leads to three differently grouped graphs {A,B,C},{A,B},{A} within the resulting
  * graph collection. The grouping can be applied using the vertex or edge grouping keys depending on
  * the implementations of the used sub class.
+ * <p>
+ * With {@link GroupingStrategy#GROUP_WITH_KEYFUNCTIONS}, the input graph is only grouped once by
+ * the finest combination of keys. Each coarser grouping is then derived from the previous grouped
+ * graph, using partial aggregate values stored on its super-elements. Otherwise each grouping is
+ * applied on the input graph.
  */
 public abstract class RollUp implements UnaryGraphToCollectionOperator {
   /**
@@ -98,11 +109,23 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
     DataSet<EPGMVertex> vertices = null;
     DataSet<EPGMEdge> edges = null;
     List<List<String>> groupingKeyCombinations = getGroupingKeyCombinations();
+    LogicalGraph partiallyAggregatedGraph = null;
 
     // for each permutation execute a grouping
     for (List<String> combination : groupingKeyCombinations) {
       // apply the grouping
-      LogicalGraph groupedGraph = applyGrouping(graph, combination);
+      LogicalGraph groupedGraph;
+      if (strategy == GroupingStrategy.GROUP_WITH_KEYFUNCTIONS) {
+        // combinations are ordered from finest to coarsest, each grouping is applied on the
+        // grouped graph of the previous combination
+        partiallyAggregatedGraph = createKeyedGrouping(combination)
+          .setRetainPartialAggregates(true)
+          .setAggregatedInput(partiallyAggregatedGraph != null)
+          .execute(partiallyAggregatedGraph == null ? graph : partiallyAggregatedGraph);
+        groupedGraph = removePartialAggregates(partiallyAggregatedGraph);
+      } else {
+        groupedGraph = applyGrouping(graph, combination);
+      }
 
       // add a property to the grouped graph's head to specify the used keys
       PropertyValue groupingKeys = PropertyValue.create(String.join(",", combination));
@@ -155,9 +178,41 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
     return combinations;
   }
 
+  /**
+   * Remove the partial aggregate values from all elements of a grouped graph.
+   *
+   * @param graph the grouped graph
+   * @return the grouped graph without partial aggregate values
+   */
+  private LogicalGraph removePartialAggregates(LogicalGraph graph) {
+    return graph.getFactory().fromDataSets(graph.getGraphHead(),
+      graph.getVertices().map(new RemovePartialAggregates<>()),
+      graph.getEdges().map(new RemovePartialAggregates<>()));
+  }
+
+  /**
+   * Convert grouping keys to key functions, as used by the {@link KeyedGrouping} operator.
+   *
+   * @param groupingKeys the grouping keys, may be {@code null}
+   * @param <T> the element type
+   * @return a list of key functions
+   */
+  static <T extends Element> List<KeyFunction<T, ?>> asKeyFunctions(List<String> groupingKeys) {
+    List<KeyFunction<T, ?>> keyFunctions = new ArrayList<>();
+    if (groupingKeys != null) {
+      for (String key : groupingKeys) {
+        keyFunctions.add(key.equals(Grouping.LABEL_SYMBOL) ?
+          GroupingKeys.label() : GroupingKeys.property(key));
+      }
+    }
+    return keyFunctions;
+  }
+
   /**
    * Set the grouping strategy that will be used for each grouping.
    * {@link GroupingStrategy#GROUP_REDUCE} is used as default.
+   * {@link GroupingStrategy#GROUP_WITH_KEYFUNCTIONS} derives coarser groupings from finer ones,
+   * see {@link RollUp}.
    *
    * @param strategy the strategy to use
    */
@@ -183,6 +238,16 @@ public abstract class RollUp implements UnaryGraphToCollectionOperator {
    */
   abstract LogicalGraph applyGrouping(LogicalGraph graph, List<String> groupingKeys);
 
+  /**
+   * Create a keyed grouping operator that uses the given grouping keys as vertex or edge grouping
+   * keys (depends on the child class).
+   *
+   * @param groupingKeys the vertex or edge grouping keys to use
+   * @return the grouping operator
+   */
+  abstract KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection>
+  createKeyedGrouping(List<String> groupingKeys);
+
   /**
    * Returns all vertex or edge grouping key combinations as list. Internally the
    * {@link RollUp#createGroupingKeyCombinations(List)} function is used to create the combinations.
@@ -15,9 +15,14 @@
  */
 package org.gradoop.flink.model.impl.operators.rollup;
 
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGrouping;
 
 import java.util.List;
 
@@ -64,6 +69,13 @@ public class VertexRollUp extends RollUp {
       edgeAggregateFunctions, strategy);
   }
 
+  @Override
+  KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection>
+  createKeyedGrouping(List<String> groupingKeys) {
+    return new KeyedGrouping<>(asKeyFunctions(groupingKeys), vertexAggregateFunctions,
+      asKeyFunctions(edgeGroupingKeys), edgeAggregateFunctions);
+  }
+
   @Override
   List<List<String>> getGroupingKeyCombinations() {
     return createGroupingKeyCombinations(vertexGroupingKeys);
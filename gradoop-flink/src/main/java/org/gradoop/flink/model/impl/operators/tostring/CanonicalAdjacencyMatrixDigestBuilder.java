@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.GraphHead;
+import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.api.epgm.BaseGraph;
+import org.gradoop.flink.model.api.epgm.BaseGraphCollection;
+import org.gradoop.flink.model.api.operators.UnaryBaseGraphCollectionToValueOperator;
+import org.gradoop.flink.model.impl.operators.tostring.api.EdgeToString;
+import org.gradoop.flink.model.impl.operators.tostring.api.GraphHeadToString;
+import org.gradoop.flink.model.impl.operators.tostring.api.VertexToString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.AdjacencyMatrixDigest;
+import org.gradoop.flink.model.impl.operators.tostring.functions.CanonicalDigests;
+import org.gradoop.flink.model.impl.operators.tostring.functions.ConcatGraphHeadDigests;
+import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeStringToDigest;
+import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadDigestCombiner;
+import org.gradoop.flink.model.impl.operators.tostring.functions.VertexStringToDigest;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.EdgeDigest;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadDigest;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.VertexDigest;
+
+/**
+ * Operator deriving a 128-bit digest from a graph collection. Two collections have equal
+ * digests, iff (up to hash collisions) their canonical adjacency matrices created by
+ * {@link CanonicalAdjacencyMatrixBuilder} are equal.
+ *
+ * In contrast to the string representation, element strings are replaced by their digests
+ * right away and the matrix of each graph is computed by a single grouping. Thus, this
+ * operator should be preferred when only equality is required.
+ *
+ * @param <G> type of the graph head
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ * @param <LG> type of the base graph instance
+ * @param <GC> type of the graph collection
+ */
+public class CanonicalAdjacencyMatrixDigestBuilder<
+  G extends GraphHead,
+  V extends Vertex,
+  E extends Edge,
+  LG extends BaseGraph<G, V, E, LG, GC>,
+  GC extends BaseGraphCollection<G, V, E, LG, GC>>
+  implements UnaryBaseGraphCollectionToValueOperator<GC, DataSet<String>> {
+
+  /**
+   * function describing string representation of graph heads
+   */
+  private final GraphHeadToString<G> graphHeadToString;
+  /**
+   * function describing string representation of vertices
+   */
+  private final VertexToString<V> vertexToString;
+  /**
+   * function describing string representation of edges
+   */
+  private final EdgeToString<E> edgeToString;
+  /**
+   * sets mode for either directed or undirected graph
+   */
+  private final boolean directed;
+
+  /**
+   * Creates a new digest builder instance.
+   *
+   * @param graphHeadToString representation of graph heads
+   * @param vertexToString representation of vertices
+   * @param edgeToString representation of edges
+   * @param directed sets mode for either directed or undirected graph
+   */
+  public CanonicalAdjacencyMatrixDigestBuilder(
+    GraphHeadToString<G> graphHeadToString,
+    VertexToString<V> vertexToString,
+    EdgeToString<E> edgeToString,
+    boolean directed
+  ) {
+    this.graphHeadToString = graphHeadToString;
+    this.vertexToString = vertexToString;
+    this.edgeToString = edgeToString;
+    this.directed = directed;
+  }
+
+  @Override
+  public DataSet<String> execute(GC collection) {
+    // add empty head to prevent empty result for empty collection
+    return getGraphHeadDigests(collection)
+      .union(collection
+        .getConfig()
+        .getExecutionEnvironment()
+        .fromElements(new GraphHeadDigest(GradoopId.get(), CanonicalDigests.EMPTY)))
+      .reduceGroup(new ConcatGraphHeadDigests());
+  }
+
+  /**
+   * Creates a dataset of (graph id, digest) pairs.
+   *
+   * @param collection input collection
+   * @return (graph id, digest) pairs
+   */
+  public DataSet<GraphHeadDigest> getGraphHeadDigests(GC collection) {
+    DataSet<VertexDigest> vertexDigests = collection.getVertices()
+      .flatMap(vertexToString)
+      .map(new VertexStringToDigest());
+
+    DataSet<EdgeDigest> edgeDigests = collection.getEdges()
+      .flatMap(edgeToString)
+      .map(new EdgeStringToDigest());
+
+    DataSet<GraphHeadDigest> matrixDigests = vertexDigests
+      .coGroup(edgeDigests)
+      .where(0).equalTo(0)
+      .with(new AdjacencyMatrixDigest(directed));
+
+    return collection.getGraphHeads()
+      .map(graphHeadToString)
+      .leftOuterJoin(matrixDigests)
+      .where(0).equalTo(0)
+      .with(new GraphHeadDigestCombiner());
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.EdgeDigest;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadDigest;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.VertexDigest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the digest of the canonical adjacency matrix of a graph from the digests of its
+ * vertices and edges. The digest follows the structure of the string representation: labels of
+ * parallel edges are combined, each vertex is represented by its own digest and its sorted
+ * outgoing and incoming adjacency lists, the matrix by the sorted vertex representations.
+ *
+ * (graphId, vertexId, digest),.. x (graphId, sourceId, targetId, digest),..
+ * => (graphId, matrixDigest)
+ */
+public class AdjacencyMatrixDigest
+  implements CoGroupFunction<VertexDigest, EdgeDigest, GraphHeadDigest> {
+
+  /**
+   * sets mode for either directed or undirected graph
+   */
+  private final boolean directed;
+
+  /**
+   * Constructor.
+   *
+   * @param directed sets mode for either directed or undirected graph
+   */
+  public AdjacencyMatrixDigest(boolean directed) {
+    this.directed = directed;
+  }
+
+  @Override
+  public void coGroup(Iterable<VertexDigest> vertexDigests, Iterable<EdgeDigest> edgeDigests,
+    Collector<GraphHeadDigest> collector) throws Exception {
+
+    GradoopId graphId = null;
+    Map<GradoopId, long[]> vertexLabels = new HashMap<>();
+
+    for (VertexDigest vertexDigest : vertexDigests) {
+      graphId = vertexDigest.getGraphId();
+      vertexLabels.put(vertexDigest.getId(), vertexDigest.getDigest());
+    }
+
+    if (graphId == null) {
+      return;
+    }
+
+    // sourceId -> targetId -> labels of parallel edges
+    Map<GradoopId, Map<GradoopId, List<long[]>>> edgeLabels = new HashMap<>();
+
+    for (EdgeDigest edgeDigest : edgeDigests) {
+      GradoopId sourceId = edgeDigest.getSourceId();
+      GradoopId targetId = edgeDigest.getTargetId();
+
+      if (vertexLabels.containsKey(sourceId) && vertexLabels.containsKey(targetId)) {
+        addEdgeLabel(edgeLabels, sourceId, targetId, edgeDigest.getDigest());
+
+        if (!directed) {
+          addEdgeLabel(edgeLabels, targetId, sourceId, edgeDigest.getDigest());
+        }
+      }
+    }
+
+    Map<GradoopId, List<long[]>> outgoingAdjacencyLists = new HashMap<>();
+    Map<GradoopId, List<long[]>> incomingAdjacencyLists = new HashMap<>();
+
+    for (Map.Entry<GradoopId, Map<GradoopId, List<long[]>>> sourceEntry :
+      edgeLabels.entrySet()) {
+      GradoopId sourceId = sourceEntry.getKey();
+
+      for (Map.Entry<GradoopId, List<long[]>> targetEntry : sourceEntry.getValue().entrySet()) {
+        GradoopId targetId = targetEntry.getKey();
+        long[] edgeLabel = CanonicalDigests.combineSorted(targetEntry.getValue());
+
+        outgoingAdjacencyLists.computeIfAbsent(sourceId, k -> new ArrayList<>())
+          .add(CanonicalDigests.combine(edgeLabel, vertexLabels.get(targetId)));
+
+        if (directed) {
+          incomingAdjacencyLists.computeIfAbsent(targetId, k -> new ArrayList<>())
+            .add(CanonicalDigests.combine(edgeLabel, vertexLabels.get(sourceId)));
+        }
+      }
+    }
+
+    List<long[]> matrixRows = new ArrayList<>(vertexLabels.size());
+
+    for (Map.Entry<GradoopId, long[]> vertexEntry : vertexLabels.entrySet()) {
+      long[] outgoing = CanonicalDigests.combineSorted(
+        outgoingAdjacencyLists.getOrDefault(vertexEntry.getKey(), new ArrayList<>()));
+
+      if (directed) {
+        long[] incoming = CanonicalDigests.combineSorted(
+          incomingAdjacencyLists.getOrDefault(vertexEntry.getKey(), new ArrayList<>()));
+        matrixRows.add(CanonicalDigests.combine(vertexEntry.getValue(), outgoing, incoming));
+      } else {
+        matrixRows.add(CanonicalDigests.combine(vertexEntry.getValue(), outgoing));
+      }
+    }
+
+    collector.collect(new GraphHeadDigest(graphId, CanonicalDigests.combineSorted(matrixRows)));
+  }
+
+  /**
+   * Adds the label of an edge to the labels of its parallel edges.
+   *
+   * @param edgeLabels sourceId -> targetId -> edge labels
+   * @param sourceId source id
+   * @param targetId target id
+   * @param edgeLabel edge label digest
+   */
+  private void addEdgeLabel(Map<GradoopId, Map<GradoopId, List<long[]>>> edgeLabels,
+    GradoopId sourceId, GradoopId targetId, long[] edgeLabel) {
+    edgeLabels
+      .computeIfAbsent(sourceId, k -> new HashMap<>())
+      .computeIfAbsent(targetId, k -> new ArrayList<>())
+      .add(edgeLabel);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 128-bit digests used to compare canonical adjacency matrices without building them as
+ * strings. A digest is represented by two {@code long} values.
+ */
+public final class CanonicalDigests {
+
+  /**
+   * digest of an empty graph, i.e., a graph without vertices and an empty head string
+   */
+  public static final long[] EMPTY = {0L, 0L};
+
+  /**
+   * hash function producing 128-bit values
+   */
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  /**
+   * orders digests by their high and low bits
+   */
+  private static final Comparator<long[]> DIGEST_ORDER = Comparator
+    .<long[]>comparingLong(digest -> digest[0])
+    .thenComparingLong(digest -> digest[1]);
+
+  /**
+   * No instances.
+   */
+  private CanonicalDigests() {
+  }
+
+  /**
+   * Digest of a string.
+   *
+   * @param value string
+   * @return 128-bit digest
+   */
+  public static long[] digest(String value) {
+    ByteBuffer bytes = ByteBuffer
+      .wrap(HASH_FUNCTION.hashString(value, StandardCharsets.UTF_8).asBytes());
+    return new long[] {bytes.getLong(), bytes.getLong()};
+  }
+
+  /**
+   * Digest of an ordered sequence of digests.
+   *
+   * @param digests digests
+   * @return 128-bit digest
+   */
+  public static long[] combine(long[]... digests) {
+    Hasher hasher = HASH_FUNCTION.newHasher();
+    for (long[] digest : digests) {
+      hasher.putLong(digest[0]).putLong(digest[1]);
+    }
+    return asDigest(hasher);
+  }
+
+  /**
+   * Digest of a multiset of digests. The given list will be sorted.
+   *
+   * @param digests digests
+   * @return 128-bit digest
+   */
+  public static long[] combineSorted(List<long[]> digests) {
+    digests.sort(DIGEST_ORDER);
+
+    Hasher hasher = HASH_FUNCTION.newHasher().putInt(digests.size());
+    for (long[] digest : digests) {
+      hasher.putLong(digest[0]).putLong(digest[1]);
+    }
+    return asDigest(hasher);
+  }
+
+  /**
+   * Hexadecimal representation of a digest.
+   *
+   * @param digest 128-bit digest
+   * @return hex string
+   */
+  public static String toHexString(long[] digest) {
+    return String.format("%016x%016x", digest[0], digest[1]);
+  }
+
+  /**
+   * Creates a digest from the current state of a hasher.
+   *
+   * @param hasher hasher
+   * @return 128-bit digest
+   */
+  private static long[] asDigest(Hasher hasher) {
+    ByteBuffer bytes = ByteBuffer.wrap(hasher.hash().asBytes());
+    return new long[] {bytes.getLong(), bytes.getLong()};
+  }
+}
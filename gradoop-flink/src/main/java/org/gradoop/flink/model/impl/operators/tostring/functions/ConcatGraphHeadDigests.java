@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadDigest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * concatenates the sorted digests of non-empty graphs to a single collection digest
+ */
+public class ConcatGraphHeadDigests implements GroupReduceFunction<GraphHeadDigest, String> {
+
+  @Override
+  public void reduce(Iterable<GraphHeadDigest> graphHeadDigests,
+    Collector<String> collector) throws Exception {
+    List<long[]> digests = new ArrayList<>();
+
+    for (GraphHeadDigest graphHeadDigest : graphHeadDigests) {
+      long[] digest = graphHeadDigest.getDigest();
+      if (!Arrays.equals(digest, CanonicalDigests.EMPTY)) {
+        digests.add(digest);
+      }
+    }
+
+    collector.collect(CanonicalDigests.toHexString(CanonicalDigests.combineSorted(digests)));
+  }
+}
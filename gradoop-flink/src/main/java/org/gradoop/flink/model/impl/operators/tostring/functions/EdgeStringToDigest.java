@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.EdgeDigest;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.EdgeString;
+
+/**
+ * (graphId, sourceId, targetId, label) => (graphId, sourceId, targetId, digest(label))
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1;f2")
+public class EdgeStringToDigest implements MapFunction<EdgeString, EdgeDigest> {
+
+  @Override
+  public EdgeDigest map(EdgeString edgeString) throws Exception {
+    return new EdgeDigest(edgeString.getGraphId(), edgeString.getSourceId(),
+      edgeString.getTargetId(), CanonicalDigests.digest(edgeString.getEdgeLabel()));
+  }
+}
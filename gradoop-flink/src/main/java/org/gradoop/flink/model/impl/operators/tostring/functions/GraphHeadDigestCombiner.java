@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadDigest;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+
+import java.util.ArrayList;
+
+/**
+ * (graphId, label) x (graphId, matrixDigest) => (graphId, digest(label, matrixDigest))
+ *
+ * Graphs without vertices and with an empty head string are marked as
+ * {@link CanonicalDigests#EMPTY}.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+public class GraphHeadDigestCombiner
+  implements JoinFunction<GraphHeadString, GraphHeadDigest, GraphHeadDigest> {
+
+  /**
+   * digest of an adjacency matrix without rows
+   */
+  private static final long[] NO_ROWS = CanonicalDigests.combineSorted(new ArrayList<>());
+
+  @Override
+  public GraphHeadDigest join(GraphHeadString graphHeadString,
+    GraphHeadDigest matrixDigest) throws Exception {
+    long[] digest;
+
+    if (matrixDigest == null && graphHeadString.getLabel().isEmpty()) {
+      digest = CanonicalDigests.EMPTY;
+    } else {
+      digest = CanonicalDigests.combine(CanonicalDigests.digest(graphHeadString.getLabel()),
+        matrixDigest == null ? NO_ROWS : matrixDigest.getDigest());
+    }
+
+    return new GraphHeadDigest(graphHeadString.getId(), digest);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * (graphId, sourceId, targetId, digest high bits, digest low bits)
+ */
+public class EdgeDigest extends Tuple5<GradoopId, GradoopId, GradoopId, Long, Long> {
+
+  /**
+   * default constructor
+   */
+  public EdgeDigest() {
+  }
+
+  /**
+   * constructor with field values
+   * @param graphId graph id
+   * @param sourceId source vertex id
+   * @param targetId target vertex id
+   * @param digest 128-bit digest of the edge string
+   */
+  public EdgeDigest(GradoopId graphId, GradoopId sourceId, GradoopId targetId, long[] digest) {
+    this.f0 = graphId;
+    this.f1 = sourceId;
+    this.f2 = targetId;
+    this.f3 = digest[0];
+    this.f4 = digest[1];
+  }
+
+  public GradoopId getGraphId() {
+    return this.f0;
+  }
+
+  public GradoopId getSourceId() {
+    return this.f1;
+  }
+
+  public GradoopId getTargetId() {
+    return this.f2;
+  }
+
+  /**
+   * Returns the digest.
+   *
+   * @return 128-bit digest
+   */
+  public long[] getDigest() {
+    return new long[] {this.f3, this.f4};
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * (graphId, digest high bits, digest low bits)
+ */
+public class GraphHeadDigest extends Tuple3<GradoopId, Long, Long> {
+
+  /**
+   * default constructor
+   */
+  public GraphHeadDigest() {
+  }
+
+  /**
+   * constructor with field values
+   * @param id graph id
+   * @param digest 128-bit digest of the graph
+   */
+  public GraphHeadDigest(GradoopId id, long[] digest) {
+    this.f0 = id;
+    setDigest(digest);
+  }
+
+  public GradoopId getId() {
+    return this.f0;
+  }
+
+  /**
+   * Returns the digest.
+   *
+   * @return 128-bit digest
+   */
+  public long[] getDigest() {
+    return new long[] {this.f1, this.f2};
+  }
+
+  /**
+   * Sets the digest.
+   *
+   * @param digest 128-bit digest
+   */
+  public void setDigest(long[] digest) {
+    this.f1 = digest[0];
+    this.f2 = digest[1];
+  }
+}
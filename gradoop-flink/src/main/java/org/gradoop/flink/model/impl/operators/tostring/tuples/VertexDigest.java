@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * (graphId, vertexId, digest high bits, digest low bits)
+ */
+public class VertexDigest extends Tuple4<GradoopId, GradoopId, Long, Long> {
+
+  /**
+   * default constructor
+   */
+  public VertexDigest() {
+  }
+
+  /**
+   * constructor with field values
+   * @param graphId graph id
+   * @param id vertex id
+   * @param digest 128-bit digest of the vertex string
+   */
+  public VertexDigest(GradoopId graphId, GradoopId id, long[] digest) {
+    this.f0 = graphId;
+    this.f1 = id;
+    this.f2 = digest[0];
+    this.f3 = digest[1];
+  }
+
+  public GradoopId getGraphId() {
+    return this.f0;
+  }
+
+  public GradoopId getId() {
+    return this.f1;
+  }
+
+  /**
+   * Returns the digest.
+   *
+   * @return 128-bit digest
+   */
+  public long[] getDigest() {
+    return new long[] {this.f2, this.f3};
+  }
+}
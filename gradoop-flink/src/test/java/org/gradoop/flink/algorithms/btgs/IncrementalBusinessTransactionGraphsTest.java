@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.btgs;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.IdNotInBroadcast;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+public class IncrementalBusinessTransactionGraphsTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testExecute() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "(acme:Customer {sid:\"Cus-ACME\", superType:\"M\"})" +
+      "(apple:Product {sid:\"Prd-Apple\", superType:\"M\"})" +
+      "(alice:Employee {sid:\"Emp-Alice\", superType:\"M\"})" +
+      "(bob:Employee {sid:\"Emp-Bob\", superType:\"M\"})" +
+      "(q1:Quotation {sid:\"QN1\", superType:\"T\"})" +
+      "(q2:Quotation {sid:\"QN2\", superType:\"T\"})" +
+      "(q3:Quotation {sid:\"QN3\", superType:\"T\"})" +
+      "(q4:Quotation {sid:\"QN4\", superType:\"T\"})" +
+      "(q5:Quotation {sid:\"QN5\", superType:\"T\"})" +
+      "(pc1:PhoneCall {sid:\"PC1\", superType:\"T\"})" +
+      "(em1:Email {sid:\"EM1\", superType:\"T\"})" +
+      "before[" +
+      "(q1)-[q1acme:sentTo]->(acme)" +
+      "(q1)<-[pc1q1:refersTo]-(pc1)-[pc1alice:doneBy]->(alice)" +
+      "(q2)-[q2acme:sentTo]->(acme)" +
+      "(q2)-[q2apple:contains]->(apple)" +
+      "(q3)-[q3apple:contains]->(apple)" +
+      "(q5)-[q5acme:sentTo]->(acme)" +
+      "]" +
+      "after[" +
+      "(q1)-[q1acme]->(acme)" +
+      "(q1)<-[pc1q1]-(pc1)-[pc1alice]->(alice)" +
+      "(q2)-[q2acme]->(acme)" +
+      "(q2)-[q2apple]->(apple)" +
+      "(q3)-[q3apple]->(apple)" +
+      "(q5)-[q5acme]->(acme)" +
+      // merges the BTGs of q1 and q2
+      "(pc1)-[:refersTo]->(q2)" +
+      // extends the BTG of q3 by a new transactional and a new master vertex
+      "(q3)<-[:refersTo]-(em1)-[:sentBy]->(bob)" +
+      // forms a new BTG
+      "(q4)-[:sentTo]->(acme)" +
+      "]");
+
+    LogicalGraph before = loader.getLogicalGraphByVariable("before");
+    LogicalGraph after = loader.getLogicalGraphByVariable("after");
+
+    DataSet<EPGMVertex> newVertices = after.getVertices()
+      .filter(new IdNotInBroadcast<>())
+      .withBroadcastSet(before.getVertices().map(new Id<>()), IdNotInBroadcast.IDS);
+
+    DataSet<EPGMEdge> newEdges = after.getEdges()
+      .filter(new IdNotInBroadcast<>())
+      .withBroadcastSet(before.getEdges().map(new Id<>()), IdNotInBroadcast.IDS);
+
+    LogicalGraph delta = getConfig().getLogicalGraphFactory().fromDataSets(newVertices, newEdges);
+
+    GraphCollection previous = before.callForCollection(new BusinessTransactionGraphs());
+
+    GraphCollection expectation = after.callForCollection(new BusinessTransactionGraphs());
+
+    GraphCollection result = delta
+      .callForCollection(new IncrementalBusinessTransactionGraphs(previous));
+
+    collectAndAssertTrue(expectation.equalsByGraphElementData(result));
+  }
+}
@@ -95,4 +95,30 @@ public class BasicPatternsData {
     "s5[(:A)-[:a]->(:B)]" +
     "s6[(:B)-[:a]->(:C)]" +
     "s7[(:C)-[:a]->(:A)]";
+
+  private static final int SAMPLING_COPIES = 10;
+
+  /**
+   * Returns {@link #SAMPLING_COPIES} copies of each graph of the simple graph data set.
+   */
+  public static String getSamplingGraphs() {
+    StringBuilder graphs = new StringBuilder();
+    for (int copy = 0; copy < SAMPLING_COPIES; copy++) {
+      graphs.append(String.format(
+        "g1_%1$d[(:A)-[:a]->(v1_%1$d:B)-[:b]->(:C),(v1_%1$d)-[:c]->(:D)]" +
+        "g2_%1$d[(:A)-[:a]->(v2_%1$d:B)-[:b]->(:C),(v2_%1$d)-[:c]->(:E)]" +
+        "g3_%1$d[(:A)-[:a]->(v3_%1$d:B)-[:d]->(:C),(v3_%1$d)-[:c]->(:E)]", copy));
+    }
+    return graphs.toString();
+  }
+
+  public static String[] getSamplingGraphVariables() {
+    String[] variables = new String[3 * SAMPLING_COPIES];
+    for (int copy = 0; copy < SAMPLING_COPIES; copy++) {
+      for (int graph = 0; graph < 3; graph++) {
+        variables[3 * copy + graph] = "g" + (graph + 1) + "_" + copy;
+      }
+    }
+    return variables;
+  }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.transactional.basic;
+
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.algorithms.fsm.TransactionalFSM;
+import org.gradoop.flink.algorithms.fsm.dimspan.config.DIMSpanConfig;
+import org.gradoop.flink.algorithms.fsm.dimspan.config.PatternMode;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalAdjacencyMatrixBuilder;
+import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadToDataString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.VertexToDataString;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DIMSpanPatternModesTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testTopK() throws Exception {
+    DIMSpanConfig fsmConfig = new DIMSpanConfig(0.6f, true);
+    fsmConfig.setTopK(1);
+
+    assertResult(fsmConfig, BasicPatternsData.FSM_SIMPLE_GRAPH, "g1,g2,g3", "s1");
+  }
+
+  @Test
+  public void testTopKWithTies() throws Exception {
+    DIMSpanConfig fsmConfig = new DIMSpanConfig(0.6f, true);
+    fsmConfig.setTopK(2);
+
+    assertResult(fsmConfig, BasicPatternsData.FSM_SIMPLE_GRAPH, "g1,g2,g3", "s1,s2,s3,s4,s5");
+  }
+
+  @Test
+  public void testClosed() throws Exception {
+    DIMSpanConfig fsmConfig = new DIMSpanConfig(0.6f, true);
+    fsmConfig.setPatternMode(PatternMode.CLOSED);
+
+    assertResult(fsmConfig, BasicPatternsData.FSM_SIMPLE_GRAPH, "g1,g2,g3", "s1,s4,s5");
+    assertResult(fsmConfig, BasicPatternsData.FSM_DIAMOND, "g1,g2,g3", "s1");
+  }
+
+  @Test
+  public void testMaximal() throws Exception {
+    DIMSpanConfig fsmConfig = new DIMSpanConfig(0.6f, true);
+    fsmConfig.setPatternMode(PatternMode.MAXIMAL);
+
+    assertResult(fsmConfig, BasicPatternsData.FSM_SIMPLE_GRAPH, "g1,g2,g3", "s4,s5");
+  }
+
+  @Test
+  public void testSamplingReportsExactFrequencies() throws Exception {
+    // a low sample min support makes all patterns candidates, but counts are verified
+    DIMSpanConfig fsmConfig = getSamplingConfig(0.5f);
+
+    GraphCollection expectation =
+      new TransactionalFSM(new DIMSpanConfig(0.6f, true)).execute(getSamplingSearchSpace());
+
+    GraphCollection result = new TransactionalFSM(fsmConfig).execute(getSamplingSearchSpace());
+
+    collectAndAssertTrue(result.equalsByGraphData(expectation));
+  }
+
+  @Test
+  public void testSamplingWithoutTolerance() throws Exception {
+    // patterns frequent in all graphs but infrequent in the sample are knowingly missed
+    DIMSpanConfig fsmConfig = getSamplingConfig(0.0f);
+
+    List<String> expectation = getCanonicalLabels(
+      new TransactionalFSM(new DIMSpanConfig(0.6f, true)).execute(getSamplingSearchSpace()));
+
+    List<String> result =
+      getCanonicalLabels(new TransactionalFSM(fsmConfig).execute(getSamplingSearchSpace()));
+
+    assertFalse(result.isEmpty());
+    // every reported pattern is frequent and has its exact support
+    assertTrue(expectation.containsAll(result));
+  }
+
+  @Test
+  public void testSamplingWithTopK() throws Exception {
+    DIMSpanConfig fsmConfig = getSamplingConfig(0.5f);
+    fsmConfig.setTopK(1);
+
+    assertSamplingResult(fsmConfig, "s1");
+  }
+
+  @Test
+  public void testSamplingWithClosed() throws Exception {
+    DIMSpanConfig fsmConfig = getSamplingConfig(0.5f);
+    fsmConfig.setPatternMode(PatternMode.CLOSED);
+
+    assertSamplingResult(fsmConfig, "s1,s4,s5");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidSampleFraction() {
+    new DIMSpanConfig(0.6f, true).setSampleFraction(0.0f);
+  }
+
+  private DIMSpanConfig getSamplingConfig(float sampleSupportTolerance) {
+    DIMSpanConfig fsmConfig = new DIMSpanConfig(0.6f, true);
+    fsmConfig.setSampleFraction(0.5f);
+    fsmConfig.setRandomSeed(42L);
+    fsmConfig.setSampleSupportTolerance(sampleSupportTolerance);
+    return fsmConfig;
+  }
+
+  private GraphCollection getSamplingSearchSpace() {
+    return getLoaderFromString(BasicPatternsData.getSamplingGraphs())
+      .getGraphCollectionByVariables(BasicPatternsData.getSamplingGraphVariables());
+  }
+
+  private void assertSamplingResult(DIMSpanConfig fsmConfig, String expectedResultVariables)
+    throws Exception {
+
+    FlinkAsciiGraphLoader loader =
+      getLoaderFromString(
+        BasicPatternsData.getSamplingGraphs() + BasicPatternsData.FSM_SIMPLE_GRAPH);
+
+    GraphCollection searchSpace =
+      loader.getGraphCollectionByVariables(BasicPatternsData.getSamplingGraphVariables());
+
+    GraphCollection expectation =
+      loader.getGraphCollectionByVariables(expectedResultVariables.split(","));
+
+    GraphCollection result = new TransactionalFSM(fsmConfig).execute(searchSpace);
+
+    collectAndAssertTrue(result.equalsByGraphElementData(expectation));
+  }
+
+  private List<String> getCanonicalLabels(GraphCollection collection) throws Exception {
+    return new CanonicalAdjacencyMatrixBuilder<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph,
+      GraphCollection>(new GraphHeadToDataString<>(), new VertexToDataString<>(),
+      new EdgeToDataString<>(), true)
+      .getGraphHeadStrings(collection)
+      .collect()
+      .stream()
+      .map(GraphHeadString::getLabel)
+      .collect(Collectors.toList());
+  }
+
+  private void assertResult(DIMSpanConfig fsmConfig, String asciiGraphs,
+    String searchSpaceVariables, String expectedResultVariables) throws Exception {
+
+    FlinkAsciiGraphLoader loader = getLoaderFromString(asciiGraphs);
+
+    GraphCollection searchSpace =
+      loader.getGraphCollectionByVariables(searchSpaceVariables.split(","));
+
+    GraphCollection expectation =
+      loader.getGraphCollectionByVariables(expectedResultVariables.split(","));
+
+    GraphCollection result = new TransactionalFSM(fsmConfig).execute(searchSpace);
+
+    collectAndAssertTrue(result.equalsByGraphElementData(expectation));
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.transactional.basic;
+
+import org.gradoop.flink.algorithms.fsm.dimspan.config.PatternMode;
+import org.gradoop.flink.algorithms.fsm.transactional.ThinkLikeAnEmbeddingTFSM;
+import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+public class ThinkLikeAnEmbeddingPatternModesTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testTopK() throws Exception {
+    FSMConfig fsmConfig = new FSMConfig(0.6f, true);
+    fsmConfig.setTopK(1);
+
+    assertResult(fsmConfig, BasicPatternsData.FSM_SIMPLE_GRAPH, "g1,g2,g3", "s1");
+  }
+
+  @Test
+  public void testTopKWithTies() throws Exception {
+    FSMConfig fsmConfig = new FSMConfig(0.6f, true);
+    fsmConfig.setTopK(2);
+
+    assertResult(fsmConfig, BasicPatternsData.FSM_SIMPLE_GRAPH, "g1,g2,g3", "s1,s2,s3,s4,s5");
+  }
+
+  @Test
+  public void testClosed() throws Exception {
+    FSMConfig fsmConfig = new FSMConfig(0.6f, true);
+    fsmConfig.setPatternMode(PatternMode.CLOSED);
+
+    assertResult(fsmConfig, BasicPatternsData.FSM_SIMPLE_GRAPH, "g1,g2,g3", "s1,s4,s5");
+    assertResult(fsmConfig, BasicPatternsData.FSM_DIAMOND, "g1,g2,g3", "s1");
+  }
+
+  @Test
+  public void testMaximal() throws Exception {
+    FSMConfig fsmConfig = new FSMConfig(0.6f, true);
+    fsmConfig.setPatternMode(PatternMode.MAXIMAL);
+
+    assertResult(fsmConfig, BasicPatternsData.FSM_SIMPLE_GRAPH, "g1,g2,g3", "s4,s5");
+  }
+
+  @Test
+  public void testSamplingReportsExactFrequencies() throws Exception {
+    // a low sample min support makes all subgraphs candidates, but counts are verified
+    FSMConfig fsmConfig = getSamplingConfig();
+
+    GraphCollection expectation = new ThinkLikeAnEmbeddingTFSM(new FSMConfig(0.6f, true))
+      .execute(getSamplingSearchSpace());
+
+    GraphCollection result =
+      new ThinkLikeAnEmbeddingTFSM(fsmConfig).execute(getSamplingSearchSpace());
+
+    collectAndAssertTrue(result.equalsByGraphData(expectation));
+  }
+
+  @Test
+  public void testSamplingWithClosed() throws Exception {
+    FSMConfig fsmConfig = getSamplingConfig();
+    fsmConfig.setPatternMode(PatternMode.CLOSED);
+
+    String asciiGraphs =
+      BasicPatternsData.getSamplingGraphs() + BasicPatternsData.FSM_SIMPLE_GRAPH;
+    FlinkAsciiGraphLoader loader = getLoaderFromString(asciiGraphs);
+
+    GraphCollection searchSpace =
+      loader.getGraphCollectionByVariables(BasicPatternsData.getSamplingGraphVariables());
+
+    GraphCollection expectation = loader.getGraphCollectionByVariables("s1", "s4", "s5");
+
+    GraphCollection result = new ThinkLikeAnEmbeddingTFSM(fsmConfig).execute(searchSpace);
+
+    collectAndAssertTrue(result.equalsByGraphElementData(expectation));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidSampleFraction() {
+    new FSMConfig(0.6f, true).setSampleFraction(1.5f);
+  }
+
+  private FSMConfig getSamplingConfig() {
+    FSMConfig fsmConfig = new FSMConfig(0.6f, true);
+    fsmConfig.setSampleFraction(0.5f);
+    fsmConfig.setRandomSeed(42L);
+    fsmConfig.setSampleSupportTolerance(0.5f);
+    return fsmConfig;
+  }
+
+  private GraphCollection getSamplingSearchSpace() {
+    return getLoaderFromString(BasicPatternsData.getSamplingGraphs())
+      .getGraphCollectionByVariables(BasicPatternsData.getSamplingGraphVariables());
+  }
+
+  private void assertResult(FSMConfig fsmConfig, String asciiGraphs,
+    String searchSpaceVariables, String expectedResultVariables) throws Exception {
+
+    FlinkAsciiGraphLoader loader = getLoaderFromString(asciiGraphs);
+
+    GraphCollection searchSpace =
+      loader.getGraphCollectionByVariables(searchSpaceVariables.split(","));
+
+    GraphCollection expectation =
+      loader.getGraphCollectionByVariables(expectedResultVariables.split(","));
+
+    GraphCollection result = new ThinkLikeAnEmbeddingTFSM(fsmConfig).execute(searchSpace);
+
+    collectAndAssertTrue(result.equalsByGraphElementData(expectation));
+  }
+}
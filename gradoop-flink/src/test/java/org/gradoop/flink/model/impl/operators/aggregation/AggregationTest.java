@@ -20,9 +20,13 @@ import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.SumPlusOne;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.SumWithMaxAggregate;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.average.AverageEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.average.AverageVertexProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.containment.HasEdgeLabel;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.containment.HasLabel;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.containment.HasVertexLabel;
@@ -574,6 +578,32 @@ public class AggregationTest extends GradoopFlinkTestBase {
     collectAndAssertTrue(expected.equalsByData(output));
   }
 
+  /**
+   * Test using many vertex and edge aggregation functions in one call, which are evaluated in a
+   * single pass over the vertices and edges.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testSingleGraphWithManyAggregationFunctions() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraph();
+
+    AggregateFunction[] functions = {
+      new VertexCount(), new EdgeCount(), new Count(),
+      new MinVertexProperty("age"), new MaxVertexProperty("age"), new SumVertexProperty("age"),
+      new AverageVertexProperty("age"), new MinEdgeProperty("since"),
+      new MaxEdgeProperty("since"), new SumEdgeProperty("since"), new AverageEdgeProperty("since")
+    };
+
+    LogicalGraph expected = graph;
+    for (AggregateFunction function : functions) {
+      expected = expected.aggregate(function);
+    }
+    LogicalGraph output = graph.aggregate(functions);
+
+    collectAndAssertTrue(expected.equalsByData(output));
+  }
+
   /**
    * Test using multiple aggregation functions in one call on an empty graph.
    *
@@ -638,4 +668,36 @@ public class AggregationTest extends GradoopFlinkTestBase {
       new SumPlusOne("a", "sum_a_plusone")));
     collectAndAssertTrue(expected.equalsByGraphData(result));
   }
+
+  /**
+   * Test that an overridden aggregation logic is used instead of the accumulator of the
+   * superclass, for logical graphs and graph collections.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testAggregationWithOverriddenAggregate() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("input1 [" +
+      "(i1 {a: 1L}) (i2 {a: 2L}) (i3 {a: -1L}) (i4 {a: 3L})" +
+      "] input2 [" +
+      "(i1)(i2)" +
+      "] expected1 {sum_a: 5L, max_a: 3L} [" +
+      "(i1)(i2)(i3)(i4)" +
+      "] expected2 {sum_a: 3L, max_a: 2L} [" +
+      "(i1)(i2)" +
+      "]");
+    LogicalGraph input = loader.getLogicalGraphByVariable("input1");
+    LogicalGraph expected = loader.getLogicalGraphByVariable("expected1");
+    LogicalGraph result = input.aggregate(new SumVertexProperty("a", "sum_a"),
+      new SumWithMaxAggregate("a", "max_a"));
+    collectAndAssertTrue(expected.equalsByData(result));
+
+    GraphCollection inputCollection = loader.getGraphCollectionByVariables("input1", "input2");
+    GraphCollection expectedCollection = loader.getGraphCollectionByVariables("expected1",
+      "expected2");
+    GraphCollection resultCollection = inputCollection.apply(new ApplyAggregation<>(
+      new SumVertexProperty("a", "sum_a"),
+      new SumWithMaxAggregate("a", "max_a")));
+    collectAndAssertTrue(expectedCollection.equalsByGraphData(resultCollection));
+  }
 }
@@ -607,4 +607,28 @@ public abstract class ApplyAggregationTest extends AggregationTest {
 
     collectAndAssertTrue(expected.equalsByGraphData(output));
   }
+
+  /**
+   * Test expanding increments instead of elements on overlapping graphs.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testCollectionWithExpandedIncrements() throws Exception {
+    GraphCollection collection = getSocialNetworkLoader()
+      .getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+    VertexCount vertexCount = new VertexCount();
+    EdgeCount edgeCount = new EdgeCount();
+    SumVertexProperty sumVertexProperty = new SumVertexProperty("age");
+    MinEdgeProperty minEdgeProperty = new MinEdgeProperty("since");
+    HasVertexLabel hasVertexLabel = new HasVertexLabel("Person");
+
+    GraphCollection expected = collection.apply(new ApplyAggregation<>(vertexCount, edgeCount,
+      sumVertexProperty, minEdgeProperty, hasVertexLabel));
+    GraphCollection output = collection.apply(new ApplyAggregation<>(vertexCount, edgeCount,
+      sumVertexProperty, minEdgeProperty, hasVertexLabel).setExpandIncrements(true));
+
+    collectAndAssertTrue(expected.equalsByGraphData(output));
+  }
 }
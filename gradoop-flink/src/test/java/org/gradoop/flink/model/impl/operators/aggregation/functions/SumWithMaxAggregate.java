@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
+
+/**
+ * An aggregate function used for aggregation tests. This function extends the sum aggregate
+ * function but overrides its aggregation logic to determine the maximum instead.
+ * This function can therefore be used to check that the accumulator of the sum function is not
+ * used instead of an overridden {@link #aggregate} method.
+ */
+public class SumWithMaxAggregate extends SumVertexProperty {
+
+  /**
+   * Create an instance of this test function.
+   *
+   * @param propertyKey          The property key to aggregate.
+   * @param aggregatePropertyKey The property key used to store the result.
+   */
+  public SumWithMaxAggregate(String propertyKey, String aggregatePropertyKey) {
+    super(propertyKey, aggregatePropertyKey);
+  }
+
+  @Override
+  public PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
+    return PropertyValueUtils.Numeric.max(aggregate, increment);
+  }
+}
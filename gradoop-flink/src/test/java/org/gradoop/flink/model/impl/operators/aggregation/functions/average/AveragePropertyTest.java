@@ -20,14 +20,19 @@ import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.grouping.Grouping;
 import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.GroupingKeys;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGrouping;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -90,6 +95,80 @@ public class AveragePropertyTest extends GradoopFlinkTestBase {
     }
   }
 
+  /**
+   * Test the average aggregation on a graph using the keyed grouping operator.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testWithKeyedGrouping() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("input[" +
+      "(a1:A {a: 1L})-[:e {c: 3}]->(a2:A {a: 4.5})-[:e {c: 6L}]->(b1:B {a: 2})-[:e]->(a1)(:B)" +
+      "]");
+    LogicalGraph result = loader.getLogicalGraphByVariable("input")
+      .callForGraph(new KeyedGrouping<>(Collections.singletonList(GroupingKeys.label()),
+        Collections.singletonList(new AverageVertexProperty("a")),
+        Collections.singletonList(GroupingKeys.label()),
+        Collections.singletonList(new AverageEdgeProperty("c"))));
+    List<EPGMVertex> vertices = new ArrayList<>();
+    List<EPGMEdge> edges = new ArrayList<>();
+    result.getVertices().output(new LocalCollectionOutputFormat<>(vertices));
+    result.getEdges().output(new LocalCollectionOutputFormat<>(edges));
+    getExecutionEnvironment().execute();
+    assertEquals(2, vertices.size());
+    for (EPGMVertex vertex : vertices) {
+      switch (vertex.getLabel()) {
+      case "A":
+        assertEquals(2.75d, vertex.getPropertyValue("avg_a").getDouble(), 0.000001);
+        break;
+      case "B":
+        assertEquals(2d, vertex.getPropertyValue("avg_a").getDouble(), 0d);
+        break;
+      default:
+        fail("Unexpected label.");
+      }
+    }
+    assertEquals(3, edges.size());
+    for (EPGMEdge edge : edges) {
+      PropertyValue value = edge.getPropertyValue("avg_c");
+      if (edge.getSourceId().equals(edge.getTargetId())) {
+        assertEquals(3d, value.getDouble(), 0d);
+      } else if (value.isDouble()) {
+        assertEquals(6d, value.getDouble(), 0d);
+      } else {
+        assertEquals(PropertyValue.NULL_VALUE, value);
+      }
+    }
+  }
+
+  /**
+   * Test if the accumulator yields the same partial aggregate as {@link Average#aggregate}.
+   */
+  @Test
+  public void testAccumulatorEqualsAggregate() {
+    AverageProperty function = new AverageProperty("a");
+    PropertyValueAccumulator accumulator = function.createAccumulator();
+    PropertyValue aggregate = null;
+    for (Object value : Arrays.asList(1, 2L, null, 3.5f, 4.25d)) {
+      EPGMVertex vertex = new EPGMVertex();
+      if (value != null) {
+        vertex.setProperty("a", value);
+      }
+      PropertyValue increment = function.getIncrement(vertex);
+      aggregate = aggregate == null ? increment.copy() : function.aggregate(aggregate, increment);
+      PropertyValue accumulated = function.getAccumulatorIncrement(vertex);
+      if (accumulated != null) {
+        accumulator.add(accumulated);
+      }
+    }
+    assertEquals(aggregate, accumulator.getValue());
+    // Partial aggregates of other partitions are added with their count.
+    accumulator.add(aggregate);
+    assertEquals(function.aggregate(aggregate.copy(), aggregate), accumulator.getValue());
+    accumulator.reset();
+    assertTrue(accumulator.isEmpty());
+  }
+
   /**
    * Test the average aggregation on a graph with some values.
    */
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.distinct;
+
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.GroupingKeys;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGrouping;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the distinct count aggregate function.
+ */
+public class DistinctCountPropertyTest extends GradoopFlinkTestBase {
+
+  /**
+   * Test the distinct count aggregation on a logical graph.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testWithLogicalGraph() throws Exception {
+    LogicalGraph result = getSocialNetworkLoader().getLogicalGraph().aggregate(
+      new DistinctCountVertexProperty("city"),
+      new DistinctCountVertexProperty("unknown"),
+      new DistinctCountEdgeProperty("since"));
+    Properties resultProperties = result.getGraphHead().collect().get(0).getProperties();
+    assertEquals(PropertyValue.create(3L), resultProperties.get("distinct_city"));
+    assertEquals(PropertyValue.NULL_VALUE, resultProperties.get("distinct_unknown"));
+    assertEquals(PropertyValue.create(3L), resultProperties.get("distinct_since"));
+  }
+
+  /**
+   * Test the distinct count aggregation with the keyed grouping operator.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testWithKeyedGrouping() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("input[" +
+      "(:A {a: 1L})(:A {a: 1L})(:A {a: 2L})(:B {a: 1L})(:B)]" +
+      "expected[(:A {distinct_a: 2L})(:B {distinct_a: 1L})]");
+    LogicalGraph result = loader.getLogicalGraphByVariable("input")
+      .callForGraph(new KeyedGrouping<>(Collections.singletonList(GroupingKeys.label()),
+        Collections.singletonList(new DistinctCountVertexProperty("a")), null, null));
+    collectAndAssertTrue(result.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  /**
+   * Test the accuracy of the estimate for many distinct values, aggregated in two partitions.
+   */
+  @Test
+  public void testEstimateOfMergedSketches() {
+    DistinctCountProperty function = new DistinctCountProperty("a");
+    int distinctValues = 50000;
+    PropertyValue first = null;
+    PropertyValue second = null;
+    for (int i = 0; i < 2 * distinctValues; i++) {
+      EPGMVertex vertex = new EPGMVertex();
+      vertex.setProperty("a", (long) (i % distinctValues));
+      PropertyValue increment = function.getIncrement(vertex);
+      if (i % 2 == 0) {
+        first = first == null ? increment : function.aggregate(first, increment);
+      } else {
+        second = second == null ? increment : function.aggregate(second, increment);
+      }
+    }
+    PropertyValue merged = function.aggregate(first, second);
+    assertTrue(merged.isList());
+    long estimate = function.postAggregate(merged).getLong();
+    assertEquals(distinctValues, estimate, distinctValues * 0.05d);
+  }
+
+  /**
+   * Test that the accumulator yields the same sketch as folding the increments.
+   */
+  @Test
+  public void testAccumulator() {
+    DistinctCountProperty function = new DistinctCountProperty("a");
+    PropertyValueAccumulator accumulator = function.createAccumulator();
+    PropertyValue folded = null;
+    for (int i = 0; i < 2000; i++) {
+      EPGMVertex vertex = new EPGMVertex();
+      vertex.setProperty("a", (long) (i % 1000));
+      PropertyValue increment = function.getIncrement(vertex);
+      folded = folded == null ? increment : function.aggregate(folded, increment);
+      accumulator.add(increment);
+      if (i == 10) {
+        // The sketch is still sparse.
+        assertTrue(accumulator.getValue().isSet());
+        assertEquals(folded.getSet(), accumulator.getValue().getSet());
+      }
+    }
+    assertTrue(accumulator.getValue().isList());
+    assertEquals(folded, accumulator.getValue());
+    accumulator.reset();
+    assertTrue(accumulator.isEmpty());
+  }
+}
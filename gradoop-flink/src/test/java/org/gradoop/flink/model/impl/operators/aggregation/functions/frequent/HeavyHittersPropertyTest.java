@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.frequent;
+
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the heavy hitters aggregate function.
+ */
+public class HeavyHittersPropertyTest extends GradoopFlinkTestBase {
+
+  /**
+   * Test the heavy hitters aggregation on a logical graph. The result is exact for few values.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testWithLogicalGraph() throws Exception {
+    LogicalGraph result = getSocialNetworkLoader().getLogicalGraph().aggregate(
+      new HeavyHittersVertexProperty("city", 1),
+      new HeavyHittersEdgeProperty("since", 2));
+    Properties resultProperties = result.getGraphHead().collect().get(0).getProperties();
+    Map<PropertyValue, PropertyValue> cities = resultProperties.get("top_city").getMap();
+    assertEquals(1, cities.size());
+    assertEquals(PropertyValue.create(3L), cities.get(PropertyValue.create("Dresden")));
+    Map<PropertyValue, PropertyValue> since = resultProperties.get("top_since").getMap();
+    assertEquals(2, since.size());
+    assertEquals(PropertyValue.create(4L), since.get(PropertyValue.create(2013)));
+    assertEquals(PropertyValue.create(4L), since.get(PropertyValue.create(2014)));
+  }
+
+  /**
+   * Test the result for many distinct values, aggregated in two partitions.
+   */
+  @Test
+  public void testMergedSketches() {
+    HeavyHittersProperty function = new HeavyHittersProperty("a", 3);
+    PropertyValue first = null;
+    PropertyValue second = null;
+    for (int i = 0; i < 100000; i++) {
+      EPGMVertex vertex = new EPGMVertex();
+      // Values 0, 1 and 2 are frequent, all others are unique.
+      vertex.setProperty("a", i % 4 == 0 ? i : i % 4 - 1);
+      PropertyValue increment = function.getIncrement(vertex);
+      if (i % 2 == 0) {
+        first = first == null ? increment : function.aggregate(first, increment);
+      } else {
+        second = second == null ? increment : function.aggregate(second, increment);
+      }
+    }
+    PropertyValue merged = function.aggregate(first, second);
+    assertTrue(merged.isList());
+    Map<PropertyValue, PropertyValue> result = function.postAggregate(merged).getMap();
+    assertEquals(3, result.size());
+    for (int value = 0; value < 3; value++) {
+      long count = result.get(PropertyValue.create(value)).getLong();
+      assertTrue(count >= 25000L && count < 25000L + 100000L * Math.E / CountMinSketch.WIDTH);
+    }
+  }
+
+  /**
+   * Test the result for many distinct values, where one partition is aggregated by the
+   * accumulator.
+   */
+  @Test
+  public void testAccumulator() {
+    HeavyHittersProperty function = new HeavyHittersProperty("a", 3);
+    PropertyValueAccumulator first = function.createAccumulator();
+    PropertyValue second = null;
+    for (int i = 0; i < 100000; i++) {
+      EPGMVertex vertex = new EPGMVertex();
+      // Values 0, 1 and 2 are frequent, all others are unique.
+      vertex.setProperty("a", i % 4 == 0 ? i : i % 4 - 1);
+      PropertyValue increment = function.getIncrement(vertex);
+      if (i % 2 == 0) {
+        first.add(increment);
+      } else {
+        second = second == null ? increment : function.aggregate(second, increment);
+      }
+    }
+    PropertyValue merged = function.aggregate(first.getValue(), second);
+    assertTrue(merged.isList());
+    Map<PropertyValue, PropertyValue> result = function.postAggregate(merged).getMap();
+    assertEquals(3, result.size());
+    for (int value = 0; value < 3; value++) {
+      long count = result.get(PropertyValue.create(value)).getLong();
+      assertTrue(count >= 25000L && count < 25000L + 100000L * Math.E / CountMinSketch.WIDTH);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.quantile;
+
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.distinct.DistinctCountEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.distinct.DistinctCountVertexProperty;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.GroupingKeys;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.KeyedGrouping;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test for the quantile aggregate function.
+ */
+public class QuantilePropertyTest extends GradoopFlinkTestBase {
+
+  /**
+   * Test the quantile aggregation on a logical graph. The result is exact for few values.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testWithLogicalGraph() throws Exception {
+    LogicalGraph result = getSocialNetworkLoader().getLogicalGraph().aggregate(
+      new QuantileVertexProperty("age", 0.5d),
+      new QuantileVertexProperty("age", 1d),
+      new QuantileVertexProperty("unknown", 0.5d),
+      new QuantileEdgeProperty("since", 0d, "first_since"));
+    Properties resultProperties = result.getGraphHead().collect().get(0).getProperties();
+    assertEquals(30d, resultProperties.get("p50_age").getDouble(), 0d);
+    assertEquals(40d, resultProperties.get("p100_age").getDouble(), 0d);
+    assertEquals(PropertyValue.NULL_VALUE, resultProperties.get("p50_unknown"));
+    assertEquals(2013d, resultProperties.get("first_since").getDouble(), 0d);
+  }
+
+  /**
+   * Test the quantile and distinct count aggregations with the keyed grouping operator, where
+   * the sketches of a group are accumulated by the grouping reduce and combine functions.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testWithKeyedGrouping() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("input[" +
+      "(a1:A {a: 1L})-[:e {b: 1L}]->(a2:A {a: 2L})-[:e {b: 2L}]->(a3:A {a: 2L})" +
+      "-[:e {b: 2L}]->(a4:A {a: 5L})-[:e {b: 7L}]->(a1)(:B {a: 3L})(:B)]");
+    for (boolean useSkewResistance : new boolean[] {false, true}) {
+      List<AggregateFunction> vertexAggregates = Arrays.asList(
+        new DistinctCountVertexProperty("a"),
+        new QuantileVertexProperty("a", 0.5d),
+        new QuantileVertexProperty("a", 1d));
+      List<AggregateFunction> edgeAggregates = Arrays.asList(
+        new DistinctCountEdgeProperty("b"),
+        new QuantileEdgeProperty("b", 0.5d));
+      LogicalGraph result = loader.getLogicalGraphByVariable("input")
+        .callForGraph(new KeyedGrouping<>(Collections.singletonList(GroupingKeys.label()),
+          vertexAggregates, Collections.singletonList(GroupingKeys.label()), edgeAggregates)
+          .setUseSkewResistance(useSkewResistance));
+      List<EPGMVertex> vertices = new ArrayList<>();
+      List<EPGMEdge> edges = new ArrayList<>();
+      result.getVertices().output(new LocalCollectionOutputFormat<>(vertices));
+      result.getEdges().output(new LocalCollectionOutputFormat<>(edges));
+      getExecutionEnvironment().execute();
+      assertEquals(2, vertices.size());
+      for (EPGMVertex vertex : vertices) {
+        switch (vertex.getLabel()) {
+        case "A":
+          assertEquals(3L, vertex.getPropertyValue("distinct_a").getLong());
+          assertEquals(2d, vertex.getPropertyValue("p50_a").getDouble(), 0d);
+          assertEquals(5d, vertex.getPropertyValue("p100_a").getDouble(), 0d);
+          break;
+        case "B":
+          assertEquals(1L, vertex.getPropertyValue("distinct_a").getLong());
+          assertEquals(3d, vertex.getPropertyValue("p50_a").getDouble(), 0d);
+          assertEquals(3d, vertex.getPropertyValue("p100_a").getDouble(), 0d);
+          break;
+        default:
+          fail("Unexpected label.");
+        }
+      }
+      assertEquals(1, edges.size());
+      assertEquals(3L, edges.get(0).getPropertyValue("distinct_b").getLong());
+      assertEquals(2d, edges.get(0).getPropertyValue("p50_b").getDouble(), 0d);
+    }
+  }
+
+  /**
+   * Test the accuracy of the approximation for many values, aggregated in two partitions.
+   */
+  @Test
+  public void testApproximationOfMergedSketches() {
+    QuantileProperty function = new QuantileProperty("a", 0.9d);
+    int values = 100000;
+    PropertyValue first = null;
+    PropertyValue second = null;
+    for (int i = 0; i < values; i++) {
+      EPGMVertex vertex = new EPGMVertex();
+      // Add values in a shuffled order.
+      vertex.setProperty("a", (i * 7919) % values);
+      PropertyValue increment = function.getIncrement(vertex);
+      if (i % 2 == 0) {
+        first = first == null ? increment : function.aggregate(first, increment);
+      } else {
+        second = second == null ? increment : function.aggregate(second, increment);
+      }
+    }
+    PropertyValue merged = function.aggregate(first, second);
+    assertTrue(merged.isList());
+    assertTrue(merged.getList().size() < 1000);
+    double quantile = function.postAggregate(merged).getDouble();
+    assertEquals(0.9d * values, quantile, values * 0.03d);
+  }
+
+  /**
+   * Test that the accumulator approximates the quantile and that compacting the same values in
+   * the same order always yields the same sketch.
+   */
+  @Test
+  public void testAccumulatorIsDeterministic() {
+    QuantileProperty function = new QuantileProperty("a", 0.5d);
+    int values = 100000;
+    PropertyValueAccumulator first = function.createAccumulator();
+    PropertyValueAccumulator second = function.createAccumulator();
+    for (int i = 0; i < values; i++) {
+      EPGMVertex vertex = new EPGMVertex();
+      vertex.setProperty("a", (i * 7919) % values);
+      PropertyValue increment = function.getIncrement(vertex);
+      first.add(increment);
+      second.add(increment);
+    }
+    assertEquals(first.getValue(), second.getValue());
+    PropertyValue merged = function.aggregate(first.getValue(), second.getValue());
+    assertEquals(merged, function.aggregate(first.getValue(), second.getValue()));
+    double quantile = function.postAggregate(merged).getDouble();
+    assertEquals(0.5d * values, quantile, values * 0.03d);
+  }
+}
@@ -36,4 +36,21 @@ public class DistinctByIsomorphismTest extends DistinctByIsomorphismTestBase {
     assertEquals(3, collection.getGraphHeads().count());
 
   }
+
+  @Test
+  public void testEqualInvariants() throws Exception {
+    // all vertices have equal labels and degrees, but a cycle of six is no pair of triangles
+    String asciiGraphs =
+      "c1:C[(c1a:A)-[:e]->(c1b:A)-[:e]->(c1c:A)-[:e]->(c1d:A)-[:e]->(c1e:A)-[:e]->(c1f:A)" +
+      "-[:e]->(c1a)]" +
+      "c2:C[(c2a:A)-[:e]->(c2b:A)-[:e]->(c2c:A)-[:e]->(c2d:A)-[:e]->(c2e:A)-[:e]->(c2f:A)" +
+      "-[:e]->(c2a)]" +
+      "t:T[(ta:A)-[:e]->(tb:A)-[:e]->(tc:A)-[:e]->(ta)" +
+      "(td:A)-[:e]->(te:A)-[:e]->(tf:A)-[:e]->(td)]";
+
+    GraphCollection collection = getLoaderFromString(asciiGraphs)
+      .getGraphCollectionByVariables("c1", "c2", "t");
+
+    assertEquals(2, collection.distinctByIsomorphism().getGraphHeads().count());
+  }
 }
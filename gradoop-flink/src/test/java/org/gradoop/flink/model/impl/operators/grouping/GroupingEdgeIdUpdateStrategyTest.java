@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.Count;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests grouping with all edge id update strategies for all grouping strategies.
+ */
+@RunWith(Parameterized.class)
+public class GroupingEdgeIdUpdateStrategyTest extends GradoopFlinkTestBase {
+
+  /**
+   * The grouping strategy to test.
+   */
+  private final GroupingStrategy strategy;
+
+  /**
+   * The edge id update strategy to test.
+   */
+  private final EdgeIdUpdateStrategy edgeIdUpdateStrategy;
+
+  /**
+   * Create a new instance of this test.
+   *
+   * @param strategy             The grouping strategy to test.
+   * @param edgeIdUpdateStrategy The edge id update strategy to test.
+   */
+  public GroupingEdgeIdUpdateStrategyTest(GroupingStrategy strategy,
+    EdgeIdUpdateStrategy edgeIdUpdateStrategy) {
+    this.strategy = strategy;
+    this.edgeIdUpdateStrategy = edgeIdUpdateStrategy;
+  }
+
+  /**
+   * Get parameters for this test.
+   *
+   * @return All combinations of grouping and edge id update strategies.
+   */
+  @Parameterized.Parameters(name = "{0}, {1}")
+  public static Iterable<Object[]> parameters() {
+    List<Object[]> parameters = new ArrayList<>();
+    for (GroupingStrategy strategy : GroupingStrategy.values()) {
+      for (EdgeIdUpdateStrategy edgeIdUpdateStrategy : EdgeIdUpdateStrategy.values()) {
+        parameters.add(new Object[] {strategy, edgeIdUpdateStrategy});
+      }
+    }
+    return parameters;
+  }
+
+  @Test
+  public void testVertexAndEdgeLabel() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader.getLogicalGraph();
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(p:Person  {count : 6L})" +
+      "(t:Tag     {count : 3L})" +
+      "(f:Forum   {count : 2L})" +
+      "(f)-[:hasModerator {count :  2L}]->(p)" +
+      "(p)-[:hasInterest  {count :  4L}]->(t)" +
+      "(f)-[:hasMember    {count :  4L}]->(p)" +
+      "(f)-[:hasTag       {count :  4L}]->(t)" +
+      "(p)-[:knows        {count : 10L}]->(p)" +
+      "]");
+
+    LogicalGraph output = new GroupingBuilder()
+      .useVertexLabel(true)
+      .useEdgeLabel(true)
+      .setEdgeIdUpdateStrategy(edgeIdUpdateStrategy)
+      .setStrategy(strategy)
+      .addVertexAggregateFunction(new Count("count"))
+      .addEdgeAggregateFunction(new Count("count"))
+      .<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection>build()
+      .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping;
+
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.Count;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for the hash-based edge combine step of {@link KeyedGrouping}.
+ */
+public class KeyedGroupingHashCombineTest extends GradoopFlinkTestBase {
+
+  /**
+   * Test grouping by label with hash-based edge aggregation.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testVertexAndEdgeLabel() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph input = loader.getLogicalGraph();
+    loader.appendToDatabaseFromString("expected[" +
+      "(p:Person  {count : 6L})" +
+      "(t:Tag     {count : 3L})" +
+      "(f:Forum   {count : 2L})" +
+      "(f)-[:hasModerator {count :  2L}]->(p)" +
+      "(p)-[:hasInterest  {count :  4L}]->(t)" +
+      "(f)-[:hasMember    {count :  4L}]->(p)" +
+      "(f)-[:hasTag       {count :  4L}]->(t)" +
+      "(p)-[:knows        {count : 10L}]->(p)" +
+      "]");
+
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys = Collections.singletonList(GroupingKeys.label());
+    List<KeyFunction<EPGMEdge, ?>> edgeKeys = Collections.singletonList(GroupingKeys.label());
+    List<AggregateFunction> aggregates = Collections.singletonList(new Count("count"));
+
+    LogicalGraph result = input.callForGraph(
+      new KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection>(
+        vertexKeys, aggregates, edgeKeys, aggregates).setUseHashCombine(true));
+
+    collectAndAssertTrue(result.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+}
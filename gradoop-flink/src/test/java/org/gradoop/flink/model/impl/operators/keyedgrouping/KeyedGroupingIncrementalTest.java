@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.util.ExceptionUtils;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.functions.epgm.IdNotInBroadcast;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.average.AverageVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.Count;
+import org.gradoop.flink.model.impl.operators.keyedgrouping.functions.GroupingConstants;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the incremental execution of {@link KeyedGrouping}.
+ */
+public class KeyedGroupingIncrementalTest extends GradoopFlinkTestBase {
+
+  /**
+   * Test if updating a summary with a delta graph is equal to grouping both graphs at once.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testIncrementalEqualsFullGrouping() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph original = loader.getLogicalGraphByVariable("g0");
+    LogicalGraph delta = loader.getLogicalGraphByVariable("g1");
+
+    LogicalGraph summary = original.callForGraph(getOperator());
+    LogicalGraph updated = getOperator().executeIncremental(summary, delta);
+    LogicalGraph expected = original.combine(delta).callForGraph(getOperator());
+
+    collectAndAssertTrue(updated.equalsByElementData(expected));
+  }
+
+  /**
+   * Test if partial aggregates are stored and existing super-vertices keep their IDs.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testSuperVerticesKeepIds() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph summary = loader.getLogicalGraphByVariable("g0").callForGraph(getOperator());
+    LogicalGraph updated = getOperator()
+      .executeIncremental(summary, loader.getLogicalGraphByVariable("g1"));
+
+    List<EPGMVertex> before = summary.getVertices().collect();
+    List<EPGMVertex> after = updated.getVertices().collect();
+    assertEquals(1, before.size());
+    assertEquals(1, after.size());
+    assertEquals(before.get(0).getId(), after.get(0).getId());
+    assertEquals(6L, after.get(0).getPropertyValue("count").getLong());
+    assertEquals(190d / 6, after.get(0).getPropertyValue("avg_age").getDouble(), 0.00001);
+    assertTrue(after.get(0).hasProperty(GroupingConstants.PARTIAL_AGGREGATE_PREFIX + "avg_age"));
+  }
+
+  /**
+   * Test if delta edges connecting previous vertices are resolved using the previous vertices.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testDeltaEdgesToPreviousVertices() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph original = loader.getLogicalGraphByVariable("g0");
+    LogicalGraph delta = getDeltaConnectedTo(original, loader.getLogicalGraphByVariable("g2"));
+
+    LogicalGraph summary = original.callForGraph(getOperator());
+    LogicalGraph updated = getOperator()
+      .executeIncremental(summary, delta, original.getVertices());
+    LogicalGraph expected = original.combine(delta).callForGraph(getOperator());
+
+    collectAndAssertTrue(updated.equalsByElementData(expected));
+  }
+
+  /**
+   * Test if the execution fails if delta edges connect previous vertices which are not given.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testDeltaEdgesToUnknownVerticesFail() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph original = loader.getLogicalGraphByVariable("g0");
+    LogicalGraph delta = getDeltaConnectedTo(original, loader.getLogicalGraphByVariable("g2"));
+
+    LogicalGraph summary = original.callForGraph(getOperator());
+    LogicalGraph updated = getOperator().executeIncremental(summary, delta);
+
+    try {
+      updated.getEdges().collect();
+      fail("Delta edges connected to unknown vertices were dropped.");
+    } catch (Exception e) {
+      assertTrue(ExceptionUtils.findThrowable(e, IllegalStateException.class).isPresent());
+    }
+  }
+
+  /**
+   * Get the elements of a graph which are not part of the original graph.
+   * Some of the remaining edges are connected to vertices of the original graph.
+   *
+   * @param original The original graph.
+   * @param graph    The graph to extract the new elements from.
+   * @return The delta graph.
+   */
+  private LogicalGraph getDeltaConnectedTo(LogicalGraph original, LogicalGraph graph) {
+    DataSet<EPGMVertex> vertices = graph.getVertices()
+      .filter(new IdNotInBroadcast<>())
+      .withBroadcastSet(original.getVertices().map(new Id<>()), IdNotInBroadcast.IDS);
+    DataSet<EPGMEdge> edges = graph.getEdges()
+      .filter(new IdNotInBroadcast<>())
+      .withBroadcastSet(original.getEdges().map(new Id<>()), IdNotInBroadcast.IDS);
+    return getConfig().getLogicalGraphFactory().fromDataSets(vertices, edges);
+  }
+
+  /**
+   * Get the operator used for testing, grouping by label and retaining partial aggregates.
+   *
+   * @return The grouping operator.
+   */
+  private KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection> getOperator() {
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys = Collections.singletonList(GroupingKeys.label());
+    List<KeyFunction<EPGMEdge, ?>> edgeKeys = Collections.singletonList(GroupingKeys.label());
+    List<AggregateFunction> vertexAggregates =
+      Arrays.asList(new Count("count"), new AverageVertexProperty("age"));
+    List<AggregateFunction> edgeAggregates = Collections.singletonList(new Count("count"));
+    return new KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection>(
+      vertexKeys, vertexAggregates, edgeKeys, edgeAggregates).setRetainPartialAggregates(true);
+  }
+}
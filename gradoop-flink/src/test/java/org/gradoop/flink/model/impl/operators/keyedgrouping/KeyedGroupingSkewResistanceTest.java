@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping;
+
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.api.functions.KeyFunction;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.Count;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxVertexProperty;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for the skew resistant mode of {@link KeyedGrouping}.
+ */
+public class KeyedGroupingSkewResistanceTest extends GradoopFlinkTestBase {
+
+  /**
+   * Test grouping by label and property with derived super vertex IDs.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testVertexAndEdgeLabelAndVertexProperty() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph input = loader.getLogicalGraphByVariable("g0")
+      .combine(loader.getLogicalGraphByVariable("g1"))
+      .combine(loader.getLogicalGraphByVariable("g2"));
+    loader.appendToDatabaseFromString("expected[" +
+      "(l:Person {city : \"Leipzig\", count : 2L})" +
+      "(d:Person {city : \"Dresden\", count : 3L})" +
+      "(b:Person {city : \"Berlin\",  count : 1L})" +
+      "(d)-[:knows {count : 2L}]->(d)" +
+      "(d)-[:knows {count : 3L}]->(l)" +
+      "(l)-[:knows {count : 2L}]->(l)" +
+      "(l)-[:knows {count : 1L}]->(d)" +
+      "(b)-[:knows {count : 2L}]->(d)" +
+      "]");
+
+    List<KeyFunction<EPGMVertex, ?>> vertexKeys =
+      Arrays.asList(GroupingKeys.label(), GroupingKeys.property("city"));
+    List<KeyFunction<EPGMEdge, ?>> edgeKeys = Collections.singletonList(GroupingKeys.label());
+    List<AggregateFunction> aggregates = Collections.singletonList(new Count("count"));
+
+    LogicalGraph result = input.callForGraph(
+      new KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection>(
+        vertexKeys, aggregates, edgeKeys, aggregates).setUseSkewResistance(true));
+
+    collectAndAssertTrue(result.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  /**
+   * Test grouping all vertices into a single group with derived super vertex IDs.
+   *
+   * @throws Exception when the execution in Flink fails.
+   */
+  @Test
+  public void testSingleGroup() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph input = loader.getLogicalGraphByVariable("g0");
+    loader.appendToDatabaseFromString("expected[" +
+      "(v {count : 3L, max_age : 35})-[{count : 4L}]->(v)" +
+      "]");
+
+    List<AggregateFunction> vertexAggregates =
+      Arrays.asList(new Count("count"), new MaxVertexProperty("age"));
+    List<AggregateFunction> edgeAggregates = Collections.singletonList(new Count("count"));
+
+    LogicalGraph result = input.callForGraph(
+      new KeyedGrouping<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection>(
+        Collections.emptyList(), vertexAggregates, Collections.emptyList(), edgeAggregates)
+        .setUseSkewResistance(true));
+
+    collectAndAssertTrue(result.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.keyedgrouping.keys;
+
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test for the {@link PropertyKeyFunction} key function.
+ */
+public class PropertyKeyFunctionTest extends GradoopFlinkTestBase {
+
+  /**
+   * The property key used in this test.
+   */
+  private static final String KEY = "key";
+
+  /**
+   * Test if keys extracted with a reused key are equal to keys extracted without reuse.
+   */
+  @Test
+  public void testGetKeyWithReuse() {
+    PropertyKeyFunction<EPGMVertex> function = new PropertyKeyFunction<>(KEY);
+    EPGMVertex vertex = getConfig().getLogicalGraphFactory().getVertexFactory().createVertex();
+    Object[] values = {1L, 2L, 3, null, 4, 1.5d, 2.5d, "a", 5L, BigDecimal.ONE, null, 6L};
+    byte[] key = null;
+    for (Object value : values) {
+      if (value == null) {
+        vertex.removeProperty(KEY);
+      } else {
+        vertex.setProperty(KEY, value);
+      }
+      byte[] expected = function.getKey(vertex);
+      key = function.getKey(vertex, key);
+      assertArrayEquals(expected, key);
+    }
+  }
+
+  /**
+   * Test if a key of the correct size is reused for fixed size values.
+   */
+  @Test
+  public void testKeyIsReused() {
+    PropertyKeyFunction<EPGMVertex> function = new PropertyKeyFunction<>(KEY);
+    EPGMVertex vertex = getConfig().getLogicalGraphFactory().getVertexFactory().createVertex();
+    vertex.setProperty(KEY, 1L);
+    byte[] key = function.getKey(vertex);
+    vertex.setProperty(KEY, 2L);
+    assertSame(key, function.getKey(vertex, key));
+    assertArrayEquals(PropertyValue.create(2L).getRawBytes(), key);
+  }
+}
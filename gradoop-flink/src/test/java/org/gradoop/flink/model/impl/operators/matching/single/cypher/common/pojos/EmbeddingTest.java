@@ -314,6 +314,67 @@ public class EmbeddingTest {
     assertEquals(PropertyValue.create("foobar"), projection.getProperty(1));
   }
 
+  @Test
+  public void testProjectEmptyWhiteList() {
+    Embedding embedding = new Embedding();
+    embedding.add(GradoopId.get(), PropertyValue.create("a"), PropertyValue.create(42));
+
+    Embedding projection = embedding.project(Lists.newArrayList());
+    assertEquals(0, projection.getProperties().size());
+    assertEquals(new Embedding(embedding.getIdData(), new byte[0], embedding.getIdListData()),
+      projection);
+  }
+
+  @Test
+  public void testMerge() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId[] leftPath = new GradoopId[] {GradoopId.get(), GradoopId.get()};
+    GradoopId[] rightPath = new GradoopId[] {GradoopId.get(), GradoopId.get(), GradoopId.get()};
+
+    Embedding left = new Embedding();
+    left.add(a, PropertyValue.create("a"));
+    left.add(leftPath);
+    left.add(b, PropertyValue.create(42));
+
+    Embedding right = new Embedding();
+    right.add(b, PropertyValue.create("b"));
+    right.add(rightPath);
+    right.add(c, PropertyValue.create(23L));
+
+    Embedding merged = new Embedding();
+    merged.merge(left, right, new int[] {1, 2});
+
+    assertEquals(5, merged.size());
+    assertEquals(a, merged.getId(0));
+    assertEquals(Lists.newArrayList(leftPath), merged.getIdList(1));
+    assertEquals(b, merged.getId(2));
+    assertEquals(Lists.newArrayList(rightPath), merged.getIdList(3));
+    assertEquals(c, merged.getId(4));
+
+    assertEquals(Lists.newArrayList(PropertyValue.create("a"), PropertyValue.create(42),
+      PropertyValue.create("b"), PropertyValue.create(23L)), merged.getProperties());
+    assertEquals(PropertyValue.create("b"), merged.getProperty(2));
+    assertEquals(PropertyValue.create(23L), merged.getProperty(3));
+  }
+
+  @Test
+  public void testMergeWithoutProperties() {
+    Embedding left = createEmbedding(2);
+    Embedding right = new Embedding();
+    right.add(GradoopId.get(), PropertyValue.create(1));
+
+    Embedding merged = new Embedding();
+    merged.merge(left, right, new int[] {0});
+    assertEquals(3, merged.size());
+    assertEquals(PropertyValue.create(1), merged.getProperty(0));
+
+    merged.merge(right, left, new int[] {});
+    assertEquals(1, merged.size());
+    assertEquals(PropertyValue.create(1), merged.getProperty(0));
+  }
+
   @Test
   public void testReverse() {
     GradoopId a = GradoopId.get();
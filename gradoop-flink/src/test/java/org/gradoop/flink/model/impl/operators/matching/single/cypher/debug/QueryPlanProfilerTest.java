@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.debug;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.LimitEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class QueryPlanProfilerTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testExplain() {
+    MockPlanNode leaf = new MockPlanNode(null, metaData());
+    QueryPlan plan = new QueryPlan(new LimitEmbeddingsNode(leaf, 2));
+
+    String explained = new QueryPlanProfiler(plan, null, null).explain();
+
+    assertThat(explained, containsString("|-LimitEmbeddingsNode"));
+    assertThat(explained, containsString("|.|-MockPlanNode"));
+    assertThat(explained, containsString("estimated: "));
+    assertThat(explained, not(containsString("actual: ")));
+    assertThat(leaf.getProfilingPrefix(), is(nullValue()));
+  }
+
+  @Test
+  public void testProfile() throws Exception {
+    Embedding embedding = new Embedding();
+    embedding.add(GradoopId.get());
+    DataSet<Embedding> input = getExecutionEnvironment()
+      .fromElements(embedding, embedding, embedding);
+
+    MockPlanNode leaf = new MockPlanNode(input, metaData());
+    QueryPlan plan = new QueryPlan(new LimitEmbeddingsNode(leaf, 2));
+
+    QueryPlanProfiler profiler = new QueryPlanProfiler(plan, null, null);
+    profiler.enableProfiling();
+    assertThat(leaf.getProfilingPrefix(), is(notNullValue()));
+    assertThat(leaf.getProfilingPrefix(), is(not(plan.getRoot().getProfilingPrefix())));
+
+    List<Embedding> result = plan.execute().collect();
+    assertThat(result.size(), is(2));
+
+    String profiled = profiler.profile(getExecutionEnvironment().getLastJobExecutionResult());
+    assertThat(profiled, containsString("|-LimitEmbeddingsNode"));
+    assertThat(profiled, containsString("actual: 2"));
+    assertThat(profiled, containsString("actual: 3"));
+    assertThat(profiled, containsString(" ms"));
+  }
+
+  private static EmbeddingMetaData metaData() {
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn("a", EntryType.VERTEX, 0);
+    return metaData;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.keys;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EmbeddingJoinKeyComparatorTest {
+
+  @Test
+  public void testEqualToReference() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+
+    EmbeddingJoinKeyComparator left = new EmbeddingJoinKeyComparator(new int[] {0, 2}, true);
+    EmbeddingJoinKeyComparator right = new EmbeddingJoinKeyComparator(new int[] {1, 0}, true);
+
+    Embedding leftEmbedding = createEmbedding(a, GradoopId.get(), b);
+    Embedding rightEmbedding = createEmbedding(b, a, c);
+
+    left.setReference(leftEmbedding);
+    assertTrue(left.equalToReference(createEmbedding(a, c, b)));
+    assertFalse(left.equalToReference(createEmbedding(a, b, c)));
+
+    right.setReference(rightEmbedding);
+    assertEquals(0, left.compareToReference(right));
+    assertEquals(left.hash(leftEmbedding), right.hash(rightEmbedding));
+
+    Object[] leftKeys = new Object[1];
+    Object[] rightKeys = new Object[1];
+    left.extractKeys(leftEmbedding, leftKeys, 0);
+    right.extractKeys(rightEmbedding, rightKeys, 0);
+    assertArrayEquals((byte[]) leftKeys[0], (byte[]) rightKeys[0]);
+  }
+
+  @Test
+  public void testCompare() throws Exception {
+    Embedding first = createEmbedding(GradoopId.get(), GradoopId.get());
+    Embedding second = createEmbedding(GradoopId.get(), GradoopId.get());
+    second.addPropertyValues(PropertyValue.create("foo"));
+
+    EmbeddingJoinKeyComparator comparator =
+      new EmbeddingJoinKeyComparator(new int[] {1, 0}, true);
+    int comp = comparator.compare(first, second);
+
+    assertEquals(0, comparator.compare(first, first));
+    assertEquals(-comp, comparator.compare(second, first));
+    assertEquals(-comp,
+      new EmbeddingJoinKeyComparator(new int[] {1, 0}, false).compare(first, second));
+
+    DataOutputSerializer firstOut = new DataOutputSerializer(64);
+    DataOutputSerializer secondOut = new DataOutputSerializer(64);
+    first.write(firstOut);
+    second.write(secondOut);
+    assertEquals(comp, comparator.compareSerialized(
+      new DataInputDeserializer(firstOut.getCopyOfBuffer()),
+      new DataInputDeserializer(secondOut.getCopyOfBuffer())));
+  }
+
+  @Test
+  public void testNormalizedKey() {
+    Embedding first = createEmbedding(GradoopId.get(), GradoopId.get());
+    Embedding second = createEmbedding(first.getId(0), GradoopId.get());
+
+    EmbeddingJoinKeyComparator comparator =
+      new EmbeddingJoinKeyComparator(new int[] {0, 1}, true);
+    int length = comparator.getNormalizeKeyLen();
+    assertEquals(2 * GradoopId.ID_SIZE, length);
+
+    MemorySegment segment = MemorySegmentFactory.wrap(new byte[2 * length]);
+    comparator.putNormalizedKey(first, segment, 0, length);
+    comparator.putNormalizedKey(second, segment, length, length);
+
+    assertEquals(Integer.signum(comparator.compare(first, second)),
+      Integer.signum(segment.compare(segment, 0, length, length)));
+  }
+}
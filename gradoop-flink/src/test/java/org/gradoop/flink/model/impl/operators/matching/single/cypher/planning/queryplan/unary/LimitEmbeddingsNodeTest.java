@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LimitEmbeddingsNodeTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testMetaDataInitialization() {
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn("a", EntryType.VERTEX, 0);
+    metaData.setPropertyColumn("a", "age", 0);
+
+    LimitEmbeddingsNode node = new LimitEmbeddingsNode(new MockPlanNode(null, metaData), 1);
+    assertThat(node.getEmbeddingMetaData(), is(metaData));
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn("a", EntryType.VERTEX, 0);
+
+    Embedding embedding = new Embedding();
+    embedding.add(GradoopId.get());
+    DataSet<Embedding> input = getExecutionEnvironment()
+      .fromElements(embedding, embedding, embedding);
+
+    List<Embedding> result =
+      new LimitEmbeddingsNode(new MockPlanNode(input, metaData), 2).execute().collect();
+    assertThat(result.size(), is(2));
+  }
+
+  @Test
+  public void testPushDownBelowProjection() throws Exception {
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn("a", EntryType.VERTEX, 0);
+    metaData.setPropertyColumn("a", "age", 0);
+
+    Embedding embedding = new Embedding();
+    embedding.add(GradoopId.get(), PropertyValue.create(42));
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(embedding, embedding);
+
+    List<Pair<String, String>> projectedKeys = new ArrayList<>();
+    PlanNode root = new ProjectEmbeddingsNode(new MockPlanNode(input, metaData), projectedKeys);
+
+    PlanNode limited = LimitEmbeddingsNode.pushDown(root, 1);
+    assertThat(limited, instanceOf(ProjectEmbeddingsNode.class));
+    assertThat(((ProjectEmbeddingsNode) limited).getChildNode(),
+      instanceOf(LimitEmbeddingsNode.class));
+
+    List<Embedding> result = limited.execute().collect();
+    assertThat(result.size(), is(1));
+    assertThat(result.get(0).getProperties().size(), is(0));
+  }
+}
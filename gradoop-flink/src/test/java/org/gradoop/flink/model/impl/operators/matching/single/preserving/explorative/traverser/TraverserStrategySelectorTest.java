@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.preserving.explorative.traverser;
+
+import org.gradoop.flink.model.impl.operators.matching.common.query.DFSTraverser;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.TraversalCode;
+import org.gradoop.flink.model.impl.operators.matching.common.query.Traverser;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+public class TraverserStrategySelectorTest {
+
+  private static GraphStatistics STATS;
+
+  @BeforeClass
+  public static void setUp() throws Exception {
+    String path = URLDecoder.decode(
+      TraverserStrategySelectorTest.class.getResource("/data/json/sna/statistics").getFile(),
+      StandardCharsets.UTF_8.name());
+    STATS = GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testRootVertexBySelectivity() {
+    QueryHandler queryHandler = new QueryHandler(
+      "(p:Person)-[:knows]->(q:Person)<-[:hasMember]-(f:Forum)");
+    TraverserStrategySelector selector = new TraverserStrategySelector(queryHandler, STATS);
+
+    long forum = queryHandler.getVertexByVariable("f").getId();
+    assertEquals(forum, selector.getRootVertex());
+
+    Traverser traverser = new DFSTraverser();
+    traverser.setQueryHandler(queryHandler);
+    TraversalCode traversalCode = selector.traverse(traverser);
+
+    assertEquals(forum, traversalCode.getStep(0).getFrom());
+  }
+
+  @Test
+  public void testRootVertexByDegree() {
+    QueryHandler queryHandler = new QueryHandler(
+      "(a:Person)-[:knows]->(b:Person)-[:knows]->(c:Person)");
+    TraverserStrategySelector selector = new TraverserStrategySelector(queryHandler, STATS);
+
+    assertEquals(queryHandler.getVertexByVariable("b").getId(), selector.getRootVertex());
+  }
+
+  @Test
+  public void testSelectBulkIteration() {
+    QueryHandler queryHandler = new QueryHandler(
+      "(p:Person)-[:knows]->(q:Person)<-[:hasMember]-(f:Forum)");
+    TraverserStrategySelector selector = new TraverserStrategySelector(queryHandler, STATS);
+
+    Traverser traverser = new DFSTraverser();
+    traverser.setQueryHandler(queryHandler);
+    TraversalCode traversalCode = selector.traverse(traverser);
+
+    // 2 forums * 2 members per forum * 10 / 6 known persons per person
+    assertEquals(20d / 3d, selector.estimateMaxCardinality(traversalCode), 1E-6);
+    assertEquals(TraverserStrategy.SET_PAIR_BULK_ITERATION, selector.select(traversalCode));
+  }
+
+  @Test
+  public void testSelectForLoopIteration() {
+    QueryHandler queryHandler = new QueryHandler("(a)-->(b)-->(c)-->(d)");
+    TraverserStrategySelector selector = new TraverserStrategySelector(queryHandler, STATS);
+
+    Traverser traverser = new DFSTraverser();
+    traverser.setQueryHandler(queryHandler);
+    TraversalCode traversalCode = selector.traverse(traverser);
+
+    // 11 vertices followed by three steps with an average degree of 24 / 11
+    assertEquals(11d * Math.pow(24d / 11d, 3), selector.estimateMaxCardinality(traversalCode), 1E-6);
+    assertEquals(TraverserStrategy.SET_PAIR_FOR_LOOP_ITERATION, selector.select(traversalCode));
+  }
+}
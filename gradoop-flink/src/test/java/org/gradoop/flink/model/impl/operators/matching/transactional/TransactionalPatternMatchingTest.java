@@ -23,6 +23,8 @@ import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.operators.matching.TestData;
 import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.DepthSearchMatching;
+import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.IndexedDepthSearchMatching;
+import org.gradoop.flink.model.impl.operators.matching.transactional.algorithm.PatternMatchingAlgorithm;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Rule;
 import org.junit.Test;
@@ -41,6 +43,15 @@ public class TransactionalPatternMatchingTest extends GradoopFlinkTestBase {
 
   @Test
   public void test() throws Exception {
+    testWithAlgorithm(new DepthSearchMatching());
+  }
+
+  @Test
+  public void testIndexedDepthSearchMatching() throws Exception {
+    testWithAlgorithm(new IndexedDepthSearchMatching());
+  }
+
+  private void testWithAlgorithm(PatternMatchingAlgorithm algorithm) throws Exception {
 
     FlinkAsciiGraphLoader loader = getLoaderFromString(
       "g1:A[" +
@@ -120,7 +131,7 @@ public class TransactionalPatternMatchingTest extends GradoopFlinkTestBase {
     for (int i = 0; i < tests.length; i++) {
       String testPattern = tests[i];
 
-      GraphCollection result = coll.query(testPattern, new DepthSearchMatching(), true);
+      GraphCollection result = coll.query(testPattern, algorithm, true);
 
       Collection<EPGMGraphHead> originalHeads = Lists.newArrayList();
       Collection<EPGMGraphHead> resultHeads = Lists.newArrayList();
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.rollup;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.SetProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.average.AverageVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.Count;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping;
+import org.gradoop.flink.model.impl.operators.grouping.GroupingStrategy;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for {@link RollUp} with {@link GroupingStrategy#GROUP_WITH_KEYFUNCTIONS}, where coarser
+ * groupings are derived from finer ones.
+ */
+public class RollUpKeyFunctionsTest extends GradoopFlinkTestBase {
+
+  /**
+   * Check if a vertex rollUp is equal to separate groupings of the input graph.
+   *
+   * @throws Exception If the execution fails.
+   */
+  @Test
+  public void testVertexRollUp() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph input = loader.getGraphCollectionByVariables("g0", "g1", "g2")
+      .reduce(new ReduceCombination<>());
+
+    List<String> vertexGK = Arrays.asList("city", "gender", Grouping.LABEL_SYMBOL);
+    List<AggregateFunction> vertexAGG =
+      Arrays.asList(new Count("count"), new AverageVertexProperty("age"));
+    List<AggregateFunction> edgeAGG = Collections.singletonList(new Count("count"));
+
+    RollUp rollUp = new VertexRollUp(vertexGK, vertexAGG, null, edgeAGG);
+    rollUp.setGroupingStrategy(GroupingStrategy.GROUP_WITH_KEYFUNCTIONS);
+    GraphCollection output = input.callForCollection(rollUp);
+
+    DataSet<EPGMGraphHead> heads = null;
+    DataSet<EPGMVertex> vertices = null;
+    DataSet<EPGMEdge> edges = null;
+    for (List<String> keys : rollUp.getGroupingKeyCombinations()) {
+      LogicalGraph grouped = input.groupBy(keys, vertexAGG, null, edgeAGG,
+        GroupingStrategy.GROUP_WITH_KEYFUNCTIONS);
+      DataSet<EPGMGraphHead> head = grouped.getGraphHead().map(new SetProperty<>(
+        rollUp.getGraphPropertyKey(), PropertyValue.create(String.join(",", keys))));
+      heads = heads == null ? head : heads.union(head);
+      vertices = vertices == null ? grouped.getVertices() : vertices.union(grouped.getVertices());
+      edges = edges == null ? grouped.getEdges() : edges.union(grouped.getEdges());
+    }
+    GraphCollection expected = input.getCollectionFactory().fromDataSets(heads, vertices, edges);
+
+    collectAndAssertTrue(output.equalsByGraphData(expected));
+  }
+
+  /**
+   * Check if an edge rollUp is computed correctly.
+   *
+   * @throws Exception If the execution fails.
+   */
+  @Test
+  public void testEdgeRollUp() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph input = loader.getGraphCollectionByVariables("g0", "g1", "g2")
+      .reduce(new ReduceCombination<>());
+
+    loader.initDatabaseFromString("g0 {edgeRollUpGroupingKeys:\":label,since\"}[" +
+      "(v0:Person {count:6L})" +
+      "(v0)-[:knows {since:2013,count:3L}]->(v0)" +
+      "(v0)-[:knows {since:2014,count:4L}]->(v0)" +
+      "(v0)-[:knows {since:2015,count:3L}]->(v0)" +
+      "]" +
+      "g1 {edgeRollUpGroupingKeys:\":label\"}[" +
+      "(v1:Person {count:6L})" +
+      "(v1)-[:knows {count:10L}]->(v1)" +
+      "]");
+    GraphCollection expected = loader.getGraphCollectionByVariables("g0", "g1");
+
+    List<String> vertexGK = Collections.singletonList(Grouping.LABEL_SYMBOL);
+    List<AggregateFunction> vertexAGG = Collections.singletonList(new Count("count"));
+    List<String> edgeGK = Arrays.asList(Grouping.LABEL_SYMBOL, "since");
+    List<AggregateFunction> edgeAGG = Collections.singletonList(new Count("count"));
+
+    RollUp rollUp = new EdgeRollUp(vertexGK, vertexAGG, edgeGK, edgeAGG);
+    rollUp.setGroupingStrategy(GroupingStrategy.GROUP_WITH_KEYFUNCTIONS);
+
+    collectAndAssertTrue(input.callForCollection(rollUp).equalsByGraphData(expected));
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring;
+
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadToDataString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.VertexToDataString;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class CanonicalAdjacencyMatrixDigestBuilderTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testDirected() throws Exception {
+    testDigests(true);
+  }
+
+  @Test
+  public void testUndirected() throws Exception {
+    testDigests(false);
+  }
+
+  private void testDigests(boolean directed) throws Exception {
+    CanonicalAdjacencyMatrixDigestBuilder
+      <EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph, GraphCollection> digestBuilder =
+      new CanonicalAdjacencyMatrixDigestBuilder<>(
+        new GraphHeadToDataString<>(),
+        new VertexToDataString<>(),
+        new EdgeToDataString<>(), directed);
+
+    // equal data, but different identifiers
+    String digest = digestBuilder.execute(getCamTestCollection()).collect().get(0);
+    String otherDigest = digestBuilder.execute(getCamTestCollection()).collect().get(0);
+
+    assertEquals(digest, otherDigest);
+
+    GraphCollection firstGraph = getLoaderFromString(
+      ":Network{social:true}[" +
+      "(a:User{name:\"Alice\"})-[:knows{since:2013}]->(b:User{name:\"Bob\"})" +
+      "(a)-[:knows{since:2014}]->(b)" +
+      "(b)-[k:knows{since:2015}]->(c:User{name:\"Carol\"})" +
+      "]").getGraphCollection();
+
+    String firstGraphDigest = digestBuilder.execute(firstGraph).collect().get(0);
+
+    assertNotEquals(digest, firstGraphDigest);
+
+    String emptyDigest = digestBuilder
+      .execute(getConfig().getGraphCollectionFactory().createEmptyCollection())
+      .collect().get(0);
+
+    assertNotEquals(digest, emptyDigest);
+    assertNotEquals(firstGraphDigest, emptyDigest);
+  }
+
+  private GraphCollection getCamTestCollection() throws Exception {
+    FlinkAsciiGraphLoader loader = new FlinkAsciiGraphLoader(getConfig());
+
+    loader.initDatabaseFromFile(getFilePath("/data/gdl/cam_test.gdl"));
+
+    return loader.getGraphCollection();
+  }
+}
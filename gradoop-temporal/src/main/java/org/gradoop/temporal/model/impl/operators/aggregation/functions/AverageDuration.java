@@ -16,7 +16,10 @@
 package org.gradoop.temporal.model.impl.operators.aggregation.functions;
 
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.average.Average;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.average.AverageAccumulator;
 import org.gradoop.temporal.model.api.functions.TemporalAggregateFunction;
 import org.gradoop.temporal.model.api.TimeDimension;
 import org.gradoop.temporal.model.impl.pojo.TemporalElement;
@@ -29,7 +32,7 @@ import java.util.Objects;
  * Time intervals with either the start or end time set to the respective default value will be ignored.
  */
 public class AverageDuration extends AbstractDurationAggregateFunction
-  implements Average, TemporalAggregateFunction {
+  implements Average, TemporalAggregateFunction, AccumulatingAggregate {
 
   /**
    * A property value containing the number {@code 1}, as a {@link Long}.
@@ -70,6 +73,11 @@ public class AverageDuration extends AbstractDurationAggregateFunction
     return PropertyValue.create(Arrays.asList(duration, ONE));
   }
 
+  @Override
+  public PropertyValueAccumulator createAccumulator() {
+    return new AverageAccumulator();
+  }
+
   @Override
   public String toString() {
     return String.format("%s(%s)", getClass().getSimpleName(), dimension);
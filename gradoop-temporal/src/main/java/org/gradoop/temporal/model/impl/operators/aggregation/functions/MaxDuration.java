@@ -16,6 +16,9 @@
 package org.gradoop.temporal.model.impl.operators.aggregation.functions;
 
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils.NumericAccumulator;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.max.Max;
 import org.gradoop.temporal.model.api.TimeDimension;
 import org.gradoop.temporal.model.api.functions.TemporalAggregateFunction;
@@ -26,7 +29,8 @@ import org.gradoop.temporal.model.impl.pojo.TemporalElement;
  *
  * Time intervals with either the start or end time set to the respective default value are evaluated as zero.
  */
-public class MaxDuration extends AbstractDurationAggregateFunction implements Max, TemporalAggregateFunction {
+public class MaxDuration extends AbstractDurationAggregateFunction implements Max, TemporalAggregateFunction,
+  AccumulatingAggregate {
 
   /**
    * Creates a new instance of this base aggregate function.
@@ -68,4 +72,9 @@ public class MaxDuration extends AbstractDurationAggregateFunction implements Ma
     }
     return result;
   }
+
+  @Override
+  public PropertyValueAccumulator createAccumulator() {
+    return NumericAccumulator.max();
+  }
 }
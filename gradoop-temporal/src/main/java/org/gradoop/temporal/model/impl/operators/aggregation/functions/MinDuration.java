@@ -16,6 +16,9 @@
 package org.gradoop.temporal.model.impl.operators.aggregation.functions;
 
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueAccumulator;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils.NumericAccumulator;
+import org.gradoop.flink.model.api.functions.AccumulatingAggregate;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.min.Min;
 import org.gradoop.temporal.model.api.TimeDimension;
 import org.gradoop.temporal.model.api.functions.TemporalAggregateFunction;
@@ -27,7 +30,8 @@ import org.gradoop.temporal.model.impl.pojo.TemporalElement;
  * Time intervals with either the start or end time set to the respective default value are evaluated as
  * {@link Long#MAX_VALUE}.
  */
-public class MinDuration extends AbstractDurationAggregateFunction implements Min, TemporalAggregateFunction {
+public class MinDuration extends AbstractDurationAggregateFunction implements Min, TemporalAggregateFunction,
+  AccumulatingAggregate {
 
   /**
    * Creates a new instance of this base aggregate function.
@@ -68,4 +72,9 @@ public class MinDuration extends AbstractDurationAggregateFunction implements Mi
     }
     return result;
   }
+
+  @Override
+  public PropertyValueAccumulator createAccumulator() {
+    return NumericAccumulator.min();
+  }
 }